@@ -0,0 +1,71 @@
+package com.umc.footprint.src.common;
+
+import com.umc.footprint.config.EncryptProperties;
+import com.umc.footprint.src.common.model.vo.RoutePath;
+import com.umc.footprint.utils.CryptoService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 경로 읽기: 기존 텍스트 경로(coordinate)의 단일 패스 파서, 기존 파서(LegacyRouteParser), 바이너리 경로(route) 비교
+ * 모두 복호화를 포함한다.
+ * pointCount: 경로 좌표 수 (구간마다 500개)
+ * ./gradlew jmh -PjmhIncludes=RouteCodecBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RouteCodecBenchmark {
+
+    private static final String KEY = "0123456789abcdef0123456789abcdef";
+
+    @Param({"2000", "5000", "20000"})
+    private int pointCount;
+
+    private CryptoService cryptoService;
+    private RouteCodec routeCodec;
+    private String coordinate;
+    private byte[] route;
+
+    @Setup
+    public void setUp() throws Exception {
+        EncryptProperties encryptProperties = new EncryptProperties();
+        encryptProperties.setKey(KEY);
+        cryptoService = new CryptoService(encryptProperties);
+        routeCodec = new RouteCodec(cryptoService);
+
+        coordinate = cryptoService.encrypt(RouteFixture.legacyText(pointCount, 500, 42));
+        route = routeCodec.encode(routeCodec.decode(null, coordinate));
+    }
+
+    @Benchmark
+    public RoutePath decodeLegacy() throws Exception {
+        return routeCodec.decode(null, coordinate);
+    }
+
+    @Benchmark
+    public List<ArrayList<Double>> legacyParser() throws Exception {
+        return LegacyRouteParser.parse(cryptoService.decrypt(coordinate));
+    }
+
+    @Benchmark
+    public RoutePath decodeBinary() throws Exception {
+        return routeCodec.decode(route, null);
+    }
+}
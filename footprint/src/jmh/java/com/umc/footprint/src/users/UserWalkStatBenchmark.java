@@ -0,0 +1,68 @@
+package com.umc.footprint.src.users;
+
+import com.umc.footprint.src.walks.model.entity.WalkDailyRollup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 유저 통계의 6개월 목표 달성률: UserWalkStat(일별 집계 한 번 순회)과 기존 calcMonthGoalRate(달마다 전체 산책 순회) 비교
+ * DB 조회는 빼고 계산만 비교한다. (기존 코드는 달마다 Walk, Goal, GoalDay 를 다시 조회함)
+ * walkCount: 유저의 산책 수 (최근 1년)
+ * ./gradlew jmh -PjmhIncludes=UserWalkStatBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserWalkStatBenchmark {
+
+    private static final LocalDate TODAY = LocalDate.of(2022, 3, 17);
+    private static final int MONTHS = 12;
+
+    @Param({"500", "5000"})
+    private int walkCount;
+
+    private WalkStatFixture fixture;
+    private List<WalkDailyRollup> dailyRollupList;
+
+    @Setup
+    public void setUp() {
+        fixture = new WalkStatFixture(TODAY, walkCount, MONTHS, -1, 42);
+        dailyRollupList = fixture.dailyRollupList();
+    }
+
+    @Benchmark
+    public int userWalkStat() {
+        UserWalkStat userWalkStat = new UserWalkStat(dailyRollupList, fixture.goalList, fixture.goalDayList, TODAY.minusMonths(3));
+        int sumGoalRate = 0;
+        for (int i = 0; i < 6; i++) {
+            sumGoalRate += userWalkStat.getMonthGoalRate(YearMonth.from(TODAY).minusMonths(i));
+        }
+        return sumGoalRate;
+    }
+
+    @Benchmark
+    public int legacyCalcMonthGoalRate() {
+        int sumGoalRate = 0;
+        for (int i = 0; i < 6; i++) {
+            sumGoalRate += LegacyMonthGoalRate.calc(fixture.walkList, fixture.goalList, fixture.goalDayList, TODAY, i);
+        }
+        return sumGoalRate;
+    }
+}
@@ -0,0 +1,47 @@
+package com.umc.footprint.src.weather;
+
+import com.umc.footprint.src.weather.model.PostWeatherRes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 날씨 응답 파싱 (WeatherService.postWeather)
+ * payload: 저장해 둔 OpenWeatherMap 응답 (src/test/resources/weather)
+ * ./gradlew jmh -PjmhIncludes=WeatherBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WeatherBenchmark {
+
+    @Param({"clear.json", "rain.json", "snow.json", "string-number.json"})
+    private String payload;
+
+    private WeatherService weatherService;
+    private byte[] body;
+
+    @Setup
+    public void setUp() throws Exception {
+        weatherService = new WeatherService(null);
+        body = WeatherServiceTest.capturedBody(payload);
+    }
+
+    @Benchmark
+    public PostWeatherRes postWeather() {
+        return weatherService.postWeather(body);
+    }
+}
@@ -0,0 +1,75 @@
+package com.umc.footprint.utils;
+
+import com.umc.footprint.config.EncryptProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CryptoService(스레드별 Cipher 재사용)와 기존 AES128(호출마다 Cipher 생성) 비교
+ * length: 평문 길이 (닉네임 정도 ~ 긴 경로 텍스트)
+ * ./gradlew jmh -PjmhIncludes=CryptoBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CryptoBenchmark {
+
+    private static final String KEY = "0123456789abcdef0123456789abcdef";
+
+    @Param({"16", "1024", "65536"})
+    private int length;
+
+    private CryptoService cryptoService;
+    private AES128 aes128;
+    private String plainText;
+    private String encryptedText;
+
+    @Setup
+    public void setUp() throws Exception {
+        EncryptProperties encryptProperties = new EncryptProperties();
+        encryptProperties.setKey(KEY);
+        cryptoService = new CryptoService(encryptProperties);
+        aes128 = new AES128(KEY);
+
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append((char) ('0' + i % 10));
+        }
+        plainText = builder.toString();
+        encryptedText = aes128.encrypt(plainText);
+    }
+
+    @Benchmark
+    public String cryptoServiceEncrypt() throws Exception {
+        return cryptoService.encrypt(plainText);
+    }
+
+    @Benchmark
+    public String aes128Encrypt() throws Exception {
+        return aes128.encrypt(plainText);
+    }
+
+    @Benchmark
+    public String cryptoServiceDecrypt() throws Exception {
+        return cryptoService.decrypt(encryptedText);
+    }
+
+    @Benchmark
+    public String aes128Decrypt() throws Exception {
+        return aes128.decrypt(encryptedText);
+    }
+}
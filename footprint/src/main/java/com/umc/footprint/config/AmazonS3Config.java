@@ -2,13 +2,20 @@ package com.umc.footprint.config;
 
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.PropertySource;
 
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
 // AWS 관련 설정
 @Configuration
 public class AmazonS3Config {
@@ -22,12 +29,49 @@ public class AmazonS3Config {
     @Value("${cloud.aws.region.static}")
     private String region;
 
+    // S3 호환 저장소 주소 (로컬 MinIO 등), 없으면 AWS S3
+    @Value("${cloud.aws.s3.endpoint:}")
+    private String endpoint;
+
+    // 동시에 업로드할 파일(파트) 수
+    @Value("${cloud.aws.s3.upload.threads:8}")
+    private int uploadThreads;
+
+    // 이 크기 이상인 파일은 멀티파트 업로드
+    @Value("${cloud.aws.s3.upload.multipart-threshold-mb:8}")
+    private long multipartThresholdMb;
+
     @Bean
     public AmazonS3Client amazonS3Client() {
         BasicAWSCredentials awsCreds = new BasicAWSCredentials(accessKey, secretKey);
-        return (AmazonS3Client) AmazonS3ClientBuilder.standard()
-                .withRegion(region)
-                .withCredentials(new AWSStaticCredentialsProvider(awsCreds))
+        AmazonS3ClientBuilder builder = AmazonS3ClientBuilder.standard()
+                .withCredentials(new AWSStaticCredentialsProvider(awsCreds));
+        if (endpoint.isEmpty()) {
+            builder.withRegion(region);
+        } else {
+            builder.withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, region))
+                    .withPathStyleAccessEnabled(true);
+        }
+        return (AmazonS3Client) builder.build();
+    }
+
+    /**
+     * 사진 업로드용 TransferManager
+     * 정해진 수의 스레드에서 업로드하고, 큰 파일은 멀티파트로 나눠 올린다.
+     * 종료 시 S3 클라이언트는 그대로 두도록 destroyMethod 없이 데몬 스레드를 쓴다.
+     */
+    @Bean(destroyMethod = "")
+    public TransferManager transferManager(AmazonS3 amazonS3) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return TransferManagerBuilder.standard()
+                .withS3Client(amazonS3)
+                .withExecutorFactory(() -> Executors.newFixedThreadPool(uploadThreads, runnable -> {
+                    Thread thread = new Thread(runnable, "s3-upload-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }))
+                .withMultipartUploadThreshold(multipartThresholdMb * 1024 * 1024)
+                .withMinimumUploadPartSize(5L * 1024 * 1024)
                 .build();
     }
-}
\ No newline at end of file
+}
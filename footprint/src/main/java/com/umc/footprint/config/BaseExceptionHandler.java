@@ -0,0 +1,21 @@
+package com.umc.footprint.config;
+
+import com.umc.footprint.utils.AuthUserArgumentResolver.AuthUserException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * 컨트롤러 메서드 호출 전에 실패한 요청을 BaseResponse 로 응답
+ */
+@Slf4j
+@RestControllerAdvice
+public class BaseExceptionHandler {
+
+    // AuthUser 파라미터를 채우지 못함 (JWT 없음/만료/잘못됨, 가입 전 사용자)
+    @ExceptionHandler(AuthUserException.class)
+    public BaseResponse<Object> handleAuthUserException(AuthUserException exception) {
+        log.debug("AuthUser 실패: {}", exception.getStatus());
+        return new BaseResponse<>(exception.getStatus());
+    }
+}
@@ -69,14 +69,19 @@ public enum BaseResponseStatus {
     INVALID_WALKIDX(false, 2200, "잘못된 산책 인덱스입니다."),
     INVALID_FOOTPRINTIDX(false, 2201, "잘못된 발자국 인덱스입니다."),
     INVALID_COORDINATES(false, 2202, "잘못된 산책 인덱스입니다."),
+    INVALID_ROUTE_DETAIL(false, 2203, "잘못된 경로 해상도(zoom, maxPoints)입니다."),
     NO_FOOTPRINT_IN_WALK(false, 2221, "해당 산책 기록에는 발자국이 존재하지 않습니다."),
 
     EXCEED_FOOTPRINT_SIZE(false, 2241, "photoMatchNumList를 확인해주십시요."),
     EMPTY_WALK_PHOTO(false, 2242, "산책 이미지를 입력해주세요."),
+    EMPTY_PHOTO_FILE_NAME(false, 2243, "업로드할 사진 파일 이름을 입력해주세요."),
+    INVALID_PHOTO_EXTENSION(false, 2244, "올릴 수 없는 사진 형식입니다. (jpg, jpeg, png, gif, webp, heic, heif)"),
+    EXCEED_PHOTO_SIZE(false, 2245, "사진 크기가 너무 큽니다."),
     DELETED_FOOTPRINT(false, 2260, "이미 삭제된 발자국입니다."),
     NO_EXIST_FOOTPRINT(false, 2261, "존재하지 않는 발자국입니다."),
     REQUEST_ERROR(false, 2262, "잘못된 산책 인덱스입니다."), // 임시 추가
     DELETED_WALK(false, 2263, "이미 삭제된 산책입니다."),
+    NOT_UPLOADED_PHOTO(false, 2264, "업로드되지 않은 사진입니다."),
 
     INVALID_BADGEIDX(false,2270, "존재하지 않는 뱃지입니다."),
     NOT_EXIST_USER_BADGE(false, 2271, "해당 사용자가 획득하지 못한 뱃지입니다."),
@@ -0,0 +1,108 @@
+package com.umc.footprint.filter;
+
+import com.umc.footprint.utils.CryptoService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.lang.reflect.Type;
+import java.security.GeneralSecurityException;
+import java.util.Set;
+
+/**
+ * 암호화된 Request Body 복호화
+ * Body 가 '{' 로 시작하지 않으면 암호화된 것으로 보고, Base64 디코딩 + AES 복호화 스트림을 그대로 메시지 컨버터에 넘긴다.
+ * 컨버터(공용 ObjectMapper)가 복호화된 바이트를 바로 읽으므로 Body 를 String 으로 만들지 않는다.
+ * text/plain 으로 들어온 Body 는 DecryptedJsonMessageConverter 가 읽는다.
+ */
+@ControllerAdvice
+@RequiredArgsConstructor
+public class DecryptRequestBodyAdvice extends RequestBodyAdviceAdapter {
+
+    // 암호화된 Request Body 를 받는 URL
+    private static final Set<String> DECRYPT_URLS = Set.of(
+            "/users/infos",
+            "/users/infos/after",
+            "/users/auth/login",
+            "/users/goals",
+            "/walks",
+            "/weather",
+            "/notices/key",
+            "/courses/list",
+            "/courses/recommend");
+
+    private final CryptoService cryptoService;
+
+    @Override
+    public boolean supports(MethodParameter methodParameter, Type targetType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return isDecryptRequest();
+    }
+
+    // 현재 요청이 복호화 대상인지 (DECRYPT_URLS 의 POST, PATCH)
+    static boolean isDecryptRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes)) {
+            return false;
+        }
+        HttpServletRequest request = ((ServletRequestAttributes) attributes).getRequest();
+        String method = request.getMethod();
+
+        return DECRYPT_URLS.contains(request.getServletPath()) && (method.equals("POST") || method.equals("PATCH"));
+    }
+
+    @Override
+    public HttpInputMessage beforeBodyRead(HttpInputMessage inputMessage, MethodParameter parameter, Type targetType,
+                                           Class<? extends HttpMessageConverter<?>> converterType) throws IOException {
+        PushbackInputStream body = new PushbackInputStream(inputMessage.getBody(), 1);
+        int first = body.read();
+        if (first == -1 || first == '{') {    // 비암호화된 Request Body가 들어올 경우 -> 그냥 전달
+            if (first != -1) {
+                body.unread(first);
+            }
+            return new DecryptedInputMessage(inputMessage.getHeaders(), body);
+        }
+        body.unread(first);
+
+        // 암호화된 Request Body가 들어올 경우 -> 읽는 대로 복호화해서 전달
+        // 복호화하면 길이가 달라지므로 Content-Length 는 넘기지 않는다.
+        HttpHeaders headers = new HttpHeaders();
+        headers.putAll(inputMessage.getHeaders());
+        headers.remove(HttpHeaders.CONTENT_LENGTH);
+        try {
+            return new DecryptedInputMessage(headers, cryptoService.decryptStream(body));
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Request Body 복호화 실패", e);
+        }
+    }
+
+    private static class DecryptedInputMessage implements HttpInputMessage {
+        private final HttpHeaders headers;
+        private final InputStream body;
+
+        DecryptedInputMessage(HttpHeaders headers, InputStream body) {
+            this.headers = headers;
+            this.body = body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public InputStream getBody() {
+            return body;
+        }
+    }
+}
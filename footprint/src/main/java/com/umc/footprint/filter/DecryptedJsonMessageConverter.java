@@ -0,0 +1,35 @@
+package com.umc.footprint.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * 암호화된 text/plain Request Body 를 읽는 JSON 컨버터 (읽기 전용)
+ * DecryptRequestBodyAdvice 가 복호화하는 요청에서만 읽고, 응답은 쓰지 않으므로 응답 Content-Type 협상에는 영향이 없다.
+ */
+public class DecryptedJsonMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    public DecryptedJsonMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+        setSupportedMediaTypes(List.of(MediaType.TEXT_PLAIN));
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return DecryptRequestBodyAdvice.isDecryptRequest() && super.canRead(type, contextClass, mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+}
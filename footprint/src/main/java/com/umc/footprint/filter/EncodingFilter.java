@@ -1,32 +1,23 @@
 package com.umc.footprint.filter;
 
-import com.amazonaws.util.IOUtils;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.umc.footprint.config.EncryptProperties;
-import com.umc.footprint.utils.AES128;
+import com.umc.footprint.utils.CryptoService;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.http.client.methods.HttpRequestWrapper;
-import org.json.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.servlet.*;
 import javax.servlet.http.HttpServletRequest;
-import javax.servlet.http.HttpServletRequestWrapper;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
-import java.util.Enumeration;
 
 @Slf4j
 public class EncodingFilter implements Filter{
 
-    private static final Logger logger = LoggerFactory.getLogger(DecodingFilter.class);
-    private final EncryptProperties encryptProperties;
+    private static final Logger logger = LoggerFactory.getLogger(EncodingFilter.class);
+    private final CryptoService cryptoService;
 
-    public EncodingFilter(EncryptProperties encryptProperties){
-        this.encryptProperties = encryptProperties;
+    public EncodingFilter(CryptoService cryptoService){
+        this.cryptoService = cryptoService;
     }
 
     @Override
@@ -40,44 +31,36 @@ public class EncodingFilter implements Filter{
         HttpServletRequest req = (HttpServletRequest) request;
 
         try{
-            ResponseBodyEncryptWrapper responseWrapper = new ResponseBodyEncryptWrapper(res);
+            if (req.getDispatcherType() == DispatcherType.ASYNC) {
+                // 비동기 응답 (CompletableFuture 반환) 은 요청 처리 때 감싼 response 로 다시 들어온다.
+                chain.doFilter(request, response);
+                if (response instanceof ResponseBodyEncryptWrapper && !req.isAsyncStarted()) {
+                    ((ResponseBodyEncryptWrapper) response).finish();
+                }
+                return;
+            }
 
             // 암호화 되지 않고 들어온 Request인지 확인
             // 파라미터로 들어온 request로 부터 isEncrypted 정보 얻어옴
             String isEncrypted = req.getHeader("isEncrypted");
-
-            chain.doFilter(request, responseWrapper);   // ** doFilter **
-
-            // encode response body
             String url = req.getServletPath();
             log.info("url : " + url);
 
-            if(!(isEncrypted == null) && !(url.equals("/walks/check/encrypt")) && !(url.equals("/walks/check/decrypt"))){
-                String responseMessage = new String(responseWrapper.getDataStream(), StandardCharsets.UTF_8);
-
-                JSONObject jsonObject = new JSONObject(responseMessage);
-
-                int startIndex = responseMessage.indexOf("result") + 8;
-                int endIndex = responseMessage.lastIndexOf("}");
-
-                System.out.println("responseMessage = " + responseMessage);
-
-                // 최종 메시지
-                StringBuffer finalResponseMessage = new StringBuffer(responseMessage);
+            if(isEncrypted == null || url.equals("/walks/check/encrypt") || url.equals("/walks/check/decrypt")){
+                // 암호화 대상이 아니면 감싸지 않고 그대로 응답
+                chain.doFilter(request, response);
+                return;
+            }
 
-                // 오류 안났을 때만
-                if (responseMessage.indexOf("result") != -1){
-                    // result 부분 암호화 쌍따음표 붙여서
-                    String encodedResultPart = '\u0022' + (new AES128(encryptProperties.getKey()).encrypt(jsonObject.getString("result"))) + '\u0022';
+            // encode response body
+            // result 부분만 받는 대로 암호화해서 내보냄 (응답 전체를 버퍼링하지 않음)
+            ResponseBodyEncryptWrapper responseWrapper = new ResponseBodyEncryptWrapper(res, cryptoService);
 
-                    // result 부분 암호화한걸로 치환
-                    finalResponseMessage.replace(startIndex, endIndex, encodedResultPart);
-                }
+            chain.doFilter(request, responseWrapper);   // ** doFilter **
 
-                response.getOutputStream().write(finalResponseMessage.toString().getBytes());
-            }else{
-                log.info("responseData : " + new String(responseWrapper.getDataStream(), StandardCharsets.UTF_8));
-                response.getOutputStream().write(responseWrapper.getDataStream());
+            // 비동기 처리 중이면 ASYNC 디스패치가 끝날 때 내보냄
+            if (!req.isAsyncStarted()) {
+                responseWrapper.finish();
             }
 
         } catch (Exception exception){
@@ -88,7 +71,7 @@ public class EncodingFilter implements Filter{
 
     @Override
     public void destroy() {
-        logger.info("End Decoding");
+        logger.info("End Encoding");
         Filter.super.destroy();
     }
 
@@ -0,0 +1,237 @@
+package com.umc.footprint.filter;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.umc.footprint.utils.CryptoService;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.GeneralSecurityException;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * BaseResponse JSON 을 받는 대로 파싱해서 "result" 값만 암호화해 내보내는 OutputStream
+ * {"isSuccess":true,"code":1000,"message":"...","result":{...}}
+ *   -> {"isSuccess":true,"code":1000,"message":"...","result":"<AES + Base64>"}
+ *
+ * 응답 전체를 버퍼링하지 않고, Jackson non-blocking 파서로 들어온 바이트만큼 토큰을 읽어
+ * envelope 은 JsonGenerator 로 바로 쓰고 result 값은 CipherOutputStream + Base64 로 흘려보낸다.
+ * 기존과 같이 result 가 문자열이면 문자열 값을, 그 외에는 JSON 텍스트를 암호화한다.
+ * JSON 객체가 아닌 응답은 그대로 내보낸다.
+ */
+public class EncryptingJsonOutputStream extends OutputStream {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory()
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+    private static final String RESULT_FIELD = "result";
+
+    private enum State { START, PARSING, PASSTHROUGH }
+
+    private final OutputStream out;
+    private final CryptoService cryptoService;
+
+    private State state = State.START;
+    private JsonParser parser;
+    private ByteArrayFeeder feeder;
+    private JsonGenerator envelopeGenerator;
+
+    private int depth;
+    private boolean resultNext;         // 다음 값이 result 값인지
+    private OutputStream cipherOut;     // result 암호화 스트림 (result 값을 쓰는 동안만 존재)
+    private JsonGenerator resultGenerator;
+    private int resultDepth;
+
+    private final byte[] single = new byte[1];
+
+    public EncryptingJsonOutputStream(OutputStream out, CryptoService cryptoService) {
+        this.out = out;
+        this.cryptoService = cryptoService;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        single[0] = (byte) b;
+        write(single, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (state == State.START) {
+            int first = off;
+            while (first < off + len && Character.isWhitespace(b[first])) {
+                first++;
+            }
+            if (first == off + len) {
+                out.write(b, off, len);
+                return;
+            }
+            if (b[first] == '{') {
+                startParsing();
+            } else {
+                state = State.PASSTHROUGH;
+            }
+        }
+
+        if (state == State.PASSTHROUGH) {
+            out.write(b, off, len);
+            return;
+        }
+
+        // 피더는 넘겨받은 배열을 참조하므로 반환 전에 토큰을 모두 소비해야 한다.
+        feeder.feedInput(b, off, off + len);
+        drain();
+    }
+
+    // 남은 토큰을 모두 처리하고 envelope 을 내보낸다. (out 은 닫지 않음)
+    public void finish() throws IOException {
+        if (state != State.PARSING) {
+            out.flush();
+            return;
+        }
+        feeder.endOfInput();
+        drain();
+        if (cipherOut != null) {
+            // result 값이 끝나기 전에 응답이 끝난 경우
+            endResult();
+        }
+        envelopeGenerator.flush();
+        out.flush();
+        parser.close();
+        state = State.PASSTHROUGH;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (envelopeGenerator != null) {
+            envelopeGenerator.flush();
+        }
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        finish();
+    }
+
+    private void startParsing() throws IOException {
+        parser = JSON_FACTORY.createNonBlockingByteArrayParser();
+        feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        envelopeGenerator = JSON_FACTORY.createGenerator(out);
+        state = State.PARSING;
+    }
+
+    private void drain() throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            if (cipherOut != null) {
+                writeResult(token);
+            } else if (resultNext) {
+                startResult(token);
+            } else {
+                writeEnvelope(token);
+            }
+        }
+    }
+
+    private void writeEnvelope(JsonToken token) throws IOException {
+        if (token.isStructStart()) {
+            depth++;
+        } else if (token.isStructEnd()) {
+            depth--;
+        }
+
+        if (token == JsonToken.FIELD_NAME && depth == 1 && RESULT_FIELD.equals(parser.getCurrentName())) {
+            resultNext = true;
+        }
+        envelopeGenerator.copyCurrentEvent(parser);
+    }
+
+    private void startResult(JsonToken token) throws IOException {
+        resultNext = false;
+
+        // "result":" 까지 쓰고, 이후 Base64 암호문은 raw 로 이어서 쓴다. (Base64 문자는 이스케이프가 필요 없음)
+        envelopeGenerator.writeRawValue("\"");
+        try {
+            cipherOut = cryptoService.encryptStream(new RawOutputStream(envelopeGenerator));
+        } catch (GeneralSecurityException e) {
+            throw new IOException(e);
+        }
+
+        if (token.isStructStart()) {
+            resultGenerator = JSON_FACTORY.createGenerator(cipherOut);
+            resultDepth = 0;
+            writeResult(token);
+            return;
+        }
+
+        // 문자열, 숫자, boolean 은 값의 텍스트를 그대로 암호화
+        cipherOut.write(parser.getText().getBytes(UTF_8));
+        endResult();
+    }
+
+    private void writeResult(JsonToken token) throws IOException {
+        if (token.isStructStart()) {
+            resultDepth++;
+        } else if (token.isStructEnd()) {
+            resultDepth--;
+        }
+
+        if (token.isNumeric()) {
+            // double 변환 없이 원문 그대로
+            resultGenerator.writeNumber(parser.getText());
+        } else {
+            resultGenerator.copyCurrentEvent(parser);
+        }
+
+        if (resultDepth == 0) {
+            endResult();
+        }
+    }
+
+    private void endResult() throws IOException {
+        if (resultGenerator != null) {
+            resultGenerator.close();
+            resultGenerator = null;
+        }
+        cipherOut.close();
+        cipherOut = null;
+        envelopeGenerator.writeRaw('"');
+    }
+
+    // Base64 출력(ASCII)을 envelope generator 에 raw 로 쓰는 스트림, close 해도 generator 는 닫지 않는다.
+    private static class RawOutputStream extends OutputStream {
+        private final JsonGenerator generator;
+        private final char[] chars = new char[1024];
+
+        RawOutputStream(JsonGenerator generator) {
+            this.generator = generator;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            generator.writeRaw((char) b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                int n = Math.min(len, chars.length);
+                for (int i = 0; i < n; i++) {
+                    chars[i] = (char) b[off + i];
+                }
+                generator.writeRaw(chars, 0, n);
+                off += n;
+                len -= n;
+            }
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -1,48 +1,40 @@
 package com.umc.footprint.filter;
 
-import com.umc.footprint.config.EncryptProperties;
+import com.umc.footprint.utils.AuthUserArgumentResolver;
+import com.umc.footprint.utils.CryptoService;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import javax.servlet.DispatcherType;
+import java.util.List;
+
 @Configuration
 public class FilterConfiguration implements WebMvcConfigurer {
-    private final EncryptProperties encryptProperties;
-
-    public FilterConfiguration(EncryptProperties encryptProperties){
-        this.encryptProperties = encryptProperties;
-    }
-
-    @Bean
-    public FilterRegistrationBean<DecodingFilter> decodingFilterRegistrationBean(){
-        FilterRegistrationBean<DecodingFilter> registrationBean = new FilterRegistrationBean<>();
-        registrationBean.setFilter(new DecodingFilter(encryptProperties));
-        registrationBean.addUrlPatterns("/users/infos");
-        registrationBean.addUrlPatterns("/users/infos/after");
-        registrationBean.addUrlPatterns("/users/auth/login");
-        registrationBean.addUrlPatterns("/users/goals");
-        registrationBean.addUrlPatterns("/walks");
-        registrationBean.addUrlPatterns("/weather");
-        registrationBean.addUrlPatterns("/notices/key");
-        registrationBean.addUrlPatterns("/courses/list");
-        registrationBean.addUrlPatterns("/courses/recommend");
+    private final CryptoService cryptoService;
+    private final AuthUserArgumentResolver authUserArgumentResolver;
 
-        System.out.println("URL =" + registrationBean.getUrlPatterns());
-
-        return registrationBean;
+    public FilterConfiguration(CryptoService cryptoService, AuthUserArgumentResolver authUserArgumentResolver){
+        this.cryptoService = cryptoService;
+        this.authUserArgumentResolver = authUserArgumentResolver;
     }
 
     @Bean
     public FilterRegistrationBean<EncodingFilter> encodingFilterRegistrationBean(){
         FilterRegistrationBean<EncodingFilter> registrationBean = new FilterRegistrationBean<>();
-        registrationBean.setFilter(new EncodingFilter(encryptProperties));
+        registrationBean.setFilter(new EncodingFilter(cryptoService));
         registrationBean.addUrlPatterns("/users/*");
         registrationBean.addUrlPatterns("/footprints/*");
         registrationBean.addUrlPatterns("/walks/*");
         registrationBean.addUrlPatterns("/weather");
         registrationBean.addUrlPatterns("/notices/*");
         registrationBean.addUrlPatterns("/courses/*");
+        // 비동기 응답도 암호화 (EncodingFilter)
+        registrationBean.setDispatcherTypes(DispatcherType.REQUEST, DispatcherType.ASYNC);
 
 
         System.out.println("URL =" + registrationBean.getUrlPatterns());
@@ -50,7 +42,26 @@ public class FilterConfiguration implements WebMvcConfigurer {
         return registrationBean;
     }
 
+    // 암호화된 Request Body는 text/plain으로도 들어오므로 복호화 대상 요청만 읽는 JSON 컨버터를 맨 뒤에 추가한다. (DecryptRequestBodyAdvice)
+    // 공용 JSON 컨버터는 그대로 두므로 응답 Content-Type 협상은 바뀌지 않는다.
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        MappingJackson2HttpMessageConverter jacksonConverter = null;
+        for (HttpMessageConverter<?> converter : converters) {
+            if (converter instanceof MappingJackson2HttpMessageConverter) {
+                jacksonConverter = (MappingJackson2HttpMessageConverter) converter;
+                break;
+            }
+        }
+        if (jacksonConverter != null) {
+            converters.add(new DecryptedJsonMessageConverter(jacksonConverter.getObjectMapper()));
+        }
+    }
 
-
+    // 컨트롤러 AuthUser 파라미터 (X-ACCESS-TOKEN 사용자)
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(authUserArgumentResolver);
+    }
 
 }
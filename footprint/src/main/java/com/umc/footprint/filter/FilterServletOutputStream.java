@@ -2,23 +2,33 @@ package com.umc.footprint.filter;
 
 import javax.servlet.ServletOutputStream;
 import javax.servlet.WriteListener;
-import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 
 public class FilterServletOutputStream extends ServletOutputStream{
-    private final DataOutputStream outputStream;
+    private final OutputStream outputStream;
 
     public FilterServletOutputStream(OutputStream output){
-        this.outputStream = new DataOutputStream(output);
+        this.outputStream = output;
     }
 
-    // FilterServletOutputStream이 호출되면 write를 통해 outputStream에 Response Body의 데이터를 쌓을 수 있다.
+    // FilterServletOutputStream이 호출되면 write를 통해 outputStream에 Response Body의 데이터를 넘길 수 있다.
     @Override
     public void write(int b) throws IOException{
         outputStream.write(b);
     }
 
+    // Jackson 등은 버퍼 단위로 쓰므로 바이트 단위로 쪼개지 않고 그대로 넘긴다.
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException{
+        outputStream.write(b, off, len);
+    }
+
+    @Override
+    public void flush() throws IOException{
+        outputStream.flush();
+    }
+
     @Override
     public boolean isReady(){
         return true;
@@ -1,6 +1,6 @@
 package com.umc.footprint.filter;
 
-import org.apache.commons.codec.DecoderException;
+import com.umc.footprint.utils.CryptoService;
 
 import javax.servlet.ServletOutputStream;
 import javax.servlet.http.HttpServletResponse;
@@ -9,25 +9,39 @@ import java.io.*;
 
 public class ResponseBodyEncryptWrapper extends HttpServletResponseWrapper {
 
-    // 가로챈 데이터를 가공하여 담을 final 변수
-    ByteArrayOutputStream output;
-    FilterServletOutputStream filterOutput;
+    // Response Body를 받는 대로 result만 암호화해서 원래 응답으로 내보내는 스트림
+    private final CryptoService cryptoService;
+    private EncryptingJsonOutputStream output;
+    private FilterServletOutputStream filterOutput;
 
-    public ResponseBodyEncryptWrapper(HttpServletResponse response) throws IOException, DecoderException {
+    public ResponseBodyEncryptWrapper(HttpServletResponse response, CryptoService cryptoService) {
         super(response);
-        output = new ByteArrayOutputStream();
+        this.cryptoService = cryptoService;
     }
 
     @Override
-    public ServletOutputStream getOutputStream() {
+    public ServletOutputStream getOutputStream() throws IOException {
         if(filterOutput == null){
+            output = new EncryptingJsonOutputStream(getResponse().getOutputStream(), cryptoService);
             filterOutput = new FilterServletOutputStream(output);
         }
         return filterOutput;
     }
 
-    public byte[] getDataStream(){
-        return output.toByteArray();
+    // 암호화하면 길이가 달라지므로 Content-Length는 넘기지 않는다. (chunked 전송)
+    @Override
+    public void setContentLength(int len) {
+    }
+
+    @Override
+    public void setContentLengthLong(long len) {
+    }
+
+    // 남은 Response Body를 모두 내보냄
+    public void finish() throws IOException {
+        if(output != null){
+            output.finish();
+        }
     }
 
 }
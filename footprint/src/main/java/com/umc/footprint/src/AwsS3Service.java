@@ -1,12 +1,25 @@
 package com.umc.footprint.src;
 
+import com.amazonaws.HttpMethod;
+import com.amazonaws.SdkClientException;
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
 import com.amazonaws.services.s3.model.DeleteObjectRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.Upload;
+import com.amazonaws.util.IOUtils;
 import com.umc.footprint.config.BaseException;
 import com.umc.footprint.config.BaseResponseStatus;
+import com.umc.footprint.src.common.model.vo.ImageVariant;
+import com.umc.footprint.src.common.model.vo.ResizedImage;
+import com.umc.footprint.src.common.model.vo.UploadedPhoto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -15,46 +28,121 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URL;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.regex.Pattern;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AwsS3Service {
 
+    // presigned URL 로 올릴 수 있는 사진 확장자와 Content-Type
+    private static final Map<String, String> PHOTO_CONTENT_TYPES = Map.of(
+            ".jpg", "image/jpeg",
+            ".jpeg", "image/jpeg",
+            ".png", "image/png",
+            ".gif", "image/gif",
+            ".webp", "image/webp",
+            ".heic", "image/heic",
+            ".heif", "image/heif");
+
+    // createPhotoFileKey 로 만든 이름 (UUID + 사진 확장자)
+    private static final Pattern PHOTO_FILE_KEY_PATTERN = Pattern.compile("[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}\\.(jpg|jpeg|png|gif|webp|heic|heif)");
+
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
 
+    // presigned URL 유효 시간
+    @Value("${cloud.aws.s3.upload.url-expiration-seconds:600}")
+    private long uploadUrlExpirationSeconds;
+
+    // presigned URL 로 올린 사진 최대 크기
+    @Value("${cloud.aws.s3.upload.max-photo-bytes:20971520}")
+    private long maxPhotoBytes;
+
     private final AmazonS3 amazonS3;
+    private final TransferManager transferManager;
 
-    // 파일 여러 개 넣을 때
-    public ArrayList<String> uploadFile(List<MultipartFile> multipartFile) {
-        ArrayList<String> photoUrlList = new ArrayList<>();
-
-        // forEach 구문을 통해 multipartFile로 넘어온 파일들 하나씩 fileNameList에 추가
-        multipartFile.forEach(file -> {
-            String fileName = createFileName(file.getOriginalFilename());
-            ObjectMetadata objectMetadata = new ObjectMetadata();
-            objectMetadata.setContentLength(file.getSize());
-            objectMetadata.setContentType(file.getContentType());
-
-            try(InputStream inputStream = file.getInputStream()) {
-                amazonS3.putObject(new PutObjectRequest(bucket, fileName, inputStream, objectMetadata)
-                        .withCannedAcl(CannedAccessControlList.PublicRead));
-            } catch(IOException e) {
-                throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "파일 업로드에 실패했습니다.");
+    /**
+     * 크기를 줄인 사진 여러 개 넣을 때 (ImageResizer)
+     * display 와 thumbnail 을 같은 UUID 로(썸네일은 _thumb) 함께 올린다.
+     * TransferManager 스레드에서 동시에 업로드하고(큰 파일은 멀티파트), 모두 끝나면 URL 을 사진 순서대로 반환한다.
+     * 하나라도 실패하면 나머지 업로드를 취소하고 이미 올라간 파일을 지운 뒤 S3UPLOAD_ERROR
+     * DB 트랜잭션 밖에서 호출해서 업로드하는 동안 커넥션을 잡지 않도록 한다.
+     */
+    public List<UploadedPhoto> uploadImages(List<ResizedImage> images) throws BaseException {
+        List<PutObjectRequest> requestList = new ArrayList<>();
+        for (ResizedImage image : images) {
+            String name = UUID.randomUUID().toString();
+            requestList.add(createPutRequest(name + image.getDisplay().getExtension(), image.getDisplay()));
+            if (image.hasThumbnail()) {
+                requestList.add(createPutRequest(name + "_thumb" + image.getThumbnail().getExtension(), image.getThumbnail()));
             }
+        }
 
-            photoUrlList.add(amazonS3.getUrl(bucket, fileName).toString());
-        });
+        List<String> urlList = upload(requestList);
 
-        log.debug("첫번째 파일의 extension: {}", getFileExtension(photoUrlList.get(0)));
+        List<UploadedPhoto> uploadedPhotoList = new ArrayList<>();
+        int index = 0;
+        for (ResizedImage image : images) {
+            String imageUrl = urlList.get(index++);
+            String thumbnailUrl = image.hasThumbnail() ? urlList.get(index++) : null;
+            uploadedPhotoList.add(UploadedPhoto.builder()
+                    .imageUrl(imageUrl)
+                    .thumbnailUrl(thumbnailUrl)
+                    .build());
+        }
+        return uploadedPhotoList;
+    }
 
-        return photoUrlList;
+    private PutObjectRequest createPutRequest(String fileName, ImageVariant variant) {
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentLength(variant.getBytes().length);
+        objectMetadata.setContentType(variant.getContentType());
+        return new PutObjectRequest(bucket, fileName, new ByteArrayInputStream(variant.getBytes()), objectMetadata);
+    }
+
+    // 동시 업로드, 하나라도 실패하면 나머지 취소 + 올라간 파일 삭제 후 S3UPLOAD_ERROR
+    private List<String> upload(List<PutObjectRequest> requestList) throws BaseException {
+        List<String> fileNameList = new ArrayList<>();
+        List<Upload> uploadList = new ArrayList<>();
+
+        try {
+            for (PutObjectRequest request : requestList) {
+                uploadList.add(transferManager.upload(request.withCannedAcl(CannedAccessControlList.PublicRead)));
+                fileNameList.add(request.getKey());
+            }
+            for (Upload upload : uploadList) {
+                upload.waitForCompletion();
+            }
+        } catch (Exception exception) {
+            if (exception instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            log.error("파일 업로드 실패, 업로드한 파일 {}개 삭제", fileNameList.size(), exception);
+            for (Upload upload : uploadList) {
+                if (!upload.isDone()) {
+                    upload.abort();
+                }
+            }
+            deleteFiles(fileNameList);
+            throw new BaseException(BaseResponseStatus.S3UPLOAD_ERROR);
+        }
+
+        List<String> urlList = new ArrayList<>();
+        for (String fileName : fileNameList) {
+            urlList.add(amazonS3.getUrl(bucket, fileName).toString());
+        }
+        return urlList;
     }
 
     // 파일 하나 넣을 때
@@ -82,10 +170,143 @@ public class AwsS3Service {
         return photoUrl;
     }
 
+    /**
+     * 클라이언트가 S3 에 직접 올릴 사진 이름 (UUID + 확장자)
+     * 사진 확장자가 아니면 INVALID_PHOTO_EXTENSION
+     */
+    public String createPhotoFileKey(String fileName) throws BaseException {
+        int dot = fileName.lastIndexOf(".");
+        String extension = dot < 0 ? "" : fileName.substring(dot).toLowerCase();
+        if (!PHOTO_CONTENT_TYPES.containsKey(extension)) {
+            throw new BaseException(BaseResponseStatus.INVALID_PHOTO_EXTENSION);
+        }
+        return UUID.randomUUID().toString().concat(extension);
+    }
+
+    public String getPhotoContentType(String fileKey) {
+        return PHOTO_CONTENT_TYPES.get(fileKey.substring(fileKey.lastIndexOf(".")));
+    }
+
+    /**
+     * 사진 presigned PUT URL, ACL 과 Content-Type 을 서명에 포함한다.
+     * 등록한 원본은 크기를 줄인 사진으로 바뀔 때까지 그대로 보여주므로 공개로 올린다. (PhotoResizeDispatcher)
+     */
+    public URL createUploadUrl(String fileKey) {
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, fileKey, HttpMethod.PUT)
+                .withExpiration(new Date(System.currentTimeMillis() + uploadUrlExpirationSeconds * 1000))
+                .withContentType(getPhotoContentType(fileKey));
+        request.putCustomRequestHeader("x-amz-acl", CannedAccessControlList.PublicRead.toString());
+        return amazonS3.generatePresignedUrl(request);
+    }
+
+    // presigned URL 로 올릴 때 클라이언트가 함께 보내야 하는 헤더 (서명에 포함)
+    public Map<String, String> getUploadHeaders(String fileKey) {
+        return Map.of(
+                "x-amz-acl", CannedAccessControlList.PublicRead.toString(),
+                "Content-Type", getPhotoContentType(fileKey));
+    }
+
+    public long getUploadUrlExpirationSeconds() {
+        return uploadUrlExpirationSeconds;
+    }
+
+    /**
+     * 클라이언트가 올린 사진 확인(HEAD) 후 URL 반환, 내용은 내려받지 않는다.
+     * 올라오지 않았거나 Content-Type 이 다르면 NOT_UPLOADED_PHOTO, maxPhotoBytes 보다 크면 EXCEED_PHOTO_SIZE
+     */
+    public String getUploadedPhotoUrl(String fileKey) throws BaseException {
+        checkUploadedPhoto(fileKey);
+        return amazonS3.getUrl(bucket, fileKey).toString();
+    }
+
+    /**
+     * 클라이언트가 올린 사진 내려받기 (PhotoResizeDispatcher 에서 크기를 줄일 때)
+     * 확인 조건은 getUploadedPhotoUrl 과 같다.
+     */
+    public ImageVariant downloadUploadedPhoto(String fileKey) throws BaseException {
+        String contentType = checkUploadedPhoto(fileKey);
+        try (S3Object s3Object = amazonS3.getObject(bucket, fileKey)) {
+            return ImageVariant.builder()
+                    .bytes(IOUtils.toByteArray(s3Object.getObjectContent()))
+                    .contentType(contentType)
+                    .extension(fileKey.substring(fileKey.lastIndexOf(".")))
+                    .build();
+        } catch (AmazonS3Exception exception) {
+            if (exception.getStatusCode() == 404) {
+                throw new BaseException(BaseResponseStatus.NOT_UPLOADED_PHOTO);
+            }
+            throw new BaseException(BaseResponseStatus.S3UPLOAD_ERROR);
+        } catch (SdkClientException | IOException exception) {
+            throw new BaseException(BaseResponseStatus.S3UPLOAD_ERROR);
+        }
+    }
+
+    // 발급한 이름이고 S3 에 올라왔는지, Content-Type 과 크기 확인 (HEAD), 사진 Content-Type 반환
+    private String checkUploadedPhoto(String fileKey) throws BaseException {
+        if (fileKey == null || !PHOTO_FILE_KEY_PATTERN.matcher(fileKey).matches()) {
+            throw new BaseException(BaseResponseStatus.NOT_UPLOADED_PHOTO);
+        }
+        ObjectMetadata objectMetadata;
+        try {
+            objectMetadata = amazonS3.getObjectMetadata(bucket, fileKey);
+        } catch (AmazonS3Exception exception) {
+            if (exception.getStatusCode() == 404) {
+                throw new BaseException(BaseResponseStatus.NOT_UPLOADED_PHOTO);
+            }
+            throw new BaseException(BaseResponseStatus.S3UPLOAD_ERROR);
+        } catch (SdkClientException exception) {
+            throw new BaseException(BaseResponseStatus.S3UPLOAD_ERROR);
+        }
+        String contentType = getPhotoContentType(fileKey);
+        if (!contentType.equals(objectMetadata.getContentType())) {
+            throw new BaseException(BaseResponseStatus.NOT_UPLOADED_PHOTO);
+        }
+        if (objectMetadata.getContentLength() > maxPhotoBytes) {
+            throw new BaseException(BaseResponseStatus.EXCEED_PHOTO_SIZE);
+        }
+        return contentType;
+    }
+
     public void deleteFile(String fileName) {
         amazonS3.deleteObject(new DeleteObjectRequest(bucket, fileName));
     }
 
+    /**
+     * 여러 파일 한 번에 삭제 (DeleteObjects, 최대 1000개)
+     * 삭제하지 못한 파일 이름을 반환하고, 예외는 던지지 않는다. 없는 파일은 삭제 성공으로 본다.
+     */
+    public List<String> deleteObjects(List<String> fileNames) {
+        if (fileNames.isEmpty()) {
+            return List.of();
+        }
+        try {
+            amazonS3.deleteObjects(new DeleteObjectsRequest(bucket)
+                    .withKeys(fileNames.toArray(new String[0]))
+                    .withQuiet(true));
+            return List.of();
+        } catch (MultiObjectDeleteException exception) {
+            log.warn("파일 {}개 중 {}개 삭제 실패", fileNames.size(), exception.getErrors().size());
+            return exception.getErrors().stream()
+                    .map(MultiObjectDeleteException.DeleteError::getKey)
+                    .collect(Collectors.toList());
+        } catch (SdkClientException exception) {
+            log.warn("파일 {}개 삭제 실패", fileNames.size(), exception);
+            return fileNames;
+        }
+    }
+
+    // 업로드 보상용 삭제, 실패해도 예외를 던지지 않는다. (URL 또는 파일 이름)
+    public void deleteFiles(List<String> fileNames) {
+        for (String fileName : fileNames) {
+            String key = fileName.substring(fileName.lastIndexOf("/") + 1);
+            try {
+                deleteFile(key);
+            } catch (Exception exception) {
+                log.error("파일 삭제 실패: {}", key, exception);
+            }
+        }
+    }
+
     private String createFileName(String fileName) { // 먼저 파일 업로드 시, 파일명을 난수화하기 위해 random으로 돌립니다.
         return UUID.randomUUID().toString().concat(getFileExtension(fileName));
     }
@@ -1,10 +1,9 @@
 package com.umc.footprint.src.check;
 
 import com.umc.footprint.config.BaseException;
-import com.umc.footprint.config.EncryptProperties;
 import com.umc.footprint.src.common.model.entity.Hashtag;
 import com.umc.footprint.src.common.repository.HashtagRepository;
-import com.umc.footprint.utils.AES128;
+import com.umc.footprint.utils.CryptoService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -18,13 +17,13 @@ import static com.umc.footprint.config.BaseResponseStatus.DATABASE_ERROR;
 @RequiredArgsConstructor
 public class CheckService {
 
-    private final EncryptProperties encryptProperties;
+    private final CryptoService cryptoService;
     private final HashtagRepository hashtagRepository;
 
 
     public String checkEncryptWalk(String encryptString) throws BaseException {
         try{
-            String encryptResult = new AES128(encryptProperties.getKey()).encrypt(encryptString);
+            String encryptResult = cryptoService.encrypt(encryptString);
 
             log.info("encryptResult = {}",encryptResult );
 
@@ -37,7 +36,7 @@ public class CheckService {
     public String checkDecryptWalk(String decryptString) throws BaseException{
         try{
             System.out.println("decryptString = " + decryptString);
-            String decryptResult = new AES128(encryptProperties.getKey()).decrypt(decryptString);
+            String decryptResult = cryptoService.decrypt(decryptString);
 
             System.out.println("decryptResult = " + decryptResult);
 
@@ -51,7 +50,7 @@ public class CheckService {
         List<Hashtag> all = hashtagRepository.findAll();
         try {
             for (Hashtag encryptedHashtag : all) {
-                encryptedHashtag.decryptHashtag(new AES128(encryptProperties.getKey()).decrypt(encryptedHashtag.getHashtag()));
+                encryptedHashtag.decryptHashtag(cryptoService.decrypt(encryptedHashtag.getHashtag()));
             }
             hashtagRepository.saveAll(all);
         } catch (Exception exception) {
@@ -0,0 +1,112 @@
+package com.umc.footprint.src.common;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.*;
+
+/**
+ * 해시태그 사전
+ * Hashtag 테이블은 정규화된 해시태그 문자열당 한 행만 가진다. (hashtag 컬럼 유니크)
+ * 문자열 -> hashtagIdx 를 메모리에 캐싱하고, 없는 해시태그만 INSERT IGNORE 후 다시 조회한다.
+ * hashtag 컬럼은 utf8mb4_bin 이라 normalize() 결과가 다르면(대소문자, 악센트 등) 다른 행이다.
+ * Hashtag 행은 삭제되지 않으므로 캐시된 hashtagIdx 는 바뀌지 않는다.
+ */
+@Slf4j
+@Component
+public class HashtagDictionary {
+
+    // 캐시에 보관할 최대 해시태그 수 (초과 시 가장 오래 사용하지 않은 해시태그부터 제거)
+    private static final int MAX_CACHED_HASHTAGS = 10_000;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private final Map<String, Integer> hashtagIdxCache = Collections.synchronizedMap(
+            new LinkedHashMap<String, Integer>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Integer> eldest) {
+                    return size() > MAX_CACHED_HASHTAGS;
+                }
+            });
+
+    @Autowired
+    public void setDataSource(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    // 해시태그 정규화 (앞뒤 공백 제거)
+    public static String normalize(String hashtag) {
+        return hashtag.trim();
+    }
+
+    /**
+     * 해시태그 목록의 hashtagIdx 조회 (사전에 없으면 추가)
+     * @return 정규화된 해시태그 -> hashtagIdx
+     */
+    public Map<String, Integer> getOrCreate(Collection<String> hashtags) {
+        Map<String, Integer> hashtagIdxMap = new HashMap<>();
+        Set<String> missingHashtags = new LinkedHashSet<>();
+
+        // 1. 캐시 조회
+        for (String hashtag : hashtags) {
+            String normalized = normalize(hashtag);
+            Integer hashtagIdx = hashtagIdxCache.get(normalized);
+            if (hashtagIdx != null) {
+                hashtagIdxMap.put(normalized, hashtagIdx);
+            } else {
+                missingHashtags.add(normalized);
+            }
+        }
+        if (missingHashtags.isEmpty()) {
+            return hashtagIdxMap;
+        }
+
+        // 2. 사전에 없는 해시태그만 추가 (이미 있으면 유니크 키로 무시됨)
+        String values = String.join(", ", Collections.nCopies(missingHashtags.size(), "(?)"));
+        jdbcTemplate.update("INSERT IGNORE INTO Hashtag (hashtag) VALUES " + values, missingHashtags.toArray());
+
+        // 3. hashtagIdx 조회
+        // 잠금 읽기로 최신 커밋을 읽는다. (일반 SELECT 는 REPEATABLE READ 스냅샷이라
+        // 스냅샷 이후 다른 트랜잭션이 커밋해 INSERT IGNORE 에서 무시된 해시태그가 보이지 않음)
+        String in = String.join(", ", Collections.nCopies(missingHashtags.size(), "?"));
+        jdbcTemplate.query("SELECT hashtagIdx, hashtag FROM Hashtag WHERE hashtag IN (" + in + ") LOCK IN SHARE MODE",
+                rs -> {
+                    hashtagIdxMap.put(rs.getString("hashtag"), rs.getInt("hashtagIdx"));
+                },
+                missingHashtags.toArray());
+
+        for (String hashtag : missingHashtags) {
+            if (!hashtagIdxMap.containsKey(hashtag)) {
+                throw new IllegalStateException("해시태그 사전에 없는 해시태그: " + hashtag);
+            }
+        }
+        cacheAfterCommit(missingHashtags, hashtagIdxMap);
+
+        log.debug("해시태그 사전 조회 - 요청: {}, 캐시 미스: {}", hashtags.size(), missingHashtags.size());
+        return hashtagIdxMap;
+    }
+
+    // 롤백되면 새로 추가한 해시태그 행이 사라지므로 커밋 후에 캐싱
+    private void cacheAfterCommit(Set<String> hashtags, Map<String, Integer> hashtagIdxMap) {
+        Map<String, Integer> entries = new HashMap<>();
+        for (String hashtag : hashtags) {
+            entries.put(hashtag, hashtagIdxMap.get(hashtag));
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            hashtagIdxCache.putAll(entries);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                hashtagIdxCache.putAll(entries);
+            }
+        });
+    }
+}
@@ -0,0 +1,338 @@
+package com.umc.footprint.src.common;
+
+import com.umc.footprint.config.BaseException;
+import com.umc.footprint.src.common.model.vo.ImageVariant;
+import com.umc.footprint.src.common.model.vo.ResizedImage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.annotation.PreDestroy;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.umc.footprint.config.BaseResponseStatus.S3UPLOAD_ERROR;
+
+/**
+ * 업로드 전 사진 크기 줄이기
+ * 디코딩 -> EXIF 방향 적용 -> 긴 변 제한(display) -> 목록용 썸네일(thumbnail), 둘 다 JPEG
+ * 작업은 정해진 수의 스레드에서 돌리고, 큐가 차면 요청 스레드에서 직접 처리한다.
+ * ImageIO 로 읽을 수 없는 형식(HEIC 등)은 원본을 그대로 올린다.
+ */
+@Slf4j
+@Component
+public class ImageResizer {
+
+    private static final String JPEG_CONTENT_TYPE = "image/jpeg";
+    private static final String JPEG_EXTENSION = ".jpg";
+
+    private final int displayMaxEdge;
+    private final int thumbnailMaxEdge;
+    private final float jpegQuality;
+    private final ThreadPoolExecutor executor;
+
+    public ImageResizer(@Value("${image.resize.display-max-edge:1600}") int displayMaxEdge,
+                        @Value("${image.resize.thumbnail-max-edge:320}") int thumbnailMaxEdge,
+                        @Value("${image.resize.jpeg-quality:0.85}") float jpegQuality,
+                        @Value("${image.resize.threads:4}") int threads) {
+        this.displayMaxEdge = displayMaxEdge;
+        this.thumbnailMaxEdge = thumbnailMaxEdge;
+        this.jpegQuality = jpegQuality;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(threads * 16),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-resize-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // 사진마다 display, thumbnail 변형 (순서 유지)
+    public List<ResizedImage> resize(List<MultipartFile> files) throws BaseException {
+        List<Callable<ResizedImage>> tasks = new ArrayList<>();
+        for (MultipartFile file : files) {
+            tasks.add(() -> resize(file.getBytes(), file.getContentType(), getFileExtension(file.getOriginalFilename())));
+        }
+        return resizeAll(tasks);
+    }
+
+    // 클라이언트가 S3 에 직접 올린 원본 변형 (AwsS3Service.downloadUploadedPhoto)
+    public List<ResizedImage> resizeUploaded(List<ImageVariant> originals) throws BaseException {
+        List<Callable<ResizedImage>> tasks = new ArrayList<>();
+        for (ImageVariant original : originals) {
+            tasks.add(() -> resize(original.getBytes(), original.getContentType(), original.getExtension()));
+        }
+        return resizeAll(tasks);
+    }
+
+    private List<ResizedImage> resizeAll(List<Callable<ResizedImage>> tasks) throws BaseException {
+        List<Future<ResizedImage>> futures = new ArrayList<>();
+        for (Callable<ResizedImage> task : tasks) {
+            futures.add(executor.submit(task));
+        }
+
+        List<ResizedImage> resizedImages = new ArrayList<>();
+        try {
+            for (Future<ResizedImage> future : futures) {
+                resizedImages.add(future.get());
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw new BaseException(S3UPLOAD_ERROR);
+        } catch (ExecutionException exception) {
+            log.error("사진 변환 실패", exception.getCause());
+            futures.forEach(future -> future.cancel(true));
+            throw new BaseException(S3UPLOAD_ERROR);
+        }
+        return resizedImages;
+    }
+
+    private ResizedImage resize(byte[] bytes, String contentType, String extension) throws IOException {
+        BufferedImage image;
+        try {
+            image = decode(bytes, displayMaxEdge);
+        } catch (IOException exception) { // CMYK JPEG 등
+            image = null;
+        }
+        if (image == null) {
+            log.debug("변환할 수 없는 이미지, 원본 업로드: {}", contentType);
+            return ResizedImage.original(ImageVariant.builder()
+                    .bytes(bytes)
+                    .contentType(contentType)
+                    .extension(extension)
+                    .build());
+        }
+
+        // 방향은 줄인 뒤에 적용 (긴 변 길이는 회전해도 같음)
+        BufferedImage display = orient(scale(image, displayMaxEdge), readExifOrientation(bytes));
+        BufferedImage thumbnail = scale(display, thumbnailMaxEdge);
+        return new ResizedImage(encodeJpeg(display), encodeJpeg(thumbnail));
+    }
+
+    /**
+     * 디코딩, 긴 변이 maxEdge 의 2배 이상이면 읽을 때부터 건너뛰며 읽어(subsampling) 메모리와 시간을 줄인다.
+     * 읽을 수 없는 형식이면 null
+     */
+    private BufferedImage decode(byte[] bytes, int maxEdge) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int longEdge = Math.max(reader.getWidth(0), reader.getHeight(0));
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = longEdge / (maxEdge * 2);
+                if (subsampling > 1) {
+                    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                }
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 긴 변을 maxEdge 이하로, 절반씩 줄여서 품질 유지 (알파는 흰 배경으로)
+    static BufferedImage scale(BufferedImage image, int maxEdge) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        double ratio = Math.min(1d, (double) maxEdge / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(height * ratio));
+
+        BufferedImage current = image;
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            BufferedImage next = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = next.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                if (current.getColorModel().hasAlpha()) {
+                    graphics.setColor(Color.WHITE);
+                    graphics.fillRect(0, 0, width, height);
+                }
+                graphics.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    // EXIF Orientation(1~8) 적용
+    static BufferedImage orient(BufferedImage image, int orientation) {
+        if (orientation <= 1 || orientation > 8) {
+            return image;
+        }
+        int width = image.getWidth();
+        int height = image.getHeight();
+        boolean swap = orientation >= 5;
+
+        // (x, y) -> (x', y'), AffineTransform(m00, m10, m01, m11, m02, m12)
+        AffineTransform transform;
+        switch (orientation) {
+            case 2: // 좌우 반전
+                transform = new AffineTransform(-1, 0, 0, 1, width, 0);
+                break;
+            case 3: // 180도
+                transform = new AffineTransform(-1, 0, 0, -1, width, height);
+                break;
+            case 4: // 상하 반전
+                transform = new AffineTransform(1, 0, 0, -1, 0, height);
+                break;
+            case 5: // 좌상-우하 대각선 반전
+                transform = new AffineTransform(0, 1, 1, 0, 0, 0);
+                break;
+            case 6: // 시계 방향 90도
+                transform = new AffineTransform(0, 1, -1, 0, height, 0);
+                break;
+            case 7: // 우상-좌하 대각선 반전
+                transform = new AffineTransform(0, -1, -1, 0, height, width);
+                break;
+            default: // 8: 반시계 방향 90도
+                transform = new AffineTransform(0, -1, 1, 0, 0, width);
+                break;
+        }
+
+        BufferedImage oriented = new BufferedImage(swap ? height : width, swap ? width : height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = oriented.createGraphics();
+        try {
+            graphics.drawImage(image, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return oriented;
+    }
+
+    private ImageVariant encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output)) {
+            writer.setOutput(imageOutput);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return ImageVariant.builder()
+                .bytes(output.toByteArray())
+                .contentType(JPEG_CONTENT_TYPE)
+                .extension(JPEG_EXTENSION)
+                .build();
+    }
+
+    /**
+     * JPEG EXIF(APP1) 의 Orientation 태그, 없거나 읽을 수 없으면 1
+     * SOI 이후 마커를 따라가다 SOS(이미지 데이터) 전에 멈춘다.
+     * 사진에 들어 있는 값이라 깨진 EXIF 는 무시하고 업로드는 계속한다.
+     */
+    static int readExifOrientation(byte[] bytes) {
+        if (bytes.length < 4 || (bytes[0] & 0xFF) != 0xFF || (bytes[1] & 0xFF) != 0xD8) {
+            return 1;
+        }
+        try {
+            int offset = 2;
+            while (offset + 4 <= bytes.length && (bytes[offset] & 0xFF) == 0xFF) {
+                int marker = bytes[offset + 1] & 0xFF;
+                int length = ((bytes[offset + 2] & 0xFF) << 8) | (bytes[offset + 3] & 0xFF);
+                if (marker == 0xDA || length < 2) {
+                    break;
+                }
+                int segment = offset + 4;
+                if (marker == 0xE1 && segment + 14 <= bytes.length
+                        && bytes[segment] == 'E' && bytes[segment + 1] == 'x' && bytes[segment + 2] == 'i' && bytes[segment + 3] == 'f') {
+                    return readTiffOrientation(bytes, segment + 6, Math.min(bytes.length, offset + 2 + length));
+                }
+                offset += 2 + length;
+            }
+        } catch (RuntimeException exception) {
+            log.debug("EXIF 방향을 읽을 수 없음", exception);
+        }
+        return 1;
+    }
+
+    // TIFF 헤더 + IFD0 에서 0x0112(Orientation), 범위를 벗어나는 오프셋이면 1
+    private static int readTiffOrientation(byte[] bytes, int tiff, int end) {
+        if (tiff + 8 > end || bytes[tiff] != bytes[tiff + 1] || (bytes[tiff] != 'I' && bytes[tiff] != 'M')) {
+            return 1;
+        }
+        boolean littleEndian = bytes[tiff] == 'I';
+        // IFD 오프셋은 부호 없는 32비트
+        long ifd = tiff + (readInt(bytes, tiff + 4, littleEndian) & 0xFFFFFFFFL);
+        if (ifd < tiff + 8 || ifd + 2 > end) {
+            return 1;
+        }
+        int entryCount = readShort(bytes, (int) ifd, littleEndian);
+        for (int i = 0; i < entryCount; i++) {
+            long entry = ifd + 2 + i * 12L;
+            if (entry + 12 > end) {
+                break;
+            }
+            if (readShort(bytes, (int) entry, littleEndian) == 0x0112) {
+                int orientation = readShort(bytes, (int) entry + 8, littleEndian);
+                return orientation >= 1 && orientation <= 8 ? orientation : 1;
+            }
+        }
+        return 1;
+    }
+
+    private static int readShort(byte[] bytes, int offset, boolean littleEndian) {
+        int b0 = bytes[offset] & 0xFF;
+        int b1 = bytes[offset + 1] & 0xFF;
+        return littleEndian ? (b1 << 8) | b0 : (b0 << 8) | b1;
+    }
+
+    private static int readInt(byte[] bytes, int offset, boolean littleEndian) {
+        int high = readShort(bytes, littleEndian ? offset + 2 : offset, littleEndian);
+        int low = readShort(bytes, littleEndian ? offset : offset + 2, littleEndian);
+        return (high << 16) | low;
+    }
+
+    private static String getFileExtension(String fileName) {
+        if (fileName == null || fileName.lastIndexOf(".") < 0) {
+            return "";
+        }
+        return fileName.substring(fileName.lastIndexOf("."));
+    }
+}
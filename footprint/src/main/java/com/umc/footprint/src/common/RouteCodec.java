@@ -0,0 +1,395 @@
+package com.umc.footprint.src.common;
+
+import com.umc.footprint.src.common.model.vo.RouteDetail;
+import com.umc.footprint.src.common.model.vo.RoutePath;
+import com.umc.footprint.utils.CryptoService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+
+/**
+ * 산책/코스 경로(route) 인코딩, 디코딩
+ *
+ * 바이너리 포맷 (v1, 암호화 전)
+ *   [version: 1byte] [구간 수: varint]
+ *   구간마다 [좌표 수: varint] + 좌표마다 [위도, 경도 변화량: zigzag varint]
+ *   좌표는 1e-6도 단위 고정소수점이고, 변화량은 직전 좌표(첫 좌표는 0, 0) 기준이다.
+ * 인코딩 결과는 AES 암호화해서 route(BLOB) 컬럼에 그대로 저장한다.
+ *
+ * 간략화 경로 포맷 (route_lod, 헤더는 평문이고 단계별 경로만 각각 암호화)
+ *   [version: 1byte] [전체 좌표 수: varint] [단계 수: varint]
+ *   단계마다 [허용 오차(m): varint] [좌표 수: varint] [길이: varint] [암호화된 v1 경로]
+ *   단계는 허용 오차가 작은(자세한) 순서이고, 요청한 해상도에 맞는 한 단계만 복호화한다.
+ *
+ * route 가 없는 기존 행은 coordinate(LONGTEXT) 의 암호화된 텍스트 포맷 "((x y,x y),(x y,...))" 을 읽는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RouteCodec {
+
+    private static final byte VERSION_1 = 1;
+    private static final double FIXED_POINT_SCALE = 1_000_000d;
+    // 고정소수점 반올림 오차 (+ double 연산 오차)
+    private static final double MAX_FIXED_POINT_ERROR = 0.5 / FIXED_POINT_SCALE + 1e-9;
+
+    private static final byte LOD_VERSION_1 = 1;
+    // 간략화 단계별 허용 오차 (m)
+    private static final int[] LOD_TOLERANCES = {2, 8, 32};
+    // 좌표 수가 이전 단계의 이 비율보다 많으면 저장하지 않음 (줄어드는 양이 적음)
+    private static final double LOD_MIN_REDUCTION = 0.8;
+
+    private final CryptoService cryptoService;
+
+    // 경로 -> 암호화된 바이너리
+    public byte[] encode(RoutePath route) throws GeneralSecurityException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 + route.getPointCount() * 4);
+        out.write(VERSION_1);
+        writeVarint(out, route.getLineCount());
+
+        long prevX = 0;
+        long prevY = 0;
+        for (int line = 0; line < route.getLineCount(); line++) {
+            int pointCount = route.getLineLength(line) / 2;
+            writeVarint(out, pointCount);
+            for (int i = 0; i < pointCount; i++) {
+                long x = toFixedPoint(fixLatitude(route.get(line, 2 * i)));
+                long y = toFixedPoint(route.get(line, 2 * i + 1));
+                writeVarint(out, zigzag(x - prevX));
+                writeVarint(out, zigzag(y - prevY));
+                prevX = x;
+                prevY = y;
+            }
+        }
+        return cryptoService.encrypt(out.toByteArray());
+    }
+
+    // 경로 -> 단계별 간략화 경로 (route_lod)
+    public byte[] encodeLevels(RoutePath route) throws GeneralSecurityException {
+        int levelCount = 0;
+        int[] tolerances = new int[LOD_TOLERANCES.length];
+        int[] pointCounts = new int[LOD_TOLERANCES.length];
+        byte[][] levels = new byte[LOD_TOLERANCES.length][];
+
+        int previousPointCount = route.getPointCount();
+        for (int tolerance : LOD_TOLERANCES) {
+            RoutePath level = RouteSimplifier.simplify(route, tolerance);
+            if (level.getPointCount() > previousPointCount * LOD_MIN_REDUCTION) {
+                continue;
+            }
+            tolerances[levelCount] = tolerance;
+            pointCounts[levelCount] = level.getPointCount();
+            levels[levelCount] = encode(level);
+            levelCount++;
+            previousPointCount = level.getPointCount();
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64);
+        out.write(LOD_VERSION_1);
+        writeVarint(out, route.getPointCount());
+        writeVarint(out, levelCount);
+        for (int i = 0; i < levelCount; i++) {
+            writeVarint(out, tolerances[i]);
+            writeVarint(out, pointCounts[i]);
+            writeVarint(out, levels[i].length);
+            out.write(levels[i], 0, levels[i].length);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 저장된 경로 읽기
+     * route(바이너리)가 있으면 route 를, 없으면 기존 coordinate(텍스트)를 읽는다.
+     */
+    public RoutePath decode(byte[] route, String legacyCoordinate) throws GeneralSecurityException {
+        if (route != null && route.length > 0) {
+            return decodeBinary(cryptoService.decrypt(route));
+        }
+        return parseLegacy(cryptoService.decrypt(legacyCoordinate));
+    }
+
+    /**
+     * 요청한 해상도의 경로 읽기
+     * 전체 경로를 요청했거나 맞는 간략화 단계가 없으면 decode(route, legacyCoordinate) 와 같다.
+     */
+    public RoutePath decode(byte[] route, byte[] routeLod, String legacyCoordinate, RouteDetail detail) throws GeneralSecurityException {
+        if (!detail.isFull() && routeLod != null && routeLod.length > 0) {
+            RoutePath level = decodeLevel(routeLod, detail);
+            if (level != null) {
+                return level;
+            }
+        }
+        return decode(route, legacyCoordinate);
+    }
+
+    /**
+     * route(바이너리)가 기존 coordinate(텍스트)와 같은 경로인지 (RouteMigrationJob 정리 단계)
+     * 구간 수, 구간별 좌표 수가 같고 좌표마다 차이가 고정소수점 반올림 오차 이내일 때 true
+     */
+    public boolean matchesLegacy(byte[] route, String legacyCoordinate) throws GeneralSecurityException {
+        RoutePath binary = decodeBinary(cryptoService.decrypt(route));
+        RoutePath legacy = parseLegacy(cryptoService.decrypt(legacyCoordinate));
+        if (binary.getLineCount() != legacy.getLineCount()) {
+            return false;
+        }
+        for (int line = 0; line < legacy.getLineCount(); line++) {
+            if (binary.getLineLength(line) != legacy.getLineLength(line)) {
+                return false;
+            }
+            for (int i = 0; i < legacy.getLineLength(line); i++) {
+                if (Math.abs(binary.get(line, i) - legacy.get(line, i)) > MAX_FIXED_POINT_ERROR) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 발자국 좌표 텍스트 "(x y)" 또는 "POINT(x y)" -> [x, y]
+     * 좌표가 없는 "(?  ?)" 는 빈 배열
+     */
+    public static double[] parsePoint(String text) {
+        if (text.indexOf('?') >= 0) {
+            return new double[0];
+        }
+
+        TextScanner scanner = new TextScanner(text);
+        double[] point = new double[2];
+        int count = 0;
+        while (count < point.length && scanner.pos < text.length()) {
+            if (isNumberStart(text.charAt(scanner.pos))) {
+                point[count++] = scanner.readNumber();
+            } else {
+                scanner.pos++;
+            }
+        }
+        return point;
+    }
+
+    // 해상도에 맞는 간략화 단계만 복호화, 전체 경로를 써야 하면 null
+    private RoutePath decodeLevel(byte[] data, RouteDetail detail) throws GeneralSecurityException {
+        if (data[0] != LOD_VERSION_1) {
+            return null;
+        }
+        int[] pos = {1};
+
+        int fullPointCount = (int) readVarint(data, pos);
+        int levelCount = (int) readVarint(data, pos);
+        int[] tolerances = new int[levelCount];
+        int[] pointCounts = new int[levelCount];
+        int[] offsets = new int[levelCount];
+        int[] lengths = new int[levelCount];
+        for (int i = 0; i < levelCount; i++) {
+            tolerances[i] = (int) readVarint(data, pos);
+            pointCounts[i] = (int) readVarint(data, pos);
+            lengths[i] = (int) readVarint(data, pos);
+            offsets[i] = pos[0];
+            pos[0] += lengths[i];
+        }
+
+        // zoom: 허용 오차 이내에서 가장 간략한 단계 (-1: 전체 경로)
+        int selected = -1;
+        double toleranceMeters = detail.getToleranceMeters();
+        while (selected + 1 < levelCount && tolerances[selected + 1] <= toleranceMeters) {
+            selected++;
+        }
+        // maxPoints: 좌표 수가 넘으면 더 간략한 단계로 (가장 간략한 단계까지)
+        if (detail.getMaxPoints() != null) {
+            while (selected + 1 < levelCount
+                    && (selected < 0 ? fullPointCount : pointCounts[selected]) > detail.getMaxPoints()) {
+                selected++;
+            }
+        }
+
+        if (selected < 0) {
+            return null;
+        }
+        int end = offsets[selected] + lengths[selected];
+        if (end > data.length) {
+            throw new IllegalArgumentException("잘못된 경로 데이터입니다.");
+        }
+        return decodeBinary(cryptoService.decrypt(Arrays.copyOfRange(data, offsets[selected], end)));
+    }
+
+    private RoutePath decodeBinary(byte[] data) {
+        if (data.length == 0 || data[0] != VERSION_1) {
+            throw new IllegalArgumentException("지원하지 않는 경로 포맷입니다.");
+        }
+        int[] pos = {1};
+
+        int lineCount = (int) readVarint(data, pos);
+        // 좌표 하나는 최소 2바이트
+        RoutePath.Builder route = RoutePath.builder(data.length);
+
+        long x = 0;
+        long y = 0;
+        for (int l = 0; l < lineCount; l++) {
+            int pointCount = (int) readVarint(data, pos);
+            for (int i = 0; i < pointCount; i++) {
+                x += unzigzag(readVarint(data, pos));
+                y += unzigzag(readVarint(data, pos));
+                route.add(x / FIXED_POINT_SCALE);
+                route.add(y / FIXED_POINT_SCALE);
+            }
+            route.endLine();
+        }
+        return route.build();
+    }
+
+    /**
+     * 기존 텍스트 포맷 "((x y,x y),(x y,...))" 또는 "MULTILINESTRING((x y,...),(...))"
+     * 문자열을 한 번만 훑으면서 괄호 단위로 구간을 나누고 숫자를 바로 경로 배열에 담는다.
+     */
+    private static RoutePath parseLegacy(String text) {
+        // 좌표 값 하나는 최소 10글자 정도
+        RoutePath.Builder route = RoutePath.builder(text.length() / 10);
+        TextScanner scanner = new TextScanner(text);
+        int depth = 0;
+
+        while (scanner.pos < text.length()) {
+            char c = text.charAt(scanner.pos);
+            if (c == '(') {
+                depth++;
+                scanner.pos++;
+            } else if (c == ')') {
+                // 안쪽 괄호가 닫히면 구간 하나 (괄호가 한 겹뿐이면 전체가 한 구간)
+                if (route.currentLineLength() > 0 || depth >= 2) {
+                    route.endLine();
+                }
+                depth--;
+                scanner.pos++;
+            } else if (depth > 0 && isNumberStart(c)) {
+                double value = scanner.readNumber();
+                route.add(route.currentLineLength() % 2 == 0 ? fixLatitude(value) : value);
+            } else {
+                scanner.pos++;
+            }
+        }
+        // 괄호가 닫히지 않은 마지막 구간 (잘린 텍스트)
+        if (route.currentLineLength() > 0) {
+            route.endLine();
+        }
+        return route.build();
+    }
+
+    // 앞자리가 잘려서 저장된 위도 보정 (기존 데이터 호환)
+    private static double fixLatitude(double x) {
+        return x <= 10 ? x + 30 : x;
+    }
+
+    private static long toFixedPoint(double value) {
+        return Math.round(value * FIXED_POINT_SCALE);
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static boolean isNumberStart(char c) {
+        return (c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.';
+    }
+
+    private static long readVarint(byte[] data, int[] pos) {
+        long value = 0;
+        int shift = 0;
+        while (true) {
+            if (pos[0] >= data.length || shift > 63) {
+                throw new IllegalArgumentException("잘못된 경로 데이터입니다.");
+            }
+            byte b = data[pos[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+            shift += 7;
+        }
+    }
+
+    // 문자열 위치를 옮겨가며 숫자를 읽는 스캐너 (substring 없이 파싱)
+    private static final class TextScanner {
+        // 10^0 ~ 10^22 는 double 로 정확히 표현된다.
+        private static final double[] POW10 = {
+                1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+                1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+        // 이 자리수 이하의 정수부 + 소수부는 long -> double 변환이 정확하다. (< 2^53)
+        private static final int MAX_EXACT_DIGITS = 15;
+
+        private final String text;
+        private int pos;
+
+        TextScanner(String text) {
+            this.text = text;
+        }
+
+        /**
+         * 현재 위치의 숫자 하나를 읽고 위치를 숫자 다음으로 옮긴다.
+         * 15자리 이하 십진수는 (정수 / 10^소수자리) 한 번의 나눗셈으로 계산하고 (Double.parseDouble 과 같은 값)
+         * 그보다 길거나 지수 표기인 경우만 Double.parseDouble 을 사용한다.
+         */
+        double readNumber() {
+            int start = pos;
+            int length = text.length();
+
+            boolean negative = false;
+            char c = text.charAt(pos);
+            if (c == '-' || c == '+') {
+                negative = c == '-';
+                pos++;
+            }
+
+            long mantissa = 0;
+            int digits = 0;
+            int fractionDigits = 0;
+            boolean fraction = false;
+            for (; pos < length; pos++) {
+                c = text.charAt(pos);
+                if (c >= '0' && c <= '9') {
+                    mantissa = mantissa * 10 + (c - '0');
+                    digits++;
+                    if (fraction) {
+                        fractionDigits++;
+                    }
+                } else if (c == '.' && !fraction) {
+                    fraction = true;
+                } else {
+                    break;
+                }
+            }
+
+            if (pos < length && (text.charAt(pos) == 'E' || text.charAt(pos) == 'e')) {
+                pos++;
+                if (pos < length && (text.charAt(pos) == '-' || text.charAt(pos) == '+')) {
+                    pos++;
+                }
+                while (pos < length && text.charAt(pos) >= '0' && text.charAt(pos) <= '9') {
+                    pos++;
+                }
+                return Double.parseDouble(text.substring(start, pos));
+            }
+            if (digits == 0) {
+                throw new NumberFormatException("잘못된 좌표입니다: " + text.substring(start, Math.min(pos + 1, length)));
+            }
+            if (digits > MAX_EXACT_DIGITS) {
+                return Double.parseDouble(text.substring(start, pos));
+            }
+
+            double value = mantissa / POW10[fractionDigits];
+            return negative ? -value : value;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.umc.footprint.src.common;
+
+import com.umc.footprint.src.common.model.vo.RouteMigrationStep;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+
+/**
+ * 경로 바이너리 변환 진행 상황 (RouteMigrationJob)
+ * 단계마다 어디까지(PK) 처리했는지 RouteMigration 에 남기고, 잠금(lockedBy, lockedUntil)을 잡은 서버 한 곳만 진행한다.
+ *
+ * CREATE TABLE RouteMigration (
+ *     step VARCHAR(30) PRIMARY KEY,
+ *     lastIdx INT NOT NULL DEFAULT 0,
+ *     lockedBy VARCHAR(100) NULL,
+ *     lockedUntil DATETIME NULL,
+ *     finishAt DATETIME NULL,
+ *     createAt DATETIME NOT NULL,
+ *     updateAt DATETIME NOT NULL
+ * );
+ */
+@Repository
+public class RouteMigrationDao {
+
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public void setDataSource(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    // 단계 기록 생성, 이미 있으면 그대로 둔다.
+    public void createStep(RouteMigrationStep step) {
+        String createStepQuery = "INSERT IGNORE INTO RouteMigration (step, lastIdx, createAt, updateAt) VALUES (?, 0, now(), now())";
+        jdbcTemplate.update(createStepQuery, step.name());
+    }
+
+    public boolean isFinished(RouteMigrationStep step) {
+        String isFinishedQuery = "SELECT EXISTS (SELECT 1 FROM RouteMigration WHERE step = ? AND finishAt IS NOT NULL)";
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(isFinishedQuery, Boolean.class, step.name()));
+    }
+
+    /**
+     * 잠금 획득 (끝나지 않았고, 잠금이 없거나 만료됐거나 내 잠금일 때)
+     * 획득하면 lastIdx, 아니면 null
+     */
+    public Integer lock(RouteMigrationStep step, String owner, long lockSeconds) {
+        String lockQuery = "UPDATE RouteMigration SET lockedBy = ?, lockedUntil = now() + INTERVAL ? SECOND, updateAt = now() " +
+                "WHERE step = ? AND finishAt IS NULL AND (lockedBy IS NULL OR lockedBy = ? OR lockedUntil < now())";
+        if (jdbcTemplate.update(lockQuery, owner, lockSeconds, step.name(), owner) == 0) {
+            return null;
+        }
+        return jdbcTemplate.queryForObject("SELECT lastIdx FROM RouteMigration WHERE step = ?", Integer.class, step.name());
+    }
+
+    /**
+     * 진행 위치 저장 + 잠금 연장 (묶음과 같은 트랜잭션)
+     * 잠금을 잃었거나 다른 곳에서 위치가 바뀌었으면 false
+     */
+    public boolean saveCheckpoint(RouteMigrationStep step, String owner, int fromIdx, int toIdx, long lockSeconds) {
+        String saveCheckpointQuery = "UPDATE RouteMigration SET lastIdx = ?, lockedUntil = now() + INTERVAL ? SECOND, updateAt = now() " +
+                "WHERE step = ? AND lockedBy = ? AND lastIdx = ?";
+        return jdbcTemplate.update(saveCheckpointQuery, toIdx, lockSeconds, step.name(), owner, fromIdx) == 1;
+    }
+
+    public void finish(RouteMigrationStep step, String owner) {
+        String finishQuery = "UPDATE RouteMigration SET finishAt = now(), lockedBy = NULL, lockedUntil = NULL, updateAt = now() " +
+                "WHERE step = ? AND lockedBy = ?";
+        jdbcTemplate.update(finishQuery, step.name(), owner);
+    }
+
+    // 잠금 해제 (다음 실행에서 lastIdx 부터 이어서 진행)
+    public void unlock(RouteMigrationStep step, String owner) {
+        String unlockQuery = "UPDATE RouteMigration SET lockedBy = NULL, lockedUntil = NULL, updateAt = now() WHERE step = ? AND lockedBy = ?";
+        jdbcTemplate.update(unlockQuery, step.name(), owner);
+    }
+}
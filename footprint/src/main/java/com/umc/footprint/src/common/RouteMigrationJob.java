@@ -0,0 +1,170 @@
+package com.umc.footprint.src.common;
+
+import com.umc.footprint.src.common.model.vo.RouteMigrationStep;
+import com.umc.footprint.src.common.model.vo.RoutePath;
+import com.umc.footprint.src.course.model.entity.Course;
+import com.umc.footprint.src.course.repository.CourseRepository;
+import com.umc.footprint.src.walks.model.entity.Walk;
+import com.umc.footprint.src.walks.repository.WalkRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 기존 텍스트 경로(coordinate)를 바이너리 경로(route)로 옮기고, 간략화 경로(route_lod)를 채우는 백그라운드 작업
+ * RouteMigrationStep 순서대로 BATCH_SIZE 행씩 PK 순으로 처리하고, 묶음마다 진행 위치(RouteMigration)와 함께 커밋한다.
+ * - 변환 단계는 coordinate 를 그대로 두고, 정리 단계에서 route 를 다시 읽어 coordinate 와 같은 행만 coordinate 를 비운다.
+ * - 읽을 수 없거나 다른 행은 건너뛰고 로그만 남긴다. (해당 행은 계속 coordinate 로 조회되거나 coordinate 가 남음)
+ * - 이미 route 가 있는 행은 route 를 그대로 두고 route_lod 만 채운다.
+ * - RouteMigration 잠금을 잡은 서버 한 곳만 진행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RouteMigrationJob {
+
+    private static final int BATCH_SIZE = 200;
+    // 한 번 실행할 때 처리할 최대 묶음 수 (나머지는 다음 실행에서)
+    private static final int BATCHES_PER_RUN = 50;
+    private static final long LOCK_SECONDS = 300;
+
+    private final WalkRepository walkRepository;
+    private final CourseRepository courseRepository;
+    private final RouteCodec routeCodec;
+    private final RouteMigrationDao routeMigrationDao;
+    private final TransactionTemplate transactionTemplate;
+
+    private final String owner = UUID.randomUUID().toString();
+
+    // 모든 단계가 끝나면 이 서버에서는 더 확인하지 않음 (재시작 시 다시 확인)
+    private volatile boolean done = false;
+
+    @Scheduled(initialDelay = 60_000, fixedDelay = 10_000)
+    public void migrate() {
+        if (done) {
+            return;
+        }
+        for (RouteMigrationStep step : RouteMigrationStep.values()) {
+            routeMigrationDao.createStep(step);
+            if (!routeMigrationDao.isFinished(step)) {
+                run(step);
+                return;
+            }
+        }
+        done = true;
+    }
+
+    private void run(RouteMigrationStep step) {
+        Integer lastIdx = routeMigrationDao.lock(step, owner, LOCK_SECONDS);
+        if (lastIdx == null) {
+            return;
+        }
+
+        try {
+            for (int batch = 0; batch < BATCHES_PER_RUN; batch++) {
+                int fromIdx = lastIdx;
+                Integer toIdx = transactionTemplate.execute(status -> runBatch(step, fromIdx));
+                if (toIdx == null) {
+                    routeMigrationDao.finish(step, owner);
+                    log.info("{} 완료 (마지막 PK {})", step.getDescription(), lastIdx);
+                    return;
+                }
+                lastIdx = toIdx;
+            }
+            log.debug("{} 진행 중, 마지막 PK {}", step.getDescription(), lastIdx);
+            routeMigrationDao.unlock(step, owner);
+        } catch (Exception exception) {
+            log.error("{} 실패, PK {} 이후부터 다시 진행", step.getDescription(), lastIdx, exception);
+            routeMigrationDao.unlock(step, owner);
+        }
+    }
+
+    // 한 묶음 처리 후 진행 위치 저장, 남은 행이 없으면 null
+    private Integer runBatch(RouteMigrationStep step, int fromIdx) {
+        List<Integer> idxList;
+        switch (step) {
+            case WALK_ROUTE:
+                idxList = walkRepository.findLegacyRouteWalkIdx(fromIdx, BATCH_SIZE);
+                migrateWalks(idxList);
+                break;
+            case COURSE_ROUTE:
+                idxList = courseRepository.findLegacyRouteCourseIdx(fromIdx, BATCH_SIZE);
+                migrateCourses(idxList);
+                break;
+            case WALK_CLEANUP:
+                idxList = walkRepository.findMigratedRouteWalkIdx(fromIdx, BATCH_SIZE);
+                cleanupWalks(idxList);
+                break;
+            default:
+                idxList = courseRepository.findMigratedRouteCourseIdx(fromIdx, BATCH_SIZE);
+                cleanupCourses(idxList);
+                break;
+        }
+        if (idxList.isEmpty()) {
+            return null;
+        }
+
+        int toIdx = idxList.get(idxList.size() - 1);
+        if (!routeMigrationDao.saveCheckpoint(step, owner, fromIdx, toIdx, LOCK_SECONDS)) {
+            throw new IllegalStateException("경로 변환 잠금을 잃음 (" + step + ")");
+        }
+        return toIdx;
+    }
+
+    private void migrateWalks(List<Integer> walkIdxList) {
+        for (Walk walk : walkRepository.findAllById(walkIdxList)) {
+            try {
+                RoutePath path = routeCodec.decode(walk.getRoute(), walk.getCoordinate());
+                byte[] route = walk.getRoute() != null ? walk.getRoute() : routeCodec.encode(path);
+                walk.migrateRoute(route, routeCodec.encodeLevels(path));
+            } catch (Exception exception) {
+                log.warn("walkIdx {} 경로 변환 실패: {}", walk.getWalkIdx(), exception.getMessage());
+            }
+        }
+    }
+
+    private void migrateCourses(List<Integer> courseIdxList) {
+        for (Course course : courseRepository.findAllById(courseIdxList)) {
+            try {
+                RoutePath path = routeCodec.decode(course.getRoute(), course.getCoordinate());
+                byte[] route = course.getRoute() != null ? course.getRoute() : routeCodec.encode(path);
+                course.migrateRoute(route, routeCodec.encodeLevels(path));
+            } catch (Exception exception) {
+                log.warn("courseIdx {} 경로 변환 실패: {}", course.getCourseIdx(), exception.getMessage());
+            }
+        }
+    }
+
+    private void cleanupWalks(List<Integer> walkIdxList) {
+        for (Walk walk : walkRepository.findAllById(walkIdxList)) {
+            try {
+                if (routeCodec.matchesLegacy(walk.getRoute(), walk.getCoordinate())) {
+                    walk.clearLegacyCoordinate();
+                } else {
+                    log.warn("walkIdx {} route 와 coordinate 가 달라서 coordinate 유지", walk.getWalkIdx());
+                }
+            } catch (Exception exception) {
+                log.warn("walkIdx {} 경로 확인 실패, coordinate 유지: {}", walk.getWalkIdx(), exception.getMessage());
+            }
+        }
+    }
+
+    private void cleanupCourses(List<Integer> courseIdxList) {
+        for (Course course : courseRepository.findAllById(courseIdxList)) {
+            try {
+                if (routeCodec.matchesLegacy(course.getRoute(), course.getCoordinate())) {
+                    course.clearLegacyCoordinate();
+                } else {
+                    log.warn("courseIdx {} route 와 coordinate 가 달라서 coordinate 유지", course.getCourseIdx());
+                }
+            } catch (Exception exception) {
+                log.warn("courseIdx {} 경로 확인 실패, coordinate 유지: {}", course.getCourseIdx(), exception.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.umc.footprint.src.common;
+
+import com.umc.footprint.src.common.model.vo.RoutePath;
+
+import java.util.Arrays;
+
+/**
+ * 경로 간략화 (Douglas–Peucker)
+ * 구간마다 시작, 끝 좌표는 남기고, 남긴 좌표를 이은 선에서 허용 오차(m) 이상 벗어나는 좌표만 추가로 남긴다.
+ * 거리는 경로 첫 좌표 위도 기준 등장방형 근사(m)로 계산한다. (산책 경로 범위에서는 오차가 무시할 만함)
+ */
+public final class RouteSimplifier {
+
+    // 위도 1도 거리 (m)
+    private static final double METERS_PER_DEGREE = 111_320d;
+
+    private RouteSimplifier() {
+    }
+
+    public static RoutePath simplify(RoutePath route, double toleranceMeters) {
+        // 구간이 없거나 빈 구간만 있는 경로 ([[]] 등)
+        if (route.getPointCount() == 0) {
+            return route;
+        }
+
+        // 좌표는 [위도, 경도] 순서
+        double latScale = METERS_PER_DEGREE;
+        double lonScale = METERS_PER_DEGREE * Math.cos(Math.toRadians(route.get(0, 0)));
+        double toleranceSquared = toleranceMeters * toleranceMeters;
+
+        RoutePath.Builder builder = RoutePath.builder(route.getPointCount());
+        boolean[] keep = new boolean[0];
+        int[] stack = new int[0];
+
+        for (int line = 0; line < route.getLineCount(); line++) {
+            int pointCount = route.getLineLength(line) / 2;
+            if (pointCount <= 2) {
+                for (int i = 0; i < route.getLineLength(line); i++) {
+                    builder.add(route.get(line, i));
+                }
+                builder.endLine();
+                continue;
+            }
+
+            if (keep.length < pointCount) {
+                keep = new boolean[pointCount];
+                stack = new int[pointCount * 2];
+            } else {
+                Arrays.fill(keep, 0, pointCount, false);
+            }
+            keep[0] = true;
+            keep[pointCount - 1] = true;
+
+            // 재귀 대신 [시작, 끝] 구간 스택
+            int top = 0;
+            stack[top++] = 0;
+            stack[top++] = pointCount - 1;
+            while (top > 0) {
+                int end = stack[--top];
+                int start = stack[--top];
+
+                double ax = route.get(line, 2 * start + 1) * lonScale;
+                double ay = route.get(line, 2 * start) * latScale;
+                double dx = route.get(line, 2 * end + 1) * lonScale - ax;
+                double dy = route.get(line, 2 * end) * latScale - ay;
+                double lengthSquared = dx * dx + dy * dy;
+
+                double maxDistance = -1;
+                int farthest = -1;
+                for (int i = start + 1; i < end; i++) {
+                    double px = route.get(line, 2 * i + 1) * lonScale - ax;
+                    double py = route.get(line, 2 * i) * latScale - ay;
+                    // 선분까지의 거리 (되돌아오는 산책 경로를 위해 직선이 아닌 선분 기준)
+                    double t = lengthSquared == 0 ? 0 : Math.max(0, Math.min(1, (px * dx + py * dy) / lengthSquared));
+                    double ex = px - t * dx;
+                    double ey = py - t * dy;
+                    double distance = ex * ex + ey * ey;
+                    if (distance > maxDistance) {
+                        maxDistance = distance;
+                        farthest = i;
+                    }
+                }
+
+                if (farthest >= 0 && maxDistance > toleranceSquared) {
+                    keep[farthest] = true;
+                    stack[top++] = start;
+                    stack[top++] = farthest;
+                    stack[top++] = farthest;
+                    stack[top++] = end;
+                }
+            }
+
+            for (int i = 0; i < pointCount; i++) {
+                if (keep[i]) {
+                    builder.add(route.get(line, 2 * i));
+                    builder.add(route.get(line, 2 * i + 1));
+                }
+            }
+            builder.endLine();
+        }
+        return builder.build();
+    }
+}
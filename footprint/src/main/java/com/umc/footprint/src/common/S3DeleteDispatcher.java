@@ -0,0 +1,103 @@
+package com.umc.footprint.src.common;
+
+import com.umc.footprint.src.AwsS3Service;
+import com.umc.footprint.src.common.S3DeleteOutboxDao.OutboxRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * S3 삭제 대기열(S3DeleteOutbox) 처리
+ * - 처리할 항목을 최대 1000개씩 DeleteObjects 한 번으로 지운다.
+ * - 실패한 항목은 2^attempts 초 뒤(최대 maxBackoffSeconds)에 다시 시도한다.
+ * - 서버가 여러 대면 같은 항목을 두 번 지울 수 있지만, S3 삭제는 여러 번 해도 결과가 같다.
+ */
+@Slf4j
+@Component
+public class S3DeleteDispatcher {
+
+    // DeleteObjects 한 번에 지울 수 있는 최대 개수
+    private static final int BATCH_SIZE = 1000;
+
+    private final S3DeleteOutboxDao s3DeleteOutboxDao;
+    private final AwsS3Service awsS3Service;
+    private final long maxBackoffSeconds;
+
+    private final LongAdder deletedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder batchCount = new LongAdder();
+
+    public S3DeleteDispatcher(S3DeleteOutboxDao s3DeleteOutboxDao,
+                              AwsS3Service awsS3Service,
+                              @Value("${s3.delete.max-backoff-seconds:3600}") long maxBackoffSeconds) {
+        this.s3DeleteOutboxDao = s3DeleteOutboxDao;
+        this.awsS3Service = awsS3Service;
+        this.maxBackoffSeconds = maxBackoffSeconds;
+    }
+
+    // 처리할 항목이 없을 때까지 반복
+    @Scheduled(initialDelay = 10_000, fixedDelayString = "${s3.delete.dispatch-delay-millis:5000}")
+    public void dispatch() {
+        try {
+            List<OutboxRow> rows;
+            do {
+                rows = s3DeleteOutboxDao.findDue(LocalDateTime.now(), BATCH_SIZE);
+                deleteBatch(rows);
+            } while (rows.size() == BATCH_SIZE);
+        } catch (Exception exception) {
+            log.error("S3 삭제 대기열 처리 실패", exception);
+        }
+    }
+
+    private void deleteBatch(List<OutboxRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        batchCount.increment();
+
+        List<String> fileKeys = rows.stream().map(OutboxRow::getFileKey).distinct().collect(Collectors.toList());
+        Set<String> failedKeys = new HashSet<>(awsS3Service.deleteObjects(fileKeys));
+
+        List<Long> deletedIdxes = new ArrayList<>();
+        List<OutboxRow> failedRows = new ArrayList<>();
+        for (OutboxRow row : rows) {
+            if (failedKeys.contains(row.getFileKey())) {
+                failedRows.add(row);
+            } else {
+                deletedIdxes.add(row.getOutboxIdx());
+            }
+        }
+
+        s3DeleteOutboxDao.delete(deletedIdxes);
+        deletedCount.add(deletedIdxes.size());
+
+        if (!failedRows.isEmpty()) {
+            failedCount.add(failedRows.size());
+            // 시도 횟수가 같은 항목끼리 같은 시각으로 미룬다.
+            Map<Integer, List<OutboxRow>> rowsByAttempts = failedRows.stream()
+                    .collect(Collectors.groupingBy(OutboxRow::getAttempts));
+            rowsByAttempts.forEach((attempts, sameAttemptRows) ->
+                    s3DeleteOutboxDao.reschedule(sameAttemptRows, LocalDateTime.now().plusSeconds(backoffSeconds(attempts))));
+        }
+    }
+
+    private long backoffSeconds(int attempts) {
+        return Math.min(maxBackoffSeconds, 1L << Math.min(attempts + 1, 20));
+    }
+
+    @Scheduled(initialDelay = 600_000, fixedDelay = 600_000)
+    public void logStats() {
+        log.info("S3 삭제 대기열 삭제: {}, 실패: {}, DeleteObjects 호출: {}, 대기 중: {}",
+                deletedCount.sum(), failedCount.sum(), batchCount.sum(), s3DeleteOutboxDao.countPending());
+    }
+}
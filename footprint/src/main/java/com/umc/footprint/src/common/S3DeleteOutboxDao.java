@@ -0,0 +1,113 @@
+package com.umc.footprint.src.common;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * S3 삭제 대기열 (transactional outbox)
+ * 삭제할 파일 이름을 DB 변경과 같은 트랜잭션에 적어두고, S3DeleteDispatcher 가 모아서 지운다.
+ *
+ * CREATE TABLE S3DeleteOutbox (
+ *     outboxIdx BIGINT AUTO_INCREMENT PRIMARY KEY,
+ *     fileKey VARCHAR(255) NOT NULL,
+ *     attempts INT NOT NULL DEFAULT 0,
+ *     nextAttemptAt DATETIME NOT NULL,
+ *     createAt DATETIME NOT NULL,
+ *     KEY idx_s3_delete_outbox_next (nextAttemptAt)
+ * );
+ */
+@Repository
+public class S3DeleteOutboxDao {
+
+    // multi-row INSERT 한 번에 넣을 행 수
+    private static final int INSERT_CHUNK_SIZE = 500;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public void setDataSource(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    // 삭제할 파일 추가 (호출한 쪽 트랜잭션에 포함)
+    public void insert(List<String> fileKeys) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int from = 0; from < fileKeys.size(); from += INSERT_CHUNK_SIZE) {
+            List<String> chunk = fileKeys.subList(from, Math.min(fileKeys.size(), from + INSERT_CHUNK_SIZE));
+            String insertQuery = "INSERT INTO S3DeleteOutbox (fileKey, attempts, nextAttemptAt, createAt) VALUES "
+                    + placeholders(chunk.size(), "(?, 0, ?, ?)");
+
+            jdbcTemplate.update(insertQuery, ps -> {
+                int i = 1;
+                for (String fileKey : chunk) {
+                    ps.setString(i++, fileKey);
+                    ps.setTimestamp(i++, now);
+                    ps.setTimestamp(i++, now);
+                }
+            });
+        }
+    }
+
+    // 지금 처리할 항목 (오래된 순)
+    public List<OutboxRow> findDue(LocalDateTime now, int limit) {
+        String findQuery = "SELECT outboxIdx, fileKey, attempts FROM S3DeleteOutbox WHERE nextAttemptAt <= ? ORDER BY outboxIdx LIMIT ?";
+        return jdbcTemplate.query(findQuery,
+                (rs, rowNum) -> new OutboxRow(rs.getLong("outboxIdx"), rs.getString("fileKey"), rs.getInt("attempts")),
+                Timestamp.valueOf(now), limit);
+    }
+
+    public void delete(List<Long> outboxIdxes) {
+        if (outboxIdxes.isEmpty()) {
+            return;
+        }
+        String deleteQuery = "DELETE FROM S3DeleteOutbox WHERE outboxIdx IN ("
+                + placeholders(outboxIdxes.size(), "?") + ")";
+        jdbcTemplate.update(deleteQuery, outboxIdxes.toArray());
+    }
+
+    // 실패한 항목 재시도 시각 미루기
+    public void reschedule(List<OutboxRow> rows, LocalDateTime nextAttemptAt) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        String rescheduleQuery = "UPDATE S3DeleteOutbox SET attempts = attempts + 1, nextAttemptAt = ? WHERE outboxIdx IN ("
+                + placeholders(rows.size(), "?") + ")";
+        jdbcTemplate.update(rescheduleQuery, ps -> {
+            int i = 1;
+            ps.setTimestamp(i++, Timestamp.valueOf(nextAttemptAt));
+            for (OutboxRow row : rows) {
+                ps.setLong(i++, row.getOutboxIdx());
+            }
+        });
+    }
+
+    public long countPending() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM S3DeleteOutbox", Long.class);
+        return count == null ? 0 : count;
+    }
+
+    private String placeholders(int count, String placeholder) {
+        return String.join(", ", Collections.nCopies(count, placeholder));
+    }
+
+    @Getter
+    public static class OutboxRow {
+        private final long outboxIdx;
+        private final String fileKey;
+        private final int attempts;
+
+        public OutboxRow(long outboxIdx, String fileKey, int attempts) {
+            this.outboxIdx = outboxIdx;
+            this.fileKey = fileKey;
+            this.attempts = attempts;
+        }
+    }
+}
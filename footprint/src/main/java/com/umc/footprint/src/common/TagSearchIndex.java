@@ -0,0 +1,170 @@
+package com.umc.footprint.src.common;
+
+import com.umc.footprint.src.common.model.vo.WalkTagInterface;
+import com.umc.footprint.src.common.repository.TagRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 유저별 해시태그 검색 인덱스
+ * 유저의 ACTIVE 태그를 한 번 읽어서 해시태그 n-gram(1, 2글자) -> 해시태그, 해시태그 -> 산책 역인덱스를 만든다.
+ * 검색은 n-gram 후보를 교집합한 뒤 부분 문자열 포함 여부만 확인한다. (기존 LIKE %태그% 와 동일한 결과)
+ * 태그가 추가/수정/삭제되면 evict 하고 다음 검색 때 다시 만든다.
+ * evict 는 이 서버에만 적용되므로 다른 서버의 변경은 ttl 이 지나 다시 만들 때 반영된다.
+ * (검색된 산책은 UserService.getTagResult 에서 유저, 상태를 한 번 더 확인)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TagSearchIndex {
+
+    // 캐시에 보관할 최대 유저 수 (초과 시 가장 오래 사용하지 않은 유저부터 제거)
+    private static final int MAX_CACHED_USERS = 1_000;
+
+    private final TagRepository tagRepository;
+
+    @Value("${tag.search-index.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    private final Map<Integer, UserTagIndex> indexByUser = Collections.synchronizedMap(
+            new LinkedHashMap<Integer, UserTagIndex>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Integer, UserTagIndex> eldest) {
+                    return size() > MAX_CACHED_USERS;
+                }
+            });
+
+    /**
+     * 해시태그에 검색어가 포함된 산책 조회
+     * @return walkIdx -> 해당 산책의 해시태그 목록 (walkIdx 오름차순)
+     */
+    public Map<Integer, List<String>> search(int userIdx, String keyword) {
+        UserTagIndex index = indexByUser.get(userIdx);
+        if (index == null || System.currentTimeMillis() >= index.expiresAt) {
+            index = new UserTagIndex(tagRepository.findAllWalkTagByUserIdx(userIdx),
+                    System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(ttlSeconds));
+            indexByUser.put(userIdx, index);
+        }
+        return index.search(keyword);
+    }
+
+    // 유저의 태그가 바뀌었을 때 호출 (트랜잭션 안이라면 커밋 후에도 한 번 더 제거)
+    public void evict(int userIdx) {
+        indexByUser.remove(userIdx);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    indexByUser.remove(userIdx);
+                }
+            });
+        }
+    }
+
+    private static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    private static class UserTagIndex {
+        private final long expiresAt;
+        // 해시태그 id(배열 인덱스) -> 해시태그
+        private final List<String> hashtags = new ArrayList<>();
+        // 해시태그 id -> 해당 해시태그가 달린 walkIdx
+        private final List<Set<Integer>> walkIdxesByHashtag = new ArrayList<>();
+        // 1, 2글자 n-gram -> 해시태그 id
+        private final Map<String, Set<Integer>> hashtagIdsByGram = new HashMap<>();
+        // walkIdx -> 해시태그 목록 (태그 저장 순서)
+        private final Map<Integer, List<String>> hashtagsByWalk = new HashMap<>();
+
+        UserTagIndex(List<WalkTagInterface> walkTags, long expiresAt) {
+            this.expiresAt = expiresAt;
+            Map<String, Integer> hashtagIds = new HashMap<>();
+
+            for (WalkTagInterface walkTag : walkTags) {
+                hashtagsByWalk.computeIfAbsent(walkTag.getWalkIdx(), walkIdx -> new ArrayList<>()).add(walkTag.getHashtag());
+
+                String normalized = normalize(walkTag.getHashtag());
+                Integer hashtagId = hashtagIds.get(normalized);
+                if (hashtagId == null) {
+                    hashtagId = hashtags.size();
+                    hashtagIds.put(normalized, hashtagId);
+                    hashtags.add(normalized);
+                    walkIdxesByHashtag.add(new HashSet<>());
+                    for (String gram : grams(normalized)) {
+                        hashtagIdsByGram.computeIfAbsent(gram, g -> new HashSet<>()).add(hashtagId);
+                    }
+                }
+                walkIdxesByHashtag.get(hashtagId).add(walkTag.getWalkIdx());
+            }
+        }
+
+        Map<Integer, List<String>> search(String keyword) {
+            String normalized = normalize(keyword);
+
+            // 1. 검색어 n-gram 후보 교집합 (빈 검색어는 모든 해시태그가 후보)
+            Set<Integer> candidates = null;
+            if (normalized.isEmpty()) {
+                candidates = new HashSet<>();
+                for (int i = 0; i < hashtags.size(); i++) {
+                    candidates.add(i);
+                }
+            } else {
+                for (String gram : searchGrams(normalized)) {
+                    Set<Integer> hashtagIdsWithGram = hashtagIdsByGram.getOrDefault(gram, Collections.emptySet());
+                    if (candidates == null) {
+                        candidates = new HashSet<>(hashtagIdsWithGram);
+                    } else {
+                        candidates.retainAll(hashtagIdsWithGram);
+                    }
+                    if (candidates.isEmpty()) {
+                        break;
+                    }
+                }
+            }
+
+            // 2. 부분 문자열 확인 후 산책 모으기
+            Map<Integer, List<String>> result = new TreeMap<>();
+            for (Integer hashtagId : candidates) {
+                if (!hashtags.get(hashtagId).contains(normalized)) {
+                    continue;
+                }
+                for (Integer walkIdx : walkIdxesByHashtag.get(hashtagId)) {
+                    result.put(walkIdx, hashtagsByWalk.get(walkIdx));
+                }
+            }
+            return result;
+        }
+
+        // 인덱스용 n-gram : 모든 1글자, 2글자
+        private static Set<String> grams(String text) {
+            Set<String> grams = new HashSet<>();
+            for (int i = 0; i < text.length(); i++) {
+                grams.add(text.substring(i, i + 1));
+                if (i + 2 <= text.length()) {
+                    grams.add(text.substring(i, i + 2));
+                }
+            }
+            return grams;
+        }
+
+        // 검색용 n-gram : 1글자 검색어는 그대로, 그 외에는 2글자 n-gram
+        private static Set<String> searchGrams(String keyword) {
+            if (keyword.length() == 1) {
+                return Collections.singleton(keyword);
+            }
+            Set<String> grams = new HashSet<>();
+            for (int i = 0; i + 2 <= keyword.length(); i++) {
+                grams.add(keyword.substring(i, i + 2));
+            }
+            return grams;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.umc.footprint.src.common.model.dto.projection;
+
+public interface PhotoUrlProjection {
+    String getImageUrl();
+
+    String getThumbnailUrl();
+}
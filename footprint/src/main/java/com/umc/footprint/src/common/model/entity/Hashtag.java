@@ -7,10 +7,24 @@ import lombok.NoArgsConstructor;
 
 import javax.persistence.*;
 
+/**
+ * 해시태그 사전 (해시태그 문자열당 한 행, HashtagDictionary 로만 추가)
+ *
+ * hashtag 컬럼을 바이너리 collation 으로 바꾸고 (대소문자, 악센트가 다르면 다른 해시태그)
+ * 기존 중복 행 정리 후 유니크 키 추가
+ * ALTER TABLE Hashtag MODIFY hashtag VARCHAR(200) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin;
+ * UPDATE Tag T JOIN Hashtag H ON T.hashtagIdx = H.hashtagIdx
+ *     JOIN (SELECT hashtag, MIN(hashtagIdx) AS keepIdx FROM Hashtag GROUP BY hashtag) K ON H.hashtag = K.hashtag
+ *     SET T.hashtagIdx = K.keepIdx;
+ * DELETE H FROM Hashtag H
+ *     JOIN (SELECT hashtag, MIN(hashtagIdx) AS keepIdx FROM Hashtag GROUP BY hashtag) K ON H.hashtag = K.hashtag
+ *     WHERE H.hashtagIdx <> K.keepIdx;
+ * ALTER TABLE Hashtag ADD UNIQUE KEY uk_hashtag (hashtag);
+ */
 @Getter
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "Hashtag")
+@Table(name = "Hashtag", uniqueConstraints = @UniqueConstraint(name = "uk_hashtag", columnNames = "hashtag"))
 public class Hashtag {
 
     @Id
@@ -18,7 +32,7 @@ public class Hashtag {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Integer hashtagIdx;
 
-    @Column(name = "hashtag", length = 200)
+    @Column(name = "hashtag", length = 200, columnDefinition = "VARCHAR(200) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin")
     private String hashtag;
 
     @Builder
@@ -21,6 +21,11 @@ public class Photo {
     @Column(name = "imageUrl")
     private String imageUrl;
 
+    // 목록용 썸네일 URL (암호화), 없으면 imageUrl 사용
+    // ALTER TABLE Photo ADD COLUMN thumbnailUrl TEXT NULL AFTER imageUrl;
+    @Column(name = "thumbnailUrl")
+    private String thumbnailUrl;
+
     @Column(name = "status", length = 20, nullable = false)
     private String status;
 
@@ -32,9 +37,10 @@ public class Photo {
     private Footprint footprint;
 
     @Builder
-    public Photo(Integer photoIdx, String imageUrl, String status, Integer userIdx) {
+    public Photo(Integer photoIdx, String imageUrl, String thumbnailUrl, String status, Integer userIdx) {
         this.photoIdx = photoIdx;
         this.imageUrl = imageUrl;
+        this.thumbnailUrl = thumbnailUrl;
         this.status = status;
         this.userIdx = userIdx;
     }
@@ -56,5 +62,10 @@ public class Photo {
         this.status = status;
     }
 
+    // 목록 화면용 URL (암호화)
+    public String getListImageUrl() {
+        return thumbnailUrl != null ? thumbnailUrl : imageUrl;
+    }
+
 
 }
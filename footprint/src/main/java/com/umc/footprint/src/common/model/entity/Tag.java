@@ -28,7 +28,7 @@ public class Tag {
     @Column(name = "walkIdx")
     private Integer walkIdx;
 
-    @OneToOne(targetEntity = Hashtag.class, fetch = FetchType.LAZY)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "hashtagIdx")
     private Hashtag hashtag;
 
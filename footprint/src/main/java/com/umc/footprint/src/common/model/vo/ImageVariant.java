@@ -0,0 +1,22 @@
+package com.umc.footprint.src.common.model.vo;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 업로드할 이미지 한 장 (크기를 줄인 JPEG 또는 변환하지 못한 원본)
+ */
+@Getter
+public class ImageVariant {
+    private final byte[] bytes;
+    private final String contentType;
+    // 저장할 파일 확장자 (.jpg 등)
+    private final String extension;
+
+    @Builder
+    public ImageVariant(byte[] bytes, String contentType, String extension) {
+        this.bytes = bytes;
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+}
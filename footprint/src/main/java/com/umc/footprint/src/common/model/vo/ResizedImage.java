@@ -0,0 +1,27 @@
+package com.umc.footprint.src.common.model.vo;
+
+import lombok.Getter;
+
+/**
+ * 사진 한 장의 업로드용 변형
+ * display: 상세 화면용 (긴 변을 제한), thumbnail: 목록 화면용 작은 이미지
+ * 디코딩할 수 없는 형식이면 원본 하나만 (thumbnail == display)
+ */
+@Getter
+public class ResizedImage {
+    private final ImageVariant display;
+    private final ImageVariant thumbnail;
+
+    public ResizedImage(ImageVariant display, ImageVariant thumbnail) {
+        this.display = display;
+        this.thumbnail = thumbnail;
+    }
+
+    public static ResizedImage original(ImageVariant original) {
+        return new ResizedImage(original, original);
+    }
+
+    public boolean hasThumbnail() {
+        return thumbnail != display;
+    }
+}
@@ -0,0 +1,59 @@
+package com.umc.footprint.src.common.model.vo;
+
+import com.umc.footprint.config.BaseException;
+import lombok.Getter;
+
+import static com.umc.footprint.config.BaseResponseStatus.INVALID_ROUTE_DETAIL;
+
+/**
+ * 조회할 경로 해상도
+ * zoom: 지도 줌 레벨, 화면에서 구분되지 않는 오차(약 2px)만큼 간략화한 경로를 고른다.
+ * maxPoints: 최대 좌표 수, 이보다 좌표가 많으면 더 간략화한 경로를 고른다.
+ * 둘 다 없으면 전체 경로
+ */
+@Getter
+public class RouteDetail {
+
+    private static final RouteDetail FULL = new RouteDetail(null, null);
+
+    private static final int MAX_ZOOM = 22;
+    // 줌 0 에서 1px 크기 (m, 적도 기준)
+    private static final double METERS_PER_PIXEL_AT_ZOOM_0 = 156_543.03392;
+    // 서비스 지역(한국) 위도
+    private static final double SERVICE_LATITUDE = 37.5;
+    private static final double TOLERANCE_PIXELS = 2;
+
+    private final Integer zoom;
+    private final Integer maxPoints;
+
+    private RouteDetail(Integer zoom, Integer maxPoints) {
+        this.zoom = zoom;
+        this.maxPoints = maxPoints;
+    }
+
+    public static RouteDetail full() {
+        return FULL;
+    }
+
+    public static RouteDetail of(Integer zoom, Integer maxPoints) throws BaseException {
+        if (zoom == null && maxPoints == null) {
+            return FULL;
+        }
+        if ((zoom != null && (zoom < 0 || zoom > MAX_ZOOM)) || (maxPoints != null && maxPoints < 2)) {
+            throw new BaseException(INVALID_ROUTE_DETAIL);
+        }
+        return new RouteDetail(zoom, maxPoints);
+    }
+
+    public boolean isFull() {
+        return zoom == null && maxPoints == null;
+    }
+
+    // zoom 에서 허용하는 오차 (m), zoom 이 없으면 0
+    public double getToleranceMeters() {
+        if (zoom == null) {
+            return 0;
+        }
+        return METERS_PER_PIXEL_AT_ZOOM_0 * Math.cos(Math.toRadians(SERVICE_LATITUDE)) / (1 << zoom) * TOLERANCE_PIXELS;
+    }
+}
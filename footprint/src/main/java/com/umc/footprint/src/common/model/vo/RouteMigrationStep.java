@@ -0,0 +1,21 @@
+package com.umc.footprint.src.common.model.vo;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 경로 바이너리 변환 단계 (RouteMigrationJob, 선언 순서대로 진행)
+ * *_ROUTE: coordinate -> route, route_lod 채우기 (coordinate 는 그대로 둔다.)
+ * *_CLEANUP: route 를 다시 읽어 coordinate 와 같은지 확인한 행만 coordinate 비우기
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RouteMigrationStep {
+    WALK_ROUTE("산책 경로 바이너리 변환"),
+    COURSE_ROUTE("코스 경로 바이너리 변환"),
+    WALK_CLEANUP("산책 기존 경로 정리"),
+    COURSE_CLEANUP("코스 기존 경로 정리"),
+    ;
+
+    private final String description;
+}
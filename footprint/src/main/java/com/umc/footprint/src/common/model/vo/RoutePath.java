@@ -0,0 +1,197 @@
+package com.umc.footprint.src.common.model.vo;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * 산책/코스 경로
+ * 구간(라인)별 [x, y, x, y, ...] 를 하나의 double 배열에 이어 담고, 구간 시작 위치를 offsets 로 구분한다.
+ * JSON 은 기존과 같은 [[x, y, x, y, ...], [...]] 형태로 읽고 쓴다.
+ * 만든 뒤에는 바뀌지 않는다.
+ */
+@JsonSerialize(using = RoutePath.Serializer.class)
+@JsonDeserialize(using = RoutePath.Deserializer.class)
+public final class RoutePath {
+
+    private static final RoutePath EMPTY = new RoutePath(new double[0], new int[]{0});
+
+    private final double[] values;
+    // 구간 i 는 values[offsets[i] ~ offsets[i + 1]) (length = 구간 수 + 1)
+    private final int[] offsets;
+
+    private RoutePath(double[] values, int[] offsets) {
+        this.values = values;
+        this.offsets = offsets;
+    }
+
+    public static RoutePath empty() {
+        return EMPTY;
+    }
+
+    public static Builder builder(int expectedValues) {
+        return new Builder(expectedValues);
+    }
+
+    public int getLineCount() {
+        return offsets.length - 1;
+    }
+
+    public boolean isEmpty() {
+        return getLineCount() == 0;
+    }
+
+    // 구간의 값 개수 (좌표 수 * 2)
+    public int getLineLength(int line) {
+        return offsets[line + 1] - offsets[line];
+    }
+
+    // 구간의 index 번째 값 (짝수: x, 홀수: y)
+    public double get(int line, int index) {
+        return values[offsets[line] + index];
+    }
+
+    // 전체 좌표 수
+    public int getPointCount() {
+        return values.length / 2;
+    }
+
+    /**
+     * 좌표가 하나뿐인 구간은 같은 좌표를 한 번 더 넣어 선이 되도록 한 경로
+     * (라인에 좌표가 하나만 올 때 나는 오류 방지)
+     */
+    public RoutePath withSinglePointLinesDoubled() {
+        boolean hasSinglePoint = false;
+        for (int line = 0; line < getLineCount(); line++) {
+            if (getLineLength(line) == 2) {
+                hasSinglePoint = true;
+                break;
+            }
+        }
+        if (!hasSinglePoint) {
+            return this;
+        }
+
+        Builder builder = builder(values.length + 4);
+        for (int line = 0; line < getLineCount(); line++) {
+            int length = getLineLength(line);
+            builder.add(values, offsets[line], length);
+            if (length == 2) {
+                builder.add(values, offsets[line], length);
+            }
+            builder.endLine();
+        }
+        return builder.build();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof RoutePath)) return false;
+        RoutePath that = (RoutePath) o;
+        return Arrays.equals(values, that.values) && Arrays.equals(offsets, that.offsets);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(values) + Arrays.hashCode(offsets);
+    }
+
+    public static final class Builder {
+        private double[] values;
+        private int size;
+        private int[] offsets = new int[8];
+        private int lineCount;
+
+        private Builder(int expectedValues) {
+            this.values = new double[Math.max(expectedValues, 16)];
+        }
+
+        public Builder add(double value) {
+            ensureCapacity(1);
+            values[size++] = value;
+            return this;
+        }
+
+        public Builder add(double[] source, int from, int length) {
+            ensureCapacity(length);
+            System.arraycopy(source, from, values, size, length);
+            size += length;
+            return this;
+        }
+
+        // 현재 구간의 값 개수
+        public int currentLineLength() {
+            return size - offsets[lineCount];
+        }
+
+        // 지금까지 추가한 값을 한 구간으로 마감
+        public Builder endLine() {
+            if (lineCount + 2 > offsets.length) {
+                offsets = Arrays.copyOf(offsets, offsets.length * 2);
+            }
+            offsets[++lineCount] = size;
+            return this;
+        }
+
+        public RoutePath build() {
+            return new RoutePath(Arrays.copyOf(values, size), Arrays.copyOf(offsets, lineCount + 1));
+        }
+
+        private void ensureCapacity(int additional) {
+            if (size + additional > values.length) {
+                values = Arrays.copyOf(values, Math.max(values.length * 2, size + additional));
+            }
+        }
+    }
+
+    // [[x, y, ...], ...] 쓰기 (박싱 없이 구간별 double 배열 그대로)
+    public static class Serializer extends JsonSerializer<RoutePath> {
+        @Override
+        public void serialize(RoutePath path, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeStartArray();
+            for (int line = 0; line < path.getLineCount(); line++) {
+                gen.writeArray(path.values, path.offsets[line], path.getLineLength(line));
+            }
+            gen.writeEndArray();
+        }
+    }
+
+    // [[x, y, ...], ...] 읽기 (숫자를 바로 double 배열에 담음)
+    public static class Deserializer extends JsonDeserializer<RoutePath> {
+        @Override
+        public RoutePath deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (p.currentToken() != JsonToken.START_ARRAY) {
+                throw ctxt.wrongTokenException(p, RoutePath.class, JsonToken.START_ARRAY, "경로는 [[x, y, ...], ...] 형태여야 합니다.");
+            }
+
+            Builder builder = builder(256);
+            JsonToken token;
+            while ((token = p.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == JsonToken.VALUE_NULL) {
+                    continue;
+                }
+                if (token == null || token != JsonToken.START_ARRAY) {
+                    throw ctxt.wrongTokenException(p, RoutePath.class, JsonToken.START_ARRAY, "구간은 [x, y, ...] 형태여야 합니다.");
+                }
+                while ((token = p.nextToken()) != JsonToken.END_ARRAY) {
+                    if (token == null || !token.isNumeric()) {
+                        throw ctxt.wrongTokenException(p, RoutePath.class, JsonToken.VALUE_NUMBER_FLOAT, "좌표는 숫자여야 합니다.");
+                    }
+                    builder.add(p.getDoubleValue());
+                }
+                builder.endLine();
+            }
+            return builder.build();
+        }
+    }
+}
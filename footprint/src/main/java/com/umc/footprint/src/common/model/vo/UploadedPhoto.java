@@ -0,0 +1,19 @@
+package com.umc.footprint.src.common.model.vo;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * S3 에 올린 사진 URL (thumbnailUrl 이 없으면 imageUrl 을 목록에도 사용)
+ */
+@Getter
+public class UploadedPhoto {
+    private final String imageUrl;
+    private final String thumbnailUrl;
+
+    @Builder
+    public UploadedPhoto(String imageUrl, String thumbnailUrl) {
+        this.imageUrl = imageUrl;
+        this.thumbnailUrl = thumbnailUrl;
+    }
+}
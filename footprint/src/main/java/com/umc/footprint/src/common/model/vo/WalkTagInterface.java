@@ -0,0 +1,6 @@
+package com.umc.footprint.src.common.model.vo;
+
+public interface WalkTagInterface {
+    Integer getWalkIdx();
+    String getHashtag();
+}
@@ -1,5 +1,6 @@
 package com.umc.footprint.src.common.repository;
 
+import com.umc.footprint.src.common.model.dto.projection.PhotoUrlProjection;
 import com.umc.footprint.src.footprints.model.entity.Footprint;
 import com.umc.footprint.src.common.model.entity.Photo;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -17,11 +18,11 @@ public interface PhotoRepository extends JpaRepository<Photo, Integer> {
     List<Photo> findAllByFootprintAndStatus(Footprint footprint, String status);
 
     @Query(
-            value = "select P.imageUrl " +
+            value = "select P.imageUrl as imageUrl, P.thumbnailUrl as thumbnailUrl " +
                     "from Photo P " +
                     "inner join Footprint F on P.footprint = F " +
                     "inner join Walk W on W = F.walk " +
                     "where F.status = 'ACTIVE' and P.status = 'ACTIVE' and W.status = 'ACTIVE' and W.walkIdx = :walkIdx"
     )
-    List<String> findByWalkIdx(@Param(value = "walkIdx") Integer walkIdx);
+    List<PhotoUrlProjection> findByWalkIdx(@Param(value = "walkIdx") Integer walkIdx);
 }
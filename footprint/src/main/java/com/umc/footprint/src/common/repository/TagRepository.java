@@ -2,7 +2,7 @@ package com.umc.footprint.src.common.repository;
 
 import com.umc.footprint.src.footprints.model.entity.Footprint;
 import com.umc.footprint.src.common.model.entity.Tag;
-import com.umc.footprint.src.common.model.vo.WalkHashtag;
+import com.umc.footprint.src.common.model.vo.WalkTagInterface;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -10,22 +10,11 @@ import org.springframework.data.repository.query.Param;
 import java.util.List;
 
 public interface TagRepository extends JpaRepository<Tag, Integer> {
-    @Query("select new com.umc.footprint.src.common.model.vo.WalkHashtag(W.walkIdx, W.startAt, W.endAt, W.pathImageUrl, H.hashtag)\n" +
-            "from Walk W\n" +
-            "join fetch Footprint F on W.walkIdx = F.walk.walkIdx\n" +
-            "join fetch Tag T on F.footprintIdx = T.footprint.footprintIdx\n" +
-            "join fetch Hashtag H on T.hashtag.hashtagIdx = H.hashtagIdx\n" +
-            "where F.walk.walkIdx in\n" +
-            "  (\n" +
-            "    select W.walkIdx\n" +
-            "    from Walk W\n" +
-            "join Footprint F on W.walkIdx = F.walk.walkIdx\n" +
-            "join Tag T on F.footprintIdx = T.footprint.footprintIdx\n" +
-            "join Hashtag H on T.hashtag.hashtagIdx = H.hashtagIdx\n" +
-            "    where (H.hashtag like %:hashtag%) and W.status = 'ACTIVE' and F.status = 'ACTIVE' and T.status = 'ACTIVE'\n" +
-            "  )\n" +
-            "  and W.userIdx= :userIdx and W.status = 'ACTIVE' and F.status = 'ACTIVE' and T.status = 'ACTIVE'")
-    List<WalkHashtag> findAllWalkAndHashtag(@Param("hashtag") String hashtag, @Param("userIdx") int userIdx);
+    @Query("select F.walk.walkIdx as walkIdx, H.hashtag as hashtag " +
+            "from Tag T join T.footprint F join T.hashtag H " +
+            "where F.walk.userIdx = :userIdx and F.walk.status = 'ACTIVE' and F.status = 'ACTIVE' and T.status = 'ACTIVE' " +
+            "order by T.tagIdx")
+    List<WalkTagInterface> findAllWalkTagByUserIdx(@Param("userIdx") int userIdx);
 
     List<Tag> findByFootprint(Footprint footprint);
 
@@ -1,11 +1,8 @@
 package com.umc.footprint.src.course;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.umc.footprint.config.BaseException;
 import com.umc.footprint.config.BaseResponse;
-import com.umc.footprint.config.BaseResponseStatus;
+import com.umc.footprint.src.common.model.vo.RouteDetail;
 import com.umc.footprint.src.course.model.dto.GetCourseListRes;
 import com.umc.footprint.src.course.model.dto.GetCourseInfoRes;
 import com.umc.footprint.src.course.model.dto.GetCourseListReq;
@@ -43,7 +40,7 @@ public class CourseController {
             @ApiImplicitParam(name = "west", value = "유저 디바이스 가장 좌측 경도 정보", dataType = "double", paramType = "body", required = true),
             @ApiImplicitParam(name = "east", value = "유저 디바이스 가장 우측 경도 정보", dataType = "double", paramType = "body", required = true)
     })
-    public BaseResponse<GetCourseListRes> getCourseList(@RequestBody String request) throws BaseException, JsonProcessingException {
+    public BaseResponse<GetCourseListRes> getCourseList(@RequestBody GetCourseListReq getWalkListReq) throws BaseException {
 
         // userId(구글이나 카카오에서 보낸 ID) 추출 (복호화)
         String userId = jwtService.getUserId();
@@ -51,8 +48,6 @@ public class CourseController {
         // userId로 userIdx 추출
         int userIdx = userService.getUserIdxByUserId(userId);
 
-        GetCourseListReq getWalkListReq = new ObjectMapper().readValue(request, GetCourseListReq.class);
-
         GetCourseListRes courseList = courseService.getCourseList(getWalkListReq,userIdx);
 
         return new BaseResponse<>(courseList);
@@ -64,7 +59,7 @@ public class CourseController {
     public BaseResponse<GetCourseInfoRes> getCourseInfo(@PathVariable int courseIdx){
 
         try {
-            GetCourseInfoRes courseInfo = courseService.getCourseInfo(courseIdx);
+            GetCourseInfoRes courseInfo = courseService.getCourseInfo(courseIdx, RouteDetail.full());
 
             return new BaseResponse<>(courseInfo);
         } catch(BaseException exception) {
@@ -114,26 +109,14 @@ public class CourseController {
      * API 39
      * 코스 저장
      * [Post] /courses/recommend
-     * @param request
+     * @param postCourseDetailsReq
      * @return 코스 등록 or 코스 등록 실패
      */
     @PostMapping("/recommend")
-    public BaseResponse<String> postCourseDetails(@RequestBody String request) throws BaseException {
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-
-        PostCourseDetailsReq postCourseDetailsReq;
-
+    public BaseResponse<String> postCourseDetails(@RequestBody PostCourseDetailsReq postCourseDetailsReq) throws BaseException {
         String userId = jwtService.getUserId();
         log.debug("userId: {}", userId);
 
-        try {
-            postCourseDetailsReq = objectMapper.readValue(request, PostCourseDetailsReq.class);
-        } catch (Exception exception) {
-            exception.printStackTrace();
-            return new BaseResponse<>(BaseResponseStatus.MODIFY_OBJECT_FAIL);
-        }
-
         try {
             String result = courseService.postCourseDetails(postCourseDetailsReq, userId);
             return new BaseResponse<>(result);
@@ -168,24 +151,14 @@ public class CourseController {
      * API 41
      * 코스 수정
      * [PATCH] /courses/recommend?courseName=""
-     * @param request
+     * @param postCourseDetailsReq
      * @return
      */
     @PatchMapping("/recommend")
-    public BaseResponse<String> modifyCourseDetails(@RequestBody String request) throws BaseException {
+    public BaseResponse<String> modifyCourseDetails(@RequestBody PatchCourseDetailsReq postCourseDetailsReq) throws BaseException {
         String userId = jwtService.getUserId();
         log.debug("userId: {}", userId);
 
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-
-        PatchCourseDetailsReq postCourseDetailsReq;
-        try {
-            postCourseDetailsReq = objectMapper.readValue(request, PatchCourseDetailsReq.class);
-        } catch (Exception exception) {
-            return new BaseResponse<>(BaseResponseStatus.MODIFY_OBJECT_FAIL);
-        }
-
         try {
             String result = courseService.modifyCourseDetails(postCourseDetailsReq, userId);
             return new BaseResponse<>(result);
@@ -208,7 +181,7 @@ public class CourseController {
         log.debug("userId: {}", userId);
 
         try {
-            GetWalkDetailsRes getWalkDetailsRes = courseService.getWalkDetails(walkNumber, userId);
+            GetWalkDetailsRes getWalkDetailsRes = courseService.getWalkDetails(walkNumber, userId, RouteDetail.full());
             return new BaseResponse<>(getWalkDetailsRes);
         } catch (BaseException exception) {
             return new BaseResponse<>(exception.getStatus());
@@ -3,6 +3,7 @@ package com.umc.footprint.src.course;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.umc.footprint.config.BaseException;
 import com.umc.footprint.config.BaseResponse;
+import com.umc.footprint.src.common.model.vo.RouteDetail;
 import com.umc.footprint.src.course.model.dto.*;
 import com.umc.footprint.src.users.UserService;
 import com.umc.footprint.src.walks.model.dto.GetWalksRes;
@@ -43,11 +44,17 @@ public class CourseControllerV2 {
 
 
     @GetMapping("/{courseIdx}/infos")
-    @ApiOperation(value = "코스 세부 정보 조회", notes = "해당 경로에 대한 세부 정보(경로 좌표들 + 경로 세부정보)")
-    public BaseResponse<GetCourseInfoRes> getCourseInfo(@PathVariable int courseIdx){
+    @ApiOperation(value = "코스 세부 정보 조회", notes = "해당 경로에 대한 세부 정보(경로 좌표들 + 경로 세부정보), zoom 과 maxPoints 가 없으면 전체 경로")
+    @ApiImplicitParams({
+            @ApiImplicitParam(name = "zoom", value = "지도 줌 레벨 (화면에 맞게 간략화한 경로)", dataTypeClass = Integer.class, example = "15"),
+            @ApiImplicitParam(name = "maxPoints", value = "경로 최대 좌표 수", dataTypeClass = Integer.class, example = "300")
+    })
+    public BaseResponse<GetCourseInfoRes> getCourseInfo(@PathVariable int courseIdx,
+                                                        @RequestParam(name = "zoom", required = false) Integer zoom,
+                                                        @RequestParam(name = "maxPoints", required = false) Integer maxPoints){
 
         try {
-            GetCourseInfoRes courseInfo = courseService.getCourseInfo(courseIdx);
+            GetCourseInfoRes courseInfo = courseService.getCourseInfo(courseIdx, RouteDetail.of(zoom, maxPoints));
 
             return new BaseResponse<>(courseInfo);
         } catch(BaseException exception) {
@@ -180,13 +187,19 @@ public class CourseControllerV2 {
      */
     @GetMapping("/path/{walkNumber}")
     @ApiOperation(value = "코스 생성 전 산책 정보 조회", notes = "코스 생성 요청 전 원본 산책 정보 로딩")
-    @ApiImplicitParam(name = "walkNumber", value = "사용자의 n 번째 산책", required = true, dataTypeClass = Integer.class, example = "3")
-    public BaseResponse<GetWalkDetailsRes> getWalkDetails(@PathVariable(name = "walkNumber") Integer walkNumber) throws BaseException {
+    @ApiImplicitParams({
+            @ApiImplicitParam(name = "walkNumber", value = "사용자의 n 번째 산책", required = true, dataTypeClass = Integer.class, example = "3"),
+            @ApiImplicitParam(name = "zoom", value = "지도 줌 레벨 (화면에 맞게 간략화한 경로, 없으면 전체 경로)", dataTypeClass = Integer.class, example = "15"),
+            @ApiImplicitParam(name = "maxPoints", value = "경로 최대 좌표 수", dataTypeClass = Integer.class, example = "300")
+    })
+    public BaseResponse<GetWalkDetailsRes> getWalkDetails(@PathVariable(name = "walkNumber") Integer walkNumber,
+                                                          @RequestParam(name = "zoom", required = false) Integer zoom,
+                                                          @RequestParam(name = "maxPoints", required = false) Integer maxPoints) throws BaseException {
         String userId = jwtService.getUserId();
         log.debug("userId: {}", userId);
 
         try {
-            GetWalkDetailsRes getWalkDetailsRes = courseService.getWalkDetails(walkNumber, userId);
+            GetWalkDetailsRes getWalkDetailsRes = courseService.getWalkDetails(walkNumber, userId, RouteDetail.of(zoom, maxPoints));
             return new BaseResponse<>(getWalkDetailsRes);
         } catch (BaseException exception) {
             return new BaseResponse<>(exception.getStatus());
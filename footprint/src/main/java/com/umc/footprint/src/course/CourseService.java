@@ -1,15 +1,20 @@
 package com.umc.footprint.src.course;
 
 import com.umc.footprint.config.BaseException;
-import com.umc.footprint.config.EncryptProperties;
+import com.umc.footprint.src.common.RouteCodec;
 import com.umc.footprint.src.common.model.entity.Hashtag;
+import com.umc.footprint.src.common.model.dto.projection.PhotoUrlProjection;
 import com.umc.footprint.src.common.model.entity.Photo;
 import com.umc.footprint.src.common.model.entity.Tag;
 import com.umc.footprint.src.common.model.vo.HashtagInfo;
+import com.umc.footprint.src.common.model.vo.RouteDetail;
+import com.umc.footprint.src.common.model.vo.RoutePath;
 import com.umc.footprint.src.common.repository.PhotoRepository;
 import com.umc.footprint.src.common.repository.TagRepository;
 import com.umc.footprint.src.course.model.dto.*;
+import com.umc.footprint.src.course.model.dto.projection.CourseCountProjection;
 import com.umc.footprint.src.course.model.dto.projection.CourseHashTagProjection;
+import com.umc.footprint.src.course.model.dto.projection.CourseTagProjection;
 import com.umc.footprint.src.course.model.dto.projection.HashTagProjection;
 import com.umc.footprint.src.course.model.entity.Course;
 import com.umc.footprint.src.course.model.entity.CourseTag;
@@ -29,7 +34,7 @@ import com.umc.footprint.src.walks.model.dto.GetWalksRes;
 import com.umc.footprint.src.walks.model.entity.Walk;
 import com.umc.footprint.src.walks.model.vo.UserDateWalk;
 import com.umc.footprint.src.walks.repository.WalkRepository;
-import com.umc.footprint.utils.AES128;
+import com.umc.footprint.utils.CryptoService;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
@@ -43,10 +48,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.stream.Collectors;
 
 import static com.umc.footprint.config.BaseResponseStatus.*;
 
@@ -63,8 +66,9 @@ public class CourseService {
     private final WalkRepository walkRepository;
     private final TagRepository tagRepository;
     private final PhotoRepository photoRepository;
-    private final EncryptProperties encryptProperties;
+    private final CryptoService cryptoService;
     private final UserService userService;
+    private final RouteCodec routeCodec;
 
     @Value("${image.course}")
     private String defaultCourseImage;
@@ -73,61 +77,31 @@ public class CourseService {
     /** API.32 사용자 디바이스 지도 좌표안에 존재하는 모든 코스들을 가져온다. */
     public GetCourseListRes getCourseList(GetCourseListReq getCourseListReq, int userIdx){
 
-        // response로 보낼 코스 정보를 저장할 List
-        List<CourseInfo> courseListResList = new ArrayList<>();
+        // 1. 디바이스 지도 좌표안에 시작 좌표가 존재하는 코스만 DB에서 추출 (공간 인덱스 사용)
+        List<Course> coursesInBoundary = courseRepository.findAllActiveInBoundary(
+                getCourseListReq.getNorth(),
+                getCourseListReq.getSouth(),
+                getCourseListReq.getWest(),
+                getCourseListReq.getEast());
 
-        // 1. DB에 존재하는 모든 코스 정보중에서 디바이스 지도 좌표안에 존재하는 코스 추출
-        List<Course> allCourseInDB = courseRepository.findAllByStatus(CourseStatus.ACTIVE);
+        log.debug("coursesInBoundary.size(): {}", coursesInBoundary.size());
 
-        System.out.println("allCourseInDB.size() = " + allCourseInDB.size());
-
-        for(Course course : allCourseInDB){
-            System.out.println("course = " + course);
+        List<Course> coursesInViewport = new ArrayList<>();
+        for(Course course : coursesInBoundary){
             double courseLat = course.getStartCoordinate().getX();
             double courseLong = course.getStartCoordinate().getY();
 
-            // 2. DB에 있는 코스들중 보내준 위도 / 경도 사이에 존재하는 코스들만 추출
+            // 2. 지도 경계 위에 걸친 코스 제외 (기존과 동일하게 경계 미포함)
             if(courseLat < getCourseListReq.getNorth() && courseLat > getCourseListReq.getSouth()
                     && courseLong < getCourseListReq.getEast() && courseLong > getCourseListReq.getWest()){
-
-                // 2-1. 코스 태그 추출
-                // CourseTag 테이블에서 hashtagIdx 추출후 HashTag 테이블에서 인덱스에 해당하는 해시태그들 List화
-                List<String> courseTags = getCourseTags(course);
-
-                // 2-2. 코스 경험 횟수 계산
-                int courseCountSum = getCourseCount(course.getCourseIdx());
-
-                // 2-2. 유저가 해당 코스를 mark 했는지 확인
-                Optional<Mark> userMark = markRepository.findByCourseIdxAndUserIdx(course.getCourseIdx(), userIdx);
-
-                boolean userCourseMark = false;
-
-                if (userMark.isPresent()) {
-                    userCourseMark = userMark.get().getMark();
-                }
-
-                // 2-3. 해당 코스에 사진이 들어있는지 확인
-                // 사진이 없다면 기본 이미지 URL 입력
-                String courseImgUrl = getCourseImage(course.getCourseImg());
-
-                // 2-4. courseListResList에 해당 추천 코스 정보 add
-                courseListResList.add(CourseInfo.builder()
-                        .courseIdx(course.getCourseIdx())
-                        .startLat(courseLat)
-                        .startLong(courseLong)
-                        .courseName(course.getCourseName())
-                        .courseDist(course.getLength())
-                        .courseTime(course.getCourseTime())
-                        .courseCount(courseCountSum)
-                        .courseLike(course.getLikeNum())
-                        .courseImg(courseImgUrl)
-                        .courseTags(courseTags)
-                        .userCourseMark(userCourseMark)
-                        .build());
+                coursesInViewport.add(course);
             }
         }
 
-        // 2. courseListResList DTO List를 courseDist로 정렬
+        // 3. 코스 태그, 경험 횟수, 유저 mark 여부를 한번에 조회해서 코스 정보 생성
+        List<CourseInfo> courseListResList = getCourseInfos(coursesInViewport, userIdx);
+
+        // 4. courseListResList DTO List를 courseDist로 정렬
         Collections.sort(courseListResList);
 
         return GetCourseListRes.builder()
@@ -145,44 +119,14 @@ public class CourseService {
 
         List<Course> courses = courseRepository.getAllByCourseIdx(courseIdxes);
 
-        List<CourseInfo> getCourses = new ArrayList<>();
-        for(Course course : courses) {
-            List<String> courseTags = getCourseTags(course);
-            int courseCountSum = getCourseCount(course.getCourseIdx());
-            String courseImgUrl = getCourseImage(course.getCourseImg());
-
-            getCourses.add(
-                    CourseInfo.of(course,
-                            courseCountSum,
-                            courseImgUrl,
-                            courseTags,
-                            Boolean.TRUE)
-            );
-        }
-        return new GetCourseListRes(getCourses);
+        return new GetCourseListRes(getCourseInfos(courses, userIdx));
     }
 
     public GetCourseListRes getMyRecommendCourses(String userId) throws BaseException {
         Integer userIdx = userService.getUserIdxByUserId(userId);
         List<Course> courses = courseRepository.getAllByUserIdxAndStatus(userIdx, CourseStatus.ACTIVE);
 
-        List<CourseInfo> getCourses = new ArrayList<>();
-        for(Course course : courses) {
-            List<String> courseTags = getCourseTags(course);
-            int courseCountSum = getCourseCount(course.getCourseIdx());
-            String courseImgUrl = getCourseImage(course.getCourseImg());
-
-            Optional<Mark> userMark = markRepository.findByCourseIdxAndUserIdx(course.getCourseIdx(), userIdx);
-            boolean userCourseMark = false;
-            if (userMark.isPresent()) {
-                userCourseMark = userMark.get().getMark();
-            }
-
-            getCourses.add(
-                    CourseInfo.of(course, courseCountSum, courseImgUrl, courseTags, userCourseMark)
-            );
-        }
-        return new GetCourseListRes(getCourses);
+        return new GetCourseListRes(getCourseInfos(courses, userIdx));
     }
 
     @SneakyThrows
@@ -207,7 +151,7 @@ public class CourseService {
                     .walkIdx(walkIndex)
                     .startTime(userWalk.getStartAt().format(DateTimeFormatter.ofPattern("HH:mm")))
                     .endTime(userWalk.getEndAt().format(DateTimeFormatter.ofPattern("HH:mm")))
-                    .pathImageUrl(new AES128(encryptProperties.getKey()).decrypt(userWalk.getPathImageUrl()))
+                    .pathImageUrl(cryptoService.decrypt(userWalk.getPathImageUrl()))
                     .build();
 
             List<Footprint> footprintList = userWalk.getFootprintList();
@@ -231,24 +175,54 @@ public class CourseService {
         return new GetWalksRes(getUserDateResList);
     }
 
-    // 해당 코스의 해시태그 목록 조회
-    public List<String> getCourseTags(Course course) {
-        List<CourseTag> courseTagMappingList = courseTagRepository.findAllByCourseAndStatus(course, CourseStatus.ACTIVE);
-        List<String> courseTags = new ArrayList<>();
-        for(CourseTag courseTag: courseTagMappingList){
-            courseTags.add(courseTag.getHashtag().getHashtag());
+    // 코스 목록의 카드 정보 생성
+    // 코스 개수와 상관없이 태그, 경험 횟수, mark 여부를 각각 한 번의 쿼리로 조회
+    public List<CourseInfo> getCourseInfos(List<Course> courses, Integer userIdx) {
+        if (courses.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Integer> courseIdxes = courses.stream()
+                .map(Course::getCourseIdx)
+                .collect(Collectors.toList());
+
+        Map<Integer, List<String>> courseTagsMap = getCourseTags(courseIdxes);
+        Map<Integer, Integer> courseCountMap = getCourseCounts(courseIdxes);
+        Set<Integer> markedCourseIdxes = new HashSet<>(markRepository.getMarkedCourseIdxByUserIdxAndCourseIdxes(userIdx, courseIdxes));
+
+        List<CourseInfo> courseInfos = new ArrayList<>();
+        for (Course course : courses) {
+            // 사진이 없다면 기본 이미지 URL 입력
+            String courseImgUrl = getCourseImage(course.getCourseImg());
+
+            courseInfos.add(
+                    CourseInfo.of(course,
+                            courseCountMap.getOrDefault(course.getCourseIdx(), 0),
+                            courseImgUrl,
+                            courseTagsMap.getOrDefault(course.getCourseIdx(), new ArrayList<>()),
+                            markedCourseIdxes.contains(course.getCourseIdx()))
+            );
+        }
+        return courseInfos;
+    }
+
+    // 코스별 해시태그 목록 조회
+    public Map<Integer, List<String>> getCourseTags(List<Integer> courseIdxes) {
+        Map<Integer, List<String>> courseTagsMap = new HashMap<>();
+        for (CourseTagProjection courseTag : courseTagRepository.findActiveTagsByCourseIdxes(courseIdxes)) {
+            courseTagsMap.computeIfAbsent(courseTag.getCourseIdx(), courseIdx -> new ArrayList<>())
+                    .add(courseTag.getHashtag());
         }
-        return courseTags;
+        return courseTagsMap;
     }
 
-    // 해당 코스 경험 횟수 조회
-    public int getCourseCount(int courseIdx) {
-        List<UserCourse> userCourseList = userCourseRepository.findByCourseIdx(courseIdx);
-        int courseCountSum = 0;
-        for(UserCourse userCourse: userCourseList) {
-            courseCountSum += userCourse.getCourseCount();
+    // 코스별 경험 횟수 조회
+    public Map<Integer, Integer> getCourseCounts(List<Integer> courseIdxes) {
+        Map<Integer, Integer> courseCountMap = new HashMap<>();
+        for (CourseCountProjection courseCount : userCourseRepository.sumCourseCountByCourseIdxes(courseIdxes)) {
+            courseCountMap.put(courseCount.getCourseIdx(), courseCount.getCourseCount().intValue());
         }
-        return courseCountSum;
+        return courseCountMap;
     }
 
     // 해당 코스 이미지 조회 및 복호화
@@ -259,7 +233,7 @@ public class CourseService {
         } else if(courseImg.startsWith("https://")) {
             return courseImg;
         }
-        courseImg = new AES128(encryptProperties.getKey()).decrypt(courseImg);
+        courseImg = cryptoService.decrypt(courseImg);
         if(courseImg.equals("")) {
             courseImg = defaultCourseImage;
         }
@@ -267,14 +241,21 @@ public class CourseService {
     }
 
     /** API.34 원하는 코스의 경로 좌표와 상세 설명을 가져온다. */
-    public GetCourseInfoRes getCourseInfo(int courseIdx) throws BaseException {
+    public GetCourseInfoRes getCourseInfo(int courseIdx, RouteDetail routeDetail) throws BaseException {
 
         // 1. courseIdx로 코스 정보 가져오기
         Optional<Course> course = courseRepository.findByCourseIdx(courseIdx);
 
         // 2. response 생성 후 reutrn(coordinate 복호화)
+        RoutePath coordinate;
+        try {
+            coordinate = routeCodec.decode(course.get().getRoute(), course.get().getRouteLod(), course.get().getCoordinate(), routeDetail);
+        } catch (Exception exception) {
+            throw new BaseException(INVALID_ENCRYPT_STRING);
+        }
+
         return GetCourseInfoRes.builder()
-                .coordinate(walkService.convertStringTo2DList(course.get().getCoordinate()))
+                .coordinate(coordinate)
                 .courseDisc(course.get().getDescription())
                 .build();
 
@@ -338,7 +319,7 @@ public class CourseService {
             decryptedImg = "";
         } else {
             try {
-                decryptedImg = new AES128(encryptProperties.getKey()).decrypt(courseDetails.getCourseImg());
+                decryptedImg = cryptoService.decrypt(courseDetails.getCourseImg());
             } catch (Exception exception) {
                 throw new BaseException(DECRYPT_FAIL);
             }
@@ -361,12 +342,14 @@ public class CourseService {
     public String postCourseDetails(PostCourseDetailsReq postCourseDetailsReq, String userId) throws BaseException {
         Integer userIdx = userService.getUserIdxByUserId(userId);
 
-        String encryptedCoordinates = "";
+        byte[] encryptedRoute;
+        byte[] routeLod;
         String courseImg;
 
         // 좌표 암호화
         try {
-            encryptedCoordinates = new AES128(encryptProperties.getKey()).encrypt(walkService.convert2DListToString(postCourseDetailsReq.getCoordinates()));
+            encryptedRoute = routeCodec.encode(postCourseDetailsReq.getCoordinates());
+            routeLod = routeCodec.encodeLevels(postCourseDetailsReq.getCoordinates());
         } catch (Exception exception) {
             log.info("좌표 암호화 실패");
             throw new BaseException(ENCRYPT_FAIL);
@@ -377,7 +360,7 @@ public class CourseService {
             courseImg = "";
         } else {
             try {
-                courseImg = new AES128(encryptProperties.getKey()).encrypt(postCourseDetailsReq.getCourseImg());
+                courseImg = cryptoService.encrypt(postCourseDetailsReq.getCourseImg());
             } catch (Exception exception) {
                 log.info("요청한 코스 이미지 암호화 실패");
                 throw new BaseException(ENCRYPT_FAIL);
@@ -395,7 +378,9 @@ public class CourseService {
                 .courseName(postCourseDetailsReq.getCourseName())
                 .courseImg(courseImg)
                 .startCoordinate(extractStartCoordinate(postCourseDetailsReq.getCoordinates()))
-                .coordinate(encryptedCoordinates)
+                .coordinate("")
+                .route(encryptedRoute)
+                .routeLod(routeLod)
                 .address(postCourseDetailsReq.getAddress())
                 .length(postCourseDetailsReq.getLength())
                 .courseTime(postCourseDetailsReq.getCourseTime())
@@ -440,17 +425,15 @@ public class CourseService {
         return "코스가 등록되었습니다.";
     }
 
-    public Point extractStartCoordinate(List<List<Double>> coordinates) throws BaseException {
-        List<Double> firstSection = coordinates.get(0);
-
-        if (firstSection == null) {
+    public Point extractStartCoordinate(RoutePath coordinates) throws BaseException {
+        if (coordinates == null || coordinates.isEmpty() || coordinates.getLineLength(0) < 2) {
             log.info("잘못된 좌표입니다.");
             throw new BaseException(INVALID_COORDINATES);
         }
 
         StringBuilder st = new StringBuilder();
         st.append("Point")
-                .append(" (").append(firstSection.get(0)).append(" ").append(firstSection.get(1)).append(")");
+                .append(" (").append(coordinates.get(0, 0)).append(" ").append(coordinates.get(0, 1)).append(")");
         return (Point) wktToGeometry(st.toString());
     }
 
@@ -540,7 +523,7 @@ public class CourseService {
 
         String encryptCourseImg;
         try {
-            encryptCourseImg = new AES128(encryptProperties.getKey()).encrypt(patchCourseDetailsReq.getCourseImg());
+            encryptCourseImg = cryptoService.encrypt(patchCourseDetailsReq.getCourseImg());
         } catch (Exception exception) {
             throw new BaseException(ENCRYPT_FAIL);
         }
@@ -601,7 +584,7 @@ public class CourseService {
         return "코스가 수정되었습니다.";
     }
 
-    public GetWalkDetailsRes getWalkDetails(Integer walkNumber, String userId) throws BaseException {
+    public GetWalkDetailsRes getWalkDetails(Integer walkNumber, String userId, RouteDetail routeDetail) throws BaseException {
 //        Course savedCourse = courseRepository.findByCourseNameAndStatus(courseName, "ACTIVE");
 
         Integer userIdx = userService.getUserIdxByUserId(userId);
@@ -613,17 +596,18 @@ public class CourseService {
             throw new BaseException(NOT_EXIST_WALK);
         }
 
-        List<ArrayList<Double>> coordinates;
+        RoutePath coordinates;
 
         // 좌표 변환
         try {
-            coordinates = walkService.convertStringTo2DList(savedWalk.getCoordinate());
+            coordinates = routeCodec.decode(savedWalk.getRoute(), savedWalk.getRouteLod(), savedWalk.getCoordinate(), routeDetail);
         } catch (Exception exception) {
             throw new BaseException(INVALID_ENCRYPT_STRING);
         }
 
         ArrayList<HashtagInfo> hashtags = new ArrayList<>();
         ArrayList<String> photos = new ArrayList<>();
+        ArrayList<String> thumbnails = new ArrayList<>();
         for (Footprint footprint : savedWalk.getFootprintList()) {
             // 해시태그 불러오기
             List<Tag> savedTags = tagRepository.findAllByFootprintAndStatus(footprint, "ACTIVE");
@@ -638,6 +622,7 @@ public class CourseService {
             List<Photo> savedPhotos = photoRepository.findAllByFootprintAndStatus(footprint, "ACTIVE");
             for (Photo savedPhoto : savedPhotos) {
                 photos.add(savedPhoto.getImageUrl());
+                thumbnails.add(savedPhoto.getListImageUrl());
             }
         }
 
@@ -651,6 +636,7 @@ public class CourseService {
                 .coordinates(coordinates)
                 .hashtags(hashtags)
                 .photos(photos)
+                .thumbnails(thumbnails)
                 .build();
     }
 
@@ -666,17 +652,17 @@ public class CourseService {
         }
 
 
-        List<ArrayList<Double>> coordinates;
+        RoutePath coordinates;
 
         // 좌표 변환
         try {
-            coordinates = walkService.convertStringTo2DList(savedWalk.getCoordinate());
+            coordinates = routeCodec.decode(savedWalk.getRoute(), savedWalk.getCoordinate());
         } catch (Exception exception) {
             throw new BaseException(INVALID_ENCRYPT_STRING);
         }
 
         List<HashTagProjection> walkTags = walkRepository.findCourseAllTags(savedWalk.getWalkIdx());
-        List<String> walkPhotos = photoRepository.findByWalkIdx(savedWalk.getWalkIdx());
+        List<PhotoUrlProjection> walkPhotos = photoRepository.findByWalkIdx(savedWalk.getWalkIdx());
 
         ArrayList<HashtagInfo> hashtags = new ArrayList<>();
         for (HashTagProjection hashTagProjection : walkTags) {
@@ -688,9 +674,12 @@ public class CourseService {
             );
         }
         ArrayList<String> photos = new ArrayList<>();
+        ArrayList<String> thumbnails = new ArrayList<>();
         try {
-            for (String walkPhoto : walkPhotos) {
-                photos.add(new AES128(encryptProperties.getKey()).decrypt(walkPhoto));
+            for (PhotoUrlProjection walkPhoto : walkPhotos) {
+                String imageUrl = cryptoService.decrypt(walkPhoto.getImageUrl());
+                photos.add(imageUrl);
+                thumbnails.add(walkPhoto.getThumbnailUrl() == null ? imageUrl : cryptoService.decrypt(walkPhoto.getThumbnailUrl()));
             }
         } catch (Exception exception) {
             log.info("사진 암호화 실패");
@@ -707,6 +696,7 @@ public class CourseService {
                 .coordinates(coordinates)
                 .hashtags(hashtags)
                 .photos(photos)
+                .thumbnails(thumbnails)
                 .build();
     }
 
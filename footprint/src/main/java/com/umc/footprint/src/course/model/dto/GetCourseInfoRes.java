@@ -1,20 +1,19 @@
 package com.umc.footprint.src.course.model.dto;
 
+import com.umc.footprint.src.common.model.vo.RoutePath;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.util.ArrayList;
-import java.util.List;
 
 @Getter
 @NoArgsConstructor
 public class GetCourseInfoRes {
-    private List<ArrayList<Double>> coordinate;
+    private RoutePath coordinate;
     private String courseDisc;
 
     @Builder
-    public GetCourseInfoRes(List<ArrayList<Double>> coordinate, String courseDisc) {
+    public GetCourseInfoRes(RoutePath coordinate, String courseDisc) {
         this.coordinate = coordinate;
         this.courseDisc = courseDisc;
     }
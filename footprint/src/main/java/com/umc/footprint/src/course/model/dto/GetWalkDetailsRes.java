@@ -1,12 +1,12 @@
 package com.umc.footprint.src.course.model.dto;
 
 import com.umc.footprint.src.common.model.vo.HashtagInfo;
+import com.umc.footprint.src.common.model.vo.RoutePath;
 import io.swagger.annotations.ApiModelProperty;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @Getter
@@ -24,11 +24,14 @@ public class GetWalkDetailsRes {
     private final Double distance;
 
     @ApiModelProperty(value = "산책 좌표", name = "coordinates", dataType = "List<List<Double>>", example = "[[1.1, 2.2, 1.2, 2.2], [1.1, 2.2, 1.2, 2.2]]")
-    private final List<ArrayList<Double>> coordinates;
+    private final RoutePath coordinates;
 
     @ApiModelProperty(value = "산책의 해시태그 리스트", name = "hashtags", dataType = "List<Object>")
     private final List<HashtagInfo> hashtags;
 
     @ApiModelProperty(value = "산책의 사진 리스트", name = "photos", dataType = "List<String>", example = "[\"url1\", \"url2\"]")
     private final List<String> photos;
+
+    @ApiModelProperty(value = "산책의 썸네일 리스트 (photos 와 같은 순서, 썸네일이 없으면 원본 URL)", name = "thumbnails", dataType = "List<String>", example = "[\"url1\", \"url2\"]")
+    private final List<String> thumbnails;
 }
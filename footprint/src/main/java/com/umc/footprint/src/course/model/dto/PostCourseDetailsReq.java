@@ -1,6 +1,7 @@
 package com.umc.footprint.src.course.model.dto;
 
 import com.umc.footprint.src.common.model.vo.HashtagInfo;
+import com.umc.footprint.src.common.model.vo.RoutePath;
 import io.swagger.annotations.ApiModelProperty;
 import lombok.*;
 
@@ -19,7 +20,7 @@ public class PostCourseDetailsReq {
     private String courseImg;
 
     @ApiModelProperty(value = "사용자가 설정한 코스 좌표", name = "coordinates", dataType = "List<List<Double>>", required = true, example = "[[1.1, 2.2, 1.2, 2.2]]")
-    private List<List<Double>> coordinates;
+    private RoutePath coordinates;
 
     @ApiModelProperty(value = "사용자가 선택한 해시태그", name = "hashtags", dataType = "List<Object>")
     private List<HashtagInfo> hashtags;
@@ -40,7 +41,7 @@ public class PostCourseDetailsReq {
     private String description;
 
     @Builder
-    public PostCourseDetailsReq(String courseName, String courseImg, List<List<Double>> coordinates, List<HashtagInfo> hashtags, String address, Double length, Integer courseTime, Integer walkIdx, String description) {
+    public PostCourseDetailsReq(String courseName, String courseImg, RoutePath coordinates, List<HashtagInfo> hashtags, String address, Double length, Integer courseTime, Integer walkIdx, String description) {
         this.courseName = courseName;
         this.courseImg = courseImg;
         this.coordinates = coordinates;
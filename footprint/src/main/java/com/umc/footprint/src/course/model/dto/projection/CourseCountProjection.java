@@ -0,0 +1,11 @@
+package com.umc.footprint.src.course.model.dto.projection;
+
+public interface CourseCountProjection {
+    Integer getCourseIdx();
+
+    Long getCourseCount();
+
+    void setCourseIdx(Integer courseIdx);
+
+    void setCourseCount(Long courseCount);
+}
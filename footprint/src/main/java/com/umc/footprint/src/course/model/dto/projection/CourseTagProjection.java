@@ -0,0 +1,11 @@
+package com.umc.footprint.src.course.model.dto.projection;
+
+public interface CourseTagProjection {
+    Integer getCourseIdx();
+
+    String getHashtag();
+
+    void setCourseIdx(Integer courseIdx);
+
+    void setHashtag(String hashtag);
+}
@@ -11,6 +11,13 @@ import org.locationtech.jts.geom.Point;
 
 import javax.persistence.*;
 
+/**
+ * 코스
+ * 경로는 route(암호화된 바이너리, RouteCodec)에 저장하고, coordinate 는 route 이전에 저장된 행만 사용한다.
+ * route_lod 는 지도 미리보기용으로 미리 간략화한 경로 (RouteCodec.encodeLevels)
+ * (ALTER TABLE Course ADD COLUMN route MEDIUMBLOB NULL AFTER coordinate)
+ * (ALTER TABLE Course ADD COLUMN route_lod MEDIUMBLOB NULL AFTER route)
+ */
 @Getter
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -34,6 +41,14 @@ public class Course extends BaseEntity {
     @Column(name = "coordinate", columnDefinition = "longtext")
     private String coordinate;
 
+    @Lob
+    @Column(name = "route", columnDefinition = "MEDIUMBLOB")
+    private byte[] route;
+
+    @Lob
+    @Column(name = "route_lod", columnDefinition = "MEDIUMBLOB")
+    private byte[] routeLod;
+
     @Column(name = "address", columnDefinition = "text")
     private String address;
 
@@ -60,12 +75,14 @@ public class Course extends BaseEntity {
     private CourseStatus status;
 
     @Builder
-    public Course(Integer courseIdx, String courseName, String courseImg, Point startCoordinate, String coordinate, String address, Double length, Integer courseTime, Integer walkIdx, Integer userIdx, String description, Integer likeNum, CourseStatus status) {
+    public Course(Integer courseIdx, String courseName, String courseImg, Point startCoordinate, String coordinate, byte[] route, byte[] routeLod, String address, Double length, Integer courseTime, Integer walkIdx, Integer userIdx, String description, Integer likeNum, CourseStatus status) {
         this.courseIdx = courseIdx;
         this.courseName = courseName;
         this.courseImg = courseImg;
         this.startCoordinate = startCoordinate;
         this.coordinate = coordinate;
+        this.route = route;
+        this.routeLod = routeLod;
         this.address = address;
         this.length = length;
         this.courseTime = courseTime;
@@ -100,4 +117,15 @@ public class Course extends BaseEntity {
     public void updateStatus(CourseStatus status) {
         this.status = status;
     }
+
+    // 바이너리 경로 채우기 (간략화 경로 포함), 기존 텍스트 경로는 확인 후 clearLegacyCoordinate 로 비운다.
+    public void migrateRoute(byte[] route, byte[] routeLod) {
+        this.route = route;
+        this.routeLod = routeLod;
+    }
+
+    // route 와 같은지 확인한 기존 텍스트 경로 비우기
+    public void clearLegacyCoordinate() {
+        this.coordinate = "";
+    }
 }
@@ -23,7 +23,7 @@ public class CourseTag {
     @JoinColumn(name = "courseIdx")
     private Course course;
 
-    @OneToOne
+    @ManyToOne
     @JoinColumn(name = "hashtagIdx")
     private Hashtag hashtag;
 
@@ -17,11 +17,40 @@ public interface CourseRepository extends JpaRepository<Course, Integer> {
 
     List<Course> findAllByStatus(CourseStatus status);
 
+    /**
+     * 지도 영역(남서 ~ 북동) 안에 시작 좌표가 있는 활성 코스 조회
+     * startCoordinate 는 (x: 위도, y: 경도) 로 저장되어 있으므로 envelope 도 같은 순서로 생성
+     * startCoordinate 에 SPATIAL INDEX 가 있어야 전체 스캔 없이 범위 탐색
+     * (CREATE SPATIAL INDEX idx_course_start_coordinate ON Course (startCoordinate))
+     */
+    @Query(value = "SELECT * FROM Course " +
+            "WHERE MBRContains(ST_MakeEnvelope(Point(:south, :west), Point(:north, :east)), startCoordinate) " +
+            "AND status = 'ACTIVE'",
+            nativeQuery = true)
+    List<Course> findAllActiveInBoundary(@Param("north") double north,
+                                         @Param("south") double south,
+                                         @Param("west") double west,
+                                         @Param("east") double east);
+
     Optional<Course> findByCourseIdx(int courseIdx);
 
     @Query(value = "SELECT * FROM Course WHERE courseIdx IN (:courseIdxes)", nativeQuery = true)
     List<Course> getAllByCourseIdx(@Param("courseIdxes") List<Integer> courseIdxes);
 
+    // route(바이너리) 또는 route_lod(간략화 경로)가 없는 코스 (courseIdx 순)
+    @Query(value = "SELECT courseIdx FROM Course WHERE courseIdx > :lastCourseIdx AND route_lod IS NULL " +
+            "AND (route IS NOT NULL OR coordinate <> '') " +
+            "ORDER BY courseIdx LIMIT :size",
+            nativeQuery = true)
+    List<Integer> findLegacyRouteCourseIdx(@Param("lastCourseIdx") int lastCourseIdx, @Param("size") int size);
+
+    // route 로 옮겼지만 coordinate 가 남아 있는 코스 (courseIdx 순)
+    @Query(value = "SELECT courseIdx FROM Course WHERE courseIdx > :lastCourseIdx AND route IS NOT NULL AND route_lod IS NOT NULL " +
+            "AND coordinate <> '' " +
+            "ORDER BY courseIdx LIMIT :size",
+            nativeQuery = true)
+    List<Integer> findMigratedRouteCourseIdx(@Param("lastCourseIdx") int lastCourseIdx, @Param("size") int size);
+
     List<Course> getAllByUserIdxAndStatus(int userIdx, CourseStatus status);
 
     @Query(
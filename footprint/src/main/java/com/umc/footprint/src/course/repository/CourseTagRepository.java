@@ -1,5 +1,6 @@
 package com.umc.footprint.src.course.repository;
 
+import com.umc.footprint.src.course.model.dto.projection.CourseTagProjection;
 import com.umc.footprint.src.course.model.dto.projection.HashTagProjection;
 import com.umc.footprint.src.course.model.entity.Course;
 import com.umc.footprint.src.course.model.entity.CourseTag;
@@ -20,4 +21,12 @@ public interface CourseTagRepository extends JpaRepository<CourseTag, Integer> {
                     "where ct.course.courseIdx = :courseIdx and ct.status = 'ACTIVE'"
     )
     List<HashTagProjection> findCourseSelectedTags(@Param("courseIdx") Integer courseIdx);
+
+    @Query(
+            value = "select ct.course.courseIdx as courseIdx, h.hashtag as hashtag " +
+                    "from CourseTag ct " +
+                    "join ct.hashtag h " +
+                    "where ct.course.courseIdx in :courseIdxes and ct.status = 'ACTIVE'"
+    )
+    List<CourseTagProjection> findActiveTagsByCourseIdxes(@Param("courseIdxes") List<Integer> courseIdxes);
 }
@@ -14,4 +14,7 @@ public interface MarkRepository extends JpaRepository<Mark, Integer> {
 
     @Query(value = "SELECT courseIdx FROM Mark WHERE userIdx = (:userIdx) AND mark = (:mark)", nativeQuery = true)
     List<Integer> getCourseIdxByUserIdxAndMark(@Param("userIdx") Integer userIdx, @Param("mark") Boolean mark);
+
+    @Query(value = "SELECT courseIdx FROM Mark WHERE userIdx = (:userIdx) AND mark = true AND courseIdx IN (:courseIdxes)", nativeQuery = true)
+    List<Integer> getMarkedCourseIdxByUserIdxAndCourseIdxes(@Param("userIdx") Integer userIdx, @Param("courseIdxes") List<Integer> courseIdxes);
 }
@@ -1,7 +1,10 @@
 package com.umc.footprint.src.course.repository;
 
+import com.umc.footprint.src.course.model.dto.projection.CourseCountProjection;
 import com.umc.footprint.src.course.model.entity.UserCourse;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -12,4 +15,12 @@ public interface UserCourseRepository extends JpaRepository<UserCourse, Integer>
     List<UserCourse> findByUserIdx(int userIdx);
 
     List<UserCourse> findByCourseIdx(int courseIdx);
+
+    @Query(
+            value = "select uc.courseIdx as courseIdx, sum(uc.courseCount) as courseCount " +
+                    "from UserCourse uc " +
+                    "where uc.courseIdx in :courseIdxes " +
+                    "group by uc.courseIdx"
+    )
+    List<CourseCountProjection> sumCourseCountByCourseIdxes(@Param("courseIdxes") List<Integer> courseIdxes);
 }
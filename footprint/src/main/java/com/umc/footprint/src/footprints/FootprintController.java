@@ -1,8 +1,13 @@
 package com.umc.footprint.src.footprints;
 
+import com.umc.footprint.src.common.model.vo.UploadedPhoto;
 import com.umc.footprint.src.footprints.model.dto.GetFootprintReq;
 import com.umc.footprint.src.footprints.model.dto.GetFootprintRes;
+import com.umc.footprint.src.footprints.model.dto.PatchFootprintPhotosReq;
 import com.umc.footprint.src.footprints.model.dto.PatchFootprintReq;
+import com.umc.footprint.src.footprints.model.dto.PostPhotoUploadReq;
+import com.umc.footprint.src.footprints.model.dto.PostPhotoUploadRes;
+import com.umc.footprint.src.users.model.vo.AuthUser;
 import com.umc.footprint.src.users.UserService;
 import com.umc.footprint.utils.JwtService;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +16,7 @@ import org.springframework.web.bind.annotation.*;
 
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import springfox.documentation.annotations.ApiIgnore;
 import com.umc.footprint.config.BaseException;
 import com.umc.footprint.config.BaseResponse;
 
@@ -60,7 +66,14 @@ public class FootprintController {
             log.debug("userId: {}", userId);
 
             PatchFootprintReq patchFootprintReq = new PatchFootprintReq(footprint.getWrite(), footprint.getPhotos(), footprint.getTagList());
-            footprintService.modifyFootprint(patchFootprintReq, walkIdx, footprintIdx, userId);
+            // S3 업로드를 먼저 끝내고 짧은 트랜잭션으로 DB 수정, 실패하면 업로드한 사진 삭제
+            List<UploadedPhoto> uploadedPhotos = footprintService.uploadPhotos(patchFootprintReq.getPhotos());
+            try {
+                footprintService.modifyFootprint(patchFootprintReq, uploadedPhotos, walkIdx, footprintIdx, userId);
+            } catch (BaseException exception) {
+                footprintService.discardPhotos(uploadedPhotos);
+                throw exception;
+            }
 
             String result = "발자국이 수정되었습니다.";
             log.debug("result: {}", result);
@@ -71,6 +84,45 @@ public class FootprintController {
         }
     }
 
+    /**
+     * 사진 업로드 URL 발급 API
+     * [POST] /footprints/:walkIdx/:footprintIdx/photos/upload-urls
+     * 클라이언트가 uploadUrl 로 사진을 직접 PUT 한 뒤 사진 등록 API 로 fileKey 를 전달한다.
+     */
+    @ResponseBody
+    @PostMapping("/{walkIdx}/{footprintIdx}/photos/upload-urls")
+    public BaseResponse<List<PostPhotoUploadRes>> postPhotoUploadUrls(@ApiIgnore AuthUser authUser, @PathVariable("walkIdx") int walkIdx, @PathVariable("footprintIdx") int footprintIdx,
+                                                                      @RequestBody PostPhotoUploadReq postPhotoUploadReq) {
+        try {
+            List<PostPhotoUploadRes> postPhotoUploadRes = footprintService.createPhotoUploadUrls(walkIdx, footprintIdx, authUser.getUserIdx(), postPhotoUploadReq);
+            return new BaseResponse<>(postPhotoUploadRes);
+        } catch (BaseException exception) {
+            return new BaseResponse<>((exception.getStatus()));
+        }
+    }
+
+    /**
+     * 사진 등록 API (직접 업로드한 사진으로 교체)
+     * [PATCH] /footprints/:walkIdx/:footprintIdx/photos
+     */
+    @ResponseBody
+    @PatchMapping("/{walkIdx}/{footprintIdx}/photos")
+    public BaseResponse<String> patchFootprintPhotos(@ApiIgnore AuthUser authUser, @PathVariable("walkIdx") int walkIdx, @PathVariable("footprintIdx") int footprintIdx,
+                                                     @RequestBody PatchFootprintPhotosReq patchFootprintPhotosReq) {
+        try {
+            // 올린 원본 확인 후 짧은 트랜잭션으로 Photo 교체 (본문, 태그는 그대로), 크기는 등록 후 따로 줄인다.
+            // 실패해도 원본은 지우지 않음 (등록하지 않은 원본은 cleanupPhotoUploads 가 정리)
+            List<String> fileKeys = patchFootprintPhotosReq.getFileKeys();
+            List<UploadedPhoto> uploadedPhotos = footprintService.checkUploadedPhotos(walkIdx, footprintIdx, authUser.getUserIdx(), fileKeys);
+            footprintService.modifyFootprintPhotos(fileKeys, uploadedPhotos, walkIdx, footprintIdx, authUser.getUserIdx(), authUser.getUserId());
+
+            String result = "발자국 사진이 수정되었습니다.";
+            return new BaseResponse<>(result);
+        } catch (BaseException exception) {
+            return new BaseResponse<>((exception.getStatus()));
+        }
+    }
+
     /**
      * 발자국 삭제 API
      * [PATCH] /footprints/:walkIdx/:footprintIdx/status
@@ -3,16 +3,21 @@ package com.umc.footprint.src.footprints;
 import com.umc.footprint.config.BaseException;
 import static com.umc.footprint.config.BaseResponseStatus.*;
 
-import com.umc.footprint.config.EncryptProperties;
 import com.umc.footprint.src.AwsS3Service;
-import com.umc.footprint.src.common.model.entity.Hashtag;
 import com.umc.footprint.src.common.model.entity.Photo;
 import com.umc.footprint.src.common.model.entity.Tag;
+import com.umc.footprint.src.common.HashtagDictionary;
+import com.umc.footprint.src.common.ImageResizer;
+import com.umc.footprint.src.common.S3DeleteOutboxDao;
+import com.umc.footprint.src.common.TagSearchIndex;
 import com.umc.footprint.src.common.repository.HashtagRepository;
 import com.umc.footprint.src.common.repository.PhotoRepository;
 import com.umc.footprint.src.common.repository.TagRepository;
+import com.umc.footprint.src.common.model.vo.UploadedPhoto;
 import com.umc.footprint.src.footprints.model.dto.GetFootprintRes;
 import com.umc.footprint.src.footprints.model.dto.PatchFootprintReq;
+import com.umc.footprint.src.footprints.model.dto.PostPhotoUploadReq;
+import com.umc.footprint.src.footprints.model.dto.PostPhotoUploadRes;
 
 import com.umc.footprint.src.footprints.model.entity.Footprint;
 import com.umc.footprint.src.footprints.repository.FootprintRepository;
@@ -21,18 +26,25 @@ import com.umc.footprint.src.walks.WalkService;
 
 import com.umc.footprint.src.walks.model.entity.Walk;
 import com.umc.footprint.src.walks.repository.WalkRepository;
-import com.umc.footprint.utils.AES128;
+import com.umc.footprint.utils.CryptoService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.web.multipart.MultipartFile;
 
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+
+import java.security.GeneralSecurityException;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 
@@ -47,10 +59,16 @@ public class FootprintService {
     private final WalkService walkService;
     private final UserRepository userRepository;
     private final AwsS3Service awsS3Service;
-    private final EncryptProperties encryptProperties;
+    private final CryptoService cryptoService;
+    private final HashtagDictionary hashtagDictionary;
+    private final TagSearchIndex tagSearchIndex;
+    private final ImageResizer imageResizer;
+    private final PhotoUploadDao photoUploadDao;
+    private final S3DeleteOutboxDao s3DeleteOutboxDao;
+    private final PhotoResizeOutboxDao photoResizeOutboxDao;
 
     @Autowired
-    public FootprintService(WalkRepository walkRepository, FootprintRepository footprintRepository, PhotoRepository photoRepository, TagRepository tagRepository, HashtagRepository hashtagRepository, WalkService walkService, UserRepository userRepository, AwsS3Service awsS3Service, EncryptProperties encryptProperties) {
+    public FootprintService(WalkRepository walkRepository, FootprintRepository footprintRepository, PhotoRepository photoRepository, TagRepository tagRepository, HashtagRepository hashtagRepository, WalkService walkService, UserRepository userRepository, AwsS3Service awsS3Service, CryptoService cryptoService, HashtagDictionary hashtagDictionary, TagSearchIndex tagSearchIndex, ImageResizer imageResizer, PhotoUploadDao photoUploadDao, S3DeleteOutboxDao s3DeleteOutboxDao, PhotoResizeOutboxDao photoResizeOutboxDao) {
         this.walkRepository = walkRepository;
         this.footprintRepository = footprintRepository;
         this.photoRepository = photoRepository;
@@ -59,13 +77,159 @@ public class FootprintService {
         this.walkService = walkService;
         this.userRepository = userRepository;
         this.awsS3Service = awsS3Service;
-        this.encryptProperties = encryptProperties;
+        this.cryptoService = cryptoService;
+        this.hashtagDictionary = hashtagDictionary;
+        this.tagSearchIndex = tagSearchIndex;
+        this.imageResizer = imageResizer;
+        this.photoUploadDao = photoUploadDao;
+        this.s3DeleteOutboxDao = s3DeleteOutboxDao;
+        this.photoResizeOutboxDao = photoResizeOutboxDao;
+    }
+
+
+    /**
+     * 발자국 수정 전 새 사진 크기 줄이기 + S3 업로드 (트랜잭션 밖)
+     * 사진을 수정하지 않으면 null, 사진을 모두 지우면 빈 리스트
+     * 이후 modifyFootprint 가 실패하면 discardPhotos 로 업로드한 사진을 지워야 한다.
+     */
+    public List<UploadedPhoto> uploadPhotos(List<MultipartFile> photos) throws BaseException {
+        if (photos == null) { // 본문만 수정(사진 수정 X)하는 경우 photos 자체가 null이 됨
+            return null;
+        }
+        // 전달된 파일이 없음(이름이 빈 파일만 옴) > 사진을 지우고 싶다는 의미
+        List<MultipartFile> files = photos.stream()
+                .filter(file -> !"".equals(file.getOriginalFilename()))
+                .collect(Collectors.toList());
+        if (files.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return awsS3Service.uploadImages(imageResizer.resize(files));
     }
 
+    /**
+     * 클라이언트가 S3 에 직접 올릴 사진의 presigned PUT URL 발급
+     * 발급한 이름은 유저, 발자국과 함께 PhotoUpload 에 남기고, 등록할 때 같은 유저, 발자국인지 확인한다.
+     * 업로드 후 fileKey 를 checkUploadedPhotos -> modifyFootprintPhotos 로 등록한다.
+     */
+    public List<PostPhotoUploadRes> createPhotoUploadUrls(int walkIdx, int footprintIdx, int userIdx, PostPhotoUploadReq postPhotoUploadReq) throws BaseException {
+        List<String> fileNames = postPhotoUploadReq.getFileNames();
+        if (fileNames == null || fileNames.isEmpty() || fileNames.stream().anyMatch(fileName -> fileName == null || fileName.isBlank())) {
+            throw new BaseException(EMPTY_PHOTO_FILE_NAME);
+        }
+        // 본인 발자국인지 확인
+        Footprint footprint = getFootprintByNumber(walkIdx, footprintIdx, userIdx);
 
-    // 발자국 수정 (Patch)
+        List<String> fileKeys = new ArrayList<>();
+        for (String fileName : fileNames) {
+            fileKeys.add(awsS3Service.createPhotoFileKey(fileName));
+        }
+        try {
+            photoUploadDao.insert(fileKeys, userIdx, footprint.getFootprintIdx());
+        } catch (Exception exception) {
+            throw new BaseException(DATABASE_ERROR);
+        }
+
+        List<PostPhotoUploadRes> postPhotoUploadResList = new ArrayList<>();
+        for (String fileKey : fileKeys) {
+            postPhotoUploadResList.add(PostPhotoUploadRes.builder()
+                    .fileKey(fileKey)
+                    .uploadUrl(awsS3Service.createUploadUrl(fileKey).toString())
+                    .headers(awsS3Service.getUploadHeaders(fileKey))
+                    .build());
+        }
+        return postPhotoUploadResList;
+    }
+
+    /**
+     * 클라이언트가 직접 올린 원본 확인 후 원본 URL 반환 (트랜잭션 밖, 내용은 내려받지 않음)
+     * 이 유저, 발자국에 발급한 이름이 아니면 NOT_UPLOADED_PHOTO
+     * 빈 리스트면 사진을 모두 지우고 싶다는 의미
+     * 크기는 등록 후 PhotoResizeDispatcher 가 줄이고, 그 전까지는 원본을 보여준다.
+     */
+    public List<UploadedPhoto> checkUploadedPhotos(int walkIdx, int footprintIdx, int userIdx, List<String> fileKeys) throws BaseException {
+        if (fileKeys == null || fileKeys.stream().distinct().count() != fileKeys.size()) {
+            throw new BaseException(NOT_UPLOADED_PHOTO);
+        }
+        Footprint footprint = getFootprintByNumber(walkIdx, footprintIdx, userIdx);
+        if (photoUploadDao.findIssued(fileKeys, userIdx, footprint.getFootprintIdx()).size() != fileKeys.size()) {
+            throw new BaseException(NOT_UPLOADED_PHOTO);
+        }
+        if (fileKeys.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<UploadedPhoto> uploadedPhotos = new ArrayList<>();
+        for (String fileKey : fileKeys) {
+            uploadedPhotos.add(UploadedPhoto.builder()
+                    .imageUrl(awsS3Service.getUploadedPhotoUrl(fileKey))
+                    .build());
+        }
+        return uploadedPhotos;
+    }
+
+    /**
+     * 직접 올린 사진으로 교체 (Patch, 본문과 태그는 그대로)
+     * 발급 기록(PhotoUpload)을 같은 트랜잭션에서 지워서, 한 사진은 한 번만 등록되고
+     * 만료 정리(cleanupPhotoUploads)와 겹치면 한쪽만 성공한다.
+     * 등록한 사진은 같은 트랜잭션에서 크기 줄이기 대기열(PhotoResizeOutbox)에 넣는다.
+     */
     @Transactional(propagation = Propagation.NESTED, rollbackFor = Exception.class)
-    public void modifyFootprint(PatchFootprintReq patchFootprintReq, int walkIdx, int footprintIdx, String userId) throws BaseException {
+    public void modifyFootprintPhotos(List<String> fileKeys, List<UploadedPhoto> uploadedPhotos, int walkIdx, int footprintIdx, int userIdx, String userId) throws BaseException {
+        Footprint footprint = getFootprintByNumber(walkIdx, footprintIdx, userIdx);
+        if (photoUploadDao.claim(fileKeys, userIdx, footprint.getFootprintIdx()) != fileKeys.size()) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            throw new BaseException(NOT_UPLOADED_PHOTO);
+        }
+        modifyFootprint(new PatchFootprintReq(null, null, null), uploadedPhotos, walkIdx, footprintIdx, userId);
+
+        // 새로 등록한 Photo 와 원본 이름 연결
+        Map<Integer, String> fileKeyByPhotoIdx = new HashMap<>();
+        try {
+            for (Photo photo : photoRepository.findAllByFootprintAndStatus(footprint, "ACTIVE")) {
+                String imageUrl = cryptoService.decrypt(photo.getImageUrl());
+                String fileKey = imageUrl.substring(imageUrl.lastIndexOf("/") + 1);
+                if (fileKeys.contains(fileKey)) {
+                    fileKeyByPhotoIdx.put(photo.getPhotoIdx(), fileKey);
+                }
+            }
+            photoResizeOutboxDao.insert(fileKeyByPhotoIdx);
+        } catch (Exception exception) {
+            exception.printStackTrace();
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            throw new BaseException(DATABASE_ERROR);
+        }
+    }
+
+    // 발급 후 등록하지 않은 사진 정리 (URL 만료 1시간 뒤 S3 삭제 대기열로)
+    @Transactional
+    @Scheduled(initialDelay = 600_000, fixedDelay = 600_000)
+    public void cleanupPhotoUploads() {
+        LocalDateTime createdBefore = LocalDateTime.now()
+                .minusSeconds(awsS3Service.getUploadUrlExpirationSeconds())
+                .minusHours(1);
+        List<String> fileKeys = photoUploadDao.findExpired(createdBefore, 1000);
+        s3DeleteOutboxDao.insert(fileKeys);
+        photoUploadDao.delete(fileKeys);
+    }
+
+    // 업로드한 사진 삭제 (발자국 수정 실패 시 보상)
+    public void discardPhotos(List<UploadedPhoto> uploadedPhotos) {
+        if (uploadedPhotos == null || uploadedPhotos.isEmpty()) {
+            return;
+        }
+        List<String> photoUrls = new ArrayList<>();
+        for (UploadedPhoto uploadedPhoto : uploadedPhotos) {
+            photoUrls.add(uploadedPhoto.getImageUrl());
+            if (uploadedPhoto.getThumbnailUrl() != null) {
+                photoUrls.add(uploadedPhoto.getThumbnailUrl());
+            }
+        }
+        awsS3Service.deleteFiles(photoUrls);
+    }
+
+    // 발자국 수정 (Patch), 새 사진은 uploadPhotos 로 미리 올린 URL (null 이면 사진 수정 X)
+    @Transactional(propagation = Propagation.NESTED, rollbackFor = Exception.class)
+    public void modifyFootprint(PatchFootprintReq patchFootprintReq, List<UploadedPhoto> uploadedPhotos, int walkIdx, int footprintIdx, String userId) throws BaseException {
         try {
             Integer userIdx = userRepository.findByUserId(userId).getUserIdx();
             Footprint footprintByNumber = getFootprintByNumber(walkIdx, footprintIdx, userIdx);
@@ -73,48 +237,29 @@ public class FootprintService {
             // 발자국 수정 과정
             // 1. 본문 수정
             if(patchFootprintReq.getWrite() != null) {
-                footprintByNumber.recordDecrypt(new AES128(encryptProperties.getKey()).encrypt(patchFootprintReq.getWrite()));
+                footprintByNumber.recordDecrypt(cryptoService.encrypt(patchFootprintReq.getWrite()));
 
                 footprintRepository.save(footprintByNumber);
             }
 
             // 2. 사진 수정
-            // DB에 저장되어 있는 파일 리스트
-            List<Photo> photoList = photoRepository.findAllByFootprintAndStatus(footprintByNumber, "ACTIVE");
-            // 전달되어온 파일 리스트
-            List<MultipartFile> photos = patchFootprintReq.getPhotos();
-
-            if (photos != null) { // 본문만 수정(사진 수정 X)하는 경우 photos 자체가 null이 됨
-
-                if (photoList.isEmpty()) { // 발자국에 저장된 사진이 존재하지 않음
-                    if (!("".equals(photos.get(0).getOriginalFilename()))) { // 전달된 파일이 하나라도 존재
-                        uploadImg(photos, userIdx, footprintByNumber); // 새로운 사진들 업로드
-                    }
-                } else { // 발자국에 저장된 기존 사진들이 존재
-                    for (Photo photo : photoList) {
-                        photo.changeStatus("INACTIVE");
-                    }
-                    photoRepository.saveAll(photoList);
-
-                    if (photos.size() != 1 || !"".equals(photos.get(0).getOriginalFilename())) { // 전달된 파일이 없음 > 사진을 지우고 싶다는 의미 > 기존 사진 삭제만 진행
-                        uploadImg(photos, userIdx, footprintByNumber); // 새로운 사진들 업로드
-                    }
+            if (uploadedPhotos != null) {
+                // DB에 저장되어 있는 기존 사진 삭제
+                List<Photo> photoList = photoRepository.findAllByFootprintAndStatus(footprintByNumber, "ACTIVE");
+                for (Photo photo : photoList) {
+                    photo.changeStatus("INACTIVE");
                 }
+                photoRepository.saveAll(photoList);
+
+                // 새로운 사진들 저장 (빈 리스트면 기존 사진 삭제만 진행)
+                savePhotos(uploadedPhotos, userIdx, footprintByNumber);
             }
 
             // 3. 태그 수정
-            List<Hashtag> hashtagList = new ArrayList<>();
             List<Tag> tagList = new ArrayList<>();
 
             if(patchFootprintReq.getTagList() != null) {
-                for(String tag : patchFootprintReq.getTagList()){
-                    hashtagList.add(
-                            Hashtag.builder()
-                            .hashtag(tag)
-                            .build()
-                    );
-                }
-                List<Hashtag> savedHashtagList = hashtagRepository.saveAll(hashtagList);
+                Map<String, Integer> hashtagIdxMap = hashtagDictionary.getOrCreate(patchFootprintReq.getTagList());
 
                 if (!footprintByNumber.getTagList().isEmpty()) {
                     for (Tag tag : footprintByNumber.getTagList()) {
@@ -123,21 +268,23 @@ public class FootprintService {
                     tagRepository.saveAll(footprintByNumber.getTagList());
                 }
 
-                for (Hashtag hashtag : savedHashtagList) {
+                for (String hashtag : patchFootprintReq.getTagList()) {
                     Tag tag = Tag.builder()
                             .userIdx(userIdx)
                             .status("ACTIVE")
                             .build();
                     tag.setFootprint(footprintByNumber);
-                    tag.setHashtag(hashtag);
+                    tag.setHashtag(hashtagRepository.getById(hashtagIdxMap.get(HashtagDictionary.normalize(hashtag))));
                     tagList.add(tag);
                     footprintByNumber.addTagList(tag);
                 }
                 tagRepository.saveAll(tagList);
-
+                tagSearchIndex.evict(userIdx);
             }
         } catch (Exception exception) { // DB에 이상이 있는 경우 에러 메시지를 보냅니다.
             exception.printStackTrace();
+            // 호출한 쪽에서 업로드한 사진을 지우므로 Photo 행도 남기지 않음
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
             throw new BaseException(DATABASE_ERROR);
         }
     }
@@ -168,6 +315,7 @@ public class FootprintService {
             // Footprint status 변경
             targetFootprint.setStatus("INACTIVE");
             footprintRepository.save(targetFootprint);
+            tagSearchIndex.evict(targetFootprint.getWalk().getUserIdx());
 
 
         } catch (Exception exception) {
@@ -176,33 +324,22 @@ public class FootprintService {
     }
     }
 
-    // 이미지 URL 생성 > S3 업로드 > Photo 테이블 삽입
-    @Transactional(rollbackFor = Exception.class)
-    public List<String> uploadImg(List<MultipartFile> photos, int userIdx, Footprint footprint) throws BaseException {
-        List<String> urlList = new ArrayList<>(); // URL 저장할 리스트
+    // 업로드한 이미지 URL > Photo 테이블 삽입
+    private void savePhotos(List<UploadedPhoto> uploadedPhotos, int userIdx, Footprint footprint) throws GeneralSecurityException {
         List<Photo> photoList = new ArrayList<>();
-
-        // 이미지 URL 생성 및 S3 업로드
-        try {
-            for (MultipartFile file : photos) {
-                String imgUrl = awsS3Service.uploadFile(file);
-                urlList.add(new AES128(encryptProperties.getKey()).encrypt(imgUrl));
-                Photo photo = Photo.builder()
-                        .imageUrl(new AES128(encryptProperties.getKey()).encrypt(imgUrl))
-                        .status("ACTIVE")
-                        .userIdx(userIdx)
-                        .build();
-                photo.setFootprint(footprint);
-                photoList.add(photo);
-            }
-        } catch (Exception exception){
-            throw new BaseException(DATABASE_ERROR);
+        for (UploadedPhoto uploadedPhoto : uploadedPhotos) {
+            Photo photo = Photo.builder()
+                    .imageUrl(cryptoService.encrypt(uploadedPhoto.getImageUrl()))
+                    .thumbnailUrl(uploadedPhoto.getThumbnailUrl() == null ? null : cryptoService.encrypt(uploadedPhoto.getThumbnailUrl()))
+                    .status("ACTIVE")
+                    .userIdx(userIdx)
+                    .build();
+            photo.setFootprint(footprint);
+            photoList.add(photo);
         }
 
         // Photo 테이블에 insert
         photoRepository.saveAll(photoList);
-
-        return urlList;
     }
 
     // 발자국 조회
@@ -222,13 +359,15 @@ public class FootprintService {
             log.debug("Footprint Handling");
             for (Footprint footprint : footprintList) {
                 List<String> decryptPhotoList = new ArrayList<>();
+                List<String> decryptThumbnailList = new ArrayList<>();
                 List<String> tagList = new ArrayList<>();
 
                 log.debug("사진 복호화");
                 List<Photo> photoList = photoRepository.findAllByFootprintAndStatus(footprint, "ACTIVE");
                 for (Photo photo : photoList) {
                     if (photo.getStatus().equals("ACTIVE")) {
-                        decryptPhotoList.add(new AES128(encryptProperties.getKey()).decrypt(photo.getImageUrl()));
+                        decryptPhotoList.add(cryptoService.decrypt(photo.getImageUrl()));
+                        decryptThumbnailList.add(cryptoService.decrypt(photo.getListImageUrl()));
                     }
                 }
                 log.debug("태그 리스트 초기화");
@@ -241,8 +380,9 @@ public class FootprintService {
                 getFootprintRes.add(GetFootprintRes.builder()
                         .footprintIdx(footprint.getFootprintIdx())
                         .recordAt(footprint.getCreateAt())
-                        .write(new AES128(encryptProperties.getKey()).decrypt(footprint.getRecord()))
+                        .write(cryptoService.decrypt(footprint.getRecord()))
                         .photoList(decryptPhotoList)
+                        .thumbnailList(decryptThumbnailList)
                         .tagList(tagList)
                         .onWalk(footprint.getOnWalk())
                         .build());
@@ -0,0 +1,179 @@
+package com.umc.footprint.src.footprints;
+
+import com.umc.footprint.config.BaseException;
+import com.umc.footprint.config.BaseResponseStatus;
+import com.umc.footprint.src.AwsS3Service;
+import com.umc.footprint.src.common.ImageResizer;
+import com.umc.footprint.src.common.S3DeleteOutboxDao;
+import com.umc.footprint.src.common.model.vo.ImageVariant;
+import com.umc.footprint.src.common.model.vo.ResizedImage;
+import com.umc.footprint.src.common.model.vo.UploadedPhoto;
+import com.umc.footprint.src.footprints.PhotoResizeOutboxDao.OutboxRow;
+import com.umc.footprint.utils.CryptoService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.GeneralSecurityException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 사진 크기 줄이기 대기열(PhotoResizeOutbox) 처리
+ * - 직접 올린 원본을 내려받아 display, thumbnail 로 줄여 올리고, 사진이 아직 그 원본이면 Photo URL 을 바꾼 뒤 원본을 지운다.
+ *   (바뀌기 전까지는 원본을 그대로 보여줌)
+ * - 한 항목은 leaseSeconds 동안 한 서버만 처리하고, 실패하면 2^attempts 초 뒤(최대 maxBackoffSeconds)에 다시 시도한다.
+ * - 원본이 없거나 너무 크거나 디코딩할 수 없는 형식(HEIC 등)이면 원본을 그대로 두고 항목을 지운다.
+ */
+@Slf4j
+@Component
+public class PhotoResizeDispatcher {
+
+    // 한 번에 가져올 항목 수 (사진 하나씩 처리)
+    private static final int BATCH_SIZE = 20;
+
+    private final PhotoResizeOutboxDao photoResizeOutboxDao;
+    private final S3DeleteOutboxDao s3DeleteOutboxDao;
+    private final AwsS3Service awsS3Service;
+    private final ImageResizer imageResizer;
+    private final CryptoService cryptoService;
+    private final TransactionTemplate transactionTemplate;
+    private final long leaseSeconds;
+    private final long maxBackoffSeconds;
+
+    private final LongAdder resizedCount = new LongAdder();
+    private final LongAdder skippedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+
+    public PhotoResizeDispatcher(PhotoResizeOutboxDao photoResizeOutboxDao,
+                                 S3DeleteOutboxDao s3DeleteOutboxDao,
+                                 AwsS3Service awsS3Service,
+                                 ImageResizer imageResizer,
+                                 CryptoService cryptoService,
+                                 TransactionTemplate transactionTemplate,
+                                 @Value("${photo.resize.lease-seconds:300}") long leaseSeconds,
+                                 @Value("${photo.resize.max-backoff-seconds:3600}") long maxBackoffSeconds) {
+        this.photoResizeOutboxDao = photoResizeOutboxDao;
+        this.s3DeleteOutboxDao = s3DeleteOutboxDao;
+        this.awsS3Service = awsS3Service;
+        this.imageResizer = imageResizer;
+        this.cryptoService = cryptoService;
+        this.transactionTemplate = transactionTemplate;
+        this.leaseSeconds = leaseSeconds;
+        this.maxBackoffSeconds = maxBackoffSeconds;
+    }
+
+    // 처리할 항목이 없을 때까지 반복
+    @Scheduled(initialDelay = 10_000, fixedDelayString = "${photo.resize.dispatch-delay-millis:2000}")
+    public void dispatch() {
+        try {
+            List<OutboxRow> rows;
+            do {
+                rows = photoResizeOutboxDao.findDue(LocalDateTime.now(), BATCH_SIZE);
+                for (OutboxRow row : rows) {
+                    LocalDateTime now = LocalDateTime.now();
+                    if (photoResizeOutboxDao.claim(row.getOutboxIdx(), now, now.plusSeconds(leaseSeconds))) {
+                        resize(row);
+                    }
+                }
+            } while (rows.size() == BATCH_SIZE);
+        } catch (Exception exception) {
+            log.error("사진 크기 줄이기 대기열 처리 실패", exception);
+        }
+    }
+
+    private void resize(OutboxRow row) {
+        UploadedPhoto uploadedPhoto = null;
+        try {
+            ImageVariant original = awsS3Service.downloadUploadedPhoto(row.getFileKey());
+            ResizedImage resizedImage = imageResizer.resizeUploaded(List.of(original)).get(0);
+            if (!resizedImage.hasThumbnail()) {
+                skip(row, "디코딩할 수 없는 형식");
+                return;
+            }
+            uploadedPhoto = awsS3Service.uploadImages(List.of(resizedImage)).get(0);
+
+            String imageUrl = cryptoService.encrypt(uploadedPhoto.getImageUrl());
+            String thumbnailUrl = cryptoService.encrypt(uploadedPhoto.getThumbnailUrl());
+            List<String> resizedFileKeys = List.of(fileKey(uploadedPhoto.getImageUrl()), fileKey(uploadedPhoto.getThumbnailUrl()));
+            boolean replaced = transactionTemplate.execute(status -> replacePhotoUrls(row, imageUrl, thumbnailUrl, resizedFileKeys));
+            if (replaced) {
+                resizedCount.increment();
+            } else {
+                skippedCount.increment();
+            }
+        } catch (BaseException exception) {
+            if (exception.getStatus() == BaseResponseStatus.NOT_UPLOADED_PHOTO || exception.getStatus() == BaseResponseStatus.EXCEED_PHOTO_SIZE) {
+                skip(row, exception.getStatus().getMessage());
+            } else {
+                retry(row, uploadedPhoto, exception.getStatus().getMessage());
+            }
+        } catch (Exception exception) {
+            log.error("사진 {} 크기 줄이기 실패", row.getPhotoIdx(), exception);
+            retry(row, uploadedPhoto, exception.getMessage());
+        }
+    }
+
+    /**
+     * 사진이 아직 이 원본이면 줄인 사진 URL 로 바꾸고 원본을 S3 삭제 대기열에 넣는다.
+     * 그 사이에 사진이 바뀌었거나 지워졌으면 줄인 사진을 대기열에 넣는다. (원본은 그대로)
+     */
+    private boolean replacePhotoUrls(OutboxRow row, String imageUrl, String thumbnailUrl, List<String> resizedFileKeys) {
+        String currentImageUrl = photoResizeOutboxDao.findActiveImageUrlForUpdate(row.getPhotoIdx());
+        boolean replaced = currentImageUrl != null && row.getFileKey().equals(fileKey(decrypt(currentImageUrl)));
+        if (replaced) {
+            photoResizeOutboxDao.updatePhotoUrls(row.getPhotoIdx(), imageUrl, thumbnailUrl);
+            s3DeleteOutboxDao.insert(List.of(row.getFileKey()));
+        } else {
+            s3DeleteOutboxDao.insert(resizedFileKeys);
+        }
+        photoResizeOutboxDao.delete(row.getOutboxIdx());
+        return replaced;
+    }
+
+    private void skip(OutboxRow row, String reason) {
+        log.info("사진 {} 크기 줄이기 건너뜀 ({}), 원본 사용", row.getPhotoIdx(), reason);
+        skippedCount.increment();
+        photoResizeOutboxDao.delete(row.getOutboxIdx());
+    }
+
+    // 올린 줄인 사진은 지우고 다시 시도
+    private void retry(OutboxRow row, UploadedPhoto uploadedPhoto, String reason) {
+        log.warn("사진 {} 크기 줄이기 실패 ({}), {}번째 시도", row.getPhotoIdx(), reason, row.getAttempts() + 1);
+        failedCount.increment();
+        if (uploadedPhoto != null) {
+            List<String> photoUrls = new ArrayList<>();
+            photoUrls.add(uploadedPhoto.getImageUrl());
+            photoUrls.add(uploadedPhoto.getThumbnailUrl());
+            awsS3Service.deleteFiles(photoUrls);
+        }
+        photoResizeOutboxDao.reschedule(row.getOutboxIdx(), LocalDateTime.now().plusSeconds(backoffSeconds(row.getAttempts())));
+    }
+
+    private String decrypt(String encryptedUrl) {
+        try {
+            return cryptoService.decrypt(encryptedUrl);
+        } catch (GeneralSecurityException exception) {
+            throw new IllegalStateException("사진 URL 복호화 실패", exception);
+        }
+    }
+
+    // URL 에서 파일 이름만 자르기
+    private static String fileKey(String url) {
+        return url.substring(url.lastIndexOf("/") + 1);
+    }
+
+    private long backoffSeconds(int attempts) {
+        return Math.min(maxBackoffSeconds, 1L << Math.min(attempts + 1, 20));
+    }
+
+    @Scheduled(initialDelay = 600_000, fixedDelay = 600_000)
+    public void logStats() {
+        log.info("사진 크기 줄이기 대기열 완료: {}, 건너뜀: {}, 실패: {}, 대기 중: {}",
+                resizedCount.sum(), skippedCount.sum(), failedCount.sum(), photoResizeOutboxDao.countPending());
+    }
+}
@@ -0,0 +1,122 @@
+package com.umc.footprint.src.footprints;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사진 크기 줄이기 대기열 (transactional outbox)
+ * 직접 올린 원본을 Photo 에 등록하는 트랜잭션에 적어두고, PhotoResizeDispatcher 가 줄인 사진으로 바꾼다.
+ *
+ * CREATE TABLE PhotoResizeOutbox (
+ *     outboxIdx BIGINT AUTO_INCREMENT PRIMARY KEY,
+ *     photoIdx INT NOT NULL,
+ *     fileKey VARCHAR(64) NOT NULL,
+ *     attempts INT NOT NULL DEFAULT 0,
+ *     nextAttemptAt DATETIME NOT NULL,
+ *     createAt DATETIME NOT NULL,
+ *     KEY idx_photo_resize_outbox_next (nextAttemptAt)
+ * );
+ */
+@Repository
+public class PhotoResizeOutboxDao {
+
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public void setDataSource(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    // 크기를 줄일 사진 추가 (photoIdx -> 원본 fileKey, 호출한 쪽 트랜잭션에 포함)
+    public void insert(Map<Integer, String> fileKeyByPhotoIdx) {
+        if (fileKeyByPhotoIdx.isEmpty()) {
+            return;
+        }
+        String insertQuery = "INSERT INTO PhotoResizeOutbox (photoIdx, fileKey, attempts, nextAttemptAt, createAt) VALUES "
+                + placeholders(fileKeyByPhotoIdx.size(), "(?, ?, 0, ?, ?)");
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.update(insertQuery, ps -> {
+            int i = 1;
+            for (Map.Entry<Integer, String> entry : fileKeyByPhotoIdx.entrySet()) {
+                ps.setInt(i++, entry.getKey());
+                ps.setString(i++, entry.getValue());
+                ps.setTimestamp(i++, now);
+                ps.setTimestamp(i++, now);
+            }
+        });
+    }
+
+    // 지금 처리할 항목 (오래된 순)
+    public List<OutboxRow> findDue(LocalDateTime now, int limit) {
+        String findQuery = "SELECT outboxIdx, photoIdx, fileKey, attempts FROM PhotoResizeOutbox WHERE nextAttemptAt <= ? ORDER BY outboxIdx LIMIT ?";
+        return jdbcTemplate.query(findQuery,
+                (rs, rowNum) -> new OutboxRow(rs.getLong("outboxIdx"), rs.getInt("photoIdx"), rs.getString("fileKey"), rs.getInt("attempts")),
+                Timestamp.valueOf(now), limit);
+    }
+
+    /**
+     * 처리할 항목 가져가기 (leaseUntil 까지 다른 서버가 가져가지 않음)
+     * 다른 서버가 먼저 가져갔으면 false
+     */
+    public boolean claim(long outboxIdx, LocalDateTime now, LocalDateTime leaseUntil) {
+        String claimQuery = "UPDATE PhotoResizeOutbox SET nextAttemptAt = ? WHERE outboxIdx = ? AND nextAttemptAt <= ?";
+        return jdbcTemplate.update(claimQuery, Timestamp.valueOf(leaseUntil), outboxIdx, Timestamp.valueOf(now)) == 1;
+    }
+
+    public void delete(long outboxIdx) {
+        jdbcTemplate.update("DELETE FROM PhotoResizeOutbox WHERE outboxIdx = ?", outboxIdx);
+    }
+
+    // 실패한 항목 재시도 시각 미루기
+    public void reschedule(long outboxIdx, LocalDateTime nextAttemptAt) {
+        String rescheduleQuery = "UPDATE PhotoResizeOutbox SET attempts = attempts + 1, nextAttemptAt = ? WHERE outboxIdx = ?";
+        jdbcTemplate.update(rescheduleQuery, Timestamp.valueOf(nextAttemptAt), outboxIdx);
+    }
+
+    public long countPending() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM PhotoResizeOutbox", Long.class);
+        return count == null ? 0 : count;
+    }
+
+    // 사용 중인 사진의 imageUrl (암호화, 바꾸는 트랜잭션에서 잠금), 지워졌으면 null
+    public String findActiveImageUrlForUpdate(int photoIdx) {
+        String findQuery = "SELECT imageUrl FROM Photo WHERE photoIdx = ? AND status = 'ACTIVE' FOR UPDATE";
+        List<String> imageUrls = jdbcTemplate.queryForList(findQuery, String.class, photoIdx);
+        return imageUrls.isEmpty() ? null : imageUrls.get(0);
+    }
+
+    // 줄인 사진 URL 로 교체 (암호화)
+    public void updatePhotoUrls(int photoIdx, String imageUrl, String thumbnailUrl) {
+        String updateQuery = "UPDATE Photo SET imageUrl = ?, thumbnailUrl = ? WHERE photoIdx = ?";
+        jdbcTemplate.update(updateQuery, imageUrl, thumbnailUrl, photoIdx);
+    }
+
+    private String placeholders(int count, String placeholder) {
+        return String.join(", ", Collections.nCopies(count, placeholder));
+    }
+
+    @Getter
+    public static class OutboxRow {
+        private final long outboxIdx;
+        private final int photoIdx;
+        private final String fileKey;
+        private final int attempts;
+
+        public OutboxRow(long outboxIdx, int photoIdx, String fileKey, int attempts) {
+            this.outboxIdx = outboxIdx;
+            this.photoIdx = photoIdx;
+            this.fileKey = fileKey;
+            this.attempts = attempts;
+        }
+    }
+}
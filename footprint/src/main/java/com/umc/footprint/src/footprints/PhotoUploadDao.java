@@ -0,0 +1,100 @@
+package com.umc.footprint.src.footprints;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * presigned URL 로 발급한 사진 이름 (FootprintService.createPhotoUploadUrls)
+ * 사진 등록 시 발급받은 유저, 발자국과 같은지 확인하고, 등록하지 않고 만료된 사진은 S3 에서 지운다.
+ *
+ * CREATE TABLE PhotoUpload (
+ *     fileKey VARCHAR(64) PRIMARY KEY,
+ *     userIdx INT NOT NULL,
+ *     footprintIdx INT NOT NULL,
+ *     createAt DATETIME NOT NULL,
+ *     KEY idx_photo_upload_create (createAt)
+ * );
+ */
+@Repository
+public class PhotoUploadDao {
+
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public void setDataSource(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    public void insert(List<String> fileKeys, int userIdx, int footprintIdx) {
+        String insertQuery = "INSERT INTO PhotoUpload (fileKey, userIdx, footprintIdx, createAt) VALUES "
+                + placeholders(fileKeys.size(), "(?, ?, ?, ?)");
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.update(insertQuery, ps -> {
+            int i = 1;
+            for (String fileKey : fileKeys) {
+                ps.setString(i++, fileKey);
+                ps.setInt(i++, userIdx);
+                ps.setInt(i++, footprintIdx);
+                ps.setTimestamp(i++, now);
+            }
+        });
+    }
+
+    // fileKeys 중 이 유저, 발자국에 발급한 사진 이름
+    public List<String> findIssued(List<String> fileKeys, int userIdx, int footprintIdx) {
+        if (fileKeys.isEmpty()) {
+            return new ArrayList<>();
+        }
+        String findQuery = "SELECT fileKey FROM PhotoUpload WHERE userIdx = ? AND footprintIdx = ? AND fileKey IN ("
+                + placeholders(fileKeys.size(), "?") + ")";
+        List<Object> params = new ArrayList<>();
+        params.add(userIdx);
+        params.add(footprintIdx);
+        params.addAll(fileKeys);
+        return jdbcTemplate.queryForList(findQuery, String.class, params.toArray());
+    }
+
+    /**
+     * 사진 등록 (발급 기록 삭제, 등록하는 트랜잭션에서 호출)
+     * 이 유저, 발자국에 발급한 이름만 지우고 지운 수를 반환한다.
+     */
+    public int claim(List<String> fileKeys, int userIdx, int footprintIdx) {
+        if (fileKeys.isEmpty()) {
+            return 0;
+        }
+        String claimQuery = "DELETE FROM PhotoUpload WHERE userIdx = ? AND footprintIdx = ? AND fileKey IN ("
+                + placeholders(fileKeys.size(), "?") + ")";
+        List<Object> params = new ArrayList<>();
+        params.add(userIdx);
+        params.add(footprintIdx);
+        params.addAll(fileKeys);
+        return jdbcTemplate.update(claimQuery, params.toArray());
+    }
+
+    // 등록하지 않고 만료된 사진 이름 (오래된 순, 정리하는 트랜잭션에서 잠금)
+    public List<String> findExpired(LocalDateTime createdBefore, int limit) {
+        String findQuery = "SELECT fileKey FROM PhotoUpload WHERE createAt < ? ORDER BY createAt LIMIT ? FOR UPDATE";
+        return jdbcTemplate.queryForList(findQuery, String.class, Timestamp.valueOf(createdBefore), limit);
+    }
+
+    public void delete(List<String> fileKeys) {
+        if (fileKeys.isEmpty()) {
+            return;
+        }
+        String deleteQuery = "DELETE FROM PhotoUpload WHERE fileKey IN (" + placeholders(fileKeys.size(), "?") + ")";
+        jdbcTemplate.update(deleteQuery, fileKeys.toArray());
+    }
+
+    private String placeholders(int count, String placeholder) {
+        return String.join(", ", Collections.nCopies(count, placeholder));
+    }
+}
@@ -14,15 +14,18 @@ public class GetFootprintRes {
     private LocalDateTime recordAt;
     private String write;
     private List<String> photoList;
+    // 목록 화면용 썸네일 (photoList 와 같은 순서, 썸네일이 없으면 원본 URL)
+    private List<String> thumbnailList;
     private List<String> tagList;
     private int onWalk;
 
     @Builder
-    public GetFootprintRes(int footprintIdx, LocalDateTime recordAt, String write, List<String> photoList, List<String> tagList, int onWalk) {
+    public GetFootprintRes(int footprintIdx, LocalDateTime recordAt, String write, List<String> photoList, List<String> thumbnailList, List<String> tagList, int onWalk) {
         this.footprintIdx = footprintIdx;
         this.recordAt = recordAt;
         this.write = write;
         this.photoList = photoList;
+        this.thumbnailList = thumbnailList;
         this.tagList = tagList;
         this.onWalk = onWalk;
     }
@@ -0,0 +1,20 @@
+package com.umc.footprint.src.footprints.model.dto;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class PatchFootprintPhotosReq {
+
+    @ApiModelProperty(value = "업로드한 사진 파일 키 (빈 리스트면 사진 모두 삭제)", name = "fileKeys", dataType = "List<String>", required = true, example = "[\"0f8fad5b-d9cb-469f-a165-70867728950e.jpg\"]")
+    private List<String> fileKeys;
+
+    @Builder
+    public PatchFootprintPhotosReq(List<String> fileKeys) {
+        this.fileKeys = fileKeys;
+    }
+}
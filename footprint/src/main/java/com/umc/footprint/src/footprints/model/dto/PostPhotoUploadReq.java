@@ -0,0 +1,20 @@
+package com.umc.footprint.src.footprints.model.dto;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class PostPhotoUploadReq {
+
+    @ApiModelProperty(value = "올릴 사진 파일 이름 (확장자 포함)", name = "fileNames", dataType = "List<String>", required = true, example = "[\"photo1.jpg\", \"photo2.png\"]")
+    private List<String> fileNames;
+
+    @Builder
+    public PostPhotoUploadReq(List<String> fileNames) {
+        this.fileNames = fileNames;
+    }
+}
@@ -0,0 +1,27 @@
+package com.umc.footprint.src.footprints.model.dto;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.*;
+
+import java.util.Map;
+
+@Getter
+@NoArgsConstructor
+public class PostPhotoUploadRes {
+
+    @ApiModelProperty(value = "사진 파일 키 (업로드 후 사진 등록 API 에 전달)", example = "0f8fad5b-d9cb-469f-a165-70867728950e.jpg")
+    private String fileKey;
+
+    @ApiModelProperty(value = "사진을 올릴 presigned PUT URL")
+    private String uploadUrl;
+
+    @ApiModelProperty(value = "PUT 요청에 함께 보내야 하는 헤더")
+    private Map<String, String> headers;
+
+    @Builder
+    public PostPhotoUploadRes(String fileKey, String uploadUrl, Map<String, String> headers) {
+        this.fileKey = fileKey;
+        this.uploadUrl = uploadUrl;
+        this.headers = headers;
+    }
+}
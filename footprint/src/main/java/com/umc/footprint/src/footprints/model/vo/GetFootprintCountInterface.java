@@ -1,6 +0,0 @@
-package com.umc.footprint.src.footprints.model.vo;
-
-public interface GetFootprintCountInterface {
-    int getDay();
-    int getWalkCount();
-}
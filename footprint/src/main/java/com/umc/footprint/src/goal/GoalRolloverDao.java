@@ -0,0 +1,106 @@
+package com.umc.footprint.src.goal;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * 월별 목표 이월 (GoalNext -> Goal, GoalDayNext -> GoalDay)
+ * 유저를 userIdx 순으로 나눠서 옮기고, 어디까지 옮겼는지 GoalRollover 에 남긴다.
+ * GoalRollover 행은 여러 서버 중 한 곳만 이월하도록 잠금(lockedBy, lockedUntil)으로도 쓴다.
+ *
+ * CREATE TABLE GoalRollover (
+ *     month CHAR(7) PRIMARY KEY,
+ *     lastUserIdx INT NOT NULL DEFAULT 0,
+ *     lockedBy VARCHAR(100) NULL,
+ *     lockedUntil DATETIME NULL,
+ *     finishAt DATETIME NULL,
+ *     createAt DATETIME NOT NULL,
+ *     updateAt DATETIME NOT NULL
+ * );
+ */
+@Repository
+public class GoalRolloverDao {
+
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public void setDataSource(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    // 이번 달 이월 기록 생성, 이미 있으면 그대로 둔다.
+    public void createRollover(String month) {
+        String createRolloverQuery = "INSERT IGNORE INTO GoalRollover (month, lastUserIdx, createAt, updateAt) VALUES (?, 0, now(), now())";
+        jdbcTemplate.update(createRolloverQuery, month);
+    }
+
+    /**
+     * 잠금 획득 (끝나지 않았고, 잠금이 없거나 만료됐거나 내 잠금일 때)
+     * 획득하면 lastUserIdx, 아니면 null
+     */
+    public Integer lock(String month, String owner, long lockSeconds) {
+        String lockQuery = "UPDATE GoalRollover SET lockedBy = ?, lockedUntil = now() + INTERVAL ? SECOND, updateAt = now() " +
+                "WHERE month = ? AND finishAt IS NULL AND (lockedBy IS NULL OR lockedBy = ? OR lockedUntil < now())";
+        if (jdbcTemplate.update(lockQuery, owner, lockSeconds, month, owner) == 0) {
+            return null;
+        }
+        return jdbcTemplate.queryForObject("SELECT lastUserIdx FROM GoalRollover WHERE month = ?", Integer.class, month);
+    }
+
+    // 이번 묶음의 마지막 userIdx, 남은 유저가 없으면 null
+    public Integer getChunkEnd(int lastUserIdx, int chunkSize) {
+        String getChunkEndQuery = "SELECT MAX(userIdx) FROM (SELECT userIdx FROM User WHERE userIdx > ? ORDER BY userIdx LIMIT ?) chunk";
+        return jdbcTemplate.queryForObject(getChunkEndQuery, Integer.class, lastUserIdx, chunkSize);
+    }
+
+    /**
+     * (fromUserIdx, toUserIdx] 유저의 다음 달 목표를 이번 달 목표로 복사
+     * 이번 달 목표가 이미 있는 유저(이월 후 가입 등)와 탈퇴 처리 중(INACTIVE)인 유저는 건너뛴다.
+     */
+    public int copyGoal(int fromUserIdx, int toUserIdx, LocalDateTime monthStart, LocalDateTime now) {
+        String copyGoalQuery = "INSERT INTO Goal (userIdx, walkGoalTime, walkTimeSlot, createAt, updateAt) " +
+                "SELECT N.userIdx, N.walkGoalTime, N.walkTimeSlot, ?, ? FROM GoalNext N " +
+                "INNER JOIN User U ON U.userIdx = N.userIdx AND U.status <> 'INACTIVE' " +
+                "WHERE N.userIdx > ? AND N.userIdx <= ? " +
+                "AND NOT EXISTS (SELECT 1 FROM Goal G WHERE G.userIdx = N.userIdx AND G.createAt >= ?)";
+        return jdbcTemplate.update(copyGoalQuery,
+                Timestamp.valueOf(now), Timestamp.valueOf(now), fromUserIdx, toUserIdx, Timestamp.valueOf(monthStart));
+    }
+
+    public int copyGoalDay(int fromUserIdx, int toUserIdx, LocalDateTime monthStart, LocalDateTime now) {
+        String copyGoalDayQuery = "INSERT INTO GoalDay (userIdx, sun, mon, tue, wed, thu, fri, sat, createAt, updateAt) " +
+                "SELECT N.userIdx, N.sun, N.mon, N.tue, N.wed, N.thu, N.fri, N.sat, ?, ? FROM GoalDayNext N " +
+                "INNER JOIN User U ON U.userIdx = N.userIdx AND U.status <> 'INACTIVE' " +
+                "WHERE N.userIdx > ? AND N.userIdx <= ? " +
+                "AND NOT EXISTS (SELECT 1 FROM GoalDay G WHERE G.userIdx = N.userIdx AND G.createAt >= ?)";
+        return jdbcTemplate.update(copyGoalDayQuery,
+                Timestamp.valueOf(now), Timestamp.valueOf(now), fromUserIdx, toUserIdx, Timestamp.valueOf(monthStart));
+    }
+
+    /**
+     * 진행 위치 저장 + 잠금 연장 (묶음과 같은 트랜잭션)
+     * 잠금을 잃었거나 다른 곳에서 위치가 바뀌었으면 false
+     */
+    public boolean saveCheckpoint(String month, String owner, int fromUserIdx, int toUserIdx, long lockSeconds) {
+        String saveCheckpointQuery = "UPDATE GoalRollover SET lastUserIdx = ?, lockedUntil = now() + INTERVAL ? SECOND, updateAt = now() " +
+                "WHERE month = ? AND lockedBy = ? AND lastUserIdx = ?";
+        return jdbcTemplate.update(saveCheckpointQuery, toUserIdx, lockSeconds, month, owner, fromUserIdx) == 1;
+    }
+
+    public void finish(String month, String owner) {
+        String finishQuery = "UPDATE GoalRollover SET finishAt = now(), lockedBy = NULL, lockedUntil = NULL, updateAt = now() " +
+                "WHERE month = ? AND lockedBy = ?";
+        jdbcTemplate.update(finishQuery, month, owner);
+    }
+
+    // 실패 시 잠금 해제 (다음 실행에서 lastUserIdx 부터 이어서 진행)
+    public void unlock(String month, String owner) {
+        String unlockQuery = "UPDATE GoalRollover SET lockedBy = NULL, lockedUntil = NULL, updateAt = now() WHERE month = ? AND lockedBy = ?";
+        jdbcTemplate.update(unlockQuery, month, owner);
+    }
+}
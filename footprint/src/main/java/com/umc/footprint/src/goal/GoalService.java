@@ -23,14 +23,17 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import static com.umc.footprint.config.BaseResponseStatus.NOT_EXIST_USER_IN_GOAL;
 
@@ -45,6 +48,16 @@ public class GoalService {
     private final GoalNextRepository goalNextRepository;
     private final GoalDayRepository goalDayRepository;
     private final GoalDayNextRepository goalDayNextRepository;
+    private final GoalRolloverDao goalRolloverDao;
+    private final TransactionTemplate transactionTemplate;
+
+    // 목표 이월 한 번에 처리할 유저 수
+    private static final int ROLLOVER_CHUNK_SIZE = 5000;
+    // 목표 이월 잠금 유지 시간(초), 묶음마다 연장
+    private static final long ROLLOVER_LOCK_SECONDS = 600;
+
+    // 목표 이월 잠금에 남기는 서버 식별자
+    private final String rolloverOwner = UUID.randomUUID().toString();
 
     @Transactional(propagation = Propagation.NESTED, rollbackFor = Exception.class)
     public void modifyGoalJPA(int userIdx, PatchUserGoalReq patchUserGoalReq) throws BaseException {
@@ -230,48 +243,6 @@ public class GoalService {
                 .build();
     }
 
-    // UserSchedule
-    // 유저 목표 최신화
-    // GoalNext -> Goal
-    public void updateGoal(){
-
-        // 1. GoalNext 테이블 전체 리스트 추출
-        List<GoalNext> entireGoalNext = goalNextRepository.findAll();
-
-        // 2. Goal 테이블에 1번 추출 결과물 삽입
-        for( GoalNext goalNext : entireGoalNext){
-            goalRepository.save(Goal.builder()
-                    .walkGoalTime(goalNext.getWalkGoalTime())
-                    .walkTimeSlot(goalNext.getWalkTimeSlot())
-                    .userIdx(goalNext.getUserIdx())
-                    .build());
-        }
-
-    }
-
-    // UserSchedule
-    // 유저 목표 요일 최신화
-    // GoalDayNext -> GoalDay
-    public void updateGoalDay(){
-
-        // 1. GoalDayNext 테이블 전체 리스트 추출
-        List<GoalDayNext> entireGoalDayNext = goalDayNextRepository.findAll();
-
-        // 2. GoalDay 테이블에 1번 추출 결과물 삽입
-        for( GoalDayNext goalDayNext : entireGoalDayNext){
-            goalDayRepository.save(GoalDay.builder()
-                    .mon(goalDayNext.getMon())
-                    .tue(goalDayNext.getTue())
-                    .wed(goalDayNext.getWed())
-                    .thu(goalDayNext.getThu())
-                    .fri(goalDayNext.getFri())
-                    .sat(goalDayNext.getSat())
-                    .sun(goalDayNext.getSun())
-                    .userIdx(goalDayNext.getUserIdx())
-                    .build());
-        }
-    }
-
     public List<String> getUserGoalDays(int userIdx, int year, int month) throws BaseException {
         GetGoalDays goalDay = new GetGoalDays(goalDayRepository.selectOnlyGoalDayByQuery(userIdx, year, month)
                 .orElseThrow(()->new BaseException(NOT_EXIST_USER_IN_GOAL)));
@@ -307,10 +278,46 @@ public class GoalService {
     }
 
 
-    @Transactional
-    @Scheduled(cron = "0 0 0 1 * ?")
-    public void changeMonthGoal(){
-        updateGoal();
-        updateGoalDay();
+    /**
+     * 월별 목표 이월 (GoalNext -> Goal, GoalDayNext -> GoalDay)
+     * 매달 1일 0시에 시작하고, 중간에 멈추면 매시 정각에 GoalRollover 의 lastUserIdx 부터 이어서 진행한다.
+     * 유저 ROLLOVER_CHUNK_SIZE 명씩 INSERT ... SELECT 로 옮기고 진행 위치와 함께 커밋한다.
+     * GoalRollover 잠금을 잡은 서버 한 곳만 진행한다.
+     */
+    @Scheduled(cron = "0 0 * * * ?")
+    public void changeMonthGoal() {
+        YearMonth yearMonth = YearMonth.now();
+        String month = yearMonth.toString();
+        LocalDateTime monthStart = yearMonth.atDay(1).atStartOfDay();
+
+        goalRolloverDao.createRollover(month);
+        Integer lastUserIdx = goalRolloverDao.lock(month, rolloverOwner, ROLLOVER_LOCK_SECONDS);
+        if (lastUserIdx == null) {
+            return;
+        }
+
+        try {
+            long copiedRows = 0;
+            Integer chunkEnd;
+            while ((chunkEnd = goalRolloverDao.getChunkEnd(lastUserIdx, ROLLOVER_CHUNK_SIZE)) != null) {
+                int fromUserIdx = lastUserIdx;
+                int toUserIdx = chunkEnd;
+                copiedRows += transactionTemplate.execute(status -> {
+                    LocalDateTime now = LocalDateTime.now();
+                    int rows = goalRolloverDao.copyGoal(fromUserIdx, toUserIdx, monthStart, now)
+                            + goalRolloverDao.copyGoalDay(fromUserIdx, toUserIdx, monthStart, now);
+                    if (!goalRolloverDao.saveCheckpoint(month, rolloverOwner, fromUserIdx, toUserIdx, ROLLOVER_LOCK_SECONDS)) {
+                        throw new IllegalStateException("목표 이월 잠금을 잃음 (" + month + ")");
+                    }
+                    return rows;
+                });
+                lastUserIdx = toUserIdx;
+            }
+            goalRolloverDao.finish(month, rolloverOwner);
+            log.info("{} 목표 이월 완료, {}행 (마지막 userIdx {})", month, copiedRows, lastUserIdx);
+        } catch (Exception exception) {
+            log.error("{} 목표 이월 실패, userIdx {} 이후부터 다시 진행", month, lastUserIdx, exception);
+            goalRolloverDao.unlock(month, rolloverOwner);
+        }
     }
 }
@@ -1,7 +1,5 @@
 package com.umc.footprint.src.notice;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.umc.footprint.config.BaseException;
 import com.umc.footprint.config.BaseResponse;
 import com.umc.footprint.src.notice.model.dto.*;
@@ -79,9 +77,7 @@ public class NoticeControllerV2 {
     @ApiImplicitParams({
             @ApiImplicitParam(name = "checkedKeyNoticeIdxList", value = "유저가 이미 확인한 주요 공지 인덱스 리스트", dataType = "List<Integer>", paramType = "body", required = true),
     })
-    public BaseResponse<PostKeyNoticeRes> postKeyNotice(@RequestBody String request) throws BaseException, JsonProcessingException {
-
-        PostKeyNoticeReq postKeyNoticeReq = new ObjectMapper().readValue(request, PostKeyNoticeReq.class);
+    public BaseResponse<PostKeyNoticeRes> postKeyNotice(@RequestBody PostKeyNoticeReq postKeyNoticeReq) throws BaseException {
 
         try{
 
@@ -1,7 +1,5 @@
 package com.umc.footprint.src.users;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.umc.footprint.config.BaseException;
 import com.umc.footprint.config.BaseResponse;
 import com.umc.footprint.config.BaseResponseStatus;
@@ -48,15 +46,12 @@ public class UserController {
      * 유저 로그인 API
      * [POST] /users/auth/login
      * @return PostLoginRes
-     * @throws JsonProcessingException
      */
     @ResponseBody
     @PostMapping("/auth/login")
     @ApiOperation(value = "로그인 및 회원가입", notes = "기존 회원은 로그인, 신규 회원은 회원 가입을 진행 (판별 기준은 이메일)")
     @ApiImplicitParam(name = "postLoginReq", value = "로그인 정보", required = true)
-    public BaseResponse<PostLoginRes> postUser(@RequestBody String request) throws JsonProcessingException {
-
-        PostLoginReq postLoginReq = new ObjectMapper().readValue(request, PostLoginReq.class);
+    public BaseResponse<PostLoginRes> postUser(@RequestBody PostLoginReq postLoginReq) {
 
         // 유저 id를 입력하지 않은 경우
         if (postLoginReq.getUserId().isEmpty()) {
@@ -196,9 +191,7 @@ public class UserController {
             @ApiImplicitParam(name = "walkGoalTime", value = "산책 목표 시간", dataType = "int", paramType = "body", required = true),
             @ApiImplicitParam(name = "walkTimeSlot", value = "산책 목표 시간대", dataType = "int", paramType = "body", required = true)
     })
-    public BaseResponse<String> modifyUserInfo(@RequestBody String request) throws JsonProcessingException {
-
-        PatchUserInfoReq patchUserInfoReq = new ObjectMapper().readValue(request, PatchUserInfoReq.class);
+    public BaseResponse<String> modifyUserInfo(@RequestBody PatchUserInfoReq patchUserInfoReq) {
 
         try {
             // userId(구글이나 카카오에서 보낸 ID) 추출 (복호화)
@@ -304,9 +297,7 @@ public class UserController {
             @ApiImplicitParam(name = "walkTimeSlot", value = "산책 목표 시간대", dataType = "int", paramType = "body", required = true),
             @ApiImplicitParam(name = "dayIdx", value = "산책 목표 요일 리스트", dataType = "List<Integer>", paramType = "body", required = true)
     })
-    public BaseResponse<String> modifyGoal(@RequestBody String request) throws JsonProcessingException {
-
-        PatchUserGoalReq patchUserGoalReq = new ObjectMapper().readValue(request, PatchUserGoalReq.class);
+    public BaseResponse<String> modifyGoal(@RequestBody PatchUserGoalReq patchUserGoalReq) {
 
         // Validaion 1. dayIdx 길이 확인
         if(patchUserGoalReq.getDayIdx().size() == 0) // 요일 0개 선택
@@ -490,9 +481,7 @@ public class UserController {
             @ApiImplicitParam(name = "walkGoalTime", value = "산책 목표 시간", dataType = "int", paramType = "body", required = true),
             @ApiImplicitParam(name = "walkTimeSlot", value = "산책 목표 시간대", dataType = "int", paramType = "body", required = true)
     })
-    public BaseResponse<String> postUserInfo(@RequestBody String request) throws JsonProcessingException {
-
-        PatchUserInfoReq patchUserInfoReq = new ObjectMapper().readValue(request, PatchUserInfoReq.class);
+    public BaseResponse<String> postUserInfo(@RequestBody PatchUserInfoReq patchUserInfoReq) {
 
         try {
             // userId(구글이나 카카오에서 보낸 ID) 추출 (복호화)
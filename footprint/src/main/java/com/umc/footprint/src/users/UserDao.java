@@ -2,7 +2,6 @@ package com.umc.footprint.src.users;
 
 
 import com.umc.footprint.config.BaseException;
-import com.umc.footprint.config.EncryptProperties;
 import com.umc.footprint.src.common.model.vo.Hashtag;
 import com.umc.footprint.src.goal.model.dto.GetUserGoalRes;
 import com.umc.footprint.src.goal.model.dto.PatchUserGoalReq;
@@ -13,8 +12,9 @@ import com.umc.footprint.src.users.model.dto.*;
 import com.umc.footprint.src.users.model.vo.ExistUser;
 import com.umc.footprint.src.users.model.vo.UserInfoAchieve;
 import com.umc.footprint.src.users.model.vo.UserInfoStat;
+import com.umc.footprint.src.users.model.vo.UserPurgeStep;
 import com.umc.footprint.src.walks.model.vo.UserDateWalk;
-import com.umc.footprint.utils.AES128;
+import com.umc.footprint.utils.CryptoService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.EmptyResultDataAccessException;
@@ -22,6 +22,7 @@ import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 import javax.sql.DataSource;
+import java.sql.Timestamp;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.time.LocalDateTime;
@@ -39,7 +40,7 @@ import static com.umc.footprint.config.BaseResponseStatus.*;
 @Repository
 public class UserDao {
     private JdbcTemplate jdbcTemplate;
-    private EncryptProperties encryptProperties;
+    private CryptoService cryptoService;
 
     @Autowired
     public void setDataSource(DataSource dataSource) {
@@ -47,8 +48,8 @@ public class UserDao {
     }
 
     @Autowired
-    public UserDao(EncryptProperties encryptProperties){
-        this.encryptProperties = encryptProperties;
+    public UserDao(CryptoService cryptoService){
+        this.cryptoService = cryptoService;
     }
 
     /*
@@ -145,12 +146,12 @@ public class UserDao {
 
         try {
             for (UserDateWalk walk : userDateWalkInfo) {
-                walk.setDecryptedPathImageUrl(new AES128(encryptProperties.getKey()).decrypt(walk.getPathImageUrl()));
+                walk.setDecryptedPathImageUrl(cryptoService.decrypt(walk.getPathImageUrl()));
                 hashtagList.add(new ArrayList<>());
                 for (Hashtag tag : entireHashtag) {
                     if (walk.getWalkIdx() == tag.getWalkIdx()) {
                         // hashtagList.get(hashtagList.size() - 1).add(tag.getHashtag());
-                        hashtagList.get(hashtagList.size() - 1).add(new AES128(encryptProperties.getKey()).decrypt(tag.getHashtag()));
+                        hashtagList.get(hashtagList.size() - 1).add(cryptoService.decrypt(tag.getHashtag()));
                     }
                 }
                 getUserDateRes.add(new GetUserDateRes(walk, hashtagList.get(hashtagList.size() - 1)));
@@ -676,7 +677,8 @@ public class UserDao {
     public int modifyUserInfo(int userIdx, PatchUserInfoReq patchUserInfoReq) {
 
         log.debug("userIdx: {}", userIdx);
-        String patchUserInfoQuery = "UPDATE User SET nickname = ?, birth = ?, sex = ?, height = ?, weight = ?, status = ? WHERE userIdx = ?";
+        // 탈퇴 처리 중(INACTIVE)인 유저는 다시 활성화하지 않음
+        String patchUserInfoQuery = "UPDATE User SET nickname = ?, birth = ?, sex = ?, height = ?, weight = ?, status = ? WHERE userIdx = ? AND status <> 'INACTIVE'";
         Object[] patchUserInfoParams = new Object[]{patchUserInfoReq.getNickname(), patchUserInfoReq.getBirth(), patchUserInfoReq.getSex(),
                 patchUserInfoReq.getHeight(), patchUserInfoReq.getWeight(), "ACTIVE",userIdx};
 
@@ -918,89 +920,109 @@ public class UserDao {
         return result;
     }
 
-    //GoalNext 테이블에서 해당 사용자의 목표 삭제 메소드
-    public void deleteGoalNext(int userIdx) {
-        String delGoalNextQuery="delete from GoalNext where userIdx=?;";
-        this.jdbcTemplate.update(delGoalNextQuery,userIdx);
+    //Photo 테이블에서 사용자의 사진 url을 반환하는 메소드
+    public List<String> getImageUrlList(int userIdx) {
+        //s3에서 이미지 url 먼저 삭제하기 위해 imageUrl 리스트로 반환
+        String getImageUrlQuery = "select imageUrl from Photo where userIdx=?;";
+        List<String> imageUrlList = jdbcTemplate.queryForList(getImageUrlQuery, String.class, userIdx);
+        return imageUrlList;
     }
 
-    //Goal 테이블에서 해당 사용자의 목표 삭제 메소드
-    public void deleteGoal(int userIdx) {
-        String delGoalQuery="delete from Goal where userIdx=?;";
-        this.jdbcTemplate.update(delGoalQuery,userIdx);
+    //Walk 테이블에서 사용자의 사진 url을 반환하는 메소드
+    public List<String> getPathImageUrlList(int userIdx) {
+        //s3에서 이미지 url 먼저 삭제하기 위해 imageUrl 리스트로 반환
+        String getPathImageUrlQuery = "select pathImageUrl from Walk where userIdx=? and status = 'ACTIVE';";
+        List<String> pathImageUrlList = jdbcTemplate.queryForList(getPathImageUrlQuery, String.class, userIdx);
+        return pathImageUrlList;
     }
 
-    //GoalDayNext 테이블에서 해당 사용자의 목표 삭제 메소드
-    public void deleteGoalDayNext(int userIdx) {
-        String delGoalDayNextQuery="delete from GoalDayNext where userIdx=?;";
-        this.jdbcTemplate.update(delGoalDayNextQuery,userIdx);
-    }
+    /*
+    *** 탈퇴 유저 데이터 삭제 (UserPurgeService)
+    * UserPurgeStep 마다 PK 순으로 묶어서 지운다. 진행 상황은 UserPurge 테이블에 남긴다.
+    *
+    * CREATE TABLE UserPurge (
+    *     userIdx INT PRIMARY KEY,
+    *     step VARCHAR(30) NOT NULL,
+    *     deletedRows BIGINT NOT NULL DEFAULT 0,
+    *     createAt DATETIME NOT NULL,
+    *     updateAt DATETIME NOT NULL,
+    *     KEY idx_user_purge_update (updateAt)
+    * );
+    * */
 
-    //GoalDay 테이블에서 해당 사용자의 목표 삭제 메소드
-    public void deleteGoalDay(int userIdx) {
-        String delGoalDayQuery="delete from GoalDay where userIdx=?;";
-        this.jdbcTemplate.update(delGoalDayQuery,userIdx);
-    }
-    //UserBadge 테이블에서 해당 사용자의 뱃지 삭제 메소드
-    public void deleteUserBadge(int userIdx) {
-        String delUserBadgeQuery="delete from UserBadge where userIdx=?;";
-        this.jdbcTemplate.update(delUserBadgeQuery,userIdx);
+    // 탈퇴 유저 비활성화, 데이터를 지우기 전에 커밋해서 새 요청(JwtService)과 목표 이월이 유저를 건너뛰게 한다.
+    public void deactivateUser(int userIdx) {
+        String deactivateUserQuery = "UPDATE User SET status = 'INACTIVE' WHERE userIdx = ?;";
+        this.jdbcTemplate.update(deactivateUserQuery, userIdx);
     }
 
-    // Tag 테이블에서 해당 사용자의 태그 삭제 메소드
-    public void deleteTag(int userIdx) {
-        String delTagQuery="delete from Tag where userIdx=?;";
-        this.jdbcTemplate.update(delTagQuery,userIdx);
+    // 삭제 시작 기록, 이미 기록이 있으면 false
+    public boolean startPurge(int userIdx, UserPurgeStep step) {
+        String startPurgeQuery = "INSERT IGNORE INTO UserPurge (userIdx, step, deletedRows, createAt, updateAt) VALUES (?, ?, 0, now(), now());";
+        return this.jdbcTemplate.update(startPurgeQuery, userIdx, step.name()) == 1;
     }
 
-    //Photo 테이블에서 해당 사용자의 사진 삭제 메소드
-    public void deletePhoto(int userIdx) {
-        //Photo 테이블에서 해당 사용자의 사진 모두 삭제
-        String delPhotoQuery="delete from Photo where userIdx=?;";
-        this.jdbcTemplate.update(delPhotoQuery,userIdx);
+    // 멈춘(updateAt 이 staleBefore 이전) 삭제 가져오기, 다른 곳에서 진행 중이면 false
+    public boolean claimPurge(int userIdx, LocalDateTime staleBefore) {
+        String claimPurgeQuery = "UPDATE UserPurge SET updateAt = now() WHERE userIdx = ? AND updateAt < ?;";
+        return this.jdbcTemplate.update(claimPurgeQuery, userIdx, Timestamp.valueOf(staleBefore)) == 1;
     }
 
-    //Photo 테이블에서 사용자의 사진 url을 반환하는 메소드
-    public List<String> getImageUrlList(int userIdx) {
-        //s3에서 이미지 url 먼저 삭제하기 위해 imageUrl 리스트로 반환
-        String getImageUrlQuery = "select imageUrl from Photo where userIdx=?;";
-        List<String> imageUrlList = jdbcTemplate.queryForList(getImageUrlQuery, String.class, userIdx);
-        return imageUrlList;
+    public List<Integer> getStalePurges(LocalDateTime staleBefore) {
+        String getStalePurgesQuery = "SELECT userIdx FROM UserPurge WHERE updateAt < ? ORDER BY updateAt;";
+        return this.jdbcTemplate.queryForList(getStalePurgesQuery, Integer.class, Timestamp.valueOf(staleBefore));
     }
 
-    // Footprint 테이블에서 해당 사용자의 산책일기 삭제
-    public void deleteFootprint(int userIdx) {
-        //userIdx로 walkIdx 추출
-        String getWalkIdxQuery = "select walkIdx from Walk where userIdx=?;";
-        List<Integer> walkIdxList = jdbcTemplate.queryForList(getWalkIdxQuery, int.class, userIdx);
-
-        //해당 walkIdx에 해당하는 발자국 모두 삭제
-        String delFootprintQuery="delete from Footprint where walkIdx=?;";
-        for(int walkIdx : walkIdxList) {
-            this.jdbcTemplate.update(delFootprintQuery,walkIdx);
-        }
+    // 진행 중인 단계, 기록이 없으면 null
+    public UserPurgeStep getPurgeStep(int userIdx) {
+        String getPurgeStepQuery = "SELECT step FROM UserPurge WHERE userIdx = ?;";
+        List<String> stepList = this.jdbcTemplate.queryForList(getPurgeStepQuery, String.class, userIdx);
+        return stepList.isEmpty() ? null : UserPurgeStep.valueOf(stepList.get(0));
     }
 
-    // Walk 테이블에서 해당 사용자의 산책 기록 삭제
-    public void deleteWalk(int userIdx) {
-        String delWalkQuery="delete from Walk where userIdx=?;";
-        this.jdbcTemplate.update(delWalkQuery,userIdx);
+    // 진행 상황 기록 (updateAt 도 갱신해서 진행 중임을 알린다)
+    public void updatePurge(int userIdx, UserPurgeStep step, int deletedRows) {
+        String updatePurgeQuery = "UPDATE UserPurge SET step = ?, deletedRows = deletedRows + ?, updateAt = now() WHERE userIdx = ?;";
+        this.jdbcTemplate.update(updatePurgeQuery, step.name(), deletedRows, userIdx);
     }
 
-    //Walk 테이블에서 사용자의 사진 url을 반환하는 메소드
-    public List<String> getPathImageUrlList(int userIdx) {
-        //s3에서 이미지 url 먼저 삭제하기 위해 imageUrl 리스트로 반환
-        String getPathImageUrlQuery = "select pathImageUrl from Walk where userIdx=? and status = 'ACTIVE';";
-        List<String> pathImageUrlList = jdbcTemplate.queryForList(getPathImageUrlQuery, String.class, userIdx);
-        return pathImageUrlList;
+    public void finishPurge(int userIdx) {
+        String finishPurgeQuery = "DELETE FROM UserPurge WHERE userIdx = ?;";
+        this.jdbcTemplate.update(finishPurgeQuery, userIdx);
     }
 
-    // User 테이블에서 해당 사용자 삭제
-    public void deleteUser(int userIdx) {
-        String delUserQuery="delete from User where userIdx=?;";
-        this.jdbcTemplate.update(delUserQuery,userIdx);
+    // 이번 묶음의 마지막 PK, 남은 행이 없으면 null
+    public Integer getPurgeChunkEnd(UserPurgeStep step, int userIdx, int chunkSize) {
+        String getChunkEndQuery = "SELECT MAX(" + step.getPrimaryKey() + ") FROM (SELECT " + step.getPrimaryKey()
+                + " FROM " + step.getTable() + " WHERE " + step.getCondition()
+                + " ORDER BY " + step.getPrimaryKey() + " LIMIT ?) chunk;";
+        return this.jdbcTemplate.queryForObject(getChunkEndQuery, Integer.class, userIdx, chunkSize);
     }
 
+    // 묶음 안의 S3 파일 URL (암호화된 값)
+    public List<String> getPurgeFileUrls(UserPurgeStep step, int userIdx, int chunkEnd) {
+        List<String> urlList = new ArrayList<>();
+        if (step.getFileColumns().isEmpty()) {
+            return urlList;
+        }
+        String getFileUrlsQuery = "SELECT " + String.join(", ", step.getFileColumns())
+                + " FROM " + step.getTable() + " WHERE " + step.getCondition()
+                + " AND " + step.getPrimaryKey() + " <= ?;";
+        this.jdbcTemplate.query(getFileUrlsQuery, rs -> {
+            for (String column : step.getFileColumns()) {
+                String url = rs.getString(column);
+                if (url != null) {
+                    urlList.add(url);
+                }
+            }
+        }, userIdx, chunkEnd);
+        return urlList;
+    }
 
-
+    // 묶음 삭제, 지운 행 수 반환
+    public int deletePurgeChunk(UserPurgeStep step, int userIdx, int chunkEnd) {
+        String deleteChunkQuery = "DELETE FROM " + step.getTable() + " WHERE " + step.getCondition()
+                + " AND " + step.getPrimaryKey() + " <= ?;";
+        return this.jdbcTemplate.update(deleteChunkQuery, userIdx, chunkEnd);
+    }
 }
@@ -0,0 +1,138 @@
+package com.umc.footprint.src.users;
+
+import com.umc.footprint.src.common.S3DeleteOutboxDao;
+import com.umc.footprint.src.users.model.vo.UserPurgeStep;
+import com.umc.footprint.utils.AuthUserCache;
+import com.umc.footprint.utils.CryptoService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.GeneralSecurityException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 탈퇴한 유저 데이터 삭제
+ * - 지우기 전에 User 를 INACTIVE 로 바꿔 커밋하고 이 서버에 캐시된 토큰을 지운다. (목표 이월이 유저를 건너뜀)
+ *   다른 서버는 캐시된 토큰으로 읽기 요청을 계속 받을 수 있지만, 쓰기 요청은 JwtService 가 User.status 를 다시 확인해서 막는다.
+ * - UserPurgeStep 순서대로 테이블마다 PK 순으로 chunkSize 행씩 지우고, 묶음마다 커밋한다. (잠금과 undo 를 작게 유지)
+ * - 진행 상황(단계, 지운 행 수)은 UserPurge 테이블에 남기고, 중간에 멈추면 resumeStalePurges 가 첫 단계부터 다시 지운다.
+ *   (비활성화 직전에 처리 중이던 요청이 이미 지운 테이블에 행을 넣었어도 다시 지워서 User 삭제가 외래 키에 막히지 않음)
+ * - S3 파일은 묶음과 같은 트랜잭션에서 S3DeleteOutbox 에 넣는다.
+ */
+@Slf4j
+@Service
+public class UserPurgeService {
+
+    private final UserDao userDao;
+    private final S3DeleteOutboxDao s3DeleteOutboxDao;
+    private final CryptoService cryptoService;
+    private final AuthUserCache authUserCache;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final long staleMinutes;
+
+    public UserPurgeService(UserDao userDao,
+                            S3DeleteOutboxDao s3DeleteOutboxDao,
+                            CryptoService cryptoService,
+                            AuthUserCache authUserCache,
+                            TransactionTemplate transactionTemplate,
+                            @Value("${user.purge.chunk-size:5000}") int chunkSize,
+                            @Value("${user.purge.stale-minutes:10}") long staleMinutes) {
+        this.userDao = userDao;
+        this.s3DeleteOutboxDao = s3DeleteOutboxDao;
+        this.cryptoService = cryptoService;
+        this.authUserCache = authUserCache;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.staleMinutes = staleMinutes;
+    }
+
+    /**
+     * 유저 데이터 모두 삭제
+     * 다른 곳에서 같은 유저를 삭제하고 있으면 그대로 반환하고, 실패하면 남은 데이터는 resumeStalePurges 가 지운다.
+     */
+    public void purge(int userIdx) {
+        deactivate(userIdx);
+        if (!userDao.startPurge(userIdx, UserPurgeStep.values()[0]) && !userDao.claimPurge(userIdx, staleBefore())) {
+            log.info("유저 {} 데이터 삭제가 이미 진행 중", userIdx);
+            return;
+        }
+        run(userIdx);
+    }
+
+    // 멈춘 삭제 이어서 진행
+    @Scheduled(initialDelay = 60_000, fixedDelayString = "${user.purge.resume-delay-millis:600000}")
+    public void resumeStalePurges() {
+        for (Integer userIdx : userDao.getStalePurges(staleBefore())) {
+            if (!userDao.claimPurge(userIdx, staleBefore())) {
+                continue;
+            }
+            try {
+                log.info("유저 {} 데이터 삭제 재개 ({}), 첫 단계부터 다시 진행", userIdx, userDao.getPurgeStep(userIdx));
+                deactivate(userIdx);
+                userDao.updatePurge(userIdx, UserPurgeStep.values()[0], 0);
+                run(userIdx);
+            } catch (Exception exception) {
+                log.error("유저 {} 데이터 삭제 실패", userIdx, exception);
+            }
+        }
+    }
+
+    // 삭제 전 비활성화 (커밋 후 캐시 제거)
+    private void deactivate(int userIdx) {
+        userDao.deactivateUser(userIdx);
+        authUserCache.evict(userIdx);
+    }
+
+    private void run(int userIdx) {
+        UserPurgeStep step = userDao.getPurgeStep(userIdx);
+        while (step != null) {
+            UserPurgeStep currentStep = step;
+            long deletedRows = 0;
+            int chunkRows;
+            do {
+                chunkRows = transactionTemplate.execute(status -> deleteChunk(currentStep, userIdx));
+                deletedRows += chunkRows;
+            } while (chunkRows > 0);
+            log.info("유저 {} 데이터 삭제 {}: {}행", userIdx, currentStep.getTable(), deletedRows);
+
+            step = currentStep.next();
+            if (step != null) {
+                userDao.updatePurge(userIdx, step, 0);
+            }
+        }
+        userDao.finishPurge(userIdx);
+    }
+
+    // 한 묶음 삭제, 남은 행이 없으면 0
+    private int deleteChunk(UserPurgeStep step, int userIdx) {
+        Integer chunkEnd = userDao.getPurgeChunkEnd(step, userIdx, chunkSize);
+        if (chunkEnd == null) {
+            return 0;
+        }
+
+        List<String> fileKeyList = new ArrayList<>();
+        for (String encryptedUrl : userDao.getPurgeFileUrls(step, userIdx, chunkEnd)) {
+            try {
+                String decryptedUrl = cryptoService.decrypt(encryptedUrl);
+                fileKeyList.add(decryptedUrl.substring(decryptedUrl.lastIndexOf("/") + 1)); // 파일 이름만 자르기
+            } catch (GeneralSecurityException exception) {
+                log.warn("유저 {} 파일 URL 복호화 실패, S3 삭제 생략", userIdx);
+            }
+        }
+        s3DeleteOutboxDao.insert(fileKeyList);
+
+        int deletedRows = userDao.deletePurgeChunk(step, userIdx, chunkEnd);
+        userDao.updatePurge(userIdx, step, deletedRows);
+        return deletedRows;
+    }
+
+    private LocalDateTime staleBefore() {
+        return LocalDateTime.now().minusMinutes(staleMinutes);
+    }
+}
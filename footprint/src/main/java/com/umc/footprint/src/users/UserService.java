@@ -1,43 +1,35 @@
 package com.umc.footprint.src.users;
 
 import com.umc.footprint.config.BaseException;
-import com.umc.footprint.config.EncryptProperties;
-import com.umc.footprint.src.AwsS3Service;
 import com.umc.footprint.src.badge.model.Badge;
 import com.umc.footprint.src.badge.model.BadgeRepository;
 import com.umc.footprint.src.badge.model.UserBadge;
 import com.umc.footprint.src.badge.model.UserBadgeRepository;
-import com.umc.footprint.src.common.model.entity.Photo;
 import com.umc.footprint.src.common.model.entity.Tag;
-import com.umc.footprint.src.common.model.vo.WalkHashtag;
+import com.umc.footprint.src.common.TagSearchIndex;
 import com.umc.footprint.src.common.repository.HashtagRepository;
-import com.umc.footprint.src.common.repository.PhotoRepository;
 import com.umc.footprint.src.common.repository.TagRepository;
 import com.umc.footprint.src.footprints.model.dto.GetFootprintCount;
 import com.umc.footprint.src.footprints.model.entity.Footprint;
-import com.umc.footprint.src.footprints.repository.FootprintRepository;
 import com.umc.footprint.src.goal.GoalService;
 import com.umc.footprint.src.goal.model.entity.Goal;
 import com.umc.footprint.src.goal.model.entity.GoalDay;
-import com.umc.footprint.src.goal.model.entity.GoalDayNext;
-import com.umc.footprint.src.goal.model.entity.GoalNext;
-import com.umc.footprint.src.goal.repository.GoalDayNextRepository;
 import com.umc.footprint.src.goal.repository.GoalDayRepository;
-import com.umc.footprint.src.goal.repository.GoalNextRepository;
 import com.umc.footprint.src.goal.repository.GoalRepository;
 import com.umc.footprint.src.users.model.dto.*;
 import com.umc.footprint.src.users.model.entity.User;
-import com.umc.footprint.src.users.model.vo.GetDayRateResInterface;
 import com.umc.footprint.src.users.model.vo.GetMonthTotal;
 import com.umc.footprint.src.users.model.vo.UserInfoAchieve;
 import com.umc.footprint.src.users.model.vo.UserInfoStat;
-import com.umc.footprint.src.footprints.model.vo.GetFootprintCountInterface;
-import com.umc.footprint.src.goal.model.vo.GetMonthTotalInterface;
 import com.umc.footprint.src.users.repository.UserRepository;
+import com.umc.footprint.src.walks.WalkOrdinalCache;
 import com.umc.footprint.src.walks.model.entity.Walk;
+import com.umc.footprint.src.walks.model.entity.WalkDailyRollup;
 import com.umc.footprint.src.walks.model.vo.UserDateWalk;
+import com.umc.footprint.src.walks.repository.WalkDailyRollupRepository;
 import com.umc.footprint.src.walks.repository.WalkRepository;
-import com.umc.footprint.utils.AES128;
+import com.umc.footprint.utils.AuthUserCache;
+import com.umc.footprint.utils.CryptoService;
 import com.umc.footprint.utils.JwtService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -63,17 +55,17 @@ public class UserService {
     private final TagRepository tagRepository;
     private final WalkRepository walkRepository;
     private final JwtService jwtService;
-    private final AwsS3Service awsS3Service;
+    private final UserPurgeService userPurgeService;
     private final GoalService goalService;
-    private final EncryptProperties encryptProperties;
+    private final CryptoService cryptoService;
     private final GoalRepository goalRepository;
-    private final GoalNextRepository goalNextRepository;
     private final GoalDayRepository goalDayRepository;
-    private final GoalDayNextRepository goalDayNextRepository;
     private final BadgeRepository badgeRepository;
     private final UserBadgeRepository userBadgeRepository;
-    private final PhotoRepository photoRepository;
-    private final FootprintRepository footprintRepository;
+    private final WalkOrdinalCache walkOrdinalCache;
+    private final WalkDailyRollupRepository walkDailyRollupRepository;
+    private final TagSearchIndex tagSearchIndex;
+    private final AuthUserCache authUserCache;
 
 
     // 해당 유저의 산책기록 중 태그를 포함하는 산책기록 조회
@@ -81,70 +73,57 @@ public class UserService {
         try {
             Integer userIdx = userRepository.findByUserId(userId).getUserIdx();
 
-            // 2. 태그 검색
-            List<WalkHashtag> walkAndHashtagList = tagRepository.findAllWalkAndHashtag(tag, userIdx);
-
-            // 3. 추출한 값으로 response 객체 초기화
-            Set<String> dateSet = new HashSet<>();
-            // 날짜만 추출
-            for (WalkHashtag walkHashtag : walkAndHashtagList) {
-                dateSet.add(
-                        // 날짜 + 요일 ex) 2022. 5. 8 일
-                        walkHashtag.getEndAt().format(DateTimeFormatter.ofPattern("yyyy.MM.dd")).replace(".0", ". ")
-                                + " " + walkHashtag.getEndAt().getDayOfWeek().getDisplayName(TextStyle.NARROW, Locale.KOREAN)
-                );
+            // 2. 태그 검색 (walkIdx -> 해당 산책의 해시태그 목록)
+            Map<Integer, List<String>> searchedWalks = tagSearchIndex.search(userIdx, tag);
+            if (searchedWalks.isEmpty()) {
+                return new ArrayList<>();
             }
 
-            List<Integer> allByUserIdx = walkRepository.findAllByUserIdxAndStatusOrderByWalkIdx(userIdx, "ACTIVE").stream().map(Walk::getWalkIdx).collect(Collectors.toList());
+            // 검색 인덱스가 오래됐을 수 있으므로 이 유저의 ACTIVE 산책만
+            List<Walk> searchedWalkList = walkRepository.findAllById(searchedWalks.keySet());
+            searchedWalkList.removeIf(walk -> walk.getUserIdx() != userIdx.intValue() || !"ACTIVE".equals(walk.getStatus()));
+            searchedWalkList.sort(Comparator.comparing(Walk::getEndAt).reversed());
+
+            // walkIdx -> n번째 산책 (캐시에 없는 산책이 있으면 캐시가 오래된 것이므로 다시 적재)
+            Map<Integer, Integer> walkNumberMap = getWalkNumberMap(userIdx);
+            for (Walk walk : searchedWalkList) {
+                if (!walkNumberMap.containsKey(walk.getWalkIdx())) {
+                    walkOrdinalCache.evict(userIdx);
+                    walkNumberMap = getWalkNumberMap(userIdx);
+                    break;
+                }
+            }
+
+            // 3. 날짜에 따라 분류 (최근 날짜 순)
+            Map<String, List<GetUserDateRes>> walksByDate = new LinkedHashMap<>();
+            for (Walk walk : searchedWalkList) {
+                // 날짜 + 요일 ex) 2022. 5. 8 일
+                String walkDate = walk.getEndAt().format(DateTimeFormatter.ofPattern("yyyy.MM.dd")).replace(".0", ". ")
+                        + " " + walk.getEndAt().getDayOfWeek().getDisplayName(TextStyle.NARROW, Locale.KOREAN);
+
+                walksByDate.computeIfAbsent(walkDate, date -> new ArrayList<>()).add(
+                        GetUserDateRes.builder()
+                                // 산책 정보
+                                .userDateWalk(
+                                        UserDateWalk.builder()
+                                                .walkIdx(walkNumberMap.getOrDefault(walk.getWalkIdx(), 0))
+                                                .startTime(walk.getStartAt().format(DateTimeFormatter.ofPattern("HH:mm")))
+                                                .endTime(walk.getEndAt().format(DateTimeFormatter.ofPattern("HH:mm")))
+                                                .pathImageUrl(cryptoService.decrypt(walk.getPathImageUrl()))
+                                                .build()
+                                )
+                                .hashtag(new ArrayList<>(searchedWalks.get(walk.getWalkIdx())))
+                                .build()
+                );
+            }
 
             // response 객체
             List<GetTagRes> getTagResList = new ArrayList<>();
-            // response 객체에 저장된 walkIdx (중복 저장 확인용)
-            List<Integer> responseWalkIdxList = new ArrayList<>();
-
-            // 날짜에 따라 분류
-            for (String date : dateSet) {
-                // walk 정보 + hashtag 리스트
-                Set<GetUserDateRes> searchWalkSet = new HashSet<>();
-
-                for (WalkHashtag walkHashtag : walkAndHashtagList) {
-                    // 날짜 + 요일 ex) 2022. 5. 8 일
-                    String walkDate = walkHashtag.getEndAt().format(DateTimeFormatter.ofPattern("yyyy.MM.dd")).replace(".0", ". ")
-                            + " " + walkHashtag.getEndAt().getDayOfWeek().getDisplayName(TextStyle.NARROW, Locale.KOREAN);
-                    // 날짜 같은 경우만 response 객체에 삽입 && response에 중복된 산책이 없어야함
-                    if (date.equals(walkDate) && responseWalkIdxList.indexOf(walkHashtag.getWalkIdx()) == -1) {
-                        // hashtag 리스트
-                        List<String> hashtagList = new ArrayList<>();
-                        for (WalkHashtag hashtag : walkAndHashtagList) {
-                            // 동일한 산책에 있는 지 확인
-                            if (walkHashtag.getWalkIdx().equals(hashtag.getWalkIdx())) {
-                                hashtagList.add(hashtag.getHashtag());
-                            }
-                        }
-
-
-                        searchWalkSet.add(
-                                GetUserDateRes.builder()
-                                        // 산책 정보
-                                        .userDateWalk(
-                                                UserDateWalk.builder()
-                                                        .walkIdx(allByUserIdx.indexOf(walkHashtag.getWalkIdx()) + 1)
-                                                        .startTime(walkHashtag.getStartAt().format(DateTimeFormatter.ofPattern("HH:mm")))
-                                                        .endTime(walkHashtag.getEndAt().format(DateTimeFormatter.ofPattern("HH:mm")))
-                                                        .pathImageUrl(new AES128(encryptProperties.getKey()).decrypt(walkHashtag.getPathImageUrl()))
-                                                        .build()
-                                        )
-                                        .hashtag(hashtagList)
-                                        .build()
-                        );
-                        responseWalkIdxList.add(walkHashtag.getWalkIdx());
-                    }
-                }
-
+            for (Map.Entry<String, List<GetUserDateRes>> entry : walksByDate.entrySet()) {
                 getTagResList.add(
                         GetTagRes.builder()
-                                .walkAt(date)
-                                .walks(new ArrayList<>(searchWalkSet))
+                                .walkAt(entry.getKey())
+                                .walks(entry.getValue())
                                 .build()
                 );
             }
@@ -156,6 +135,16 @@ public class UserService {
         }
     }
 
+    // walkIdx -> n번째 산책
+    private Map<Integer, Integer> getWalkNumberMap(int userIdx) {
+        int[] walkIdxes = walkOrdinalCache.getWalkIdxes(userIdx);
+        Map<Integer, Integer> walkNumberMap = new HashMap<>();
+        for (int i = 0; i < walkIdxes.length; i++) {
+            walkNumberMap.put(walkIdxes[i], i + 1);
+        }
+        return walkNumberMap;
+    }
+
     // 유저 정보 수정(Patch)
     @Transactional(propagation = Propagation.NESTED, rollbackFor = Exception.class)
     public void modifyUserInfoJPA(String userId, PatchUserInfoReq patchUserInfoReq) throws BaseException {
@@ -185,6 +174,8 @@ public class UserService {
         try {
             int resultInfo = userDao.modifyUserInfo(userIdx, patchUserInfoReq);
             log.debug("resultInfo: {}", resultInfo);
+            // status 변경 (ONGOING -> ACTIVE)
+            authUserCache.evict(userIdx);
 
             // 요일별 인덱스 차이 해결을 위한 임시 코드
             List<Integer> dayIdxList = new ArrayList<>();
@@ -248,7 +239,7 @@ public class UserService {
     public PostLoginRes postUserLogin(PostLoginReq postLoginReq) throws BaseException {
         // email 중복 확인 있으면 status에 Done 넣고 return
         try {
-            String encryptEmail = new AES128(encryptProperties.getKey()).encrypt(postLoginReq.getEmail());
+            String encryptEmail = cryptoService.encrypt(postLoginReq.getEmail());
             PostLoginRes result = checkEmail(encryptEmail);
             log.debug("유저의 status: {}", result.getStatus());
             // status: NONE -> 회원가입(유저 정보 db에 등록 필요)
@@ -259,7 +250,7 @@ public class UserService {
                     // 암호화
                     String jwt = jwtService.createJwt(postLoginReq.getUserId());
                     // 유저 정보 db에 등록
-                    postLoginReq.setEncryptedInfos(new AES128(encryptProperties.getKey()).encrypt(postLoginReq.getUsername()), encryptEmail);
+                    postLoginReq.setEncryptedInfos(cryptoService.encrypt(postLoginReq.getUsername()), encryptEmail);
                     userRepository.save(postLoginReq.toUserEntity());
                     userBadgeRepository.save(
                             UserBadge.builder()
@@ -314,85 +305,24 @@ public class UserService {
         }
     }
 
-    @Transactional(propagation = Propagation.NESTED, rollbackFor = Exception.class)
+    /**
+     * 회원 탈퇴
+     * 유저를 먼저 비활성화하고, 데이터는 UserPurgeService 가 테이블마다 나눠서 지운다. (묶음마다 커밋, 실패하면 다시 삭제)
+     */
     public void deleteUser(String userId) throws BaseException {
+        int userIdx = getUserIdxByUserId(userId);
         try {
-            int userIdx = getUserIdxByUserId(userId);
-            // GoalNext 테이블
-            Optional<GoalNext> goalNext = goalNextRepository.findByUserIdx(userIdx);
-            goalNextRepository.deleteById(goalNext.get().getPlanIdx());
-
-            // GoalDayNext 테이블
-            Optional<GoalDayNext> goalDayNext = goalDayNextRepository.findByUserIdx(userIdx);
-            goalDayNextRepository.deleteById(goalDayNext.get().getPlanIdx());
-
-            // Goal 테이블
-            List<Goal> goalList = goalRepository.findByUserIdx(userIdx);
-            for (Goal goal : goalList) {
-                goalRepository.deleteById(goal.getPlanIdx());
-            }
-
-            // GoalDay 테이블
-            List<GoalDay> goalDayList = goalDayRepository.findByUserIdx(userIdx);
-            for (GoalDay goalDay : goalDayList) {
-                goalDayRepository.deleteById(goalDay.getPlanIdx());
-            }
-
-            // UserBadge 테이블
-            List<UserBadge> userBadgeList = userBadgeRepository.findAllByUserIdx(userIdx);
-            for (UserBadge userBadge : userBadgeList) {
-                userBadgeRepository.deleteById(userBadge.getCollectionIdx());
-            }
-
-            // Tag 테이블
-            List<Tag> tagList = tagRepository.findAllByUserIdx(userIdx);
-            for (Tag tag : tagList) {
-                tagRepository.deleteById(tag.getTagIdx());
-            }
-
-            // Photo 테이블 -> s3에서 이미지 url 먼저 삭제 후 테이블 삭제 필요
-            List<Photo> photoList = photoRepository.findAllByUserIdx(userIdx);
-            for (Photo photo : photoList) {
-                String decryptedImageUrl = new AES128(encryptProperties.getKey()).decrypt(photo.getImageUrl());
-                String fileName = decryptedImageUrl.substring(decryptedImageUrl.lastIndexOf("/") + 1); // 파일 이름만 자르기
-                awsS3Service.deleteFile(fileName);
-
-                photoRepository.deleteById(photo.getPhotoIdx());
-            }
-
-
-            // Walk + Footprint 테이블
-            List<Walk> walkList = walkRepository.findAllByUserIdx(userIdx);
-            for (Walk walk : walkList) {
-                List<Footprint> footprintList = walk.getFootprintList();
-
-                // Walk에 해당하는 Footprint 모두 삭제
-                for (Footprint footprint : footprintList) {
-                    footprintRepository.deleteById(footprint.getFootprintIdx());
-                }
-
-                // Walk 테이블 - 동선 이미지 S3 에서도 삭제
-                String decryptedImageUrl = new AES128(encryptProperties.getKey()).decrypt(walk.getPathImageUrl());
-                String fileName = decryptedImageUrl.substring(decryptedImageUrl.lastIndexOf("/") + 1); // 파일 이름만 자르기
-                awsS3Service.deleteFile(fileName);
-
-                // Walk 삭제
-                walkRepository.deleteById(walk.getWalkIdx());
-            }
-
-
-            // User 테이블
-            userRepository.deleteById(userIdx);
-
+            userPurgeService.purge(userIdx);
         } catch (Exception exception) {
             throw new BaseException(DATABASE_ERROR);
+        } finally {
+            walkOrdinalCache.evict(userIdx);
+            tagSearchIndex.evict(userIdx);
         }
     }
 
     public GetUserTodayRes getUserToday(String userId) throws BaseException {
         int userIdx = getUserIdxByUserId(userId);
-        List<Walk> userWalkList = walkRepository.findAllByStatusAndUserIdx("ACTIVE", userIdx);
-        System.out.println("userWalkList.size() = " + userWalkList.size());
         LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
 
         double todayGoalRate = 0;
@@ -400,21 +330,20 @@ public class UserService {
         double todayTotalDist = 0;
         int todayTotalCal = 0;
 
-        for (Walk userWalk : userWalkList) {
-            if (userWalk.getStartAt().toLocalDate().isEqual(today)) {
-                // 1. 오늘 목표 달성량 추출
-                todayGoalRate += userWalk.getGoalRate();
+        // 오늘 일별 집계에서 추출
+        Optional<WalkDailyRollup> todayRollup = walkDailyRollupRepository.findByUserIdxAndWalkDate(userIdx, today);
+        if (todayRollup.isPresent()) {
+            // 1. 오늘 목표 달성량 추출
+            todayGoalRate = todayRollup.get().getGoalRateSum();
 
-                // 2. 오늘 산책 누적 시간 추출
-                Duration timeDiff = Duration.between(userWalk.getStartAt(), userWalk.getEndAt());
-                todayTotalTime += timeDiff.getSeconds() / 60;
+            // 2. 오늘 산책 누적 시간 추출 (분 단위)
+            todayTotalTime = (int) (todayRollup.get().getTotalSeconds() / 60);
 
-                // 3. 오늘 산책 누적 거리 추출
-                todayTotalDist += userWalk.getDistance();
+            // 3. 오늘 산책 누적 거리 추출
+            todayTotalDist = todayRollup.get().getDistance();
 
-                // 4. 오늘 산책 누적 칼로리 추출
-                todayTotalCal += userWalk.getCalorie();
-            }
+            // 4. 오늘 산책 누적 칼로리 추출
+            todayTotalCal = todayRollup.get().getCalorie();
         }
         // 1-1. 목표 달성량 100 초과시 100으로 설정
         if (todayGoalRate > 100)
@@ -519,7 +448,7 @@ public class UserService {
                         .walkIdx(count)
                         .startTime(userWalk.getStartAt().format(DateTimeFormatter.ofPattern("HH:mm")))
                         .endTime(userWalk.getEndAt().format(DateTimeFormatter.ofPattern("HH:mm")))
-                        .pathImageUrl(new AES128(encryptProperties.getKey()).decrypt(userWalk.getPathImageUrl()))
+                        .pathImageUrl(cryptoService.decrypt(userWalk.getPathImageUrl()))
                         .build();
 
                 List<Footprint> footprintList = userWalk.getFootprintList();
@@ -549,158 +478,79 @@ public class UserService {
 
 
     public UserInfoAchieve getUserInfoAchieve(int userIdx) {
-
-        List<Walk> walkList = walkRepository.findAllByStatusAndUserIdx("ACTIVE", userIdx);
         LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
 
-        System.out.println("CHECK POINT 1");
-
-        List<Walk> todayWalkList = walkList.stream()
-                .filter(s -> s.getStartAt().toLocalDate().equals(today))
-                .collect(Collectors.toList());
-
-        System.out.println("CHECK POINT 2");
-
         /** 1. 오늘 목표 달성률 계산 = todayGoalRate */
-        double totalGoalRate = 0;
-        for (Walk todayWalk : todayWalkList) {
-            totalGoalRate += todayWalk.getGoalRate();
-        }
+        double totalGoalRate = walkDailyRollupRepository.findByUserIdxAndWalkDate(userIdx, today)
+                .map(WalkDailyRollup::getGoalRateSum)
+                .orElse(0.0);
 
-        System.out.println("CHECK POINT 3");
+        UserWalkStat userWalkStat = getUserWalkStat(userIdx, today);
 
         /** 2. 이번달 목표 달성률 계산 = monthGoalRate */
-        int monthGoalRate = calcMonthGoalRate(userIdx, 0);
-
-        System.out.println("CHECK POINT 4");
+        int monthGoalRate = userWalkStat.getMonthGoalRate(YearMonth.from(today));
 
         /** 3. 산책 횟수 계산 = userWalkCount */
-        int userWalkCount = walkList.size();
-
-        System.out.println("CHECK POINT 5");
+        int userWalkCount = userWalkStat.getTotalWalkCount();
 
         return new UserInfoAchieve((int) totalGoalRate, monthGoalRate, userWalkCount);
     }
 
     public UserInfoStat getUserInfoStat(int userIdx) {
-        // [ 1. 이전 3달 기준 요일별 산책 비율 ] = List<String> mostWalkDay & List<Double> userWeekDayRate
+        LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
+        YearMonth thisMonth = YearMonth.from(today);
 
-        // 1-1. 이전 3달 기준 요일별 산책 수 확인
-        List<Integer> userWeekDayCount = new ArrayList<>(Arrays.asList(0, 0, 0, 0, 0, 0, 0));
-        List<Double> userWeekDayRate = new ArrayList<>();
+        // 일별 산책 집계 + 목표를 한 번씩만 읽어서 통계 계산
+        UserWalkStat userWalkStat = getUserWalkStat(userIdx, today.minusMonths(3));
 
-        LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
-        List<Walk> userWalkList = walkRepository.findAllByStatusAndUserIdx("ACTIVE", userIdx);
-
-        for (Walk userWalk : userWalkList) {
-            if (userWalk.getStartAt().toLocalDate().isAfter(today.minusMonths(3))) {
-                DayOfWeek dayOfWeek = userWalk.getStartAt().getDayOfWeek();
-                if (dayOfWeek.equals(DayOfWeek.SUNDAY)) {
-                    userWeekDayCount.set(0, userWeekDayCount.get(0) + 1);
-                } else if (dayOfWeek.equals(DayOfWeek.MONDAY)) {
-                    userWeekDayCount.set(1, userWeekDayCount.get(1) + 1);
-                } else if (dayOfWeek.equals(DayOfWeek.TUESDAY)) {
-                    userWeekDayCount.set(2, userWeekDayCount.get(2) + 1);
-                } else if (dayOfWeek.equals(DayOfWeek.WEDNESDAY)) {
-                    userWeekDayCount.set(3, userWeekDayCount.get(3) + 1);
-                } else if (dayOfWeek.equals(DayOfWeek.THURSDAY)) {
-                    userWeekDayCount.set(4, userWeekDayCount.get(4) + 1);
-                } else if (dayOfWeek.equals(DayOfWeek.FRIDAY)) {
-                    userWeekDayCount.set(5, userWeekDayCount.get(5) + 1);
-                } else if (dayOfWeek.equals(DayOfWeek.SATURDAY)) {
-                    userWeekDayCount.set(6, userWeekDayCount.get(6) + 1);
-                }
-            }
-        }
+        // [ 1. 이전 3달 기준 요일별 산책 비율 ] = List<String> mostWalkDay & List<Double> userWeekDayRate
+        // *** 순서 : 일 월 화 수 목 금 토 ***
+        String[] weekDayNames = {"일", "월", "화", "수", "목", "금", "토"};
+        int[] userWeekDayCount = userWalkStat.getWeekDayCount();
 
-        // 1-2. 이전 3달 기준 전체 산책 수 구하기
+        // 1-1. 이전 3달 기준 전체 산책 수, 최대 요일 산책 수 구하기
         int entireCount = 0;
-        for (Integer dayCount : userWeekDayCount) {
+        int max = 0;
+        for (int dayCount : userWeekDayCount) {
             entireCount += dayCount;
-        }
-        // 1-3. 가장 산책이 많은 요일 추출 (동일 max 존재시 둘다 return) = List<String> mostWalkDay
-        List<String> mostWalkDay = new ArrayList<>();
-
-        if (entireCount == 0) // 최근 3개월간 산책 기록이 없을때
-            mostWalkDay.add("최근 3개월간 산책을 하지 않았어요");
-        else {
-            int max = Collections.max(userWeekDayCount);
-
-            for (int i = 0; i < userWeekDayCount.size(); i++) {
-                if (userWeekDayCount.get(i) == max) {
-                    switch (i) {
-                        case 0:
-                            mostWalkDay.add("일");
-                            break;
-                        case 1:
-                            mostWalkDay.add("월");
-                            break;
-                        case 2:
-                            mostWalkDay.add("화");
-                            break;
-                        case 3:
-                            mostWalkDay.add("수");
-                            break;
-                        case 4:
-                            mostWalkDay.add("목");
-                            break;
-                        case 5:
-                            mostWalkDay.add("금");
-                            break;
-                        case 6:
-                            mostWalkDay.add("토");
-                            break;
-                    }
-                }
-            }
+            max = Math.max(max, dayCount);
         }
 
-        // 1-4. 요일별 비율 구하기
-        // *** 순서 : 일 월 화 수 목 금 토 ***
-        // *** 순서 : 일 월 화 수 목 금 토 ***
-        for (Integer dayCount : userWeekDayCount) {
-            if (entireCount == 0)
+        // 1-2. 가장 산책이 많은 요일 추출 (동일 max 존재시 둘다 return) = List<String> mostWalkDay
+        // 1-3. 요일별 비율 구하기
+        List<String> mostWalkDay = new ArrayList<>();
+        List<Double> userWeekDayRate = new ArrayList<>();
+        for (int i = 0; i < userWeekDayCount.length; i++) {
+            if (entireCount == 0) {
                 userWeekDayRate.add(0.0);
-            else
-                userWeekDayRate.add(dayCount / (double) entireCount * 100);
+                continue;
+            }
+            if (userWeekDayCount[i] == max) {
+                mostWalkDay.add(weekDayNames[i]);
+            }
+            userWeekDayRate.add(userWeekDayCount[i] / (double) entireCount * 100);
         }
+        if (entireCount == 0) // 최근 3개월간 산책 기록이 없을때
+            mostWalkDay.add("최근 3개월간 산책을 하지 않았어요");
 
         // [ 2. 이전 6달 범위 월별 산책 횟수 ] = thisMonthWalkCount + List<Integer> monthlyWalkCount
-        // List 순서 : -6달 , -5달 , ... , 전달 , 이번달 (총 7개 element)
-
-        // 2-1. 이번달 산책 횟수 가져오기
-        int thisMonthWalkCount = userWalkList.size();
-
-        // 2-2. 이전 6달 범위 유저 월별 산책 횟수 가져오기
-        List<Integer> monthlyWalkCount = new ArrayList<>(Arrays.asList(0, 0, 0, 0, 0, 0, 0));
-        for (Walk userWalk : userWalkList) {
-            if (userWalk.getStartAt().getMonth().equals(today.minusMonths(5).getMonth())) {
-                monthlyWalkCount.set(1, monthlyWalkCount.get(1) + 1);
-            } else if (userWalk.getStartAt().getMonth().equals(today.minusMonths(4).getMonth())) {
-                monthlyWalkCount.set(2, monthlyWalkCount.get(2) + 1);
-            } else if (userWalk.getStartAt().getMonth().equals(today.minusMonths(3).getMonth())) {
-                monthlyWalkCount.set(3, monthlyWalkCount.get(3) + 1);
-            } else if (userWalk.getStartAt().getMonth().equals(today.minusMonths(2).getMonth())) {
-                monthlyWalkCount.set(4, monthlyWalkCount.get(4) + 1);
-            } else if (userWalk.getStartAt().getMonth().equals(today.minusMonths(1).getMonth())) {
-                monthlyWalkCount.set(5, monthlyWalkCount.get(5) + 1);
-            } else if (userWalk.getStartAt().getMonth().equals(today.getMonth())) {
-                monthlyWalkCount.set(6, monthlyWalkCount.get(6) + 1);
-            }
+        // List 순서 : -6달 , -5달 , ... , 전달 , 이번달 (총 7개 element, -6달은 항상 0)
+        int thisMonthWalkCount = userWalkStat.getTotalWalkCount();
+
+        List<Integer> monthlyWalkCount = new ArrayList<>();
+        monthlyWalkCount.add(0);
+        for (int i = 5; i >= 0; i--) {
+            monthlyWalkCount.add(userWalkStat.getMonthWalkCount(thisMonth.minusMonths(i)));
         }
 
         // [ 3. 이전 5달 범위 월별 달성률 & 평균 달성률 ] = List<Integer>monthlyGoalRate + avgGoalRate
         // List 순서 : 평균, -5달 , ... , 전달 , 이번달 (총 7개 element)
         List<Integer> monthlyGoalRate = new ArrayList<>();
         int sumGoalRate = 0;
-
-        // 현재 달 + 이전 5달 범위의 월별 달성률 계산 by getMonthGoalRate()
         for (int i = 5; i >= 0; i--) {
-            int goalRate = calcMonthGoalRate(userIdx, i); // Method getMonthGoalRate
-            if (goalRate > 100) // 100 초과시 100으로 저장
-                goalRate = 100;
+            int goalRate = userWalkStat.getMonthGoalRate(thisMonth.minusMonths(i));
             monthlyGoalRate.add(goalRate);
-            sumGoalRate += monthlyGoalRate.get(5 - i);
+            sumGoalRate += goalRate;
         }
 
         int avgGoalRate = (int) ((double) sumGoalRate / 6);
@@ -712,174 +562,20 @@ public class UserService {
 
     }
 
-
+    // beforeMonth 달 전의 목표 달성률 (0 ~ 100)
     public int calcMonthGoalRate(int userIdx, int beforeMonth) {
-
-        // 0. 해당 달에 사용자 목표 기록이 있는지 확인
-        List<Goal> userGoalList = goalRepository.findByUserIdx(userIdx);
-        boolean isGoalExist = false;
-        for (Goal goal : userGoalList) {
-            LocalDate goalCreateAt = goal.getCreateAt().toLocalDate();
-            if (goalCreateAt.getMonth().equals(LocalDate.now().minusMonths(beforeMonth).getMonth()) && goalCreateAt.getYear() == LocalDate.now(ZoneId.of("Asia/Seoul")).minusMonths(beforeMonth).getYear()) {
-                isGoalExist = true;
-                break;
-            }
-        }
-        if (isGoalExist == false) {
-            return 0;
-        }
-
-        System.out.println("CHECK POINT. calc 1");
-
-        List<Walk> walkList = walkRepository.findAllByStatusAndUserIdx("ACTIVE", userIdx);
         LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
 
-        System.out.println("CHECK POINT. calc 2");
-
-        List<Walk> monthWalkList = walkList.stream()
-                .filter(s -> s.getStartAt().toLocalDate().getYear() == today.getYear() && s.getStartAt().toLocalDate().getMonth().equals(today.getMonth()))
-                .collect(Collectors.toList());
-
-        System.out.println("CHECK POINT. calc 3");
-
-        // 1. 사용자의 원하는 달 전체 산책 시간 확인 (초 단위)
-        int userMonthWalkTime = 0;
-        for (Walk monthWalk : monthWalkList) {
-            System.out.println("Duration.between(monthWalk.getStartAt(),monthWalk.getEndAt()) = " + Duration.between(monthWalk.getStartAt(), monthWalk.getEndAt()).getSeconds());
-            userMonthWalkTime += (int) Duration.between(monthWalk.getStartAt(), monthWalk.getEndAt()).getSeconds();
-        }
-
-        System.out.println("CHECK POINT. calc 4");
-
-        // 2. 이번달 목표시간 계산
-        List<GoalDay> userGoalDayList = goalDayRepository.findByUserIdx(userIdx);
-        GoalDay userGoalDay = GoalDay.builder().build();
-        for (GoalDay goalDay : userGoalDayList) {
-            LocalDate goalDayCreateAt = goalDay.getCreateAt().toLocalDate();
-            if (goalDayCreateAt.getMonth().equals(LocalDate.now().getMonth()) && goalDayCreateAt.getYear() == LocalDate.now().getYear()) {
-                userGoalDay = goalDay;
-                break;
-            }
-        }
-
-        System.out.println("userGoalDay = " + userGoalDay);
-        System.out.println("userGoalDay = " + userGoalDay);
-        System.out.println("userGoalDay.getSun() = " + userGoalDay.getSun());
-        System.out.println("userGoalDay.getMon() = " + userGoalDay.getMon());
-
-        System.out.println("CHECK POINT. calc 5");
-
-        List<Integer> dayIdxList = new ArrayList<>();
-        if (userGoalDay.getMon().equals(1))
-            dayIdxList.add(1);
-        if (userGoalDay.getTue().equals(1))
-            dayIdxList.add(2);
-        if (userGoalDay.getWed().equals(1))
-            dayIdxList.add(3);
-        if (userGoalDay.getThu().equals(1))
-            dayIdxList.add(4);
-        if (userGoalDay.getFri().equals(1))
-            dayIdxList.add(5);
-        if (userGoalDay.getSat().equals(1))
-            dayIdxList.add(6);
-        if (userGoalDay.getSun().equals(1))
-            dayIdxList.add(7);
-
-        System.out.println("CHECK POINT. calc 6");
-
-        // 2-2. 원하는 달 요일별 횟수 정보 확인
-        // 2-2-1. 원하는 달 최대 일수 알아오기
-        LocalDate month = LocalDate.now().minusMonths(beforeMonth);
-        int monthLength = month.lengthOfMonth();
-
-        // 2-2-2. 해당 월 첫 요일 알아오기
-        // *** 1:월 / 2:화 / ... / 7:일 ***
-        LocalDate firstDay = LocalDate.of(month.getYear(), month.getMonth(), 1);
-        DayOfWeek dayOfWeek = firstDay.getDayOfWeek();
-        int firstDayIdx = dayOfWeek.getValue(); // 첫 요일 인덱스
-
-        // 2-2-3. 첫 요일 기준 그 달의 요일 수 계산
-        int weekNum = monthLength / 7;
-        int moreDay = monthLength % 7;
-
-        // 2-2-4. 해당 달의 요일별 횟수 저장
-        // dayCountArray[0] = 해당 달의 첫 요일(2021년 1월 기준 토요일)
-        int[] dayCountArray = {weekNum, weekNum, weekNum, weekNum, weekNum, weekNum, weekNum};
-        for (int i = 0; i < moreDay; i++) {
-            dayCountArray[i]++;
-        }
-
-        System.out.println("CHECK POINT. calc 7");
-
-        // 2-3. 해당 달 목표 시간 계산
-        // 2-3-1. GoalDay Table이 true 인 요일만 countDay에 sum
-        int countDay = 0; // 해당 달의 선택한 일수 총합
-        int loopIdx = firstDayIdx; // firstDayIdx 를 시작으로 loop 을 돌 idx
-        for (int i = 0; i < 7; i++) {
-            switch (loopIdx % 7) {
-                case 1: // 월요일
-                    if (userGoalDay.getMon() == 1)
-                        countDay += dayCountArray[i];
-                    break;
-                case 2: // 화요일
-                    if (userGoalDay.getTue() == 1)
-                        countDay += dayCountArray[i];
-                    break;
-                case 3: // 수요일
-                    if (userGoalDay.getWed() == 1)
-                        countDay += dayCountArray[i];
-                    break;
-                case 4: // 목요일
-                    if (userGoalDay.getThu() == 1)
-                        countDay += dayCountArray[i];
-                    break;
-                case 5: // 금요일
-                    if (userGoalDay.getFri() == 1)
-                        countDay += dayCountArray[i];
-                    break;
-                case 6: // 토요일
-                    if (userGoalDay.getSat() == 1)
-                        countDay += dayCountArray[i];
-                    break;
-                case 0: // 일요일
-                    if (userGoalDay.getSun() == 1)
-                        countDay += dayCountArray[i];
-                    break;
-            }
-            loopIdx++;
-        }
-
-        // 2-3-2. 하루 산책 목표 시간 확인
-        Goal userGoal = Goal.builder().build();
-        for (Goal goal : userGoalList) {
-            LocalDate goalCreateAt = goal.getCreateAt().toLocalDate();
-            System.out.println("beforeMonth = " + beforeMonth);
-            if (goalCreateAt.getMonth().equals(LocalDate.now().minusMonths(beforeMonth).getMonth()) && goalCreateAt.getYear() == LocalDate.now(ZoneId.of("Asia/Seoul")).minusMonths(beforeMonth).getYear()) {
-                System.out.println("goalCreateAt = " + goalCreateAt);
-                userGoal = goal;
-                break;
-            }
-
-        }
-
-        System.out.println("CHECK POINT. calc 8");
-        System.out.println("userGoal = " + userGoal);
-        System.out.println("userGoal.getWalkGoalTime() = " + userGoal.getWalkGoalTime());
-        int userWalkGoalTime = userGoal.getWalkGoalTime();
-        System.out.println("userWalkGoalTime = " + userWalkGoalTime);
-
-        // 2-3-3. 목표 시간 계산
-        int userMonthGoalTime = countDay * userWalkGoalTime;
-        System.out.println("userMonthGoalTime = " + userMonthGoalTime);
-
-        // 3. 이번달 목표 달성률 계산
-        int monthGoalRate = (int) ((userMonthWalkTime / (double) (userMonthGoalTime * 60)) * 100);
-        System.out.println("monthGoalRate = " + monthGoalRate);
-
-        if (monthGoalRate > 100)
-            monthGoalRate = 100;
+        return getUserWalkStat(userIdx, today)
+                .getMonthGoalRate(YearMonth.from(today).minusMonths(beforeMonth));
+    }
 
-        return monthGoalRate;
+    private UserWalkStat getUserWalkStat(int userIdx, LocalDate weekDaySince) {
+        return new UserWalkStat(
+                walkDailyRollupRepository.findAllByUserIdx(userIdx),
+                goalRepository.findByUserIdx(userIdx),
+                goalDayRepository.findByUserIdx(userIdx),
+                weekDaySince);
     }
 
     public GetUserRes getUser(String userId) throws BaseException {
@@ -914,8 +610,8 @@ public class UserService {
             return GetUserRes.builder()
                     .userIdx(user.get().getUserIdx())
                     .nickname(user.get().getNickname())
-                    .username(new AES128(encryptProperties.getKey()).decrypt(user.get().getUsername()))
-                    .email(new AES128(encryptProperties.getKey()).decrypt(user.get().getEmail()))
+                    .username(cryptoService.decrypt(user.get().getUsername()))
+                    .email(cryptoService.decrypt(user.get().getEmail()))
                     .status(user.get().getStatus())
                     .badgeIdx(user.get().getBadgeIdx())
                     .badgeUrl(badgeUrl)
@@ -941,27 +637,29 @@ public class UserService {
             int nowMonth = now.getMonthValue();
 
             List<String> goalDayList = goalService.getUserGoalDays(user.getUserIdx(), nowYear, nowMonth);
-            List<GetDayRateResInterface> getDayRateResInterfaces = walkRepository.getRateByUserIdxAndStartAt(
+            YearMonth thisMonth = YearMonth.of(nowYear, nowMonth);
+            List<WalkDailyRollup> monthRollups = walkDailyRollupRepository.findAllByUserIdxAndWalkDateBetween(
                     user.getUserIdx(),
-                    nowYear,
-                    nowMonth);
-
-            List<GetDayRateRes> getDayRateRes = getDayRateResInterfaces.stream()
-                    .map(GetDayRateRes::new)
-                    .collect(Collectors.toList());
-
-            int dayCount = getDayRateRes.toArray().length;
+                    thisMonth.atDay(1),
+                    thisMonth.atEndOfMonth());
+
+            List<GetDayRateRes> getDayRateRes = new ArrayList<>();
+            long monthTotalSeconds = 0;
+            double monthTotalDistance = 0;
+            int monthTotalCal = 0;
+            for (WalkDailyRollup dayRollup : monthRollups) {
+                getDayRateRes.add(new GetDayRateRes(dayRollup.getWalkDate().getDayOfMonth(), dayRollup.getGoalRateSum().floatValue()));
+                monthTotalSeconds += dayRollup.getTotalSeconds();
+                monthTotalDistance += dayRollup.getDistance();
+                monthTotalCal += dayRollup.getCalorie();
+            }
 
-            GetMonthTotalInterface getMonthTotalInterface = walkRepository.getMonthTotalByQuery(
-                    user.getUserIdx(),
-                    nowYear,
-                    nowMonth
-            );
+            int dayCount = getDayRateRes.size();
 
             GetMonthTotal getMonthTotal = new GetMonthTotal(
-                    getMonthTotalInterface.getMonthTotalMin(),
-                    getMonthTotalInterface.getMonthTotalDistance(),
-                    getMonthTotalInterface.getMonthPerCal());
+                    (int) monthTotalSeconds,
+                    monthTotalDistance,
+                    monthTotalCal);
             getMonthTotal.avgCal(dayCount);
             getMonthTotal.convertSecToMin();
 
@@ -986,15 +684,15 @@ public class UserService {
                 return getFootprintCounts;
             }
 
-            List<GetFootprintCountInterface> getMonthFootprints = walkRepository.getMonthFootCountByQuery(
+            YearMonth paramMonth = YearMonth.of(year, month);
+            List<WalkDailyRollup> monthRollups = walkDailyRollupRepository.findAllByUserIdxAndWalkDateBetween(
                     user.getUserIdx(),
-                    year,
-                    month
-            );
+                    paramMonth.atDay(1),
+                    paramMonth.atEndOfMonth());
 
-            for (GetFootprintCountInterface i : getMonthFootprints) {
+            for (WalkDailyRollup dayRollup : monthRollups) {
                 getFootprintCounts.add(
-                        new GetFootprintCount(i.getDay(), i.getWalkCount())
+                        new GetFootprintCount(dayRollup.getWalkDate().getDayOfMonth(), dayRollup.getWalkCount())
                 );
             }
 
@@ -0,0 +1,132 @@
+package com.umc.footprint.src.users;
+
+import com.umc.footprint.src.goal.model.entity.Goal;
+import com.umc.footprint.src.goal.model.entity.GoalDay;
+import com.umc.footprint.src.walks.model.entity.WalkDailyRollup;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 유저 산책 통계 계산기
+ * 일별 산책 집계(WalkDailyRollup)를 한 번만 순회해서
+ * 요일별 산책 수, 월별 산책 수/산책 시간을 만들고, 월별 목표 달성률은 미리 읽은 Goal/GoalDay로 계산한다.
+ */
+public class UserWalkStat {
+
+    private final List<Goal> goalList;
+    private final List<GoalDay> goalDayList;
+
+    private int totalWalkCount = 0;
+    // 순서 : 일 월 화 수 목 금 토
+    private final int[] weekDayCount = new int[7];
+    private final Map<YearMonth, Integer> monthWalkCount = new HashMap<>();
+    private final Map<YearMonth, Long> monthWalkSeconds = new HashMap<>();
+
+    /**
+     * @param dailyRollupList  유저의 일별 산책 집계
+     * @param goalList         유저의 월별 목표 (Goal)
+     * @param goalDayList      유저의 월별 목표 요일 (GoalDay)
+     * @param weekDaySince     이 날짜 이후(미포함) 산책만 요일별 산책 수에 포함
+     */
+    public UserWalkStat(List<WalkDailyRollup> dailyRollupList, List<Goal> goalList, List<GoalDay> goalDayList, LocalDate weekDaySince) {
+        this.goalList = goalList;
+        this.goalDayList = goalDayList;
+
+        for (WalkDailyRollup dailyRollup : dailyRollupList) {
+            LocalDate walkDate = dailyRollup.getWalkDate();
+            YearMonth walkMonth = YearMonth.from(walkDate);
+
+            totalWalkCount += dailyRollup.getWalkCount();
+            monthWalkCount.merge(walkMonth, dailyRollup.getWalkCount(), Integer::sum);
+            monthWalkSeconds.merge(walkMonth, dailyRollup.getTotalSeconds(), Long::sum);
+
+            if (walkDate.isAfter(weekDaySince)) {
+                weekDayCount[walkDate.getDayOfWeek().getValue() % 7] += dailyRollup.getWalkCount();
+            }
+        }
+    }
+
+    public int getTotalWalkCount() {
+        return totalWalkCount;
+    }
+
+    // 요일별 산책 수 (일 월 화 수 목 금 토)
+    public int[] getWeekDayCount() {
+        return weekDayCount.clone();
+    }
+
+    public int getMonthWalkCount(YearMonth month) {
+        return monthWalkCount.getOrDefault(month, 0);
+    }
+
+    /**
+     * 해당 달의 목표 달성률 (0 ~ 100)
+     * 해당 달에 목표(Goal, GoalDay)가 없으면 0
+     */
+    public int getMonthGoalRate(YearMonth month) {
+        Goal monthGoal = findGoal(month);
+        GoalDay monthGoalDay = findGoalDay(month);
+        if (monthGoal == null || monthGoalDay == null) {
+            return 0;
+        }
+
+        // 1. 해당 달 목표 요일 일수 총합
+        int countDay = 0;
+        for (int day = 1; day <= month.lengthOfMonth(); day++) {
+            if (isGoalDay(monthGoalDay, month.atDay(day).getDayOfWeek())) {
+                countDay++;
+            }
+        }
+
+        // 2. 해당 달 목표 시간 (분 단위)
+        int userMonthGoalTime = countDay * monthGoal.getWalkGoalTime();
+
+        // 3. 해당 달 목표 달성률 계산
+        long userMonthWalkTime = monthWalkSeconds.getOrDefault(month, 0L);
+        int monthGoalRate = (int) ((userMonthWalkTime / (double) (userMonthGoalTime * 60)) * 100);
+
+        return Math.min(monthGoalRate, 100);
+    }
+
+    private Goal findGoal(YearMonth month) {
+        for (Goal goal : goalList) {
+            if (YearMonth.from(goal.getCreateAt()).equals(month)) {
+                return goal;
+            }
+        }
+        return null;
+    }
+
+    private GoalDay findGoalDay(YearMonth month) {
+        for (GoalDay goalDay : goalDayList) {
+            if (YearMonth.from(goalDay.getCreateAt()).equals(month)) {
+                return goalDay;
+            }
+        }
+        return null;
+    }
+
+    private boolean isGoalDay(GoalDay goalDay, DayOfWeek dayOfWeek) {
+        switch (dayOfWeek) {
+            case MONDAY:
+                return goalDay.getMon() == 1;
+            case TUESDAY:
+                return goalDay.getTue() == 1;
+            case WEDNESDAY:
+                return goalDay.getWed() == 1;
+            case THURSDAY:
+                return goalDay.getThu() == 1;
+            case FRIDAY:
+                return goalDay.getFri() == 1;
+            case SATURDAY:
+                return goalDay.getSat() == 1;
+            default:
+                return goalDay.getSun() == 1;
+        }
+    }
+}
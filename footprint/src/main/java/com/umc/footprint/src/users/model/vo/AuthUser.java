@@ -0,0 +1,24 @@
+package com.umc.footprint.src.users.model.vo;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 검증된 JWT 의 사용자 (X-ACCESS-TOKEN)
+ * 컨트롤러 파라미터로 선언하면 AuthUserArgumentResolver 가 요청당 한 번 채워준다.
+ */
+@Getter
+@ToString
+public class AuthUser {
+    private final String userId;
+    private final Integer userIdx;
+    private final String status;
+
+    @Builder
+    public AuthUser(String userId, Integer userIdx, String status) {
+        this.userId = userId;
+        this.userIdx = userIdx;
+        this.status = status;
+    }
+}
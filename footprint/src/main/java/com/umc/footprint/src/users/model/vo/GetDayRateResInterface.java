@@ -1,6 +0,0 @@
-package com.umc.footprint.src.users.model.vo;
-
-public interface GetDayRateResInterface {
-    int getDay();
-    float getRate();
-}
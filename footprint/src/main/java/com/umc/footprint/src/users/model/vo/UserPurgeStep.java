@@ -0,0 +1,39 @@
+package com.umc.footprint.src.users.model.vo;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 탈퇴한 유저 데이터 삭제 단계 (외래 키 때문에 선언 순서대로 삭제)
+ * condition: 유저의 행을 찾는 조건 (userIdx 하나를 바인딩)
+ * fileColumns: S3 에서도 지워야 하는 암호화된 URL 컬럼
+ */
+@Getter
+@RequiredArgsConstructor
+public enum UserPurgeStep {
+    TAG("Tag", "tagIdx", "userIdx = ?", List.of()),
+    PHOTO("Photo", "photoIdx", "userIdx = ?", List.of("imageUrl", "thumbnailUrl")),
+    FOOTPRINT("Footprint", "footprintIdx", "walkIdx IN (SELECT walkIdx FROM Walk WHERE userIdx = ?)", List.of()),
+    WALK("Walk", "walkIdx", "userIdx = ?", List.of("pathImageUrl")),
+    WALK_DAILY_ROLLUP("WalkDailyRollup", "rollupIdx", "userIdx = ?", List.of()),
+    USER_BADGE("UserBadge", "collectionIdx", "userIdx = ?", List.of()),
+    GOAL("Goal", "planIdx", "userIdx = ?", List.of()),
+    GOAL_DAY("GoalDay", "planIdx", "userIdx = ?", List.of()),
+    GOAL_NEXT("GoalNext", "planIdx", "userIdx = ?", List.of()),
+    GOAL_DAY_NEXT("GoalDayNext", "planIdx", "userIdx = ?", List.of()),
+    USER("User", "userIdx", "userIdx = ?", List.of()),
+    ;
+
+    private final String table;
+    private final String primaryKey;
+    private final String condition;
+    private final List<String> fileColumns;
+
+    // 마지막 단계면 null
+    public UserPurgeStep next() {
+        UserPurgeStep[] steps = values();
+        return ordinal() + 1 < steps.length ? steps[ordinal() + 1] : null;
+    }
+}
@@ -17,6 +17,9 @@ public interface UserRepository extends JpaRepository<User, Integer> {
     @Query(value = "SELECT userIdx FROM User WHERE userId = (:userId)", nativeQuery = true)
     Optional<Integer> getUserIdxByUserId(@Param(value = "userId") String userId);
 
+    @Query(value = "SELECT status FROM User WHERE userIdx = (:userIdx)", nativeQuery = true)
+    Optional<String> getStatusByUserIdx(@Param(value = "userIdx") int userIdx);
+
     Optional<User> findByUserIdx(@Param(value = "userIdx") int userIdx);
 
     Optional<User> getByUserId(@Param(value="userId") String userId);
@@ -1,18 +1,17 @@
 package com.umc.footprint.src.walks;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.umc.footprint.config.BaseException;
 import com.umc.footprint.config.BaseResponse;
+import com.umc.footprint.src.common.model.vo.RouteDetail;
+import com.umc.footprint.src.users.model.vo.AuthUser;
 import com.umc.footprint.src.walks.model.dto.GetWalkInfoRes;
 import com.umc.footprint.src.walks.model.dto.PostWalkReq;
 import com.umc.footprint.src.walks.model.dto.PostWalkRes;
-import com.umc.footprint.utils.JwtService;
 import io.swagger.annotations.ApiOperation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
+import springfox.documentation.annotations.ApiIgnore;
 
 import java.util.List;
 
@@ -23,7 +22,6 @@ import java.util.List;
 public class WalkController {
 
     private final WalkService walkService;
-    private final JwtService jwtService;
 
     /**
      * 실시간 처리 API
@@ -32,20 +30,13 @@ public class WalkController {
     @ResponseBody
     @PostMapping("") // (POST) 127.0.0.1:3000/walks/
     @ApiOperation(value = "산책 기록 저장")
-    public BaseResponse<List<PostWalkRes>> saveRecord(@RequestBody String request) throws BaseException, JsonProcessingException {
+    public BaseResponse<List<PostWalkRes>> saveRecord(@ApiIgnore AuthUser authUser, @RequestBody PostWalkReq postWalkReq) throws BaseException {
 
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-
-        PostWalkReq postWalkReq = objectMapper.readValue(request, PostWalkReq.class);
-
-        // userId(구글이나 카카오에서 보낸 ID) 추출 (복호화)
-        String userId = jwtService.getUserId();
-        log.debug("userId = " + userId);
-        // userId로 userIdx 추출
+        // X-ACCESS-TOKEN 사용자 (AuthUserArgumentResolver)
+        log.debug("userIdx = " + authUser.getUserIdx());
 
         try {
-            List<PostWalkRes> postWalkResList = walkService.saveRecord(userId, postWalkReq);
+            List<PostWalkRes> postWalkResList = walkService.saveRecord(authUser.getUserIdx(), postWalkReq);
             return new BaseResponse<>(postWalkResList);
 
         } catch (BaseException exception) {
@@ -55,14 +46,12 @@ public class WalkController {
 
     @ResponseBody
     @GetMapping("/{walkIdx}") // (GET) 127.0.0.1:3000/walks/{walkIdx}
-    public BaseResponse<GetWalkInfoRes> getWalkInfo(@PathVariable("walkIdx") int walkIdx) {
+    public BaseResponse<GetWalkInfoRes> getWalkInfo(@ApiIgnore AuthUser authUser, @PathVariable("walkIdx") int walkIdx) {
         try {
-            // userId(구글이나 카카오에서 보낸 ID) 추출 (복호화)
-            String userId = jwtService.getUserId();
-            log.debug("userId: {}", userId);
+            log.debug("userIdx: {}", authUser.getUserIdx());
 
             // Walk 테이블 전체에서 인덱스
-            GetWalkInfoRes getWalkInfoRes = walkService.getWalkInfo(walkIdx, userId);
+            GetWalkInfoRes getWalkInfoRes = walkService.getWalkInfo(walkIdx, authUser.getUserIdx(), RouteDetail.full());
 
             return new BaseResponse<>(getWalkInfoRes);
         } catch (BaseException exception) {
@@ -74,13 +63,11 @@ public class WalkController {
     //해당 산책의 기록(발자국) 전체 삭제
     @ResponseBody
     @PatchMapping("/{walkIdx}/status") // (Patch) 127.0.0.1:3000/walks/{walkIdx}/status
-    public BaseResponse<String> deleteWalk(@PathVariable("walkIdx") int walkIdx) {
+    public BaseResponse<String> deleteWalk(@ApiIgnore AuthUser authUser, @PathVariable("walkIdx") int walkIdx) {
         try {
-            // userId(구글이나 카카오에서 보낸 ID) 추출 (복호화)
-            String userId = jwtService.getUserId();
-            log.debug("userId: {}", userId);
+            log.debug("userIdx: {}", authUser.getUserIdx());
 
-            String result = walkService.deleteWalk(walkIdx, userId);
+            String result = walkService.deleteWalk(walkIdx, authUser.getUserIdx());
             return new BaseResponse<>(result);
         } catch (BaseException exception) {
             return new BaseResponse<>((exception.getStatus()));
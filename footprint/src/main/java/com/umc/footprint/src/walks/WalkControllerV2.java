@@ -2,14 +2,18 @@ package com.umc.footprint.src.walks;
 
 import com.umc.footprint.config.BaseException;
 import com.umc.footprint.config.BaseResponse;
+import com.umc.footprint.src.common.model.vo.RouteDetail;
+import com.umc.footprint.src.users.model.vo.AuthUser;
 import com.umc.footprint.src.walks.model.dto.GetWalkInfoRes;
 import com.umc.footprint.src.walks.model.dto.PostWalkReq;
 import com.umc.footprint.src.walks.model.dto.PostWalkRes;
-import com.umc.footprint.utils.JwtService;
+import io.swagger.annotations.ApiImplicitParam;
+import io.swagger.annotations.ApiImplicitParams;
 import io.swagger.annotations.ApiOperation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
+import springfox.documentation.annotations.ApiIgnore;
 
 import java.util.List;
 
@@ -20,7 +24,6 @@ import java.util.List;
 public class WalkControllerV2 {
 
     private final WalkService walkService;
-    private final JwtService jwtService;
 
     /**
      * 실시간 처리 API
@@ -29,15 +32,13 @@ public class WalkControllerV2 {
     @ResponseBody
     @PostMapping("") // (POST) 127.0.0.1:3000/walks/
     @ApiOperation(value = "산책 기록 저장")
-    public BaseResponse<List<PostWalkRes>> saveRecord(@RequestBody PostWalkReq postWalkReq) throws BaseException {
+    public BaseResponse<List<PostWalkRes>> saveRecord(@ApiIgnore AuthUser authUser, @RequestBody PostWalkReq postWalkReq) throws BaseException {
 
-        // userId(구글이나 카카오에서 보낸 ID) 추출 (복호화)
-        String userId = jwtService.getUserId();
-        log.debug("userId = " + userId);
-        // userId로 userIdx 추출
+        // X-ACCESS-TOKEN 사용자 (AuthUserArgumentResolver)
+        log.debug("userIdx = " + authUser.getUserIdx());
 
         try {
-            List<PostWalkRes> postWalkResList = walkService.saveRecord(userId, postWalkReq);
+            List<PostWalkRes> postWalkResList = walkService.saveRecord(authUser.getUserIdx(), postWalkReq);
             return new BaseResponse<>(postWalkResList);
 
         } catch (BaseException exception) {
@@ -45,16 +46,27 @@ public class WalkControllerV2 {
         }
     }
 
+    /**
+     * 산책 상세 조회
+     * [Get] /walks/:walkIdx?zoom=&maxPoints=
+     * zoom, maxPoints 가 없으면 전체 경로
+     */
     @ResponseBody
     @GetMapping("/{walkIdx}") // (GET) 127.0.0.1:3000/walks/{walkIdx}
-    public BaseResponse<GetWalkInfoRes> getWalkInfo(@PathVariable("walkIdx") int walkIdx) {
+    @ApiImplicitParams({
+            @ApiImplicitParam(name = "zoom", value = "지도 줌 레벨 (화면에 맞게 간략화한 경로)", dataTypeClass = Integer.class, example = "15"),
+            @ApiImplicitParam(name = "maxPoints", value = "경로 최대 좌표 수", dataTypeClass = Integer.class, example = "300")
+    })
+    public BaseResponse<GetWalkInfoRes> getWalkInfo(@ApiIgnore AuthUser authUser, @PathVariable("walkIdx") int walkIdx,
+                                                    @RequestParam(name = "zoom", required = false) Integer zoom,
+                                                    @RequestParam(name = "maxPoints", required = false) Integer maxPoints) {
         try {
-            // userId(구글이나 카카오에서 보낸 ID) 추출 (복호화)
-            String userId = jwtService.getUserId();
-            log.debug("userId: {}", userId);
+            RouteDetail routeDetail = RouteDetail.of(zoom, maxPoints);
+
+            log.debug("userIdx: {}", authUser.getUserIdx());
 
             // Walk 테이블 전체에서 인덱스
-            GetWalkInfoRes getWalkInfoRes = walkService.getWalkInfo(walkIdx, userId);
+            GetWalkInfoRes getWalkInfoRes = walkService.getWalkInfo(walkIdx, authUser.getUserIdx(), routeDetail);
 
             return new BaseResponse<>(getWalkInfoRes);
         } catch (BaseException exception) {
@@ -66,13 +78,11 @@ public class WalkControllerV2 {
     //해당 산책의 기록(발자국) 전체 삭제
     @ResponseBody
     @PatchMapping("/{walkIdx}/status") // (Patch) 127.0.0.1:3000/walks/{walkIdx}/status
-    public BaseResponse<String> deleteWalk(@PathVariable("walkIdx") int walkIdx) {
+    public BaseResponse<String> deleteWalk(@ApiIgnore AuthUser authUser, @PathVariable("walkIdx") int walkIdx) {
         try {
-            // userId(구글이나 카카오에서 보낸 ID) 추출 (복호화)
-            String userId = jwtService.getUserId();
-            log.debug("userId: {}", userId);
+            log.debug("userIdx: {}", authUser.getUserIdx());
 
-            String result = walkService.deleteWalk(walkIdx, userId);
+            String result = walkService.deleteWalk(walkIdx, authUser.getUserIdx());
             return new BaseResponse<>(result);
         } catch (BaseException exception) {
             return new BaseResponse<>((exception.getStatus()));
@@ -0,0 +1,157 @@
+package com.umc.footprint.src.walks;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 산책 저장 시 발자국, 태그, 사진을 테이블별 multi-row INSERT 한 번으로 저장
+ * (IDENTITY 전략이라 JPA save로는 insert batching이 되지 않음)
+ * 생성된 PK는 INSERT 순서대로 반환된다.
+ */
+@Slf4j
+@Repository
+public class WalkDao {
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public void setDataSource(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    // Footprint 일괄 저장 후 footprintIdx 반환
+    public List<Integer> insertFootprints(int walkIdx, List<FootprintRow> footprints) {
+        if (footprints.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String insertFootprintQuery = "INSERT INTO Footprint (coordinate, record, status, onWalk, walkIdx, createAt, updateAt) VALUES "
+                + placeholders(footprints.size(), 7);
+
+        return insertAndReturnKeys(insertFootprintQuery, ps -> {
+            int i = 1;
+            for (FootprintRow footprint : footprints) {
+                ps.setString(i++, footprint.coordinate);
+                ps.setString(i++, footprint.record);
+                ps.setString(i++, "ACTIVE");
+                ps.setInt(i++, footprint.onWalk);
+                ps.setInt(i++, walkIdx);
+                ps.setTimestamp(i++, now);
+                ps.setTimestamp(i++, now);
+            }
+        });
+    }
+
+    // Tag 일괄 저장
+    public void insertTags(int userIdx, int walkIdx, List<TagRow> tags) {
+        if (tags.isEmpty()) {
+            return;
+        }
+
+        String insertTagQuery = "INSERT INTO Tag (userIdx, status, walkIdx, hashtagIdx, footprintIdx) VALUES "
+                + placeholders(tags.size(), 5);
+
+        jdbcTemplate.update(insertTagQuery, ps -> {
+            int i = 1;
+            for (TagRow tag : tags) {
+                ps.setInt(i++, userIdx);
+                ps.setString(i++, "ACTIVE");
+                ps.setInt(i++, walkIdx);
+                ps.setInt(i++, tag.hashtagIdx);
+                ps.setInt(i++, tag.footprintIdx);
+            }
+        });
+    }
+
+    // Photo 일괄 저장
+    public void insertPhotos(int userIdx, List<PhotoRow> photos) {
+        if (photos.isEmpty()) {
+            return;
+        }
+
+        String insertPhotoQuery = "INSERT INTO Photo (imageUrl, status, userIdx, footprintIdx) VALUES "
+                + placeholders(photos.size(), 4);
+
+        jdbcTemplate.update(insertPhotoQuery, ps -> {
+            int i = 1;
+            for (PhotoRow photo : photos) {
+                ps.setString(i++, photo.imageUrl);
+                ps.setString(i++, "ACTIVE");
+                ps.setInt(i++, userIdx);
+                ps.setInt(i++, photo.footprintIdx);
+            }
+        });
+    }
+
+    private List<Integer> insertAndReturnKeys(String query, ParameterBinder binder) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(query, Statement.RETURN_GENERATED_KEYS);
+            binder.bind(ps);
+            return ps;
+        }, keyHolder);
+
+        List<Integer> keys = new ArrayList<>();
+        for (Map<String, Object> key : keyHolder.getKeyList()) {
+            keys.add(((Number) key.values().iterator().next()).intValue());
+        }
+        return keys;
+    }
+
+    // (?, ?, ...), (?, ?, ...) 형태의 VALUES 절 생성
+    private String placeholders(int rowCount, int columnCount) {
+        String row = "(" + String.join(", ", Collections.nCopies(columnCount, "?")) + ")";
+        return String.join(", ", Collections.nCopies(rowCount, row));
+    }
+
+    private interface ParameterBinder {
+        void bind(PreparedStatement ps) throws SQLException;
+    }
+
+    public static class FootprintRow {
+        private final String coordinate;
+        private final String record;
+        private final int onWalk;
+
+        public FootprintRow(String coordinate, String record, int onWalk) {
+            this.coordinate = coordinate;
+            this.record = record;
+            this.onWalk = onWalk;
+        }
+    }
+
+    public static class TagRow {
+        private final int hashtagIdx;
+        private final int footprintIdx;
+
+        public TagRow(int hashtagIdx, int footprintIdx) {
+            this.hashtagIdx = hashtagIdx;
+            this.footprintIdx = footprintIdx;
+        }
+    }
+
+    public static class PhotoRow {
+        private final String imageUrl;
+        private final int footprintIdx;
+
+        public PhotoRow(String imageUrl, int footprintIdx) {
+            this.imageUrl = imageUrl;
+            this.footprintIdx = footprintIdx;
+        }
+    }
+}
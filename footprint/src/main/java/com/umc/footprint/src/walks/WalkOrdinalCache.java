@@ -0,0 +1,128 @@
+package com.umc.footprint.src.walks;
+
+import com.umc.footprint.src.walks.repository.WalkRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 유저별 n번째 산책 -> walkIdx 변환 캐시
+ * 유저의 ACTIVE 산책 walkIdx를 startAt 순으로 배열에 보관해서 n번째 산책을 O(1)로 찾는다.
+ * 산책 저장/삭제, 회원 탈퇴 시 evict 하고 다음 조회 때 다시 적재한다.
+ * evict 는 이 서버에만 적용되므로 다른 서버의 변경은 ttl 이 지나 다시 적재할 때 반영된다.
+ * 캐시는 후보만 알려주고, WalkService.getWalkByNumber 가 DB 에서 유저, 상태, 순서를 다시 확인한다.
+ *
+ * evict 마다 유저의 버전을 올리고, 적재를 시작한 뒤 버전이 바뀌었으면 적재 결과를 캐시에 넣지 않는다.
+ * (다른 트랜잭션 커밋 전에 읽은 목록이 그 트랜잭션의 evict 뒤에 들어가는 것을 막음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WalkOrdinalCache {
+
+    // 캐시에 보관할 최대 유저 수 (초과 시 가장 오래 사용하지 않은 유저부터 제거)
+    private static final int MAX_CACHED_USERS = 10_000;
+
+    private final WalkRepository walkRepository;
+
+    @Value("${walk.ordinal-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    private final Map<Integer, CachedWalkIdxes> walkIdxesByUser = Collections.synchronizedMap(
+            new LinkedHashMap<Integer, CachedWalkIdxes>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Integer, CachedWalkIdxes> eldest) {
+                    return size() > MAX_CACHED_USERS;
+                }
+            });
+
+    /**
+     * 유저의 walkNumber번째(1부터 시작) 산책의 walkIdx 반환
+     * 범위를 벗어나면 null
+     */
+    public Integer getWalkIdx(int userIdx, int walkNumber) {
+        int[] walkIdxes = get(userIdx);
+
+        if (walkNumber < 1 || walkNumber > walkIdxes.length) {
+            return null;
+        }
+        return walkIdxes[walkNumber - 1];
+    }
+
+    // 유저의 ACTIVE 산책 walkIdx (startAt 순, 배열 인덱스 + 1 = n번째 산책)
+    public int[] getWalkIdxes(int userIdx) {
+        return get(userIdx).clone();
+    }
+
+    /**
+     * 유저의 산책 순서가 바뀌었을 때 호출
+     * 트랜잭션 안이라면 커밋 후에 제거해서 커밋 전 데이터가 다시 적재되는 것을 막는다.
+     */
+    public void evict(int userIdx) {
+        invalidate(userIdx);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidate(userIdx);
+                }
+            });
+        }
+    }
+
+    // 캐시를 비우고 버전을 올림 (진행 중인 적재는 캐시에 들어가지 않음)
+    private void invalidate(int userIdx) {
+        synchronized (walkIdxesByUser) {
+            CachedWalkIdxes cached = walkIdxesByUser.get(userIdx);
+            long version = cached == null ? 0 : cached.version;
+            walkIdxesByUser.put(userIdx, new CachedWalkIdxes(null, 0, version + 1));
+        }
+    }
+
+    // 캐시가 없거나 ttl 이 지났으면 다시 적재
+    private int[] get(int userIdx) {
+        CachedWalkIdxes cached = walkIdxesByUser.get(userIdx);
+        if (cached != null && cached.walkIdxes != null && System.currentTimeMillis() < cached.expiresAt) {
+            return cached.walkIdxes;
+        }
+        return load(userIdx, cached == null ? 0 : cached.version);
+    }
+
+    private int[] load(int userIdx, long version) {
+        List<Integer> walkIdxList = walkRepository.getActiveWalkIdxOrderByStartAt(userIdx);
+        int[] walkIdxes = walkIdxList.stream().mapToInt(Integer::intValue).toArray();
+        log.debug("userIdx {} walkIdx 적재: {}건", userIdx, walkIdxes.length);
+
+        synchronized (walkIdxesByUser) {
+            CachedWalkIdxes cached = walkIdxesByUser.get(userIdx);
+            if ((cached == null ? 0 : cached.version) == version) {
+                walkIdxesByUser.put(userIdx, new CachedWalkIdxes(walkIdxes,
+                        System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(ttlSeconds), version));
+            }
+        }
+        return walkIdxes;
+    }
+
+    private static class CachedWalkIdxes {
+        // null 이면 evict 된 상태 (버전만 보관)
+        private final int[] walkIdxes;
+        private final long expiresAt;
+        private final long version;
+
+        CachedWalkIdxes(int[] walkIdxes, long expiresAt, long version) {
+            this.walkIdxes = walkIdxes;
+            this.expiresAt = expiresAt;
+            this.version = version;
+        }
+    }
+}
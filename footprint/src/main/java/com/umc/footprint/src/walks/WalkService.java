@@ -1,17 +1,19 @@
 package com.umc.footprint.src.walks;
 
 import com.umc.footprint.config.BaseException;
-import com.umc.footprint.config.EncryptProperties;
 import com.umc.footprint.src.badge.model.Badge;
 import com.umc.footprint.src.badge.model.BadgeRepository;
 import com.umc.footprint.src.badge.model.UserBadge;
 import com.umc.footprint.src.badge.model.UserBadgeRepository;
 import com.umc.footprint.src.badge.model.vo.BadgeInfo;
 import com.umc.footprint.src.badge.model.vo.ObtainedBadgeInterface;
-import com.umc.footprint.src.common.model.entity.Hashtag;
+import com.umc.footprint.src.common.HashtagDictionary;
+import com.umc.footprint.src.common.RouteCodec;
+import com.umc.footprint.src.common.TagSearchIndex;
 import com.umc.footprint.src.common.model.entity.Photo;
 import com.umc.footprint.src.common.model.entity.Tag;
-import com.umc.footprint.src.common.repository.HashtagRepository;
+import com.umc.footprint.src.common.model.vo.RouteDetail;
+import com.umc.footprint.src.common.model.vo.RoutePath;
 import com.umc.footprint.src.common.repository.PhotoRepository;
 import com.umc.footprint.src.common.repository.TagRepository;
 import com.umc.footprint.src.footprints.model.entity.Footprint;
@@ -19,7 +21,6 @@ import com.umc.footprint.src.footprints.model.vo.FootprintInfo;
 import com.umc.footprint.src.footprints.repository.FootprintRepository;
 import com.umc.footprint.src.goal.model.entity.Goal;
 import com.umc.footprint.src.goal.repository.GoalRepository;
-import com.umc.footprint.src.users.UserService;
 import com.umc.footprint.src.users.model.entity.User;
 import com.umc.footprint.src.users.repository.UserRepository;
 import com.umc.footprint.src.walks.model.dto.GetWalkInfoRes;
@@ -28,13 +29,11 @@ import com.umc.footprint.src.walks.model.dto.PostWalkRes;
 import com.umc.footprint.src.walks.model.entity.Walk;
 import com.umc.footprint.src.walks.model.vo.WalkInfo;
 import com.umc.footprint.src.walks.model.vo.GetWalkTime;
+import com.umc.footprint.src.walks.repository.WalkDailyRollupRepository;
 import com.umc.footprint.src.walks.repository.WalkRepository;
-import com.umc.footprint.utils.AES128;
+import com.umc.footprint.utils.CryptoService;
 import lombok.RequiredArgsConstructor;
-import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -43,10 +42,8 @@ import org.springframework.transaction.interceptor.TransactionAspectSupport;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Optional;
+import java.security.GeneralSecurityException;
+import java.util.*;
 import java.util.stream.Collectors;
 
 import static com.umc.footprint.config.BaseResponseStatus.*;
@@ -61,13 +58,17 @@ public class WalkService {
     private final WalkRepository walkRepository;
     private final FootprintRepository footprintRepository;
     private final PhotoRepository photoRepository;
-    private final HashtagRepository hashtagRepository;
     private final TagRepository tagRepository;
     private final GoalRepository goalRepository;
     private final UserBadgeRepository userBadgeRepository;
     private final BadgeRepository badgeRepository;
-    private final UserService userService;
-    private final EncryptProperties encryptProperties;
+    private final CryptoService cryptoService;
+    private final WalkOrdinalCache walkOrdinalCache;
+    private final WalkDailyRollupRepository walkDailyRollupRepository;
+    private final WalkDao walkDao;
+    private final HashtagDictionary hashtagDictionary;
+    private final TagSearchIndex tagSearchIndex;
+    private final RouteCodec routeCodec;
 
     @Transactional(readOnly = true)
     public List<Walk> getMyAllWalk(int userIdx) {
@@ -90,8 +91,8 @@ public class WalkService {
 //
 //        log.info("산책 대표 이미지 및 좌표 암호화");
 //        try {
-//            encryptImage = new AES128(encryptProperties.getKey()).encrypt(request.getWalk().getThumbnail());
-//            safeCoordinate = new AES128(encryptProperties.getKey()).encrypt(convert2DListToString(changeSafeCoordinate(request.getWalk().getCoordinates())));
+//            encryptImage = cryptoService.encrypt(request.getWalk().getThumbnail());
+//            safeCoordinate = cryptoService.encrypt(convert2DListToString(changeSafeCoordinate(request.getWalk().getCoordinates())));
 //        } catch (Exception exception) {
 //            log.info("암호화 실패");
 //            throw new BaseException(ENCRYPT_FAIL);
@@ -121,8 +122,8 @@ public class WalkService {
 //
 //                log.info("발자국 좌표 및 기록 암호화");
 //                try {
-//                    encryptCoordinate = new AES128(encryptProperties.getKey()).encrypt(strCoordinates);
-//                    encryptRecord = new AES128(encryptProperties.getKey()).encrypt(footprintInfo.getWrite());
+//                    encryptCoordinate = cryptoService.encrypt(strCoordinates);
+//                    encryptRecord = cryptoService.encrypt(footprintInfo.getWrite());
 //                } catch (Exception exception) {
 //                    log.info("발자국 좌표, 기록 암호화 실패");
 //                    throw new BaseException(ENCRYPT_FAIL);
@@ -165,7 +166,7 @@ public class WalkService {
 //
 //                    log.info("이미지 암호화");
 //                    try {
-//                        encryptPhotoUrl = new AES128(encryptProperties.getKey()).encrypt(photoUrl);
+//                        encryptPhotoUrl = cryptoService.encrypt(photoUrl);
 //                    } catch (Exception exception) {
 //                        log.info("이미지 암호화 실패");
 //                        throw new BaseException(ENCRYPT_FAIL);
@@ -246,20 +247,20 @@ public class WalkService {
 //    }
 
     @Transactional(propagation = Propagation.NESTED, rollbackFor = Exception.class)
-    public List<PostWalkRes> saveRecord(String userId, PostWalkReq request) throws BaseException {
+    public List<PostWalkRes> saveRecord(int userIdx, PostWalkReq request) throws BaseException {
         log.debug("Validation 1. 동선 이미지가 안왔을 경우");
         if (request.getWalk().getThumbnail().isEmpty()) {
             throw new BaseException(EMPTY_WALK_PHOTO);
         }
 
-        // userIdx 추출
-        int userIdx = userRepository.findByUserId(userId).getUserIdx();
-
         try {
-            String encryptImage = new AES128(encryptProperties.getKey()).encrypt(request.getWalk().getThumbnail());
+            String encryptImage = cryptoService.encrypt(request.getWalk().getThumbnail());
 
-            // 라인에 좌표가 올 때 나는 오류 방지 (복제)
-            String safeCoordinate = new AES128(encryptProperties.getKey()).encrypt(convert2DListToString(changeSafeCoordinate(request.getWalk().getCoordinates())));
+            // 라인에 좌표가 하나만 올 때 나는 오류 방지 (복제)
+            RoutePath safeCoordinates = request.getWalk().getCoordinates().withSinglePointLinesDoubled();
+            byte[] safeRoute = routeCodec.encode(safeCoordinates);
+            // 지도 미리보기용 간략화 경로
+            byte[] routeLod = routeCodec.encodeLevels(safeCoordinates);
             Double goalRate = getGoalRate(request.getWalk(), userIdx);
 
             // Walk Table에 삽입 후 생성된 walkIdx return
@@ -268,7 +269,9 @@ public class WalkService {
                     .startAt(request.getWalk().getStartAt())
                     .endAt(request.getWalk().getEndAt())
                     .distance(request.getWalk().getDistance())
-                    .coordinate(safeCoordinate)
+                    .coordinate("")
+                    .route(safeRoute)
+                    .routeLod(routeLod)
                     .pathImageUrl(encryptImage)
                     .userIdx(userIdx)
                     .goalRate(goalRate)
@@ -276,53 +279,11 @@ public class WalkService {
                     .status("ACTIVE")
                     .build();
             Integer savedWalkIdx = walkRepository.save(beforeSaveWalk).getWalkIdx();
+            walkOrdinalCache.evict(userIdx);
+            accumulateDailyRollup(beforeSaveWalk, 1);
 
             if (!request.getFootprintList().isEmpty()) {
-                for (FootprintInfo footprint : request.getFootprintList()) {
-
-                    String strCoordinates = convertListToString(footprint.getCoordinates());
-                    Footprint beforeSaveFootprint = Footprint.builder()
-                            .coordinate(new AES128(encryptProperties.getKey()).encrypt(strCoordinates))
-                            .record(new AES128(encryptProperties.getKey()).encrypt(footprint.getWrite()))
-                            .onWalk(footprint.getOnWalk())
-                            .status("ACTIVE")
-                            .build();
-                    beforeSaveFootprint.setWalk(beforeSaveWalk);
-                    beforeSaveWalk.addFootprint(beforeSaveFootprint);
-                    List<Tag> beforeSaveTagList = new ArrayList<>();
-
-                    for (String hashtag : footprint.getHashtagList()) {
-                        Hashtag beforeSaveHashtag = Hashtag.builder()
-                                .hashtag(hashtag)
-                                .build();
-                        hashtagRepository.save(beforeSaveHashtag);
-                        Tag beforeSaveTag = Tag.builder()
-                                .userIdx(userIdx)
-                                .status("ACTIVE")
-
-                                .build();
-                        beforeSaveTag.setHashtag(beforeSaveHashtag);
-                        beforeSaveTag.setFootprint(beforeSaveFootprint);
-                        beforeSaveTag.setWalk(savedWalkIdx);
-
-                        beforeSaveFootprint.addTagList(beforeSaveTag);
-                        beforeSaveTagList.add(beforeSaveTag);
-
-                    }
-
-                    footprintRepository.save(beforeSaveFootprint);
-                    tagRepository.saveAll(beforeSaveTagList);
-
-                    for (String photo : footprint.getPhotos()) {
-                        Photo beforeSavePhoto = Photo.builder()
-                                .userIdx(userIdx)
-                                .imageUrl(new AES128(encryptProperties.getKey()).encrypt(photo))
-                                .status("ACTIVE")
-                                .build();
-                        beforeSavePhoto.setFootprint(beforeSaveFootprint);
-                        photoRepository.save(beforeSavePhoto);
-                    }
-                }
+                saveFootprints(userIdx, savedWalkIdx, request.getFootprintList());
             }
 
             // badge 획득 여부 확인 및 id 반환
@@ -347,9 +308,10 @@ public class WalkService {
 
             // 처음 산책인지 확인
             if (!checkFirstWalk(userIdx)) {
-                User byUserId = userRepository.findByUserId(userId);
-                byUserId.setBadgeIdx(1);
-                userRepository.save(byUserId);
+                User user = userRepository.findByUserIdx(userIdx)
+                        .orElseThrow(() -> new BaseException(NOT_EXIST_USER));
+                user.setBadgeIdx(1);
+                userRepository.save(user);
             }
 
             log.debug("새롭게 얻은 뱃지 리스트: {}", acquiredBadgeIdxList);
@@ -493,53 +455,6 @@ public class WalkService {
     }
 
 
-    private ArrayList<List<Double>> changeSafeCoordinate(List<List<Double>> coordinates) {
-        ArrayList<List<Double>> safeCoordinate = new ArrayList<>();
-        for (List<Double> line : coordinates) {
-            // 좌표가 하나만 있는 라인이 있을 때
-            log.debug("line: {}", line);
-            if (line.size() == 2) {
-                line.add(line.get(0));
-                line.add(line.get(1));
-            }
-            safeCoordinate.add(line);
-        }
-        return safeCoordinate;
-    }
-
-    // List<List<>> -> String in WalkDao
-    public String convert2DListToString(List<List<Double>> inputList){
-
-        log.debug("String으로 변환할 리스트: {}", inputList);
-
-        StringBuilder str = new StringBuilder();
-        str.append("(");
-        int count = 0;  // 1차원 범위의 List 경과 count (마지막 "," 빼기 위해)
-        for(List<Double> list : inputList){
-            str.append("(");
-            for(int i=0;i<list.size();i++){
-                str.append(list.get(i));
-
-                if(i == list.size()-1) {    // 마지막은 " " , "," 추가하지 않고 ")"
-                    str.append(")");
-                    break;
-                }
-
-                if (i%2 == 0)   // 짝수 번째 인덱스는 " " 추가
-                    str.append(" ");
-                else            // 홀수 번째 인덱스는 "," 추가
-                    str.append(",");
-            }
-            count++;
-            if(count != inputList.size())    // 1차원 범위의 List에서 마지막을 제외하고 "," 추가
-                str.append(",");
-        }
-        str.append(")");
-        String result = str.toString();
-
-        return result;
-    }
-
     public String convertListToString(List<Double> inputList) {
         log.debug("string 형으로 바꿀 list: {} ", inputList);
 
@@ -559,10 +474,8 @@ public class WalkService {
     }
 
     @Transactional(propagation = Propagation.NESTED, rollbackFor = Exception.class)
-    public String deleteWalk(int walkIdx, String userId) throws BaseException {
+    public String deleteWalk(int walkIdx, int userIdx) throws BaseException {
         try {
-            Integer userIdx = userService.getUserIdxByUserId(userId);
-
             Walk walkByNumber = getWalkByNumber(walkIdx, userIdx);
 
             List<Footprint> allByWalk = footprintRepository.findAllByWalkAndStatus(walkByNumber, "ACTIVE");
@@ -584,6 +497,9 @@ public class WalkService {
             footprintRepository.saveAll(allByWalk);
             walkByNumber.changeStatus("INACTIVE");
             walkRepository.save(walkByNumber);
+            walkOrdinalCache.evict(userIdx);
+            accumulateDailyRollup(walkByNumber, -1);
+            tagSearchIndex.evict(userIdx);
 
             return "Success Delete walk record!";
         } catch (Exception exception) { // DB에 이상이 있는 경우 에러 메시지를 보냅니다.
@@ -591,62 +507,68 @@ public class WalkService {
         }
     }
 
-    // 발자국 좌표 암호화된 문자열을 리스트로 변환하는 함수
-    @SneakyThrows
-    public List<Double> convertStringToList(String str) {
-        String test = new AES128(encryptProperties.getKey()).decrypt(str);
-        if(test.startsWith("POINT")) {
-            test = test.substring(5);
-        }
-        if (test.contains("?")) {
-            return new ArrayList<>();
+    // 발자국, 태그, 사진을 테이블별 INSERT 한 번씩으로 저장
+    private void saveFootprints(int userIdx, int walkIdx, List<FootprintInfo> footprintList) throws GeneralSecurityException {
+        // 1. Footprint 저장
+        List<WalkDao.FootprintRow> footprintRows = new ArrayList<>();
+        for (FootprintInfo footprint : footprintList) {
+            String strCoordinates = convertListToString(footprint.getCoordinates());
+            footprintRows.add(new WalkDao.FootprintRow(
+                    cryptoService.encrypt(strCoordinates),
+                    cryptoService.encrypt(footprint.getWrite()),
+                    footprint.getOnWalk()));
         }
-        test = test.substring(1,test.length()-1);
-        String[] sp = test.split(" ");
-        List<Double> list = new ArrayList<>();
-        list.add(Double.parseDouble(sp[0]));
-        list.add(Double.parseDouble(sp[1]));
-        return list;
-    }
-
-    @SneakyThrows
-    public List<ArrayList<Double>> convertStringTo2DList(String inputString) {
+        List<Integer> footprintIdxList = walkDao.insertFootprints(walkIdx, footprintRows);
 
-        ArrayList<ArrayList<Double>> coordinate = new ArrayList<>();
-        String decryptTest = new AES128(encryptProperties.getKey()).decrypt(inputString);
-
-        if (decryptTest.contains("MULTILINESTRING")) {
-            decryptTest = decryptTest.substring(17, decryptTest.length()-2); //MULTISTRING((, ) split
+        // 2. 해시태그 사전에서 hashtagIdx 조회 (없는 해시태그만 추가)
+        List<String> hashtags = new ArrayList<>();
+        for (FootprintInfo footprint : footprintList) {
+            hashtags.addAll(footprint.getHashtagList());
         }
+        Map<String, Integer> hashtagIdxMap = hashtagDictionary.getOrCreate(hashtags);
 
-        decryptTest = decryptTest.substring(1, decryptTest.length()-1); // 앞 뒤 괄호 제거
-        String[] strArr = decryptTest.split("\\),");
-
-        for(String coor : strArr) {
-            log.info("hello loop");
-            coor = coor.replace("(", "");
-            coor = coor.replace(")", "");
-
-            String[] comma = coor.split(",");
-            ArrayList<Double> temp = new ArrayList<>();
-            for(String com : comma) {
-                String[] space = com.split(" ");
-                double x = Double.parseDouble(space[0]);
-                if (x <= 10) {
-                    x += 30;
-                }
-                temp.add(x);
-                temp.add(Double.parseDouble(space[1]));
+        // 3. Tag, Photo 저장
+        List<WalkDao.TagRow> tagRows = new ArrayList<>();
+        List<WalkDao.PhotoRow> photoRows = new ArrayList<>();
+        for (int i = 0; i < footprintList.size(); i++) {
+            FootprintInfo footprint = footprintList.get(i);
+            int footprintIdx = footprintIdxList.get(i);
+
+            for (String hashtag : footprint.getHashtagList()) {
+                tagRows.add(new WalkDao.TagRow(hashtagIdxMap.get(HashtagDictionary.normalize(hashtag)), footprintIdx));
+            }
+            for (String photo : footprint.getPhotos()) {
+                photoRows.add(new WalkDao.PhotoRow(cryptoService.encrypt(photo), footprintIdx));
             }
-            coordinate.add(temp);
         }
-        return coordinate;
+        walkDao.insertTags(userIdx, walkIdx, tagRows);
+        walkDao.insertPhotos(userIdx, photoRows);
+        tagSearchIndex.evict(userIdx);
     }
 
-    public GetWalkInfoRes getWalkInfo(int walkIdx, String userId) throws BaseException {
+    // 산책 저장(sign = 1), 삭제(sign = -1) 시 일별 집계 반영
+    private void accumulateDailyRollup(Walk walk, int sign) {
+        long walkSeconds = Duration.between(walk.getStartAt(), walk.getEndAt()).getSeconds();
+        int calorie = walk.getCalorie() == null ? 0 : walk.getCalorie();
+
+        walkDailyRollupRepository.accumulate(
+                walk.getUserIdx(),
+                walk.getStartAt().toLocalDate(),
+                sign,
+                sign * walkSeconds,
+                sign * walk.getDistance(),
+                sign * calorie,
+                sign * walk.getGoalRate());
+    }
+
+    // 발자국 좌표 암호화된 문자열을 [x, y] 로 변환하는 함수 (좌표가 없으면 빈 배열)
+    public double[] convertStringToPoint(String str) throws GeneralSecurityException {
+        return RouteCodec.parsePoint(cryptoService.decrypt(str));
+    }
+
+    public GetWalkInfoRes getWalkInfo(int walkIdx, int userIdx, RouteDetail routeDetail) throws BaseException {
         try {
             log.debug("walkIdx: {}", walkIdx);
-            Integer userIdx = userRepository.findByUserId(userId).getUserIdx();
             Walk walkByNumber = getWalkByNumber(walkIdx, userIdx);
 
             Duration diff = Duration.between(walkByNumber.getStartAt(), walkByNumber.getEndAt());
@@ -666,11 +588,11 @@ public class WalkService {
                     .timeString(diffStr)
                     .build();
 
-            List<List<Double>> footCoordinate = new ArrayList<>();
+            List<double[]> footCoordinate = new ArrayList<>();
 
             List<Footprint> footprintList = footprintRepository.findAllByWalkAndStatus(walkByNumber, "ACTIVE");
             for (Footprint footprint : footprintList) {
-                footCoordinate.add(convertStringToList(footprint.getCoordinate()));
+                footCoordinate.add(convertStringToPoint(footprint.getCoordinate()));
             }
 
             GetWalkInfoRes getWalkInfoRes = GetWalkInfoRes.builder()
@@ -680,8 +602,8 @@ public class WalkService {
                     .distance(walkByNumber.getDistance())
                     .footCount(footprintList.size())
                     .footCoordinates(footCoordinate)
-                    .pathImageUrl(new AES128(encryptProperties.getKey()).decrypt(walkByNumber.getPathImageUrl()))
-                    .coordinate(convertStringTo2DList(walkByNumber.getCoordinate()))
+                    .pathImageUrl(cryptoService.decrypt(walkByNumber.getPathImageUrl()))
+                    .coordinate(routeCodec.decode(walkByNumber.getRoute(), walkByNumber.getRouteLod(), walkByNumber.getCoordinate(), routeDetail))
                     .build();
             return getWalkInfoRes;
         } catch (Exception exception) {
@@ -690,17 +612,35 @@ public class WalkService {
     }
 
     public Walk getWalkByNumber(int walkNumber, int userIdx) throws BaseException {
-        PageRequest pageRequest = PageRequest.of(walkNumber - 1, 1);
         try {
-            Page<Walk> walkPage = walkRepository.findByUserIdxAndStatusOrderByStartAtAsc(userIdx, "ACTIVE", pageRequest);
-            if (walkPage.getTotalElements() == 0) {
+            Walk walk = findActiveWalkByNumber(walkNumber, userIdx);
+            if (walk == null) {
+                // 다른 서버에서 산책이 바뀌어 캐시가 오래됐을 수 있으므로 다시 적재해서 한 번 더 확인
+                walkOrdinalCache.evict(userIdx);
+                walk = findActiveWalkByNumber(walkNumber, userIdx);
+            }
+            if (walk == null) {
                 throw new BaseException(DELETED_WALK);
             }
-            Walk walkByNumber = walkPage.get().collect(Collectors.toList()).get(0);
-            return walkByNumber;
+            return walk;
         } catch (Exception exception) {
             log.info("삭제된 산책입니다.");
             throw new BaseException(INVALID_WALKIDX);
         }
     }
+
+    /**
+     * 캐시의 walkIdx 가 이 유저의 ACTIVE 산책이고 DB 에서도 walkNumber번째일 때만 반환, 아니면 null
+     * 캐시는 다른 서버의 삭제를 모를 수 있으므로 (번호가 밀린 다른 산책을 가리킴) 순서를 DB 에서 확인한다.
+     */
+    private Walk findActiveWalkByNumber(int walkNumber, int userIdx) {
+        Integer walkIdx = walkOrdinalCache.getWalkIdx(userIdx, walkNumber);
+        if (walkIdx == null) {
+            return null;
+        }
+        return walkRepository.findByWalkIdx(walkIdx)
+                .filter(walk -> walk.getUserIdx() == userIdx && "ACTIVE".equals(walk.getStatus()))
+                .filter(walk -> walkRepository.countActiveWalkBefore(userIdx, walk.getStartAt(), walk.getWalkIdx()) == walkNumber - 1)
+                .orElse(null);
+    }
 }
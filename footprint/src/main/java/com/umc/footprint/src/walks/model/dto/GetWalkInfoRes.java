@@ -1,9 +1,9 @@
 package com.umc.footprint.src.walks.model.dto;
 
+import com.umc.footprint.src.common.model.vo.RoutePath;
 import com.umc.footprint.src.walks.model.vo.GetWalkTime;
 import lombok.*;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @Getter
@@ -15,7 +15,7 @@ public class GetWalkInfoRes {
     private final int calorie;
     private final double distance;
     private final int footCount;
-    private final List<List<Double>> footCoordinates;
+    private final List<double[]> footCoordinates;
     private final String pathImageUrl;
-    private final List<ArrayList<Double>> coordinate;
+    private final RoutePath coordinate;
 }
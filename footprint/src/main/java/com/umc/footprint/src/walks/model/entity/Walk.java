@@ -9,6 +9,13 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * 산책
+ * 경로는 route(암호화된 바이너리, RouteCodec)에 저장하고, coordinate 는 route 이전에 저장된 행만 사용한다.
+ * route_lod 는 지도 미리보기용으로 미리 간략화한 경로 (RouteCodec.encodeLevels)
+ * (ALTER TABLE Walk ADD COLUMN route MEDIUMBLOB NULL AFTER coordinate)
+ * (ALTER TABLE Walk ADD COLUMN route_lod MEDIUMBLOB NULL AFTER route)
+ */
 @Getter
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -31,6 +38,14 @@ public class Walk {
     @Column(name = "coordinate", nullable = false, columnDefinition = "LONGTEXT")
     private String coordinate;
 
+    @Lob
+    @Column(name = "route", columnDefinition = "MEDIUMBLOB")
+    private byte[] route;
+
+    @Lob
+    @Column(name = "route_lod", columnDefinition = "MEDIUMBLOB")
+    private byte[] routeLod;
+
     @Column(name = "pathImageUrl")
     private String pathImageUrl;
 
@@ -51,12 +66,14 @@ public class Walk {
     private List<Footprint> footprintList = new ArrayList<>();
 
     @Builder
-    public Walk(Integer walkIdx, LocalDateTime startAt, LocalDateTime endAt, Double distance, String coordinate, String pathImageUrl, String status, Integer userIdx, Double goalRate, Integer calorie) {
+    public Walk(Integer walkIdx, LocalDateTime startAt, LocalDateTime endAt, Double distance, String coordinate, byte[] route, byte[] routeLod, String pathImageUrl, String status, Integer userIdx, Double goalRate, Integer calorie) {
         this.walkIdx = walkIdx;
         this.startAt = startAt;
         this.endAt = endAt;
         this.distance = distance;
         this.coordinate = coordinate;
+        this.route = route;
+        this.routeLod = routeLod;
         this.pathImageUrl = pathImageUrl;
         this.status = status;
         this.userIdx = userIdx;
@@ -79,4 +96,15 @@ public class Walk {
     public void changeStatus(String status) {
         this.status = status;
     }
+
+    // 바이너리 경로 채우기 (간략화 경로 포함), 기존 텍스트 경로는 확인 후 clearLegacyCoordinate 로 비운다.
+    public void migrateRoute(byte[] route, byte[] routeLod) {
+        this.route = route;
+        this.routeLod = routeLod;
+    }
+
+    // route 와 같은지 확인한 기존 텍스트 경로 비우기
+    public void clearLegacyCoordinate() {
+        this.coordinate = "";
+    }
 }
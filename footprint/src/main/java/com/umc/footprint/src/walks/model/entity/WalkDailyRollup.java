@@ -0,0 +1,74 @@
+package com.umc.footprint.src.walks.model.entity;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+
+/**
+ * 유저별 일별 산책 집계
+ * Walk 저장/삭제 시 WalkDailyRollupRepository.accumulate 로 증감한다.
+ *
+ * CREATE TABLE WalkDailyRollup (
+ *     rollupIdx INT AUTO_INCREMENT PRIMARY KEY,
+ *     userIdx INT NOT NULL,
+ *     walkDate DATE NOT NULL,
+ *     walkCount INT NOT NULL DEFAULT 0,
+ *     totalSeconds BIGINT NOT NULL DEFAULT 0,
+ *     distance DOUBLE NOT NULL DEFAULT 0,
+ *     calorie INT NOT NULL DEFAULT 0,
+ *     goalRateSum DOUBLE NOT NULL DEFAULT 0,
+ *     UNIQUE KEY uk_walk_daily_rollup (userIdx, walkDate)
+ * );
+ *
+ * 기존 데이터 적재
+ * INSERT INTO WalkDailyRollup (userIdx, walkDate, walkCount, totalSeconds, distance, calorie, goalRateSum)
+ * SELECT userIdx, DATE(startAt), COUNT(*), SUM(TIMESTAMPDIFF(SECOND, startAt, endAt)), SUM(distance), IFNULL(SUM(calorie), 0), SUM(goalRate)
+ * FROM Walk WHERE status = 'ACTIVE' GROUP BY userIdx, DATE(startAt);
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "WalkDailyRollup")
+public class WalkDailyRollup {
+    @Id
+    @Column(name = "rollupIdx")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer rollupIdx;
+
+    @Column(name = "userIdx", nullable = false)
+    private Integer userIdx;
+
+    @Column(name = "walkDate", nullable = false)
+    private LocalDate walkDate;
+
+    @Column(name = "walkCount", nullable = false)
+    private Integer walkCount;
+
+    @Column(name = "totalSeconds", nullable = false)
+    private Long totalSeconds;
+
+    @Column(name = "distance", nullable = false)
+    private Double distance;
+
+    @Column(name = "calorie", nullable = false)
+    private Integer calorie;
+
+    @Column(name = "goalRateSum", nullable = false)
+    private Double goalRateSum;
+
+    @Builder
+    public WalkDailyRollup(Integer rollupIdx, Integer userIdx, LocalDate walkDate, Integer walkCount, Long totalSeconds, Double distance, Integer calorie, Double goalRateSum) {
+        this.rollupIdx = rollupIdx;
+        this.userIdx = userIdx;
+        this.walkDate = walkDate;
+        this.walkCount = walkCount;
+        this.totalSeconds = totalSeconds;
+        this.distance = distance;
+        this.calorie = calorie;
+        this.goalRateSum = goalRateSum;
+    }
+}
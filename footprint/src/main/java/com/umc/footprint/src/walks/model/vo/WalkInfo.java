@@ -1,11 +1,11 @@
 package com.umc.footprint.src.walks.model.vo;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.umc.footprint.src.common.model.vo.RoutePath;
 import io.swagger.annotations.ApiModelProperty;
 import lombok.*;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 @Getter
 @NoArgsConstructor
@@ -26,7 +26,7 @@ public class WalkInfo {
     private double distance;
 
     @ApiModelProperty(value = "산책 좌표", example = "[[1.5, 2.12, 3.31, 4.25],[1.64, 9.51]]")
-    private List<List<Double>> coordinates;
+    private RoutePath coordinates;
 
     @ApiModelProperty(value = "산책 string 좌표", hidden = true, example = "")
     private String strCoordinates;
@@ -41,7 +41,7 @@ public class WalkInfo {
     private String thumbnail;
 
     @Builder
-    public WalkInfo(int walkIdx, LocalDateTime startAt, LocalDateTime endAt, double distance, List<List<Double>> coordinates, int userIdx, String strCoordinates, Double goalRate, int calorie, String thumbnail) {
+    public WalkInfo(int walkIdx, LocalDateTime startAt, LocalDateTime endAt, double distance, RoutePath coordinates, int userIdx, String strCoordinates, Double goalRate, int calorie, String thumbnail) {
         this.walkIdx = walkIdx;
         this.startAt = startAt;
         this.endAt = endAt;
@@ -0,0 +1,56 @@
+package com.umc.footprint.src.walks.repository;
+
+import com.umc.footprint.src.walks.model.entity.WalkDailyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface WalkDailyRollupRepository extends JpaRepository<WalkDailyRollup, Integer> {
+
+    /**
+     * 일별 집계 증감 (산책 저장 시 +, 삭제 시 - 값 전달)
+     * (userIdx, walkDate) 유니크 키로 upsert 하므로 동시 저장에도 행이 하나만 생긴다.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO WalkDailyRollup (userIdx, walkDate, walkCount, totalSeconds, distance, calorie, goalRateSum) " +
+            "VALUES (:userIdx, :walkDate, :walkCount, :totalSeconds, :distance, :calorie, :goalRate) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "walkCount = walkCount + VALUES(walkCount), " +
+            "totalSeconds = totalSeconds + VALUES(totalSeconds), " +
+            "distance = distance + VALUES(distance), " +
+            "calorie = calorie + VALUES(calorie), " +
+            "goalRateSum = goalRateSum + VALUES(goalRateSum)",
+            nativeQuery = true)
+    void accumulate(@Param("userIdx") int userIdx,
+                    @Param("walkDate") LocalDate walkDate,
+                    @Param("walkCount") int walkCount,
+                    @Param("totalSeconds") long totalSeconds,
+                    @Param("distance") double distance,
+                    @Param("calorie") int calorie,
+                    @Param("goalRate") double goalRate);
+
+    @Query("select r from WalkDailyRollup r where r.userIdx = :userIdx and r.walkDate = :walkDate and r.walkCount > 0")
+    Optional<WalkDailyRollup> findByUserIdxAndWalkDate(@Param("userIdx") int userIdx, @Param("walkDate") LocalDate walkDate);
+
+    @Query("select r from WalkDailyRollup r " +
+            "where r.userIdx = :userIdx and r.walkDate between :startDate and :endDate and r.walkCount > 0 " +
+            "order by r.walkDate")
+    List<WalkDailyRollup> findAllByUserIdxAndWalkDateBetween(@Param("userIdx") int userIdx,
+                                                             @Param("startDate") LocalDate startDate,
+                                                             @Param("endDate") LocalDate endDate);
+
+    @Query("select r from WalkDailyRollup r where r.userIdx = :userIdx and r.walkCount > 0")
+    List<WalkDailyRollup> findAllByUserIdx(@Param("userIdx") int userIdx);
+
+    @Transactional
+    @Modifying
+    @Query("delete from WalkDailyRollup r where r.userIdx = :userIdx")
+    void deleteAllByUserIdx(@Param("userIdx") int userIdx);
+}
@@ -2,16 +2,12 @@ package com.umc.footprint.src.walks.repository;
 
 import com.umc.footprint.src.badge.model.vo.ObtainedBadgeInterface;
 import com.umc.footprint.src.course.model.dto.projection.HashTagProjection;
-import com.umc.footprint.src.footprints.model.vo.GetFootprintCountInterface;
-import com.umc.footprint.src.goal.model.vo.GetMonthTotalInterface;
-import com.umc.footprint.src.users.model.vo.GetDayRateResInterface;
 import com.umc.footprint.src.walks.model.entity.Walk;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -50,32 +46,31 @@ public interface WalkRepository extends JpaRepository<Walk, Integer> {
 
     Optional<Walk> findTopByUserIdxAndStatusOrderByStartAtAsc(Integer userIdx, String status);
 
-    Page<Walk> findByUserIdxAndStatusOrderByStartAtAsc(Integer userIdx, String status, Pageable pageable);
+    @Query(value = "SELECT walkIdx FROM Walk WHERE userIdx = :userIdx AND status = 'ACTIVE' ORDER BY startAt, walkIdx",
+            nativeQuery = true)
+    List<Integer> getActiveWalkIdxOrderByStartAt(@Param(value = "userIdx") int userIdx);
+
+    // startAt, walkIdx 순으로 이 산책보다 앞에 있는 유저의 ACTIVE 산책 수 (n번째 산책이면 n - 1)
+    @Query(value = "SELECT COUNT(*) FROM Walk WHERE userIdx = :userIdx AND status = 'ACTIVE' " +
+            "AND (startAt < :startAt OR (startAt = :startAt AND walkIdx < :walkIdx))",
+            nativeQuery = true)
+    int countActiveWalkBefore(@Param(value = "userIdx") int userIdx, @Param(value = "startAt") LocalDateTime startAt,
+                              @Param(value = "walkIdx") int walkIdx);
+
+    // route(바이너리) 또는 route_lod(간략화 경로)가 없는 산책 (walkIdx 순)
+    @Query(value = "SELECT walkIdx FROM Walk WHERE walkIdx > :lastWalkIdx AND route_lod IS NULL " +
+            "AND (route IS NOT NULL OR coordinate <> '') " +
+            "ORDER BY walkIdx LIMIT :size",
+            nativeQuery = true)
+    List<Integer> findLegacyRouteWalkIdx(@Param(value = "lastWalkIdx") int lastWalkIdx, @Param(value = "size") int size);
+
+    // route 로 옮겼지만 coordinate 가 남아 있는 산책 (walkIdx 순)
+    @Query(value = "SELECT walkIdx FROM Walk WHERE walkIdx > :lastWalkIdx AND route IS NOT NULL AND route_lod IS NOT NULL " +
+            "AND coordinate <> '' " +
+            "ORDER BY walkIdx LIMIT :size",
+            nativeQuery = true)
+    List<Integer> findMigratedRouteWalkIdx(@Param(value = "lastWalkIdx") int lastWalkIdx, @Param(value = "size") int size);
 
-    @Query(value = "select day(startAt) as day, sum(goalRate) as rate from Walk " +
-            "where userIdx=? and status = 'ACTIVE' and year(startAt)=? " +
-            "and month(startAt)=? group by day(startAt)",
-            nativeQuery = true
-    )
-    List<GetDayRateResInterface> getRateByUserIdxAndStartAt(int userIdx, int year, int month);
-
-    @Query(value = "SELECT IFNULL(sum((timestampdiff(SECOND ,startAt, endAt))),0) AS monthTotalMin, " +
-            "IFNULL(sum(distance),0) AS monthTotalDistance," +
-            "IFNULL(sum(calorie),0) AS monthPerCal " +
-            "FROM Walk " +
-            "WHERE userIdx=:userIdx AND status = 'ACTIVE' AND YEAR(startAt)=:nowYear AND MONTH(startAt)=:nowMonth",
-    nativeQuery = true)
-    GetMonthTotalInterface getMonthTotalByQuery(@Param(value = "userIdx") int userIdx,
-                                                @Param(value = "nowYear") int nowYear,
-                                                @Param(value = "nowMonth") int nowMonth);
-
-    @Query(value = "SELECT DAY(startAt) AS day, COUNT(walkIdx) AS walkCount FROM Walk " +
-            "WHERE userIdx=:userIdx AND YEAR(startAt)=:yy AND MONTH(startAt)=:mm AND status='ACTIVE' GROUP BY DAY(startAt);",
-    nativeQuery = true)
-    List<GetFootprintCountInterface> getMonthFootCountByQuery(@Param(value = "userIdx") int userIdx,
-                                                              @Param(value = "yy") int yy,
-                                                              @Param(value = "mm") int mm);
-                                                              
     @Query(value = "SELECT dayofweek(startAt) AS DAY FROM Walk " +
             "WHERE userIdx=:userIdx " +
             "AND status = 'ACTIVE' " +
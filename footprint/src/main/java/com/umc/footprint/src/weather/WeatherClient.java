@@ -0,0 +1,95 @@
+package com.umc.footprint.src.weather;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * OpenWeatherMap 비동기 클라이언트
+ * - HttpClient 하나를 재사용해서 keep-alive 연결을 공유하고, 응답을 기다리는 동안 스레드를 점유하지 않는다.
+ * - 동시에 진행하는 호출 수를 제한하고, 넘치면 바로 실패시킨다.
+ * - 연속으로 실패하면 일정 시간 호출하지 않고 바로 실패시킨다. (서킷 브레이커, 이후 첫 호출 성공 시 복구)
+ */
+@Slf4j
+@Component
+public class WeatherClient {
+
+    private final HttpClient httpClient;
+    private final String apiUrl;
+    private final String serviceKey;
+    private final Duration timeout;
+    private final Semaphore permits;
+    private final int failureThreshold;
+    private final long openMillis;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long openUntil = 0;
+
+    public WeatherClient(@Value("${weather.client.url:https://api.openweathermap.org/data/2.5/weather}") String apiUrl,
+                         @Value("${weather.service-key}") String serviceKey,
+                         @Value("${weather.client.timeout-millis:1500}") long timeoutMillis,
+                         @Value("${weather.client.max-concurrency:16}") int maxConcurrency,
+                         @Value("${weather.client.failure-threshold:5}") int failureThreshold,
+                         @Value("${weather.client.open-seconds:30}") long openSeconds) {
+        this.apiUrl = apiUrl;
+        this.serviceKey = serviceKey;
+        this.timeout = Duration.ofMillis(timeoutMillis);
+        this.permits = new Semaphore(maxConcurrency);
+        this.failureThreshold = failureThreshold;
+        this.openMillis = TimeUnit.SECONDS.toMillis(openSeconds);
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(timeout)
+                .build();
+    }
+
+    /**
+     * 위도/경도의 현재 날씨 응답 JSON
+     * 2xx 가 아닌 응답, 시간 초과, 동시 호출 수 초과, 서킷 열림은 실패한 future 를 반환한다.
+     */
+    public CompletableFuture<byte[]> fetch(double lat, double lon) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(
+                        apiUrl + "?lat=" + lat + "&lon=" + lon + "&appid=" + serviceKey + "&units=metric"))
+                .timeout(timeout)
+                .header("Content-type", "application/json")
+                .GET()
+                .build();
+
+        if (System.currentTimeMillis() < openUntil) {
+            return CompletableFuture.failedFuture(new IOException("날씨 API 호출 차단 중 (서킷 열림)"));
+        }
+        if (!permits.tryAcquire()) {
+            return CompletableFuture.failedFuture(new IOException("날씨 API 동시 호출 수 초과"));
+        }
+
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                // 연결 + 응답 전체 시간 제한
+                .orTimeout(timeout.toMillis() * 2, TimeUnit.MILLISECONDS)
+                .thenApply(response -> {
+                    if (response.statusCode() < 200 || response.statusCode() >= 300) {
+                        throw new IllegalStateException("날씨 API 응답 코드: " + response.statusCode());
+                    }
+                    return response.body();
+                })
+                .whenComplete((body, exception) -> {
+                    permits.release();
+                    if (exception == null) {
+                        consecutiveFailures.set(0);
+                    } else if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+                        openUntil = System.currentTimeMillis() + openMillis;
+                        log.warn("날씨 API {}회 연속 실패, {}초 동안 호출 차단", consecutiveFailures.get(), openMillis / 1000);
+                    }
+                });
+    }
+}
@@ -1,159 +1,286 @@
 package com.umc.footprint.src.weather;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.umc.footprint.src.weather.model.PostWeatherRes;
+import com.umc.footprint.src.weather.model.WeatherObservation;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.json.JSONException;
-import org.json.JSONObject;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 날씨 조회 (OpenWeatherMap)
+ * 위도/경도를 geohash 5자리(약 5km x 5km) 타일로 묶어서 타일별로 캐시한다.
+ * - ttl 동안은 캐시 값을 그대로 반환
+ * - ttl 이후 stale 시간 동안은 캐시 값을 반환하면서 백그라운드에서 갱신
+ * - 캐시가 없는 타일에 동시에 요청이 몰리면 외부 API 는 한 번만 호출하고 나머지는 그 결과를 기다린다.
+ * 외부 API 는 WeatherClient 로 비동기 호출하므로 요청 스레드는 응답을 기다리지 않는다.
+ */
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class WeatherService {
 
-    public PostWeatherRes postWeather(BufferedReader rd) {
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
 
-        String result = "";
+    private static final int GEOHASH_PRECISION = 5;
+    private static final String GEOHASH_BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz";
 
-        try {
-            StringBuilder sb = new StringBuilder();
-            String line;
-            while ((line = rd.readLine()) != null) {
-                sb.append(line);
-            }
+    // 캐시에 보관할 최대 타일 수 (초과 시 가장 오래 사용하지 않은 타일부터 제거)
+    private static final int MAX_CACHED_TILES = 1_000;
 
-            rd.close();
-            result = sb.toString();
-        } catch (IOException io) {
-            System.out.println("io = " + io);
-        }
+    private final WeatherClient weatherClient;
 
-        String temp = getTemp(result);
-        String weather = "-";
-
-        String isRain = checkRain(result);
-        String isSnow = checkSnow(result);
-
-        if(!isRain.equals("none")){
-            return PostWeatherRes.builder()
-                    .temperature(temp)
-                    .weather("비")
-                    .build();
-        } else if (!isSnow.equals("none")){
-            return PostWeatherRes.builder()
-                    .temperature(temp)
-                    .weather("눈")
-                    .build();
-        } else {
-            weather = getMain(result);
+    @Value("${weather.cache.ttl-seconds:600}")
+    private long ttlSeconds;
 
-            return PostWeatherRes.builder()
-                    .temperature(temp)
-                    .weather(weather)
-                    .build();
-        }
+    @Value("${weather.cache.stale-seconds:1800}")
+    private long staleSeconds;
 
-    }
+    private final Map<String, CachedWeather> weatherByTile = Collections.synchronizedMap(
+            new LinkedHashMap<String, CachedWeather>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedWeather> eldest) {
+                    return size() > MAX_CACHED_TILES;
+                }
+            });
 
-    public String checkRain(String result){
+    // 타일별 진행 중인 외부 API 호출
+    private final ConcurrentMap<String, CompletableFuture<PostWeatherRes>> inFlight = new ConcurrentHashMap<>();
 
-        String isRain = "";
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder staleHitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder upstreamCallCount = new LongAdder();
+    private final LongAdder upstreamFailCount = new LongAdder();
 
-        try {
-            JSONObject resultJson = new JSONObject(result);
+    /**
+     * 위도/경도의 현재 날씨
+     * 캐시가 없거나 stale 시간도 지났으면 외부 API 를 호출한다. (같은 타일 호출이 진행 중이면 그 결과를 기다림)
+     * 외부 API 호출이 실패하면 마지막으로 받은 날씨를, 그것도 없으면 "-" 를 반환한다.
+     */
+    public CompletableFuture<PostWeatherRes> getWeather(double lat, double lon) {
+        String tile = geohash(lat, lon, GEOHASH_PRECISION);
+        long now = System.currentTimeMillis();
 
-            String rain = resultJson.getString("rain");
-            JSONObject rainJson = new JSONObject(rain);
-            String oneHourRain = rainJson.getString("1h");
-
-            return oneHourRain;
-        } catch (JSONException json){
-            isRain = "none";
-
-            return isRain;
+        CachedWeather cached = weatherByTile.get(tile);
+        if (cached != null && now < cached.freshUntil) {
+            hitCount.increment();
+            return CompletableFuture.completedFuture(cached.weather);
         }
+        if (cached != null && now < cached.staleUntil) {
+            staleHitCount.increment();
+            load(tile, lat, lon);
+            return CompletableFuture.completedFuture(cached.weather);
+        }
+
+        missCount.increment();
+        return load(tile, lat, lon);
     }
 
-    public String checkSnow(String result){
+    @Scheduled(initialDelay = 600_000, fixedDelay = 600_000)
+    public void logCacheStats() {
+        log.info("날씨 캐시 hit: {}, stale hit: {}, miss: {}, 외부 API 호출: {} (실패 {}), 캐시 타일 수: {}",
+                hitCount.sum(), staleHitCount.sum(), missCount.sum(),
+                upstreamCallCount.sum(), upstreamFailCount.sum(), weatherByTile.size());
+    }
 
-        String isSnow = "";
+    // 타일당 하나의 호출만 진행 (이미 진행 중이면 그 호출의 결과)
+    private CompletableFuture<PostWeatherRes> load(String tile, double lat, double lon) {
+        CompletableFuture<PostWeatherRes> future = new CompletableFuture<>();
+        CompletableFuture<PostWeatherRes> running = inFlight.putIfAbsent(tile, future);
+        if (running != null) {
+            return running;
+        }
 
-        try {
-            JSONObject resultJson = new JSONObject(result);
+        upstreamCallCount.increment();
+        weatherClient.fetch(lat, lon).whenComplete((body, exception) -> {
+            inFlight.remove(tile, future);
+            if (exception == null) {
+                PostWeatherRes weather = postWeather(body);
+                long now = System.currentTimeMillis();
+                long freshUntil = now + TimeUnit.SECONDS.toMillis(ttlSeconds);
+                weatherByTile.put(tile, new CachedWeather(weather, freshUntil, freshUntil + TimeUnit.SECONDS.toMillis(staleSeconds)));
+                future.complete(weather);
+                return;
+            }
 
-            String snow = resultJson.getString("snow");
-            JSONObject snowJson = new JSONObject(snow);
-            String oneHourSnow = snowJson.getString("1h");
+            upstreamFailCount.increment();
+            log.warn("날씨 조회 실패 tile: {}, {}", tile, exception.getMessage());
+            // 마지막으로 받은 날씨 (없으면 "-")
+            CachedWeather lastKnown = weatherByTile.get(tile);
+            future.complete(lastKnown != null ? lastKnown.weather : PostWeatherRes.builder()
+                    .temperature("-")
+                    .weather("-")
+                    .build());
+        });
+        return future;
+    }
 
-            return oneHourSnow;
-        } catch (JSONException json){
-            isSnow = "none";
+    // 위도/경도 -> geohash 문자열
+    private static String geohash(double lat, double lon, int precision) {
+        double minLat = -90, maxLat = 90;
+        double minLon = -180, maxLon = 180;
+        StringBuilder hash = new StringBuilder(precision);
+
+        boolean evenBit = true;
+        int bit = 0;
+        int ch = 0;
+        while (hash.length() < precision) {
+            if (evenBit) {
+                double mid = (minLon + maxLon) / 2;
+                if (lon >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLon = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLon = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (lat >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLat = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
 
-            return isSnow;
+            if (++bit == 5) {
+                hash.append(GEOHASH_BASE32.charAt(ch));
+                bit = 0;
+                ch = 0;
+            }
         }
+        return hash.toString();
     }
 
-    public String getTemp(String result){
-
-        String temp = "-";
-        try {
-            JSONObject resultJson = new JSONObject(result);
-
-            // main 중 temp 부분 가져오기
-            String main = resultJson.getString("main");
-            JSONObject mainJson = new JSONObject(main);
-            temp = mainJson.getString("temp");
-
-            // temp float to int
-            float tempFloat = Float.parseFloat(temp);
-            int tempInt = Math.round(tempFloat);
-            temp = Integer.toString(tempInt);
-
-            return temp;
-        } catch(JSONException json){
-            log.debug("getTemp JSON ERROR");
-            return temp;
+    /**
+     * 응답 JSON -> 온도, 날씨 유형
+     * 비(rain.1h) > 눈(snow.1h) > 바람(풍속 13m/s 초과) > 흐림(구름 80% 초과) > 구름 많음(60% 초과) > 맑음
+     * 값이 없으면 "-"
+     */
+    public PostWeatherRes postWeather(byte[] body) {
+        WeatherObservation observation = parseObservation(body);
+
+        String temp = Float.isNaN(observation.getTemperature()) ? "-" : Integer.toString(Math.round(observation.getTemperature()));
+
+        String weather;
+        if (observation.isRain()) {
+            weather = "비";
+        } else if (observation.isSnow()) {
+            weather = "눈";
+        } else if (Float.isNaN(observation.getWindSpeed()) || Float.isNaN(observation.getCloudiness())) {
+            weather = "-";
+        } else if (observation.getWindSpeed() > 13) {
+            weather = "바람";
+        } else if (observation.getCloudiness() > 80) {
+            weather = "흐림";
+        } else if (observation.getCloudiness() > 60) {
+            weather = "구름 많음";
+        } else {
+            weather = "맑음";
         }
 
+        return PostWeatherRes.builder()
+                .temperature(temp)
+                .weather(weather)
+                .build();
     }
 
-    public String getMain(String result){
+    // 응답 JSON 을 한 번만 훑으면서 필요한 값만 읽는다. (나머지 필드는 건너뜀)
+    private WeatherObservation parseObservation(byte[] body) {
+        float temperature = Float.NaN;
+        boolean rain = false;
+        boolean snow = false;
+        float windSpeed = Float.NaN;
+        float cloudiness = Float.NaN;
+
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String section = parser.getCurrentName();
+                    if (parser.nextToken() != JsonToken.START_OBJECT) {
+                        parser.skipChildren();
+                        continue;
+                    }
+
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String field = parser.getCurrentName();
+                        parser.nextToken();
+                        switch (section) {
+                            case "main":
+                                if (field.equals("temp")) temperature = readFloat(parser);
+                                break;
+                            case "wind":
+                                if (field.equals("speed")) windSpeed = readFloat(parser);
+                                break;
+                            case "clouds":
+                                if (field.equals("all")) cloudiness = readFloat(parser);
+                                break;
+                            case "rain":
+                                rain |= field.equals("1h");
+                                break;
+                            case "snow":
+                                snow |= field.equals("1h");
+                                break;
+                            default:
+                                break;
+                        }
+                        parser.skipChildren();
+                    }
+                }
+            }
+        } catch (IOException exception) {
+            log.debug("날씨 응답 JSON 파싱 실패: {}", exception.getMessage());
+        }
 
-        //======= 이 밑에 부터는 json에서 데이터 파싱해 오는 부분 =====//
-        // response 키를 가지고 데이터를 파싱
-        String weather = "-";
+        return WeatherObservation.builder()
+                .temperature(temperature)
+                .rain(rain)
+                .snow(snow)
+                .windSpeed(windSpeed)
+                .cloudiness(cloudiness)
+                .build();
+    }
 
+    // 숫자 또는 숫자 문자열, 아니면 NaN
+    private static float readFloat(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (!token.isNumeric() && token != JsonToken.VALUE_STRING) {
+            return Float.NaN;
+        }
         try {
-            JSONObject resultJson = new JSONObject(result);
-
-            // wind 중 speed 부분 가져오기
-            String wind = resultJson.getString("wind");
-            JSONObject windJson = new JSONObject(wind);
-            String speed = windJson.getString("speed");
-
-            // cloud 중 all 부분 가져오기
-            String clouds = resultJson.getString("clouds");
-            JSONObject cloudsJson = new JSONObject(clouds);
-            String all = cloudsJson.getString("all");
-
-            if(Float.parseFloat(speed) > 13)
-                weather = "바람";
-            else if(Float.parseFloat(all) > 80)
-                weather = "흐림";
-            else if(Float.parseFloat(all) > 60)
-                weather = "구름 많음";
-            else
-                weather = "맑음";
-
-            return weather;
-
-        } catch (JSONException json){
-            log.debug("getMain JSON ERROR");
-            return weather;
+            return Float.parseFloat(parser.getText());
+        } catch (NumberFormatException exception) {
+            return Float.NaN;
         }
-
     }
 
+    private static class CachedWeather {
+        private final PostWeatherRes weather;
+        private final long freshUntil;
+        private final long staleUntil;
+
+        CachedWeather(PostWeatherRes weather, long freshUntil, long staleUntil) {
+            this.weather = weather;
+            this.freshUntil = freshUntil;
+            this.staleUntil = staleUntil;
+        }
+    }
 }
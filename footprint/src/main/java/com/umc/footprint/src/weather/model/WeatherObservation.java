@@ -0,0 +1,31 @@
+package com.umc.footprint.src.weather.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * OpenWeatherMap 현재 날씨 응답 중 사용하는 값
+ * 응답에 없는 숫자 값은 NaN
+ */
+@Getter
+public class WeatherObservation {
+    // main.temp (℃)
+    private final float temperature;
+    // rain.1h 가 있는지
+    private final boolean rain;
+    // snow.1h 가 있는지
+    private final boolean snow;
+    // wind.speed (m/s)
+    private final float windSpeed;
+    // clouds.all (%)
+    private final float cloudiness;
+
+    @Builder
+    public WeatherObservation(float temperature, boolean rain, boolean snow, float windSpeed, float cloudiness) {
+        this.temperature = temperature;
+        this.rain = rain;
+        this.snow = snow;
+        this.windSpeed = windSpeed;
+        this.cloudiness = cloudiness;
+    }
+}
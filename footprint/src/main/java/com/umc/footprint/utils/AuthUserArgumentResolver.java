@@ -0,0 +1,58 @@
+package com.umc.footprint.utils;
+
+import com.umc.footprint.config.BaseException;
+import com.umc.footprint.config.BaseResponseStatus;
+import com.umc.footprint.src.users.model.vo.AuthUser;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import static com.umc.footprint.config.BaseResponseStatus.NOT_EXIST_USER;
+
+/**
+ * 컨트롤러의 AuthUser 파라미터를 X-ACCESS-TOKEN 사용자로 채운다.
+ * 가입된 사용자만 허용한다. (userIdx 가 항상 있음)
+ * 실패하면 AuthUserException 으로 감싸 던지고 BaseExceptionHandler 가 BaseResponse 로 응답한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuthUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final JwtService jwtService;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.getParameterType() == AuthUser.class;
+    }
+
+    @Override
+    public AuthUser resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                    NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        AuthUser authUser;
+        try {
+            authUser = jwtService.getAuthUser();
+        } catch (BaseException exception) {
+            throw new AuthUserException(exception.getStatus());
+        }
+        if (authUser.getUserIdx() == null) {
+            throw new AuthUserException(NOT_EXIST_USER);
+        }
+        return authUser;
+    }
+
+    // BaseException 은 Exception 이 아니라서 resolveArgument 밖으로 던질 수 없음
+    @Getter
+    public static class AuthUserException extends RuntimeException {
+        private final BaseResponseStatus status;
+
+        public AuthUserException(BaseResponseStatus status) {
+            super(status.getMessage());
+            this.status = status;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.umc.footprint.utils;
+
+import com.umc.footprint.src.users.model.vo.AuthUser;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 검증된 JWT -> 사용자 캐시
+ * 토큰 SHA-256 다이제스트를 키로 사용자(userId, userIdx, status)를 보관해서
+ * 같은 토큰의 서명 검증과 사용자 조회를 반복하지 않는다.
+ * 토큰 만료 시각과 MAX_AGE_MILLIS 중 이른 시각까지만 사용하고, 회원 탈퇴나 상태 변경 시 evict 한다.
+ * evict 는 이 서버의 캐시만 지우므로, 다른 서버는 MAX_AGE_MILLIS 동안 이전 상태를 볼 수 있다.
+ * (쓰기 요청은 JwtService 가 캐시에서 꺼낸 뒤 User.status 를 다시 확인)
+ */
+@Component
+public class AuthUserCache {
+
+    // 캐시에 보관할 최대 토큰 수 (초과 시 가장 오래 사용하지 않은 토큰부터 제거)
+    private static final int MAX_CACHED_TOKENS = 10_000;
+    // 다른 경로로 바뀐 상태(BLACK 등)가 반영되도록 최대 보관 시간 제한
+    private static final long MAX_AGE_MILLIS = 10 * 60 * 1000L;
+
+    private final Map<String, Entry> authUsers = Collections.synchronizedMap(
+            new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                    return size() > MAX_CACHED_TOKENS;
+                }
+            });
+
+    // 만료되지 않은 사용자, 없으면 null
+    public AuthUser get(String tokenDigest) {
+        Entry entry = authUsers.get(tokenDigest);
+        if (entry == null) {
+            return null;
+        }
+        if (System.currentTimeMillis() >= entry.expiresAt) {
+            authUsers.remove(tokenDigest);
+            return null;
+        }
+        return entry.authUser;
+    }
+
+    public void put(String tokenDigest, AuthUser authUser, long tokenExpiresAt) {
+        long expiresAt = Math.min(tokenExpiresAt, System.currentTimeMillis() + MAX_AGE_MILLIS);
+        authUsers.put(tokenDigest, new Entry(authUser, expiresAt));
+    }
+
+    /**
+     * 이 서버에 캐시된 사용자의 모든 토큰 제거 (회원 탈퇴, 상태 변경 시)
+     * 트랜잭션 안이라면 커밋 후에 한 번 더 제거해서 커밋 전 데이터가 다시 적재되는 것을 막는다.
+     */
+    public void evict(int userIdx) {
+        removeUser(userIdx);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    removeUser(userIdx);
+                }
+            });
+        }
+    }
+
+    private void removeUser(int userIdx) {
+        synchronized (authUsers) {
+            authUsers.values().removeIf(entry -> entry.authUser.getUserIdx() == userIdx);
+        }
+    }
+
+    private static class Entry {
+        private final AuthUser authUser;
+        private final long expiresAt;
+
+        Entry(AuthUser authUser, long expiresAt) {
+            this.authUser = authUser;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.umc.footprint.utils;
+
+import com.umc.footprint.config.EncryptProperties;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Cipher;
+import javax.crypto.CipherInputStream;
+import javax.crypto.CipherOutputStream;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * AES/CBC/PKCS5Padding 암호화, 복호화 서비스
+ * 키와 IV는 빈 생성 시 한 번만 만들고, Cipher는 스레드별로 초기화된 인스턴스를 재사용한다.
+ * (doFinal 이후 Cipher는 마지막 init 상태로 돌아가므로 매 호출마다 getInstance/init 할 필요가 없음)
+ */
+@Service
+public class CryptoService {
+
+    private static final String TRANSFORMATION = "AES/CBC/PKCS5Padding";
+
+    private final SecretKeySpec keySpec;
+    private final IvParameterSpec ivSpec;
+
+    private final ThreadLocal<Cipher> encryptCipher = new ThreadLocal<>();
+    private final ThreadLocal<Cipher> decryptCipher = new ThreadLocal<>();
+
+    public CryptoService(EncryptProperties encryptProperties) {
+        String key = encryptProperties.getKey();
+        byte[] keyBytes = new byte[16];
+        System.arraycopy(key.getBytes(UTF_8), 0, keyBytes, 0, keyBytes.length);
+        this.keySpec = new SecretKeySpec(keyBytes, "AES");
+        this.ivSpec = new IvParameterSpec(key.substring(0, 16).getBytes(UTF_8));
+    }
+
+    //암호화 관련 함수
+    public String encrypt(String value) throws GeneralSecurityException {
+        return Base64.getEncoder().encodeToString(encrypt(value.getBytes(UTF_8)));
+    }
+
+    //복호화 관련함수
+    public String decrypt(String value) throws GeneralSecurityException {
+        return new String(decrypt(Base64.getDecoder().decode(value)), UTF_8);
+    }
+
+    public byte[] encrypt(byte[] value) throws GeneralSecurityException {
+        return doFinal(encryptCipher, Cipher.ENCRYPT_MODE, value);
+    }
+
+    public byte[] decrypt(byte[] value) throws GeneralSecurityException {
+        return doFinal(decryptCipher, Cipher.DECRYPT_MODE, value);
+    }
+
+    // input의 남은 바이트를 암호화해서 새 버퍼로 반환
+    public ByteBuffer encrypt(ByteBuffer input) throws GeneralSecurityException {
+        return doFinal(encryptCipher, Cipher.ENCRYPT_MODE, input);
+    }
+
+    // input의 남은 바이트를 복호화해서 새 버퍼로 반환
+    public ByteBuffer decrypt(ByteBuffer input) throws GeneralSecurityException {
+        return doFinal(decryptCipher, Cipher.DECRYPT_MODE, input);
+    }
+
+    /**
+     * out 으로 AES 암호화 + Base64 인코딩해서 내보내는 스트림
+     * 스트림마다 별도 Cipher 를 사용하고, close 해야 마지막 블록과 Base64 패딩이 기록된다. (out 도 함께 close 됨)
+     */
+    public OutputStream encryptStream(OutputStream out) throws GeneralSecurityException {
+        Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+        cipher.init(Cipher.ENCRYPT_MODE, keySpec, ivSpec);
+        return new CipherOutputStream(Base64.getEncoder().wrap(out), cipher);
+    }
+
+    // in 의 Base64 암호문을 읽는 대로 디코딩 + 복호화하는 스트림 (스트림마다 별도 Cipher 사용)
+    public InputStream decryptStream(InputStream in) throws GeneralSecurityException {
+        Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+        cipher.init(Cipher.DECRYPT_MODE, keySpec, ivSpec);
+        return new CipherInputStream(Base64.getDecoder().wrap(in), cipher);
+    }
+
+    private byte[] doFinal(ThreadLocal<Cipher> holder, int mode, byte[] value) throws GeneralSecurityException {
+        Cipher cipher = getCipher(holder, mode);
+        try {
+            return cipher.doFinal(value);
+        } catch (GeneralSecurityException e) {
+            // 실패한 Cipher는 상태를 보장할 수 없으므로 버리고 다음 호출에서 새로 생성
+            holder.remove();
+            throw e;
+        }
+    }
+
+    private ByteBuffer doFinal(ThreadLocal<Cipher> holder, int mode, ByteBuffer input) throws GeneralSecurityException {
+        Cipher cipher = getCipher(holder, mode);
+        try {
+            ByteBuffer output = ByteBuffer.allocate(cipher.getOutputSize(input.remaining()));
+            cipher.doFinal(input, output);
+            output.flip();
+            return output;
+        } catch (GeneralSecurityException e) {
+            holder.remove();
+            throw e;
+        }
+    }
+
+    private Cipher getCipher(ThreadLocal<Cipher> holder, int mode) throws GeneralSecurityException {
+        Cipher cipher = holder.get();
+        if (cipher == null) {
+            cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(mode, keySpec, ivSpec);
+            holder.set(cipher);
+        }
+        return cipher;
+    }
+}
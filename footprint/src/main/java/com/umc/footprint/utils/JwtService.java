@@ -1,5 +1,8 @@
 package com.umc.footprint.utils;
 import com.umc.footprint.config.BaseException;
+import com.umc.footprint.src.users.model.entity.User;
+import com.umc.footprint.src.users.model.vo.AuthUser;
+import com.umc.footprint.src.users.repository.UserRepository;
 import io.jsonwebtoken.*;
 
 import lombok.RequiredArgsConstructor;
@@ -10,6 +13,10 @@ import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
 import javax.servlet.http.HttpServletRequest;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.TimeZone;
 
@@ -20,6 +27,12 @@ import static com.umc.footprint.config.BaseResponseStatus.*;
 @RequiredArgsConstructor
 public class JwtService {
 
+    // 요청 안에서 한 번 확인한 사용자를 담아두는 request attribute
+    private static final String AUTH_USER_ATTRIBUTE = JwtService.class.getName() + ".AUTH_USER";
+
+    private final UserRepository userRepository;
+    private final AuthUserCache authUserCache;
+
     @Value("${jwt.secret-key}")
     private String JwtSecretKey;
     /*
@@ -56,29 +69,88 @@ public class JwtService {
     @throws BaseException
      */
     public String getUserId() throws BaseException {
+        return getAuthUser().getUserId();
+    }
+
+    /*
+    JWT의 사용자 (userId, userIdx, status)
+    요청 안에서는 한 번만 확인하고, 같은 토큰은 AuthUserCache 로 서명 검증과 사용자 조회를 건너뛴다.
+    캐시는 서버마다 따로 있어서 다른 서버의 탈퇴, 상태 변경은 바로 반영되지 않으므로 쓰기 요청(GET, HEAD 외)은 status 를 다시 확인한다.
+    가입 전 사용자는 userIdx, status 가 null (캐시하지 않음), 비활성(탈퇴 처리 중) 사용자는 INACTIVE_USER
+    @return AuthUser
+    @throws BaseException
+     */
+    public AuthUser getAuthUser() throws BaseException {
+        HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
+        AuthUser authUser = (AuthUser) request.getAttribute(AUTH_USER_ATTRIBUTE);
+        if (authUser != null) {
+            return authUser;
+        }
+
         //1. JWT 추출
         log.debug("1. JWT 추출");
-        String accessToken = getJwt();
+        String accessToken = request.getHeader("X-ACCESS-TOKEN");
         if (accessToken == null || accessToken.length() == 0) {
             throw new BaseException(EMPTY_JWT);
         }
-        log.debug("accessToken = " + accessToken);
 
-        // 2. JWT parsing
-        Jws<Claims> claims;
-        try {
-            log.debug("2. JWT parsing");
-            claims = Jwts.parser()
-                    .setSigningKey(JwtSecretKey)
-                    .parseClaimsJws(accessToken);
-        } catch (ExpiredJwtException exception) {
-            throw new BaseException(EXPIRED_JWT);
-        } catch (Exception ignored) {
-            log.error("토큰 잘못됨");
-            throw new BaseException(INVALID_JWT);
+        String tokenDigest = digest(accessToken);
+        authUser = authUserCache.get(tokenDigest);
+        if (authUser != null && isWriteRequest(request)
+                && !authUser.getStatus().equals(userRepository.getStatusByUserIdx(authUser.getUserIdx()).orElse(null))) {
+            // 바뀐 상태로 다시 조회 (INACTIVE 면 INACTIVE_USER)
+            authUserCache.evict(authUser.getUserIdx());
+            authUser = null;
+        }
+        if (authUser == null) {
+            // 2. JWT parsing
+            Jws<Claims> claims;
+            try {
+                log.debug("2. JWT parsing");
+                claims = Jwts.parser()
+                        .setSigningKey(JwtSecretKey)
+                        .parseClaimsJws(accessToken);
+            } catch (ExpiredJwtException exception) {
+                throw new BaseException(EXPIRED_JWT);
+            } catch (Exception ignored) {
+                log.error("토큰 잘못됨");
+                throw new BaseException(INVALID_JWT);
+            }
+
+            // 3. userId 추출, 사용자 조회
+            String userId = claims.getBody().get("userId", String.class);  // jwt 에서 userId를 추출합니다.
+            User user = userRepository.findByUserId(userId);
+            if (user == null) {
+                authUser = AuthUser.builder().userId(userId).build();
+            } else if ("INACTIVE".equals(user.getStatus())) {
+                // 탈퇴 처리 중인 유저 (UserPurgeService), 캐시하지 않음
+                throw new BaseException(INACTIVE_USER);
+            } else {
+                authUser = AuthUser.builder()
+                        .userId(userId)
+                        .userIdx(user.getUserIdx())
+                        .status(user.getStatus())
+                        .build();
+                Date expiration = claims.getBody().getExpiration();
+                authUserCache.put(tokenDigest, authUser, expiration == null ? Long.MAX_VALUE : expiration.getTime());
+            }
         }
 
-        // 3. userId 추출
-        return claims.getBody().get("userId", String.class);  // jwt 에서 userId를 추출합니다.
+        request.setAttribute(AUTH_USER_ATTRIBUTE, authUser);
+        return authUser;
+    }
+
+    private static boolean isWriteRequest(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod()) && !"HEAD".equals(request.getMethod());
+    }
+
+    // 캐시 키 (토큰 원문을 메모리에 보관하지 않도록 SHA-256)
+    private String digest(String accessToken) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(accessToken.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 }
@@ -0,0 +1,206 @@
+package com.umc.footprint.filter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.umc.footprint.config.BaseResponse;
+import com.umc.footprint.config.BaseResponseStatus;
+import com.umc.footprint.config.EncryptProperties;
+import com.umc.footprint.utils.CryptoService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.IntSupplier;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+// 나눠 들어오는 응답의 result 암호화를 기존 EncodingFilter 결과(LegacyResponseEncryptor)와 비교
+class EncryptingJsonOutputStreamTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private CryptoService cryptoService;
+
+    @BeforeEach
+    void setUp() {
+        EncryptProperties encryptProperties = new EncryptProperties();
+        encryptProperties.setKey("0123456789abcdef0123456789abcdef");
+        cryptoService = new CryptoService(encryptProperties);
+    }
+
+    @Test
+    void stringResult() throws Exception {
+        assertSameAsLegacy(response("발자국이 수정되었습니다."));
+        assertSameAsLegacy(response("\"따옴표\" \\ / 줄바꿈\n탭\t {괄호}"));
+        assertSameAsLegacy(response(""));
+    }
+
+    @Test
+    void objectResult() throws Exception {
+        Map<String, Object> nested = new LinkedHashMap<>();
+        nested.put("ok", true);
+        nested.put("empty", new LinkedHashMap<>());
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("walkIdx", 3);
+        result.put("distance", 1.25);
+        result.put("coordinate", List.of(List.of(37.5665, 126.978), List.of(-0.5, 2.0E-5)));
+        result.put("photos", List.of("https://footprint.s3.ap-northeast-2.amazonaws.com/a.jpg"));
+        result.put("write", "산책 \"기록\"\n한 줄 더 \\ 😀");
+        result.put("tags", List.of());
+        result.put("goal", null);
+        result.put("nested", nested);
+
+        assertSameAsLegacy(response(result));
+        assertSameAsLegacy(response(new LinkedHashMap<>()));
+    }
+
+    @Test
+    void arrayResult() throws Exception {
+        List<Object> result = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            Map<String, Object> walk = new LinkedHashMap<>();
+            walk.put("walkIdx", i);
+            walk.put("startAt", "2026-10-18 0" + (i % 10) + ":00");
+            walk.put("tags", List.of("#산책", "#" + i));
+            result.add(walk);
+        }
+
+        assertSameAsLegacy(response(result));
+        assertSameAsLegacy(response(List.of()));
+    }
+
+    @Test
+    void scalarResult() throws Exception {
+        assertSameAsLegacy(response(12));
+        assertSameAsLegacy(response(-37.5665));
+        assertSameAsLegacy(response(true));
+        // BaseResponse 는 null result 를 쓰지 않지만, 다른 응답이 쓰면 "null" 을 암호화
+        assertSameAsLegacy("{\"isSuccess\":true,\"code\":1000,\"message\":\"요청에 성공하였습니다.\",\"result\":null}");
+    }
+
+    @Test
+    void responseWithoutResultUnchanged() throws Exception {
+        String body = response(new BaseResponse<>(BaseResponseStatus.INVALID_JWT));
+
+        assertEquals(body, LegacyResponseEncryptor.encrypt(body, cryptoService));
+        for (String encrypted : encryptInChunks(body.getBytes(UTF_8))) {
+            assertEquals(body, encrypted);
+        }
+    }
+
+    @Test
+    void nonJsonObjectPassesThrough() throws IOException {
+        for (String body : List.of("<html><body>502 Bad Gateway</body></html>", "[1,2,3]", "\"문자열\"", "  ", "")) {
+            for (String encrypted : encryptInChunks(body.getBytes(UTF_8))) {
+                assertEquals(body, encrypted);
+            }
+        }
+    }
+
+    @Test
+    void leadingWhitespace() throws Exception {
+        assertSameAsLegacy("\r\n  " + response(List.of("#산책")));
+        assertSameAsLegacy(" \t" + response("result"));
+    }
+
+    @Test
+    void truncatedBodyFails() throws Exception {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("write", "비밀".repeat(10_000));
+        result.put("tags", List.of("#산책"));
+        String body = response(result);
+        String truncated = body.substring(0, body.length() - 20);
+
+        // 기존 필터도 파싱하지 못해서 아무것도 내보내지 않았음
+        assertThrows(RuntimeException.class, () -> LegacyResponseEncryptor.encrypt(truncated, cryptoService));
+        for (IntSupplier chunkSize : chunkSizes(truncated.length())) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            assertThrows(IOException.class, () -> write(out, truncated.getBytes(UTF_8), chunkSize));
+            // 평문 result 는 내보내지 않음
+            assertFalse(out.toString(UTF_8).contains("비밀"));
+        }
+    }
+
+    private void assertSameAsLegacy(String body) throws Exception {
+        JsonNode expected = decryptResult(LegacyResponseEncryptor.encrypt(body, cryptoService));
+        for (String encrypted : encryptInChunks(body.getBytes(UTF_8))) {
+            assertEquals(expected, decryptResult(encrypted), body);
+        }
+    }
+
+    /**
+     * result 를 복호화한 응답
+     * 기존 필터는 result 를 org.json 으로 다시 직렬화해서 "/" 이스케이프 등 표기가 다르므로 JSON 으로 비교한다.
+     */
+    private JsonNode decryptResult(String response) throws Exception {
+        ObjectNode node = (ObjectNode) OBJECT_MAPPER.readTree(response);
+        JsonNode result = node.get("result");
+        if (result != null) {
+            assertTrue(result.isTextual(), response);
+            String decrypted = cryptoService.decrypt(result.textValue());
+            boolean json = decrypted.startsWith("{") || decrypted.startsWith("[");
+            node.set("result", json ? OBJECT_MAPPER.readTree(decrypted) : TextNode.valueOf(decrypted));
+        }
+        return node;
+    }
+
+    // 한 번에, 1바이트씩, 임의 크기로 나눠 쓴 결과
+    private List<String> encryptInChunks(byte[] body) throws IOException {
+        List<String> encrypted = new ArrayList<>();
+        for (IntSupplier chunkSize : chunkSizes(body.length)) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            write(out, body, chunkSize);
+            encrypted.add(out.toString(UTF_8));
+        }
+        return encrypted;
+    }
+
+    private static List<IntSupplier> chunkSizes(int length) {
+        List<IntSupplier> chunkSizes = new ArrayList<>();
+        chunkSizes.add(() -> Math.max(1, length));
+        chunkSizes.add(() -> 1);
+        for (int seed = 0; seed < 3; seed++) {
+            Random random = new Random(seed);
+            chunkSizes.add(() -> 1 + random.nextInt(64));
+        }
+        return chunkSizes;
+    }
+
+    private void write(ByteArrayOutputStream out, byte[] body, IntSupplier chunkSize) throws IOException {
+        EncryptingJsonOutputStream stream = new EncryptingJsonOutputStream(out, cryptoService);
+        int off = 0;
+        while (off < body.length) {
+            int len = Math.min(body.length - off, chunkSize.getAsInt());
+            if (len == 1) {
+                stream.write(body[off]);
+            } else {
+                // 앞뒤에 여유가 있는 버퍼로 쓰고, 호출이 끝나면 버퍼를 재사용하는 것처럼 덮어쓴다.
+                byte[] buffer = new byte[len + 6];
+                System.arraycopy(body, off, buffer, 3, len);
+                stream.write(buffer, 3, len);
+                Arrays.fill(buffer, (byte) '"');
+            }
+            off += len;
+        }
+        stream.finish();
+    }
+
+    private static String response(Object result) throws IOException {
+        return response(new BaseResponse<>(result));
+    }
+
+    private static String response(BaseResponse<?> baseResponse) throws IOException {
+        return OBJECT_MAPPER.writeValueAsString(baseResponse);
+    }
+}
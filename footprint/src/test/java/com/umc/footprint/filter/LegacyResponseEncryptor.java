@@ -0,0 +1,35 @@
+package com.umc.footprint.filter;
+
+import com.umc.footprint.utils.CryptoService;
+import org.json.JSONObject;
+
+import java.security.GeneralSecurityException;
+
+/**
+ * 스트리밍 이전의 기존 EncodingFilter 응답 암호화 (비교용)
+ * 로그 출력만 빼고 기존 EncodingFilter.doFilter 의 본문 변환과 같다.
+ * (JSON 객체가 아니면 예외, 기존 필터는 이때 아무것도 내보내지 않았음)
+ */
+class LegacyResponseEncryptor {
+
+    static String encrypt(String responseMessage, CryptoService cryptoService) throws GeneralSecurityException {
+        JSONObject jsonObject = new JSONObject(responseMessage);
+
+        int startIndex = responseMessage.indexOf("result") + 8;
+        int endIndex = responseMessage.lastIndexOf("}");
+
+        // 최종 메시지
+        StringBuffer finalResponseMessage = new StringBuffer(responseMessage);
+
+        // 오류 안났을 때만
+        if (responseMessage.indexOf("result") != -1){
+            // result 부분 암호화 쌍따음표 붙여서
+            String encodedResultPart = '"' + (cryptoService.encrypt(jsonObject.getString("result"))) + '"';
+
+            // result 부분 암호화한걸로 치환
+            finalResponseMessage.replace(startIndex, endIndex, encodedResultPart);
+        }
+
+        return finalResponseMessage.toString();
+    }
+}
@@ -0,0 +1,171 @@
+package com.umc.footprint.src;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.umc.footprint.config.AmazonS3Config;
+import com.umc.footprint.config.BaseException;
+import com.umc.footprint.config.BaseResponseStatus;
+import com.umc.footprint.src.common.model.vo.ImageVariant;
+import com.umc.footprint.src.common.model.vo.ResizedImage;
+import com.umc.footprint.src.common.model.vo.UploadedPhoto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 로컬 S3 대역(LocalS3Server)으로 업로드, 보상 삭제, presigned 업로드 사진 확인
+class AwsS3ServiceTest {
+
+    private static final String BUCKET = "footprint-test";
+
+    private LocalS3Server s3Server;
+    private TransferManager transferManager;
+    private AwsS3Service awsS3Service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        s3Server = new LocalS3Server();
+
+        AmazonS3Config amazonS3Config = new AmazonS3Config();
+        ReflectionTestUtils.setField(amazonS3Config, "accessKey", "test");
+        ReflectionTestUtils.setField(amazonS3Config, "secretKey", "test");
+        ReflectionTestUtils.setField(amazonS3Config, "region", "ap-northeast-2");
+        ReflectionTestUtils.setField(amazonS3Config, "endpoint", s3Server.getEndpoint());
+        ReflectionTestUtils.setField(amazonS3Config, "uploadThreads", 4);
+        ReflectionTestUtils.setField(amazonS3Config, "multipartThresholdMb", 8L);
+        AmazonS3 amazonS3 = amazonS3Config.amazonS3Client();
+        transferManager = amazonS3Config.transferManager(amazonS3);
+
+        awsS3Service = new AwsS3Service(amazonS3, transferManager);
+        ReflectionTestUtils.setField(awsS3Service, "bucket", BUCKET);
+        ReflectionTestUtils.setField(awsS3Service, "uploadUrlExpirationSeconds", 600L);
+        ReflectionTestUtils.setField(awsS3Service, "maxPhotoBytes", 1024L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        transferManager.shutdownNow(false);
+        s3Server.stop();
+    }
+
+    @Test
+    void uploadImages_uploadsVariantsInParallelAndKeepsOrder() throws BaseException {
+        s3Server.putDelayMillis = 200;
+        List<ResizedImage> images = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            images.add(new ResizedImage(jpeg(100 + i), jpeg(10 + i)));
+        }
+
+        List<UploadedPhoto> uploadedPhotos = awsS3Service.uploadImages(images);
+
+        assertEquals(6, uploadedPhotos.size());
+        assertEquals(12, s3Server.objects.size());
+        assertTrue(s3Server.maxConcurrentPuts.get() > 1, "업로드가 동시에 진행되지 않음");
+        for (int i = 0; i < 6; i++) {
+            UploadedPhoto uploadedPhoto = uploadedPhotos.get(i);
+            assertEquals(100 + i, s3Server.objects.get(path(uploadedPhoto.getImageUrl())).length);
+            assertEquals(10 + i, s3Server.objects.get(path(uploadedPhoto.getThumbnailUrl())).length);
+            assertEquals(uploadedPhoto.getImageUrl().replace(".jpg", "_thumb.jpg"), uploadedPhoto.getThumbnailUrl());
+        }
+    }
+
+    @Test
+    void uploadImages_withoutThumbnailUploadsOriginalOnly() throws BaseException {
+        List<UploadedPhoto> uploadedPhotos = awsS3Service.uploadImages(List.of(ResizedImage.original(jpeg(100))));
+
+        assertEquals(1, s3Server.objects.size());
+        assertNull(uploadedPhotos.get(0).getThumbnailUrl());
+    }
+
+    @Test
+    void uploadImages_deletesUploadedFilesWhenOneFails() {
+        s3Server.putDelayMillis = 100;
+        s3Server.failPutSize = 103;
+        List<ResizedImage> images = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            images.add(new ResizedImage(jpeg(100 + i), jpeg(10 + i)));
+        }
+
+        BaseException exception = assertThrows(BaseException.class, () -> awsS3Service.uploadImages(images));
+
+        assertEquals(BaseResponseStatus.S3UPLOAD_ERROR, exception.getStatus());
+        assertTrue(s3Server.putCount.get() > 1);
+        assertTrue(s3Server.objects.isEmpty(), "남은 파일: " + s3Server.objects.keySet());
+    }
+
+    @Test
+    void downloadUploadedPhoto_returnsIssuedPhoto() throws BaseException {
+        String fileKey = awsS3Service.createPhotoFileKey("photo.JPG");
+        s3Server.putObject(BUCKET, fileKey, new byte[]{1, 2, 3}, "image/jpeg");
+
+        ImageVariant original = awsS3Service.downloadUploadedPhoto(fileKey);
+
+        assertArrayEquals(new byte[]{1, 2, 3}, original.getBytes());
+        assertEquals("image/jpeg", original.getContentType());
+        assertEquals(".jpg", original.getExtension());
+    }
+
+    @Test
+    void downloadUploadedPhoto_rejectsMissingForeignOrMismatchedPhoto() throws BaseException {
+        String missingKey = awsS3Service.createPhotoFileKey("photo.png");
+        assertEquals(BaseResponseStatus.NOT_UPLOADED_PHOTO,
+                assertThrows(BaseException.class, () -> awsS3Service.downloadUploadedPhoto(missingKey)).getStatus());
+
+        s3Server.putObject(BUCKET, "index.html", new byte[]{1}, "text/html");
+        assertEquals(BaseResponseStatus.NOT_UPLOADED_PHOTO,
+                assertThrows(BaseException.class, () -> awsS3Service.downloadUploadedPhoto("index.html")).getStatus());
+
+        String htmlKey = awsS3Service.createPhotoFileKey("photo.png");
+        s3Server.putObject(BUCKET, htmlKey, new byte[]{1}, "text/html");
+        assertEquals(BaseResponseStatus.NOT_UPLOADED_PHOTO,
+                assertThrows(BaseException.class, () -> awsS3Service.downloadUploadedPhoto(htmlKey)).getStatus());
+
+        String largeKey = awsS3Service.createPhotoFileKey("photo.png");
+        s3Server.putObject(BUCKET, largeKey, new byte[2048], "image/png");
+        assertEquals(BaseResponseStatus.EXCEED_PHOTO_SIZE,
+                assertThrows(BaseException.class, () -> awsS3Service.downloadUploadedPhoto(largeKey)).getStatus());
+    }
+
+    @Test
+    void getUploadedPhotoUrl_returnsIssuedPhotoUrl() throws BaseException {
+        String fileKey = awsS3Service.createPhotoFileKey("photo.png");
+        s3Server.putObject(BUCKET, fileKey, new byte[]{1, 2, 3}, "image/png");
+
+        String photoUrl = awsS3Service.getUploadedPhotoUrl(fileKey);
+
+        assertEquals("/" + BUCKET + "/" + fileKey, path(photoUrl));
+        String missingKey = awsS3Service.createPhotoFileKey("photo.png");
+        assertEquals(BaseResponseStatus.NOT_UPLOADED_PHOTO,
+                assertThrows(BaseException.class, () -> awsS3Service.getUploadedPhotoUrl(missingKey)).getStatus());
+        String largeKey = awsS3Service.createPhotoFileKey("photo.png");
+        s3Server.putObject(BUCKET, largeKey, new byte[2048], "image/png");
+        assertEquals(BaseResponseStatus.EXCEED_PHOTO_SIZE,
+                assertThrows(BaseException.class, () -> awsS3Service.getUploadedPhotoUrl(largeKey)).getStatus());
+    }
+
+    @Test
+    void createPhotoFileKey_rejectsNonPhotoExtension() {
+        for (String fileName : List.of("index.html", "image.svg", "photo")) {
+            assertEquals(BaseResponseStatus.INVALID_PHOTO_EXTENSION,
+                    assertThrows(BaseException.class, () -> awsS3Service.createPhotoFileKey(fileName)).getStatus());
+        }
+    }
+
+    private static ImageVariant jpeg(int size) {
+        return ImageVariant.builder()
+                .bytes(new byte[size])
+                .contentType("image/jpeg")
+                .extension(".jpg")
+                .build();
+    }
+
+    private static String path(String url) {
+        return url.substring(url.indexOf("/", "http://".length()));
+    }
+}
@@ -0,0 +1,156 @@
+package com.umc.footprint.src;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 S3 대역 (path-style, PUT / HEAD / GET / DELETE 만)
+ * PUT 마다 putDelayMillis 만큼 기다리고, 동시에 처리한 PUT 의 최댓값을 남긴다.
+ * failPutSize 와 크기가 같은 파일의 PUT 은 500 으로 실패시킨다.
+ */
+class LocalS3Server {
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    // "/bucket/key" -> 내용, Content-Type
+    final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    final Map<String, String> contentTypes = new ConcurrentHashMap<>();
+
+    final AtomicInteger putCount = new AtomicInteger();
+    final AtomicInteger maxConcurrentPuts = new AtomicInteger();
+    private final AtomicInteger concurrentPuts = new AtomicInteger();
+
+    volatile long putDelayMillis = 0;
+    volatile int failPutSize = -1;
+
+    LocalS3Server() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    String getEndpoint() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    void putObject(String bucket, String key, byte[] bytes, String contentType) {
+        objects.put("/" + bucket + "/" + key, bytes);
+        contentTypes.put("/" + bucket + "/" + key, contentType);
+    }
+
+    void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        byte[] body = exchange.getRequestBody().readAllBytes();
+        try {
+            switch (exchange.getRequestMethod()) {
+                case "PUT":
+                    handlePut(exchange, path, body);
+                    break;
+                case "HEAD":
+                case "GET":
+                    handleGet(exchange, path);
+                    break;
+                case "DELETE":
+                    objects.remove(path);
+                    contentTypes.remove(path);
+                    exchange.sendResponseHeaders(204, -1);
+                    break;
+                default:
+                    exchange.sendResponseHeaders(405, -1);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void handlePut(HttpExchange exchange, String path, byte[] body) throws IOException {
+        putCount.incrementAndGet();
+        maxConcurrentPuts.accumulateAndGet(concurrentPuts.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(putDelayMillis);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } finally {
+            concurrentPuts.decrementAndGet();
+        }
+
+        // SDK 는 http 주소로 올릴 때 aws-chunked 로 보낸다.
+        byte[] content = exchange.getRequestHeaders().containsKey("x-amz-decoded-content-length") ? decodeChunked(body) : body;
+        if (content.length == failPutSize) {
+            exchange.sendResponseHeaders(500, -1);
+            return;
+        }
+        objects.put(path, content);
+        contentTypes.put(path, exchange.getRequestHeaders().getFirst("Content-Type"));
+        exchange.getResponseHeaders().add("ETag", "\"" + md5(content) + "\"");
+        exchange.sendResponseHeaders(200, -1);
+    }
+
+    private void handleGet(HttpExchange exchange, String path) throws IOException {
+        byte[] content = objects.get(path);
+        if (content == null) {
+            exchange.sendResponseHeaders(404, -1);
+            return;
+        }
+        exchange.getResponseHeaders().add("Content-Type", contentTypes.get(path));
+        exchange.getResponseHeaders().add("ETag", "\"" + md5(content) + "\"");
+        if (exchange.getRequestMethod().equals("HEAD")) {
+            exchange.getResponseHeaders().add("Content-Length", String.valueOf(content.length));
+            exchange.sendResponseHeaders(200, -1);
+        } else {
+            exchange.sendResponseHeaders(200, content.length);
+            exchange.getResponseBody().write(content);
+        }
+    }
+
+    // "<길이(16진수)>;chunk-signature=...\r\n<데이터>\r\n" 반복, 길이 0 에서 끝
+    private static byte[] decodeChunked(byte[] body) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        int offset = 0;
+        while (offset < body.length) {
+            int lineEnd = offset;
+            while (body[lineEnd] != '\r') {
+                lineEnd++;
+            }
+            String header = new String(body, offset, lineEnd - offset, StandardCharsets.US_ASCII);
+            int length = Integer.parseInt(header.split(";")[0], 16);
+            if (length == 0) {
+                break;
+            }
+            output.write(body, lineEnd + 2, length);
+            offset = lineEnd + 2 + length + 2;
+        }
+        return output.toByteArray();
+    }
+
+    private static String md5(byte[] content) {
+        try {
+            StringBuilder hex = new StringBuilder();
+            for (byte b : MessageDigest.getInstance("MD5").digest(content)) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.umc.footprint.src.common;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashtagDictionaryTest {
+
+    private SnapshotHashtagTable hashtagTable;
+
+    @BeforeEach
+    void setUp() {
+        hashtagTable = new SnapshotHashtagTable();
+    }
+
+    @Test
+    void getOrCreate() {
+        HashtagDictionary dictionary = dictionary();
+
+        Map<String, Integer> hashtagIdxMap = dictionary.getOrCreate(List.of("산책", " 한강 ", "산책"));
+
+        assertEquals(Map.of("산책", 1, "한강", 2), hashtagIdxMap);
+        assertEquals(2, hashtagTable.size());
+    }
+
+    @Test
+    void getOrCreate_cachesHashtagIdx() {
+        HashtagDictionary dictionary = dictionary();
+        dictionary.getOrCreate(List.of("산책", "한강"));
+        int statementCount = hashtagTable.statementCount.get();
+
+        assertEquals(Map.of("한강", 2), dictionary.getOrCreate(List.of("한강")));
+        assertEquals(statementCount, hashtagTable.statementCount.get());
+    }
+
+    @Test
+    void getOrCreate_existingHashtagFromOtherNode() {
+        dictionary().getOrCreate(List.of("산책"));
+
+        // 캐시가 빈 다른 서버도 같은 행을 찾음
+        assertEquals(Map.of("산책", 1, "한강", 2), dictionary().getOrCreate(List.of("산책", "한강")));
+        assertEquals(2, hashtagTable.size());
+    }
+
+    @Test
+    void getOrCreate_caseAndAccentAreDifferentHashtags() {
+        Map<String, Integer> hashtagIdxMap = dictionary().getOrCreate(List.of("Seoul", "seoul", "café", "cafe"));
+
+        assertEquals(4, Set.copyOf(hashtagIdxMap.values()).size());
+        assertEquals(hashtagIdxMap.get("seoul"), dictionary().getOrCreate(List.of("seoul")).get("seoul"));
+    }
+
+    @Test
+    void getOrCreate_concurrentInsertOfSameHashtag() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch begun = new CountDownLatch(2);
+        try {
+            // 두 트랜잭션 모두 해시태그가 없을 때 스냅샷을 잡은 뒤 같은 해시태그를 추가
+            Future<Map<String, Integer>> first = executor.submit(() -> saveInTransaction(begun));
+            Future<Map<String, Integer>> second = executor.submit(() -> saveInTransaction(begun));
+
+            Map<String, Integer> firstResult = first.get(5, TimeUnit.SECONDS);
+            Map<String, Integer> secondResult = second.get(5, TimeUnit.SECONDS);
+
+            assertEquals(Map.of("한강", 1, "산책", 2), firstResult);
+            assertEquals(firstResult, secondResult);
+            assertEquals(2, hashtagTable.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Map<String, Integer> saveInTransaction(CountDownLatch begun) throws InterruptedException {
+        HashtagDictionary dictionary = dictionary();
+        hashtagTable.begin();
+        begun.countDown();
+        begun.await();
+        return dictionary.getOrCreate(List.of("한강", "산책"));
+    }
+
+    private HashtagDictionary dictionary() {
+        HashtagDictionary dictionary = new HashtagDictionary();
+        ReflectionTestUtils.setField(dictionary, "jdbcTemplate", hashtagTable);
+        return dictionary;
+    }
+}
@@ -0,0 +1,273 @@
+package com.umc.footprint.src.common;
+
+import com.umc.footprint.config.BaseException;
+import com.umc.footprint.src.common.model.vo.ImageVariant;
+import com.umc.footprint.src.common.model.vo.ResizedImage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImageResizerTest {
+
+    private static final int MARK = 0xFF0000;
+
+    private ImageResizer imageResizer;
+
+    @BeforeEach
+    void setUp() {
+        imageResizer = new ImageResizer(1600, 320, 0.85f, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        imageResizer.shutdown();
+    }
+
+    @Test
+    void readExifOrientation_allOrientationsBothByteOrders() {
+        for (boolean littleEndian : new boolean[]{true, false}) {
+            for (int orientation = 1; orientation <= 8; orientation++) {
+                byte[] jpeg = jpegWithApp1(exif(littleEndian, 8, orientation));
+                assertEquals(orientation, ImageResizer.readExifOrientation(jpeg), (littleEndian ? "II " : "MM ") + orientation);
+            }
+        }
+    }
+
+    @Test
+    void readExifOrientation_withoutExif() {
+        assertEquals(1, ImageResizer.readExifOrientation(new byte[0]));
+        assertEquals(1, ImageResizer.readExifOrientation("GIF89a".getBytes(StandardCharsets.US_ASCII)));
+        assertEquals(1, ImageResizer.readExifOrientation(new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xDA, 0, 2}));
+        // 다른 APP1 (XMP)
+        byte[] xmp = "http://ns.adobe.com/xap/1.0/\0<x/>".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(1, ImageResizer.readExifOrientation(jpegWithApp1(xmp)));
+    }
+
+    @Test
+    void readExifOrientation_invalidValues() {
+        for (boolean littleEndian : new boolean[]{true, false}) {
+            assertEquals(1, ImageResizer.readExifOrientation(jpegWithApp1(exif(littleEndian, 8, 0))));
+            assertEquals(1, ImageResizer.readExifOrientation(jpegWithApp1(exif(littleEndian, 8, 9))));
+            assertEquals(1, ImageResizer.readExifOrientation(jpegWithApp1(exif(littleEndian, 8, 0xFFFF))));
+        }
+    }
+
+    @Test
+    void readExifOrientation_ifdOffsetOutOfRange() {
+        for (boolean littleEndian : new boolean[]{true, false}) {
+            // 음수가 되는 오프셋, int 범위를 넘는 오프셋, 헤더 안을 가리키는 오프셋, 세그먼트 밖 오프셋
+            for (long ifdOffset : new long[]{0xFFFFFFF0L, 0x80000000L, 0x7FFFFFFFL, 0, 4, 1 << 20}) {
+                byte[] jpeg = jpegWithApp1(exif(littleEndian, ifdOffset, 6));
+                assertEquals(1, ImageResizer.readExifOrientation(jpeg), Long.toHexString(ifdOffset));
+            }
+        }
+    }
+
+    @Test
+    void readExifOrientation_truncated() {
+        for (boolean littleEndian : new boolean[]{true, false}) {
+            byte[] jpeg = jpegWithApp1(exif(littleEndian, 8, 6));
+            for (int length = 0; length < jpeg.length; length++) {
+                int orientation = ImageResizer.readExifOrientation(Arrays.copyOf(jpeg, length));
+                assertTrue(orientation == 1 || orientation == 6, length + ": " + orientation);
+            }
+        }
+    }
+
+    @Test
+    void readExifOrientation_garbageApp1() {
+        Random random = new Random(22);
+        for (int i = 0; i < 10_000; i++) {
+            byte[] exif = new byte[6 + random.nextInt(64)];
+            random.nextBytes(exif);
+            System.arraycopy("Exif\0\0".getBytes(StandardCharsets.US_ASCII), 0, exif, 0, 6);
+            if (exif.length >= 8 && random.nextBoolean()) {
+                // 바이트 순서는 맞추고 나머지는 무작위
+                exif[6] = exif[7] = (byte) (random.nextBoolean() ? 'I' : 'M');
+            }
+
+            int orientation = ImageResizer.readExifOrientation(jpegWithApp1(exif));
+            assertTrue(orientation >= 1 && orientation <= 8, String.valueOf(orientation));
+        }
+    }
+
+    @Test
+    void scale_limitsLongEdge() {
+        assertSize(1600, 1200, ImageResizer.scale(image(4000, 3000), 1600));
+        assertSize(1200, 1600, ImageResizer.scale(image(3000, 4000), 1600));
+        assertSize(320, 240, ImageResizer.scale(image(1600, 1200), 320));
+        assertSize(1600, 1, ImageResizer.scale(image(5000, 2), 1600));
+        // 작은 이미지는 그대로
+        assertSize(800, 600, ImageResizer.scale(image(800, 600), 1600));
+    }
+
+    @Test
+    void orient_allOrientations() {
+        // 4 x 2 이미지의 (1, 0) 픽셀이 방향 적용 후 있어야 할 위치
+        int[][] expected = {
+                {4, 2, 1, 0}, // 1
+                {4, 2, 2, 0}, // 2: 좌우 반전
+                {4, 2, 2, 1}, // 3: 180도
+                {4, 2, 1, 1}, // 4: 상하 반전
+                {2, 4, 0, 1}, // 5: 좌상-우하 대각선 반전
+                {2, 4, 1, 1}, // 6: 시계 방향 90도
+                {2, 4, 1, 2}, // 7: 우상-좌하 대각선 반전
+                {2, 4, 0, 2}, // 8: 반시계 방향 90도
+        };
+        for (int orientation = 1; orientation <= 8; orientation++) {
+            BufferedImage image = image(4, 2);
+            image.setRGB(1, 0, MARK);
+
+            BufferedImage oriented = ImageResizer.orient(image, orientation);
+
+            int[] position = expected[orientation - 1];
+            assertSize(position[0], position[1], oriented);
+            assertEquals(MARK, oriented.getRGB(position[2], position[3]) & 0xFFFFFF, "orientation " + orientation);
+        }
+    }
+
+    @Test
+    void resizeUploaded_displayAndThumbnail() throws BaseException, IOException {
+        ResizedImage resized = resize(jpeg(3200, 2400));
+
+        assertTrue(resized.hasThumbnail());
+        assertEquals("image/jpeg", resized.getDisplay().getContentType());
+        assertEquals(".jpg", resized.getDisplay().getExtension());
+        assertSize(1600, 1200, read(resized.getDisplay()));
+        assertSize(320, 240, read(resized.getThumbnail()));
+    }
+
+    @Test
+    void resizeUploaded_appliesExifOrientation() throws BaseException, IOException {
+        byte[] jpeg = insertApp1(jpeg(3200, 2400), exif(false, 8, 6));
+
+        ResizedImage resized = resize(jpeg);
+
+        assertSize(1200, 1600, read(resized.getDisplay()));
+        assertSize(240, 320, read(resized.getThumbnail()));
+    }
+
+    @Test
+    void resizeUploaded_ignoresCorruptExif() throws BaseException, IOException {
+        byte[] jpeg = insertApp1(jpeg(800, 600), exif(true, 0xFFFFFFF0L, 6));
+
+        ResizedImage resized = resize(jpeg);
+
+        assertSize(800, 600, read(resized.getDisplay()));
+    }
+
+    @Test
+    void resizeUploaded_keepsUndecodableOriginal() throws BaseException {
+        byte[] heic = "....ftypheic".getBytes(StandardCharsets.US_ASCII);
+
+        ResizedImage resized = imageResizer.resizeUploaded(List.of(ImageVariant.builder()
+                .bytes(heic).contentType("image/heic").extension(".heic").build())).get(0);
+
+        assertFalse(resized.hasThumbnail());
+        assertArrayEquals(heic, resized.getDisplay().getBytes());
+        assertEquals("image/heic", resized.getDisplay().getContentType());
+    }
+
+    private ResizedImage resize(byte[] jpeg) throws BaseException {
+        List<ResizedImage> resized = imageResizer.resizeUploaded(List.of(ImageVariant.builder()
+                .bytes(jpeg).contentType("image/jpeg").extension(".jpeg").build()));
+        assertEquals(1, resized.size());
+        return resized.get(0);
+    }
+
+    // "Exif\0\0" + TIFF 헤더 + IFD0 (ImageWidth, Orientation 두 항목)
+    private static byte[] exif(boolean littleEndian, long ifdOffset, int orientation) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes("Exif\0\0".getBytes(StandardCharsets.US_ASCII));
+        out.writeBytes(littleEndian ? new byte[]{'I', 'I'} : new byte[]{'M', 'M'});
+        writeShort(out, 42, littleEndian);
+        writeInt(out, ifdOffset, littleEndian);
+        writeShort(out, 2, littleEndian);
+        writeEntry(out, 0x0100, 4, 1, 4000, littleEndian);
+        writeEntry(out, 0x0112, 3, 1, orientation, littleEndian);
+        writeInt(out, 0, littleEndian);
+        return out.toByteArray();
+    }
+
+    // SHORT 값은 값 칸의 앞 2바이트
+    private static void writeEntry(ByteArrayOutputStream out, int tag, int type, int count, int value, boolean littleEndian) {
+        writeShort(out, tag, littleEndian);
+        writeShort(out, type, littleEndian);
+        writeInt(out, count, littleEndian);
+        if (type == 3) {
+            writeShort(out, value, littleEndian);
+            writeShort(out, 0, littleEndian);
+        } else {
+            writeInt(out, value, littleEndian);
+        }
+    }
+
+    private static void writeShort(ByteArrayOutputStream out, int value, boolean littleEndian) {
+        int b0 = (value >> 8) & 0xFF;
+        int b1 = value & 0xFF;
+        out.write(littleEndian ? b1 : b0);
+        out.write(littleEndian ? b0 : b1);
+    }
+
+    private static void writeInt(ByteArrayOutputStream out, long value, boolean littleEndian) {
+        writeShort(out, (int) (littleEndian ? value : value >> 16), littleEndian);
+        writeShort(out, (int) (littleEndian ? value >> 16 : value), littleEndian);
+    }
+
+    // SOI + APP1 + SOS
+    private static byte[] jpegWithApp1(byte[] app1) {
+        byte[] soiSos = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xDA, 0, 2};
+        return insertApp1(soiSos, app1);
+    }
+
+    // SOI 바로 뒤에 APP1 추가
+    private static byte[] insertApp1(byte[] jpeg, byte[] app1) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(jpeg, 0, 2);
+        out.write(0xFF);
+        out.write(0xE1);
+        out.write(((app1.length + 2) >> 8) & 0xFF);
+        out.write((app1.length + 2) & 0xFF);
+        out.writeBytes(app1);
+        out.write(jpeg, 2, jpeg.length - 2);
+        return out.toByteArray();
+    }
+
+    private static BufferedImage image(int width, int height) {
+        return new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    }
+
+    private static byte[] jpeg(int width, int height) throws IOException {
+        BufferedImage image = image(width, height);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.GRAY);
+        graphics.fillRect(0, 0, width, height / 2);
+        graphics.dispose();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpeg", out);
+        return out.toByteArray();
+    }
+
+    private static BufferedImage read(ImageVariant variant) throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(variant.getBytes()));
+    }
+
+    private static void assertSize(int width, int height, BufferedImage image) {
+        assertEquals(width + "x" + height, image.getWidth() + "x" + image.getHeight());
+    }
+}
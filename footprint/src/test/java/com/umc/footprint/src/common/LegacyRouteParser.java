@@ -0,0 +1,41 @@
+package com.umc.footprint.src.common;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 단일 패스 파서 이전의 기존 텍스트 경로 파서 (비교용)
+ * 로그 출력만 빼고 기존 RouteCodec.decodeLegacy 와 같다.
+ */
+class LegacyRouteParser {
+
+    static List<ArrayList<Double>> parse(String decryptTest) {
+        ArrayList<ArrayList<Double>> coordinate = new ArrayList<>();
+
+        if (decryptTest.contains("MULTILINESTRING")) {
+            decryptTest = decryptTest.substring(17, decryptTest.length()-2); //MULTISTRING((, ) split
+        }
+
+        decryptTest = decryptTest.substring(1, decryptTest.length()-1); // 앞 뒤 괄호 제거
+        String[] strArr = decryptTest.split("\\),");
+
+        for(String coor : strArr) {
+            coor = coor.replace("(", "");
+            coor = coor.replace(")", "");
+
+            String[] comma = coor.split(",");
+            ArrayList<Double> temp = new ArrayList<>();
+            for(String com : comma) {
+                String[] space = com.split(" ");
+                temp.add(fixLatitude(Double.parseDouble(space[0])));
+                temp.add(Double.parseDouble(space[1]));
+            }
+            coordinate.add(temp);
+        }
+        return coordinate;
+    }
+
+    private static double fixLatitude(double x) {
+        return x <= 10 ? x + 30 : x;
+    }
+}
@@ -0,0 +1,191 @@
+package com.umc.footprint.src.common;
+
+import com.umc.footprint.config.EncryptProperties;
+import com.umc.footprint.src.common.model.vo.RoutePath;
+import com.umc.footprint.utils.CryptoService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RouteCodecTest {
+
+    private CryptoService cryptoService;
+    private RouteCodec routeCodec;
+
+    @BeforeEach
+    void setUp() {
+        EncryptProperties encryptProperties = new EncryptProperties();
+        encryptProperties.setKey("0123456789abcdef0123456789abcdef");
+        cryptoService = new CryptoService(encryptProperties);
+        routeCodec = new RouteCodec(cryptoService);
+    }
+
+    @Test
+    void matchesLegacy_trueForMigratedRoute() throws GeneralSecurityException {
+        String coordinate = legacy("((37.1234567 127.1234567,37.1234568 127.1234569),(37.2 127.2,37.3 127.3))");
+        byte[] route = routeCodec.encode(routeCodec.decode(null, coordinate));
+
+        assertTrue(routeCodec.matchesLegacy(route, coordinate));
+    }
+
+    @Test
+    void matchesLegacy_falseWhenPointsDiffer() throws GeneralSecurityException {
+        String coordinate = legacy("((37.1 127.1,37.2 127.2))");
+        byte[] route = routeCodec.encode(routeCodec.decode(null, legacy("((37.1 127.1,37.2 127.20001))")));
+
+        assertFalse(routeCodec.matchesLegacy(route, coordinate));
+    }
+
+    @Test
+    void matchesLegacy_falseWhenLinesDiffer() throws GeneralSecurityException {
+        String coordinate = legacy("((37.1 127.1,37.2 127.2),(37.3 127.3))");
+        byte[] route = routeCodec.encode(routeCodec.decode(null, legacy("((37.1 127.1,37.2 127.2))")));
+
+        assertFalse(routeCodec.matchesLegacy(route, coordinate));
+    }
+
+    @Test
+    void matchesLegacy_falseWhenLegacyHasDanglingValue() throws GeneralSecurityException {
+        // 좌표 쌍이 맞지 않는 값은 바이너리로 옮길 때 빠진다.
+        String coordinate = legacy("((37.1 127.1,37.2))");
+        RoutePath path = routeCodec.decode(null, coordinate);
+        byte[] route = routeCodec.encode(path);
+
+        assertFalse(routeCodec.matchesLegacy(route, coordinate));
+    }
+
+    @Test
+    void decodeLegacy_splitsLinesAndFixesLatitude() throws GeneralSecurityException {
+        RoutePath path = routeCodec.decode(null, legacy("((37.1 127.1,7.2 127.2),(37.3 -127.3))"));
+
+        assertEquals(2, path.getLineCount());
+        assertLine(path, 0, 37.1, 127.1, 37.2, 127.2);
+        assertLine(path, 1, 37.3, -127.3);
+    }
+
+    @Test
+    void decodeLegacy_multiLineString() throws GeneralSecurityException {
+        RoutePath path = routeCodec.decode(null, legacy("MULTILINESTRING((37.1 127.1,37.2 127.2),(37.3 127.3,37.4 127.4))"));
+
+        assertEquals(2, path.getLineCount());
+        assertLine(path, 0, 37.1, 127.1, 37.2, 127.2);
+        assertLine(path, 1, 37.3, 127.3, 37.4, 127.4);
+    }
+
+    @Test
+    void decodeLegacy_singleParenthesisIsOneLine() throws GeneralSecurityException {
+        RoutePath path = routeCodec.decode(null, legacy("(37.1 127.1,37.2 127.2)"));
+
+        assertEquals(1, path.getLineCount());
+        assertLine(path, 0, 37.1, 127.1, 37.2, 127.2);
+    }
+
+    @Test
+    void decodeLegacy_emptySegments() throws GeneralSecurityException {
+        RoutePath path = routeCodec.decode(null, legacy("((37.1 127.1),(),(37.2 127.2))"));
+
+        assertEquals(3, path.getLineCount());
+        assertLine(path, 0, 37.1, 127.1);
+        assertLine(path, 1);
+        assertLine(path, 2, 37.2, 127.2);
+        assertEquals(2, path.getPointCount());
+    }
+
+    @Test
+    void decodeLegacy_onlyEmptySegment() throws GeneralSecurityException {
+        RoutePath path = routeCodec.decode(null, legacy("(())"));
+
+        assertEquals(1, path.getLineCount());
+        assertEquals(0, path.getPointCount());
+    }
+
+    @Test
+    void decodeLegacy_emptyText() throws GeneralSecurityException {
+        assertTrue(routeCodec.decode(null, legacy("")).isEmpty());
+        assertTrue(routeCodec.decode(null, legacy("()")).isEmpty());
+    }
+
+    @Test
+    void decodeLegacy_keepsUnclosedLastLine() throws GeneralSecurityException {
+        RoutePath path = routeCodec.decode(null, legacy("((37.1 127.1),(37.2 127.2,37.3 127.3"));
+
+        assertEquals(2, path.getLineCount());
+        assertLine(path, 1, 37.2, 127.2, 37.3, 127.3);
+        assertEquals(3, path.getPointCount());
+    }
+
+    @Test
+    void decodeLegacy_skipsNonNumbers() throws GeneralSecurityException {
+        RoutePath path = routeCodec.decode(null, legacy("(( 37.1  127.1 , ? ?,37.2\t127.2 ))"));
+
+        assertEquals(1, path.getLineCount());
+        assertLine(path, 0, 37.1, 127.1, 37.2, 127.2);
+    }
+
+    @Test
+    void decodeLegacy_exponentAndLongNumbers() throws GeneralSecurityException {
+        RoutePath path = routeCodec.decode(null, legacy("((3.71E1 1.271e+2,37.123456789012345678 127.1))"));
+
+        assertLine(path, 0, 37.1, 127.1, 37.123456789012345678, 127.1);
+    }
+
+    @Test
+    void decodeLegacy_malformedNumber() throws GeneralSecurityException {
+        String coordinate = legacy("((37.1 127.1,37.2 -))");
+
+        assertThrows(NumberFormatException.class, () -> routeCodec.decode(null, coordinate));
+    }
+
+    @Test
+    void decodeLegacy_matchesLegacyParser() throws GeneralSecurityException {
+        for (long seed = 0; seed < 20; seed++) {
+            String text = RouteFixture.legacyText(500, 37 + (int) seed, seed);
+            RoutePath path = routeCodec.decode(null, legacy(text));
+            List<ArrayList<Double>> expected = LegacyRouteParser.parse(text);
+
+            assertEquals(expected.size(), path.getLineCount());
+            for (int line = 0; line < expected.size(); line++) {
+                assertEquals(expected.get(line).size(), path.getLineLength(line));
+                for (int i = 0; i < expected.get(line).size(); i++) {
+                    // Double.parseDouble 과 같은 값
+                    assertEquals(expected.get(line).get(i), (Double) path.get(line, i), "seed " + seed);
+                }
+            }
+        }
+    }
+
+    @Test
+    void encodeLevels_onlyEmptySegment() throws GeneralSecurityException {
+        RoutePath path = routeCodec.decode(null, legacy("(())"));
+
+        byte[] routeLod = routeCodec.encodeLevels(path);
+        assertNotNull(routeLod);
+        assertEquals(path, routeCodec.decode(routeCodec.encode(path), null));
+    }
+
+    @Test
+    void parsePoint() {
+        double[] point = RouteCodec.parsePoint("POINT(37.1 127.2)");
+
+        assertEquals(2, point.length);
+        assertEquals(37.1, point[0], 0);
+        assertEquals(127.2, point[1], 0);
+        assertEquals(0, RouteCodec.parsePoint("(?  ?)").length);
+    }
+
+    private void assertLine(RoutePath path, int line, double... values) {
+        assertEquals(values.length, path.getLineLength(line), "line " + line);
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(values[i], path.get(line, i), 0, "line " + line + " index " + i);
+        }
+    }
+
+    private String legacy(String text) throws GeneralSecurityException {
+        return cryptoService.encrypt(text);
+    }
+}
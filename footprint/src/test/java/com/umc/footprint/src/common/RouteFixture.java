@@ -0,0 +1,39 @@
+package com.umc.footprint.src.common;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+/**
+ * 기존 텍스트 포맷 경로 "((x y,x y),(x y,...))" (RouteCodecTest, RouteCodecBenchmark)
+ * 서울 근처를 조금씩 움직이는 좌표이고, 소수 자리수는 5 ~ 14자리로 섞는다.
+ */
+class RouteFixture {
+
+    static String legacyText(int pointCount, int lineLength, long seed) {
+        Random random = new Random(seed);
+        StringBuilder text = new StringBuilder(pointCount * 40);
+        double x = 37.5665;
+        double y = 126.978;
+
+        text.append('(');
+        for (int i = 0; i < pointCount; i++) {
+            if (i % lineLength == 0) {
+                if (i > 0) {
+                    text.append("),");
+                }
+                text.append('(');
+            } else {
+                text.append(',');
+            }
+            x += (random.nextDouble() - 0.5) * 1e-4;
+            y += (random.nextDouble() - 0.5) * 1e-4;
+            text.append(decimal(x, 5 + random.nextInt(10))).append(' ').append(decimal(y, 5 + random.nextInt(10)));
+        }
+        return text.append("))").toString();
+    }
+
+    private static String decimal(double value, int scale) {
+        return BigDecimal.valueOf(value).setScale(scale, RoundingMode.HALF_UP).toPlainString();
+    }
+}
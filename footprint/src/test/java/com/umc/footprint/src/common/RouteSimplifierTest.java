@@ -0,0 +1,68 @@
+package com.umc.footprint.src.common;
+
+import com.umc.footprint.src.common.model.vo.RoutePath;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RouteSimplifierTest {
+
+    @Test
+    void simplify_emptyRoute() {
+        RoutePath empty = RoutePath.empty();
+
+        assertSame(empty, RouteSimplifier.simplify(empty, 8));
+    }
+
+    @Test
+    void simplify_onlyEmptyLines() {
+        // [[]], [[], []]
+        RoutePath oneEmptyLine = RoutePath.builder(0).endLine().build();
+        RoutePath twoEmptyLines = RoutePath.builder(0).endLine().endLine().build();
+
+        assertEquals(oneEmptyLine, RouteSimplifier.simplify(oneEmptyLine, 8));
+        assertEquals(twoEmptyLines, RouteSimplifier.simplify(twoEmptyLines, 8));
+    }
+
+    @Test
+    void simplify_keepsEmptyLineBetweenLines() {
+        RoutePath route = RoutePath.builder(16)
+                .endLine()
+                .add(37.5).add(127.0).add(37.50001).add(127.00001).add(37.50002).add(127.00002)
+                .endLine()
+                .build();
+
+        RoutePath simplified = RouteSimplifier.simplify(route, 8);
+
+        assertEquals(2, simplified.getLineCount());
+        assertEquals(0, simplified.getLineLength(0));
+        assertEquals(4, simplified.getLineLength(1));
+    }
+
+    @Test
+    void simplify_dropsPointsWithinTolerance() {
+        // 직선 위 좌표 (약 1m 간격)
+        RoutePath.Builder builder = RoutePath.builder(200);
+        for (int i = 0; i < 100; i++) {
+            builder.add(37.5 + i * 0.00001).add(127.0);
+        }
+        RoutePath simplified = RouteSimplifier.simplify(builder.endLine().build(), 2);
+
+        assertEquals(2, simplified.getPointCount());
+        assertEquals(37.5, simplified.get(0, 0), 0);
+        assertEquals(37.5 + 99 * 0.00001, simplified.get(0, 2), 0);
+    }
+
+    @Test
+    void simplify_keepsPointsBeyondTolerance() {
+        // 가운데 좌표가 직선에서 약 88m 벗어남
+        RoutePath route = RoutePath.builder(6)
+                .add(37.5).add(127.0)
+                .add(37.501).add(127.001)
+                .add(37.502).add(127.0)
+                .endLine()
+                .build();
+
+        assertEquals(3, RouteSimplifier.simplify(route, 8).getPointCount());
+    }
+}
@@ -0,0 +1,108 @@
+package com.umc.footprint.src.common;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 Hashtag 테이블 (HashtagDictionaryTest)
+ * InnoDB REPEATABLE READ 처럼 begin() 한 스레드의 일반 SELECT 는 begin 시점 스냅샷과 자기 INSERT 만 읽고,
+ * 잠금 읽기(LOCK IN SHARE MODE)는 최신 커밋을 읽는다. INSERT 는 바로 커밋된다.
+ * hashtag 는 utf8mb4_bin 처럼 문자열이 정확히 같을 때만 중복이다.
+ */
+class SnapshotHashtagTable extends JdbcTemplate {
+
+    private final Map<String, Row> rows = new LinkedHashMap<>();
+    private final ThreadLocal<Integer> snapshot = new ThreadLocal<>();
+    private int version = 0;
+
+    final AtomicInteger statementCount = new AtomicInteger();
+
+    private static class Row {
+        private final int hashtagIdx;
+        private final int version;
+        private final Thread insertedBy;
+
+        private Row(int hashtagIdx, int version, Thread insertedBy) {
+            this.hashtagIdx = hashtagIdx;
+            this.version = version;
+            this.insertedBy = insertedBy;
+        }
+    }
+
+    // 현재 스레드의 트랜잭션 시작 (스냅샷 고정)
+    synchronized void begin() {
+        snapshot.set(version);
+    }
+
+    synchronized int size() {
+        return rows.size();
+    }
+
+    @Override
+    public synchronized int update(String sql, Object... args) {
+        statementCount.incrementAndGet();
+        if (!sql.startsWith("INSERT IGNORE INTO Hashtag (hashtag) VALUES")) {
+            throw new UnsupportedOperationException(sql);
+        }
+        int inserted = 0;
+        for (Object hashtag : args) {
+            if (!rows.containsKey((String) hashtag)) {
+                rows.put((String) hashtag, new Row(rows.size() + 1, ++version, Thread.currentThread()));
+                inserted++;
+            }
+        }
+        return inserted;
+    }
+
+    @Override
+    public void query(String sql, RowCallbackHandler rch, Object... args) {
+        statementCount.incrementAndGet();
+        if (!sql.startsWith("SELECT hashtagIdx, hashtag FROM Hashtag WHERE hashtag IN")) {
+            throw new UnsupportedOperationException(sql);
+        }
+        boolean lockingRead = sql.endsWith("LOCK IN SHARE MODE") || sql.endsWith("FOR SHARE");
+
+        Map<String, Integer> visibleRows = new LinkedHashMap<>();
+        synchronized (this) {
+            Integer snapshotVersion = snapshot.get();
+            for (Object hashtag : args) {
+                Row row = rows.get((String) hashtag);
+                if (row == null) {
+                    continue;
+                }
+                if (lockingRead || snapshotVersion == null || row.version <= snapshotVersion
+                        || row.insertedBy == Thread.currentThread()) {
+                    visibleRows.put((String) hashtag, row.hashtagIdx);
+                }
+            }
+        }
+        try {
+            for (Map.Entry<String, Integer> visibleRow : visibleRows.entrySet()) {
+                rch.processRow(resultSet(visibleRow.getKey(), visibleRow.getValue()));
+            }
+        } catch (SQLException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private static ResultSet resultSet(String hashtag, int hashtagIdx) {
+        Map<String, Object> columns = new HashMap<>();
+        columns.put("hashtag", hashtag);
+        columns.put("hashtagIdx", hashtagIdx);
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(),
+                new Class<?>[]{ResultSet.class}, (proxy, method, methodArgs) -> {
+                    if (method.getName().equals("getString") || method.getName().equals("getInt")) {
+                        return columns.get((String) methodArgs[0]);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,94 @@
+package com.umc.footprint.src.common;
+
+import com.umc.footprint.src.common.model.vo.WalkTagInterface;
+import com.umc.footprint.src.common.repository.TagRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TagSearchIndexTest {
+
+    private static final int USER_IDX = 1;
+
+    // 유저의 ACTIVE 태그 (tagIdx 순)
+    private final List<WalkTagInterface> walkTags = new ArrayList<>();
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    private TagSearchIndex tagSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        walkTags.add(walkTag(1, "한강산책"));
+        walkTags.add(walkTag(1, "Morning"));
+        walkTags.add(walkTag(2, "산책로"));
+        walkTags.add(walkTag(3, "강아지"));
+
+        TagRepository tagRepository = (TagRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{TagRepository.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("findAllWalkTagByUserIdx")) {
+                        loadCount.incrementAndGet();
+                        return new ArrayList<>(walkTags);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        tagSearchIndex = new TagSearchIndex(tagRepository);
+        ReflectionTestUtils.setField(tagSearchIndex, "ttlSeconds", 60L);
+    }
+
+    @Test
+    void search() {
+        Map<Integer, List<String>> result = tagSearchIndex.search(USER_IDX, "산책");
+
+        assertEquals(Set.of(1, 2), result.keySet());
+        assertEquals(List.of("한강산책", "Morning"), result.get(1));
+        assertEquals(Set.of(1, 3), tagSearchIndex.search(USER_IDX, "강").keySet());
+        assertEquals(Set.of(1), tagSearchIndex.search(USER_IDX, "morn").keySet());
+        assertTrue(tagSearchIndex.search(USER_IDX, "고양이").isEmpty());
+        assertEquals(1, loadCount.get());
+    }
+
+    @Test
+    void search_rebuildsAfterEvict() {
+        tagSearchIndex.search(USER_IDX, "산책");
+        walkTags.remove(2);
+
+        assertEquals(Set.of(1, 2), tagSearchIndex.search(USER_IDX, "산책").keySet());
+        tagSearchIndex.evict(USER_IDX);
+        assertEquals(Set.of(1), tagSearchIndex.search(USER_IDX, "산책").keySet());
+        assertEquals(2, loadCount.get());
+    }
+
+    @Test
+    void search_rebuildsAfterTtl() {
+        // 다른 서버에서 바뀐 태그 (이 서버의 evict 없음)
+        ReflectionTestUtils.setField(tagSearchIndex, "ttlSeconds", 0L);
+        tagSearchIndex.search(USER_IDX, "산책");
+        walkTags.remove(2);
+
+        assertEquals(Set.of(1), tagSearchIndex.search(USER_IDX, "산책").keySet());
+        assertEquals(2, loadCount.get());
+    }
+
+    private static WalkTagInterface walkTag(int walkIdx, String hashtag) {
+        return new WalkTagInterface() {
+            @Override
+            public Integer getWalkIdx() {
+                return walkIdx;
+            }
+
+            @Override
+            public String getHashtag() {
+                return hashtag;
+            }
+        };
+    }
+}
@@ -0,0 +1,173 @@
+package com.umc.footprint.src.common.model.vo;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// RoutePath JSON 읽기/쓰기를 기존 List<List<Double>> 와 비교
+class RoutePathTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<List<List<Double>>> LINES = new TypeReference<List<List<Double>>>() {};
+
+    @Test
+    void roundTrip() throws IOException {
+        for (String json : List.of(
+                "[[37.5665,126.978,37.5666,126.97801]]",
+                "[[37.5665,126.978],[37.1,127.0,37.2,127.1,37.3,127.2],[-0.5,2.0E-5]]",
+                "[[1,2,3,4],[5.25,6]]")) {
+            RoutePath path = OBJECT_MAPPER.readValue(json, RoutePath.class);
+
+            assertEquals(OBJECT_MAPPER.readValue(json, LINES), toLines(path));
+            assertEquals(OBJECT_MAPPER.writeValueAsString(OBJECT_MAPPER.readValue(json, LINES)), OBJECT_MAPPER.writeValueAsString(path));
+            assertEquals(path, OBJECT_MAPPER.readValue(OBJECT_MAPPER.writeValueAsString(path), RoutePath.class));
+        }
+    }
+
+    @Test
+    void roundTrip_manyLines() throws IOException {
+        List<List<Double>> lines = randomLines(new Random(1), 100);
+        String json = OBJECT_MAPPER.writeValueAsString(lines);
+
+        RoutePath path = OBJECT_MAPPER.readValue(json, RoutePath.class);
+
+        assertEquals(lines, toLines(path));
+        assertEquals(json, OBJECT_MAPPER.writeValueAsString(path));
+    }
+
+    @Test
+    void emptyRoutes() throws IOException {
+        RoutePath empty = OBJECT_MAPPER.readValue("[]", RoutePath.class);
+        assertTrue(empty.isEmpty());
+        assertEquals(RoutePath.empty(), empty);
+        assertEquals("[]", OBJECT_MAPPER.writeValueAsString(empty));
+
+        // 좌표 없는 구간 하나
+        RoutePath emptyLine = OBJECT_MAPPER.readValue("[[]]", RoutePath.class);
+        assertEquals(1, emptyLine.getLineCount());
+        assertEquals(0, emptyLine.getLineLength(0));
+        assertEquals(0, emptyLine.getPointCount());
+        assertEquals("[[]]", OBJECT_MAPPER.writeValueAsString(emptyLine));
+    }
+
+    @Test
+    void nullLinesSkipped() throws IOException {
+        RoutePath path = OBJECT_MAPPER.readValue("[null,[1.5,2.5],null,[3.5,4.5,5.5,6.5],null]", RoutePath.class);
+
+        assertEquals(List.of(List.of(1.5, 2.5), List.of(3.5, 4.5, 5.5, 6.5)), toLines(path));
+    }
+
+    @Test
+    void readsAsFieldAndKeepsFollowingFields() throws IOException {
+        WalkCoordinates walk = OBJECT_MAPPER.readValue(
+                "{\"coordinates\":[[1.5,2.5],[]],\"distance\":3.5,\"empty\":[],\"missing\":null}", WalkCoordinates.class);
+
+        assertEquals(List.of(List.of(1.5, 2.5), List.of()), toLines(walk.coordinates));
+        assertEquals(3.5, walk.distance);
+        assertTrue(walk.empty.isEmpty());
+        assertNull(walk.missing);
+    }
+
+    @Test
+    void rejectsInvalidValues() {
+        for (String json : List.of(
+                "[[37.5665,\"126.978\"]]",
+                "[[37.5665,null]]",
+                "[[true,false]]",
+                "[[[1,2]]]",
+                "[[{\"x\":1}]]",
+                "[37.5665,126.978]",
+                "[\"((37.5665 126.978))\"]",
+                "{\"coordinates\":[[1,2]]}",
+                "\"((37.5665 126.978))\"",
+                "37.5665",
+                "[[1,2]",
+                "[[1,2")) {
+            assertThrows(JsonProcessingException.class, () -> OBJECT_MAPPER.readValue(json, RoutePath.class), json);
+        }
+    }
+
+    @Test
+    void withSinglePointLinesDoubled_sameAsChangeSafeCoordinate() throws IOException {
+        for (String json : List.of(
+                "[[37.5665,126.978]]",
+                "[[37.5665,126.978],[37.1,127.0,37.2,127.1],[37.3,127.2]]",
+                "[[37.1,127.0,37.2,127.1]]",
+                "[[],[37.3,127.2],[]]",
+                "[]")) {
+            RoutePath path = OBJECT_MAPPER.readValue(json, RoutePath.class);
+
+            assertEquals(changeSafeCoordinate(OBJECT_MAPPER.readValue(json, LINES)), toLines(path.withSinglePointLinesDoubled()), json);
+        }
+
+        Random random = new Random(2);
+        for (int i = 0; i < 20; i++) {
+            List<List<Double>> lines = randomLines(random, 1 + random.nextInt(20));
+            RoutePath path = OBJECT_MAPPER.readValue(OBJECT_MAPPER.writeValueAsString(lines), RoutePath.class);
+
+            assertEquals(changeSafeCoordinate(lines), toLines(path.withSinglePointLinesDoubled()));
+        }
+    }
+
+    @Test
+    void withSinglePointLinesDoubled_keepsPathWithoutSinglePoint() throws IOException {
+        RoutePath path = OBJECT_MAPPER.readValue("[[1,2,3,4],[5,6,7,8]]", RoutePath.class);
+
+        assertSame(path, path.withSinglePointLinesDoubled());
+    }
+
+    // 기존 WalkService.changeSafeCoordinate (로그 출력만 뺌, 좌표가 하나뿐인 라인은 같은 좌표를 한 번 더 넣음)
+    private static ArrayList<List<Double>> changeSafeCoordinate(List<List<Double>> coordinates) {
+        ArrayList<List<Double>> safeCoordinate = new ArrayList<>();
+        for (List<Double> line : coordinates) {
+            if (line.size() == 2) {
+                line.add(line.get(0));
+                line.add(line.get(1));
+            }
+            safeCoordinate.add(line);
+        }
+        return safeCoordinate;
+    }
+
+    private static List<List<Double>> toLines(RoutePath path) {
+        List<List<Double>> lines = new ArrayList<>();
+        for (int line = 0; line < path.getLineCount(); line++) {
+            List<Double> values = new ArrayList<>();
+            for (int index = 0; index < path.getLineLength(line); index++) {
+                values.add(path.get(line, index));
+            }
+            lines.add(values);
+        }
+        return lines;
+    }
+
+    // 좌표 1 ~ 5개인 구간들 (좌표가 하나뿐인 구간 포함)
+    private static List<List<Double>> randomLines(Random random, int lineCount) {
+        List<List<Double>> lines = new ArrayList<>();
+        for (int line = 0; line < lineCount; line++) {
+            List<Double> values = new ArrayList<>();
+            int pointCount = 1 + random.nextInt(5);
+            for (int point = 0; point < pointCount; point++) {
+                values.add(37.5 + random.nextDouble() / 10);
+                values.add(126.9 + random.nextDouble() / 10);
+            }
+            lines.add(values);
+        }
+        return lines;
+    }
+
+    static class WalkCoordinates {
+        public RoutePath coordinates;
+        public double distance;
+        public RoutePath empty;
+        public RoutePath missing;
+    }
+}
@@ -0,0 +1,336 @@
+package com.umc.footprint.src.footprints;
+
+import com.umc.footprint.config.BaseException;
+import com.umc.footprint.config.BaseResponseStatus;
+import com.umc.footprint.config.EncryptProperties;
+import com.umc.footprint.src.AwsS3Service;
+import com.umc.footprint.src.common.ImageResizer;
+import com.umc.footprint.src.common.S3DeleteOutboxDao;
+import com.umc.footprint.src.common.model.vo.ImageVariant;
+import com.umc.footprint.src.common.model.vo.ResizedImage;
+import com.umc.footprint.src.common.model.vo.UploadedPhoto;
+import com.umc.footprint.src.footprints.PhotoResizeOutboxDao.OutboxRow;
+import com.umc.footprint.utils.CryptoService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 메모리 대역(대기열, Photo, S3)으로 직접 올린 원본을 줄인 사진으로 바꾸는 과정 확인
+class PhotoResizeDispatcherTest {
+
+    private static final String S3_URL = "https://footprint-test.s3.ap-northeast-2.amazonaws.com/";
+
+    private FakeOutbox outbox;
+    private FakeS3DeleteOutbox s3DeleteOutbox;
+    private FakeS3 s3;
+    private FakeTransactionTemplate transactionTemplate;
+    private ImageResizer imageResizer;
+    private CryptoService cryptoService;
+    private PhotoResizeDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        outbox = new FakeOutbox();
+        s3DeleteOutbox = new FakeS3DeleteOutbox();
+        s3 = new FakeS3();
+        transactionTemplate = new FakeTransactionTemplate();
+        imageResizer = new ImageResizer(1600, 320, 0.85f, 2);
+        EncryptProperties encryptProperties = new EncryptProperties();
+        encryptProperties.setKey("0123456789abcdef0123456789abcdef");
+        cryptoService = new CryptoService(encryptProperties);
+        dispatcher = new PhotoResizeDispatcher(outbox, s3DeleteOutbox, s3, imageResizer, cryptoService, transactionTemplate, 300, 3600);
+    }
+
+    @AfterEach
+    void tearDown() {
+        imageResizer.shutdown();
+    }
+
+    @Test
+    void dispatch_replacesOriginalWithResizedPhotos() throws Exception {
+        s3.objects.put("a.jpg", jpeg(2000, 1000));
+        outbox.addPhoto(1, encrypt(S3_URL + "a.jpg"));
+        outbox.add(1, "a.jpg");
+
+        dispatcher.dispatch();
+
+        String imageUrl = cryptoService.decrypt(outbox.imageUrls.get(1));
+        String thumbnailUrl = cryptoService.decrypt(outbox.thumbnailUrls.get(1));
+        assertSize(1600, 800, s3.objects.get(fileKey(imageUrl)));
+        assertSize(320, 160, s3.objects.get(fileKey(thumbnailUrl)));
+        // 원본은 S3 삭제 대기열로
+        assertEquals(List.of("a.jpg"), s3DeleteOutbox.fileKeys);
+        assertTrue(outbox.rows.isEmpty());
+    }
+
+    @Test
+    void dispatch_keepsPhotoReplacedMeanwhile() throws Exception {
+        s3.objects.put("a.jpg", jpeg(2000, 1000));
+        // 줄이는 사이에 다른 사진으로 바뀜
+        outbox.addPhoto(1, encrypt(S3_URL + "b.jpg"));
+        outbox.add(1, "a.jpg");
+
+        dispatcher.dispatch();
+
+        assertEquals(S3_URL + "b.jpg", cryptoService.decrypt(outbox.imageUrls.get(1)));
+        assertNull(outbox.thumbnailUrls.get(1));
+        // 원본은 그대로, 줄인 사진은 S3 삭제 대기열로
+        assertEquals(2, s3DeleteOutbox.fileKeys.size());
+        assertFalse(s3DeleteOutbox.fileKeys.contains("a.jpg"));
+        assertTrue(s3.objects.keySet().containsAll(s3DeleteOutbox.fileKeys));
+        assertTrue(outbox.rows.isEmpty());
+    }
+
+    @Test
+    void dispatch_keepsDeletedPhotoOriginal() throws Exception {
+        s3.objects.put("a.jpg", jpeg(2000, 1000));
+        outbox.add(1, "a.jpg");
+
+        dispatcher.dispatch();
+
+        assertTrue(s3.objects.containsKey("a.jpg"));
+        assertEquals(2, s3DeleteOutbox.fileKeys.size());
+        assertFalse(s3DeleteOutbox.fileKeys.contains("a.jpg"));
+        assertTrue(outbox.rows.isEmpty());
+    }
+
+    @Test
+    void dispatch_keepsUndecodableOriginal() throws Exception {
+        s3.objects.put("a.heic", "....ftypheic".getBytes(StandardCharsets.US_ASCII));
+        outbox.addPhoto(1, encrypt(S3_URL + "a.heic"));
+        outbox.add(1, "a.heic");
+
+        dispatcher.dispatch();
+
+        assertEquals(S3_URL + "a.heic", cryptoService.decrypt(outbox.imageUrls.get(1)));
+        assertEquals(0, s3.putCount);
+        assertTrue(s3DeleteOutbox.fileKeys.isEmpty());
+        assertTrue(outbox.rows.isEmpty());
+    }
+
+    @Test
+    void dispatch_dropsMissingOriginal() throws Exception {
+        outbox.addPhoto(1, encrypt(S3_URL + "a.jpg"));
+        outbox.add(1, "a.jpg");
+
+        dispatcher.dispatch();
+
+        assertEquals(S3_URL + "a.jpg", cryptoService.decrypt(outbox.imageUrls.get(1)));
+        assertTrue(outbox.rows.isEmpty());
+    }
+
+    @Test
+    void dispatch_retriesAndDeletesUploadedPhotosWhenUpdateFails() throws Exception {
+        s3.objects.put("a.jpg", jpeg(2000, 1000));
+        outbox.addPhoto(1, encrypt(S3_URL + "a.jpg"));
+        outbox.add(1, "a.jpg");
+        transactionTemplate.fail = true;
+
+        dispatcher.dispatch();
+
+        assertEquals(2, s3.putCount);
+        assertEquals(List.of("a.jpg"), new ArrayList<>(s3.objects.keySet()));
+        assertEquals(S3_URL + "a.jpg", cryptoService.decrypt(outbox.imageUrls.get(1)));
+        assertTrue(s3DeleteOutbox.fileKeys.isEmpty());
+        OutboxRow row = outbox.rows.get(0);
+        assertEquals(1, row.getAttempts());
+        assertTrue(outbox.nextAttemptAt.get(row.getOutboxIdx()).isAfter(LocalDateTime.now()));
+
+        // 다시 시도할 시각이 되면 처리
+        transactionTemplate.fail = false;
+        outbox.nextAttemptAt.put(row.getOutboxIdx(), LocalDateTime.now());
+        dispatcher.dispatch();
+
+        assertNotNull(outbox.thumbnailUrls.get(1));
+        assertTrue(outbox.rows.isEmpty());
+    }
+
+    @Test
+    void dispatch_skipsRowClaimedByOtherServer() throws Exception {
+        s3.objects.put("a.jpg", jpeg(2000, 1000));
+        outbox.addPhoto(1, encrypt(S3_URL + "a.jpg"));
+        outbox.add(1, "a.jpg");
+        outbox.claimedByOther = true;
+
+        dispatcher.dispatch();
+
+        assertEquals(0, s3.putCount);
+        assertEquals(1, outbox.rows.size());
+    }
+
+    private String encrypt(String url) throws GeneralSecurityException {
+        return cryptoService.encrypt(url);
+    }
+
+    private static String fileKey(String url) {
+        return url.substring(url.lastIndexOf("/") + 1);
+    }
+
+    private static byte[] jpeg(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "jpeg", out);
+        return out.toByteArray();
+    }
+
+    private static void assertSize(int width, int height, byte[] bytes) throws IOException {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(bytes));
+        assertEquals(width + "x" + height, image.getWidth() + "x" + image.getHeight());
+    }
+
+    // 대기열과 Photo 의 URL (photoIdx -> 암호화한 URL, ACTIVE 인 사진만)
+    private static class FakeOutbox extends PhotoResizeOutboxDao {
+        final List<OutboxRow> rows = new ArrayList<>();
+        final Map<Long, LocalDateTime> nextAttemptAt = new HashMap<>();
+        final Map<Integer, String> imageUrls = new HashMap<>();
+        final Map<Integer, String> thumbnailUrls = new HashMap<>();
+        boolean claimedByOther = false;
+        private long lastOutboxIdx = 0;
+
+        void add(int photoIdx, String fileKey) {
+            rows.add(new OutboxRow(++lastOutboxIdx, photoIdx, fileKey, 0));
+            nextAttemptAt.put(lastOutboxIdx, LocalDateTime.now().minusSeconds(1));
+        }
+
+        void addPhoto(int photoIdx, String imageUrl) {
+            imageUrls.put(photoIdx, imageUrl);
+        }
+
+        @Override
+        public List<OutboxRow> findDue(LocalDateTime now, int limit) {
+            List<OutboxRow> due = new ArrayList<>();
+            for (OutboxRow row : rows) {
+                if (!nextAttemptAt.get(row.getOutboxIdx()).isAfter(now) && due.size() < limit) {
+                    due.add(row);
+                }
+            }
+            return due;
+        }
+
+        @Override
+        public boolean claim(long outboxIdx, LocalDateTime now, LocalDateTime leaseUntil) {
+            if (claimedByOther || nextAttemptAt.get(outboxIdx).isAfter(now)) {
+                return false;
+            }
+            nextAttemptAt.put(outboxIdx, leaseUntil);
+            return true;
+        }
+
+        @Override
+        public void delete(long outboxIdx) {
+            rows.removeIf(row -> row.getOutboxIdx() == outboxIdx);
+        }
+
+        @Override
+        public void reschedule(long outboxIdx, LocalDateTime nextAttempt) {
+            for (int i = 0; i < rows.size(); i++) {
+                OutboxRow row = rows.get(i);
+                if (row.getOutboxIdx() == outboxIdx) {
+                    rows.set(i, new OutboxRow(outboxIdx, row.getPhotoIdx(), row.getFileKey(), row.getAttempts() + 1));
+                }
+            }
+            nextAttemptAt.put(outboxIdx, nextAttempt);
+        }
+
+        @Override
+        public long countPending() {
+            return rows.size();
+        }
+
+        @Override
+        public String findActiveImageUrlForUpdate(int photoIdx) {
+            return imageUrls.get(photoIdx);
+        }
+
+        @Override
+        public void updatePhotoUrls(int photoIdx, String imageUrl, String thumbnailUrl) {
+            imageUrls.put(photoIdx, imageUrl);
+            thumbnailUrls.put(photoIdx, thumbnailUrl);
+        }
+    }
+
+    private static class FakeS3DeleteOutbox extends S3DeleteOutboxDao {
+        final List<String> fileKeys = new ArrayList<>();
+
+        @Override
+        public void insert(List<String> fileKeys) {
+            this.fileKeys.addAll(fileKeys);
+        }
+    }
+
+    // fileKey -> 내용
+    private static class FakeS3 extends AwsS3Service {
+        final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+        int putCount = 0;
+        private int lastName = 0;
+
+        FakeS3() {
+            super(null, null);
+        }
+
+        @Override
+        public ImageVariant downloadUploadedPhoto(String fileKey) throws BaseException {
+            byte[] bytes = objects.get(fileKey);
+            if (bytes == null) {
+                throw new BaseException(BaseResponseStatus.NOT_UPLOADED_PHOTO);
+            }
+            String extension = fileKey.substring(fileKey.lastIndexOf("."));
+            return ImageVariant.builder()
+                    .bytes(bytes)
+                    .contentType(".jpg".equals(extension) ? "image/jpeg" : "image/heic")
+                    .extension(extension)
+                    .build();
+        }
+
+        @Override
+        public List<UploadedPhoto> uploadImages(List<ResizedImage> images) {
+            List<UploadedPhoto> uploadedPhotos = new ArrayList<>();
+            for (ResizedImage image : images) {
+                String name = "resized" + (++lastName);
+                objects.put(name + ".jpg", image.getDisplay().getBytes());
+                objects.put(name + "_thumb.jpg", image.getThumbnail().getBytes());
+                putCount += 2;
+                uploadedPhotos.add(UploadedPhoto.builder()
+                        .imageUrl(S3_URL + name + ".jpg")
+                        .thumbnailUrl(S3_URL + name + "_thumb.jpg")
+                        .build());
+            }
+            return uploadedPhotos;
+        }
+
+        @Override
+        public void deleteFiles(List<String> fileNames) {
+            fileNames.forEach(url -> objects.remove(fileKey(url)));
+        }
+    }
+
+    // 콜백을 바로 실행, fail 이면 커밋 실패
+    private static class FakeTransactionTemplate extends TransactionTemplate {
+        boolean fail = false;
+
+        @Override
+        public <T> T execute(TransactionCallback<T> action) {
+            if (fail) {
+                throw new IllegalStateException("커밋 실패");
+            }
+            return action.doInTransaction(null);
+        }
+    }
+}
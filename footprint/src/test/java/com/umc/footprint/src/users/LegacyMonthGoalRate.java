@@ -0,0 +1,132 @@
+package com.umc.footprint.src.users;
+
+import com.umc.footprint.src.goal.model.entity.Goal;
+import com.umc.footprint.src.goal.model.entity.GoalDay;
+import com.umc.footprint.src.walks.model.entity.Walk;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * UserWalkStat 이전 UserService.calcMonthGoalRate 계산 (비교용)
+ * 리포지토리 조회 대신 목록을 받고, 기준 날짜(today)를 받는 것 외에는 기존 코드와 같다.
+ * - 산책 시간과 GoalDay 는 beforeMonth 와 관계없이 이번 달 것을 사용
+ * - 이번 달 GoalDay 가 없으면 NullPointerException
+ */
+class LegacyMonthGoalRate {
+
+    static int calc(List<Walk> walkList, List<Goal> userGoalList, List<GoalDay> userGoalDayList, LocalDate today, int beforeMonth) {
+
+        // 0. 해당 달에 사용자 목표 기록이 있는지 확인
+        boolean isGoalExist = false;
+        for (Goal goal : userGoalList) {
+            LocalDate goalCreateAt = goal.getCreateAt().toLocalDate();
+            if (goalCreateAt.getMonth().equals(today.minusMonths(beforeMonth).getMonth()) && goalCreateAt.getYear() == today.minusMonths(beforeMonth).getYear()) {
+                isGoalExist = true;
+                break;
+            }
+        }
+        if (isGoalExist == false) {
+            return 0;
+        }
+
+        List<Walk> monthWalkList = walkList.stream()
+                .filter(s -> s.getStartAt().toLocalDate().getYear() == today.getYear() && s.getStartAt().toLocalDate().getMonth().equals(today.getMonth()))
+                .collect(Collectors.toList());
+
+        // 1. 사용자의 원하는 달 전체 산책 시간 확인 (초 단위)
+        int userMonthWalkTime = 0;
+        for (Walk monthWalk : monthWalkList) {
+            userMonthWalkTime += (int) Duration.between(monthWalk.getStartAt(), monthWalk.getEndAt()).getSeconds();
+        }
+
+        // 2. 이번달 목표시간 계산
+        GoalDay userGoalDay = GoalDay.builder().build();
+        for (GoalDay goalDay : userGoalDayList) {
+            LocalDate goalDayCreateAt = goalDay.getCreateAt().toLocalDate();
+            if (goalDayCreateAt.getMonth().equals(today.getMonth()) && goalDayCreateAt.getYear() == today.getYear()) {
+                userGoalDay = goalDay;
+                break;
+            }
+        }
+
+        // 2-2. 원하는 달 요일별 횟수 정보 확인
+        LocalDate month = today.minusMonths(beforeMonth);
+        int monthLength = month.lengthOfMonth();
+
+        // *** 1:월 / 2:화 / ... / 7:일 ***
+        LocalDate firstDay = LocalDate.of(month.getYear(), month.getMonth(), 1);
+        DayOfWeek dayOfWeek = firstDay.getDayOfWeek();
+        int firstDayIdx = dayOfWeek.getValue();
+
+        int weekNum = monthLength / 7;
+        int moreDay = monthLength % 7;
+
+        int[] dayCountArray = {weekNum, weekNum, weekNum, weekNum, weekNum, weekNum, weekNum};
+        for (int i = 0; i < moreDay; i++) {
+            dayCountArray[i]++;
+        }
+
+        // 2-3. 해당 달 목표 시간 계산
+        int countDay = 0;
+        int loopIdx = firstDayIdx;
+        for (int i = 0; i < 7; i++) {
+            switch (loopIdx % 7) {
+                case 1:
+                    if (userGoalDay.getMon() == 1)
+                        countDay += dayCountArray[i];
+                    break;
+                case 2:
+                    if (userGoalDay.getTue() == 1)
+                        countDay += dayCountArray[i];
+                    break;
+                case 3:
+                    if (userGoalDay.getWed() == 1)
+                        countDay += dayCountArray[i];
+                    break;
+                case 4:
+                    if (userGoalDay.getThu() == 1)
+                        countDay += dayCountArray[i];
+                    break;
+                case 5:
+                    if (userGoalDay.getFri() == 1)
+                        countDay += dayCountArray[i];
+                    break;
+                case 6:
+                    if (userGoalDay.getSat() == 1)
+                        countDay += dayCountArray[i];
+                    break;
+                case 0:
+                    if (userGoalDay.getSun() == 1)
+                        countDay += dayCountArray[i];
+                    break;
+            }
+            loopIdx++;
+        }
+
+        // 2-3-2. 하루 산책 목표 시간 확인
+        Goal userGoal = Goal.builder().build();
+        for (Goal goal : userGoalList) {
+            LocalDate goalCreateAt = goal.getCreateAt().toLocalDate();
+            if (goalCreateAt.getMonth().equals(today.minusMonths(beforeMonth).getMonth()) && goalCreateAt.getYear() == today.minusMonths(beforeMonth).getYear()) {
+                userGoal = goal;
+                break;
+            }
+        }
+        int userWalkGoalTime = userGoal.getWalkGoalTime();
+
+        // 2-3-3. 목표 시간 계산
+        int userMonthGoalTime = countDay * userWalkGoalTime;
+
+        // 3. 이번달 목표 달성률 계산
+        int monthGoalRate = (int) ((userMonthWalkTime / (double) (userMonthGoalTime * 60)) * 100);
+
+        if (monthGoalRate > 100)
+            monthGoalRate = 100;
+
+        return monthGoalRate;
+    }
+}
@@ -0,0 +1,92 @@
+package com.umc.footprint.src.users;
+
+import com.umc.footprint.src.walks.model.entity.Walk;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserWalkStatTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2022, 3, 17);
+    private static final int MONTHS = 6;
+    private static final int SKIP_GOAL_MONTH = 4;
+
+    private final WalkStatFixture fixture = new WalkStatFixture(TODAY, 150, MONTHS, SKIP_GOAL_MONTH, 42);
+
+    @Test
+    void getMonthGoalRate_matchesLegacyForThisMonth() {
+        UserWalkStat userWalkStat = stat(TODAY);
+
+        assertEquals(legacy(TODAY, 0), userWalkStat.getMonthGoalRate(YearMonth.from(TODAY)));
+    }
+
+    /**
+     * 기존 계산은 지난 달에도 이번 달 산책 시간, GoalDay 를 썼으므로
+     * 지난 달 달성률은 그 달이 이번 달이던 때(그 달 마지막 날)의 기존 결과와 비교한다.
+     */
+    @Test
+    void getMonthGoalRate_matchesLegacyWhenMonthWasCurrent() {
+        UserWalkStat userWalkStat = stat(TODAY);
+        boolean partialRate = false;
+
+        for (int before = 1; before <= MONTHS; before++) {
+            YearMonth month = YearMonth.from(TODAY).minusMonths(before);
+            int goalRate = userWalkStat.getMonthGoalRate(month);
+
+            assertEquals(legacy(month.atEndOfMonth(), 0), goalRate, month.toString());
+            partialRate |= goalRate > 0 && goalRate < 100;
+        }
+        assertTrue(partialRate, "100% 미만 달성률이 있는 데이터여야 함");
+    }
+
+    @Test
+    void getMonthGoalRate_monthWithoutGoal() {
+        YearMonth month = YearMonth.from(TODAY).minusMonths(SKIP_GOAL_MONTH);
+
+        assertTrue(stat(TODAY).getMonthWalkCount(month) > 0);
+        assertEquals(0, stat(TODAY).getMonthGoalRate(month));
+        assertEquals(0, legacy(month.atEndOfMonth(), 0));
+    }
+
+    @Test
+    void getMonthGoalRate_monthWithoutWalk() {
+        YearMonth month = YearMonth.from(TODAY).plusMonths(1);
+
+        assertEquals(0, stat(TODAY).getMonthGoalRate(month));
+    }
+
+    @Test
+    void walkCount_matchesWalkList() {
+        LocalDate weekDaySince = TODAY.minusMonths(1);
+        UserWalkStat userWalkStat = stat(weekDaySince);
+
+        int[] weekDayCount = new int[7];
+        for (Walk walk : fixture.walkList) {
+            LocalDate walkDate = walk.getStartAt().toLocalDate();
+            if (walkDate.isAfter(weekDaySince)) {
+                weekDayCount[walkDate.getDayOfWeek().getValue() % 7]++;
+            }
+        }
+        assertArrayEquals(weekDayCount, userWalkStat.getWeekDayCount());
+        assertEquals(fixture.walkList.size(), userWalkStat.getTotalWalkCount());
+
+        for (int before = 0; before <= MONTHS; before++) {
+            YearMonth month = YearMonth.from(TODAY).minusMonths(before);
+            long monthWalkCount = fixture.walkList.stream()
+                    .filter(walk -> YearMonth.from(walk.getStartAt()).equals(month))
+                    .count();
+            assertEquals(monthWalkCount, userWalkStat.getMonthWalkCount(month), month.toString());
+        }
+    }
+
+    private UserWalkStat stat(LocalDate weekDaySince) {
+        return new UserWalkStat(fixture.dailyRollupList(), fixture.goalList, fixture.goalDayList, weekDaySince);
+    }
+
+    private int legacy(LocalDate today, int beforeMonth) {
+        return LegacyMonthGoalRate.calc(fixture.walkList, fixture.goalList, fixture.goalDayList, today, beforeMonth);
+    }
+}
@@ -0,0 +1,101 @@
+package com.umc.footprint.src.users;
+
+import com.umc.footprint.src.goal.model.entity.Goal;
+import com.umc.footprint.src.goal.model.entity.GoalDay;
+import com.umc.footprint.src.walks.model.entity.Walk;
+import com.umc.footprint.src.walks.model.entity.WalkDailyRollup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+/**
+ * 유저 한 명의 산책/목표 데이터 (UserWalkStatTest, UserWalkStatBenchmark)
+ * today 가 속한 달부터 months 달 전까지 산책을 고르게 만들고, 목표는 skipGoalMonth 달 전을 빼고 달마다 하나씩 만든다.
+ */
+class WalkStatFixture {
+
+    static final int USER_IDX = 1;
+
+    final List<Walk> walkList = new ArrayList<>();
+    final List<Goal> goalList = new ArrayList<>();
+    final List<GoalDay> goalDayList = new ArrayList<>();
+
+    WalkStatFixture(LocalDate today, int walkCount, int months, int skipGoalMonth, long seed) {
+        Random random = new Random(seed);
+        YearMonth thisMonth = YearMonth.from(today);
+
+        for (int i = 0; i < walkCount; i++) {
+            YearMonth month = thisMonth.minusMonths(random.nextInt(months + 1));
+            int lastDay = month.equals(thisMonth) ? today.getDayOfMonth() : month.lengthOfMonth();
+            LocalDateTime startAt = month.atDay(1 + random.nextInt(lastDay))
+                    .atTime(6 + random.nextInt(16), random.nextInt(60), random.nextInt(60));
+            walkList.add(Walk.builder()
+                    .walkIdx(i + 1)
+                    .userIdx(USER_IDX)
+                    .startAt(startAt)
+                    .endAt(startAt.plusSeconds(300 + random.nextInt(3600)))
+                    .distance(1.0)
+                    .status("ACTIVE")
+                    .build());
+        }
+
+        for (int before = 0; before <= months; before++) {
+            if (before == skipGoalMonth) {
+                continue;
+            }
+            LocalDateTime createAt = thisMonth.minusMonths(before).atDay(1).atStartOfDay();
+            goalList.add(created(Goal.builder()
+                    .userIdx(USER_IDX)
+                    .walkGoalTime(30 + 10 * random.nextInt(12))
+                    .walkTimeSlot(1)
+                    .build(), createAt));
+            // 요일 하나 이상 선택
+            int days = 1 + random.nextInt(127);
+            goalDayList.add(created(GoalDay.builder()
+                    .userIdx(USER_IDX)
+                    .sun(days & 1)
+                    .mon(days >> 1 & 1)
+                    .tue(days >> 2 & 1)
+                    .wed(days >> 3 & 1)
+                    .thu(days >> 4 & 1)
+                    .fri(days >> 5 & 1)
+                    .sat(days >> 6 & 1)
+                    .build(), createAt));
+        }
+    }
+
+    // WalkDailyRollup 기존 데이터 적재 쿼리와 같은 집계 (유저, 날짜별)
+    List<WalkDailyRollup> dailyRollupList() {
+        Map<LocalDate, long[]> dailyMap = new TreeMap<>();
+        for (Walk walk : walkList) {
+            long[] daily = dailyMap.computeIfAbsent(walk.getStartAt().toLocalDate(), date -> new long[2]);
+            daily[0]++;
+            daily[1] += Duration.between(walk.getStartAt(), walk.getEndAt()).getSeconds();
+        }
+
+        List<WalkDailyRollup> dailyRollupList = new ArrayList<>();
+        dailyMap.forEach((walkDate, daily) -> dailyRollupList.add(WalkDailyRollup.builder()
+                .userIdx(USER_IDX)
+                .walkDate(walkDate)
+                .walkCount((int) daily[0])
+                .totalSeconds(daily[1])
+                .distance(0.0)
+                .calorie(0)
+                .goalRateSum(0.0)
+                .build()));
+        return dailyRollupList;
+    }
+
+    private static <T> T created(T entity, LocalDateTime createAt) {
+        ReflectionTestUtils.setField(entity, "createAt", createAt);
+        return entity;
+    }
+}
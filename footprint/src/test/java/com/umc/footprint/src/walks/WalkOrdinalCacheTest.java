@@ -0,0 +1,90 @@
+package com.umc.footprint.src.walks;
+
+import com.umc.footprint.src.walks.repository.WalkRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WalkOrdinalCacheTest {
+
+    private static final int USER_IDX = 1;
+
+    // 유저의 ACTIVE 산책 walkIdx (startAt 순)
+    private final List<Integer> activeWalkIdxList = new ArrayList<>(List.of(10, 20, 30));
+    private final AtomicInteger loadCount = new AtomicInteger();
+    // 적재 쿼리 도중 실행할 작업 (다른 트랜잭션 커밋 흉내)
+    private Runnable duringLoad = () -> {};
+
+    private WalkOrdinalCache walkOrdinalCache;
+
+    @BeforeEach
+    void setUp() {
+        WalkRepository walkRepository = (WalkRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{WalkRepository.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("getActiveWalkIdxOrderByStartAt")) {
+                        loadCount.incrementAndGet();
+                        List<Integer> loaded = new ArrayList<>(activeWalkIdxList);
+                        duringLoad.run();
+                        return loaded;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        walkOrdinalCache = new WalkOrdinalCache(walkRepository);
+        ReflectionTestUtils.setField(walkOrdinalCache, "ttlSeconds", 60L);
+    }
+
+    @Test
+    void getWalkIdx() {
+        assertEquals(10, walkOrdinalCache.getWalkIdx(USER_IDX, 1));
+        assertEquals(30, walkOrdinalCache.getWalkIdx(USER_IDX, 3));
+        assertNull(walkOrdinalCache.getWalkIdx(USER_IDX, 0));
+        assertNull(walkOrdinalCache.getWalkIdx(USER_IDX, 4));
+        assertEquals(1, loadCount.get());
+    }
+
+    @Test
+    void getWalkIdx_reloadsAfterEvict() {
+        walkOrdinalCache.getWalkIdx(USER_IDX, 1);
+        activeWalkIdxList.remove(Integer.valueOf(10));
+
+        assertEquals(10, walkOrdinalCache.getWalkIdx(USER_IDX, 1));
+        walkOrdinalCache.evict(USER_IDX);
+        assertEquals(20, walkOrdinalCache.getWalkIdx(USER_IDX, 1));
+        assertEquals(2, loadCount.get());
+    }
+
+    @Test
+    void getWalkIdx_reloadsAfterTtl() {
+        // 다른 서버에서 바뀐 산책 (이 서버의 evict 없음)
+        ReflectionTestUtils.setField(walkOrdinalCache, "ttlSeconds", 0L);
+        walkOrdinalCache.getWalkIdx(USER_IDX, 1);
+        activeWalkIdxList.remove(Integer.valueOf(10));
+
+        assertEquals(20, walkOrdinalCache.getWalkIdx(USER_IDX, 1));
+        assertArrayEquals(new int[]{20, 30}, walkOrdinalCache.getWalkIdxes(USER_IDX));
+        assertEquals(3, loadCount.get());
+    }
+
+    @Test
+    void getWalkIdx_discardsLoadStartedBeforeEvict() {
+        // 적재가 읽은 뒤 다른 트랜잭션이 산책을 삭제하고 evict
+        duringLoad = () -> {
+            duringLoad = () -> {};
+            activeWalkIdxList.remove(Integer.valueOf(10));
+            walkOrdinalCache.evict(USER_IDX);
+        };
+
+        assertEquals(10, walkOrdinalCache.getWalkIdx(USER_IDX, 1));
+        // 오래된 적재 결과는 캐시되지 않음
+        assertEquals(20, walkOrdinalCache.getWalkIdx(USER_IDX, 1));
+        assertEquals(20, walkOrdinalCache.getWalkIdx(USER_IDX, 1));
+        assertEquals(2, loadCount.get());
+    }
+}
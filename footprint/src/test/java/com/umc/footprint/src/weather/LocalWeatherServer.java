@@ -0,0 +1,78 @@
+package com.umc.footprint.src.weather;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 OpenWeatherMap 대역 (GET /data/2.5/weather)
+ * 요청마다 delayMillis 만큼 기다리고, hold 가 있으면 열릴 때까지 기다린 뒤 status, body 로 응답한다.
+ * 받은 요청 수와 동시에 처리한 요청 수의 최댓값을 남긴다.
+ */
+class LocalWeatherServer {
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    final AtomicInteger requestCount = new AtomicInteger();
+    final AtomicInteger maxConcurrentRequests = new AtomicInteger();
+    private final AtomicInteger concurrentRequests = new AtomicInteger();
+
+    volatile byte[] body = new byte[0];
+    volatile int status = 200;
+    volatile long delayMillis = 0;
+    volatile CountDownLatch hold = null;
+    volatile String lastQuery;
+
+    LocalWeatherServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(executor);
+        server.createContext("/data/2.5/weather", this::handle);
+        server.start();
+    }
+
+    String getUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + "/data/2.5/weather";
+    }
+
+    void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        maxConcurrentRequests.accumulateAndGet(concurrentRequests.incrementAndGet(), Math::max);
+        lastQuery = exchange.getRequestURI().getQuery();
+        try {
+            if (delayMillis > 0) {
+                Thread.sleep(delayMillis);
+            }
+            CountDownLatch latch = hold;
+            if (latch != null) {
+                latch.await();
+            }
+
+            byte[] responseBody = body;
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(status, responseBody.length == 0 ? -1 : responseBody.length);
+            if (responseBody.length > 0) {
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(responseBody);
+                }
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } finally {
+            concurrentRequests.decrementAndGet();
+            exchange.close();
+        }
+    }
+}
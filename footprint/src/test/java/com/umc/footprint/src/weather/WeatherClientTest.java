@@ -0,0 +1,163 @@
+package com.umc.footprint.src.weather;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeatherClientTest {
+
+    private static final byte[] BODY = "{\"main\":{\"temp\":21.5}}".getBytes(StandardCharsets.UTF_8);
+
+    private LocalWeatherServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new LocalWeatherServer();
+        server.body = BODY;
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    void fetch_returnsBody() throws Exception {
+        WeatherClient weatherClient = client(1_000, 4, 3, 30);
+
+        assertArrayEquals(BODY, weatherClient.fetch(37.5665, 126.978).get(5, TimeUnit.SECONDS));
+        assertTrue(server.lastQuery.contains("lat=37.5665&lon=126.978&appid=test-key&units=metric"));
+    }
+
+    @Test
+    void fetch_failsOnNon2xx() {
+        WeatherClient weatherClient = client(1_000, 4, 100, 30);
+
+        for (int status : new int[]{300, 302, 401, 429, 500}) {
+            server.status = status;
+            Throwable cause = failure(weatherClient.fetch(37.5665, 126.978));
+            assertTrue(cause instanceof IllegalStateException, status + ": " + cause);
+        }
+    }
+
+    @Test
+    void fetch_timeout() {
+        WeatherClient weatherClient = client(200, 4, 100, 30);
+        server.delayMillis = 3_000;
+
+        long startAt = System.currentTimeMillis();
+        Throwable cause = failure(weatherClient.fetch(37.5665, 126.978));
+
+        assertTrue(cause instanceof HttpTimeoutException || cause instanceof TimeoutException, cause.toString());
+        assertTrue(System.currentTimeMillis() - startAt < 2_000);
+    }
+
+    @Test
+    void fetch_failsFastWhenPermitsExhausted() throws Exception {
+        WeatherClient weatherClient = client(5_000, 2, 100, 30);
+        server.hold = new CountDownLatch(1);
+
+        CompletableFuture<byte[]> first = weatherClient.fetch(37.5665, 126.978);
+        CompletableFuture<byte[]> second = weatherClient.fetch(37.5665, 126.978);
+        CompletableFuture<byte[]> third = weatherClient.fetch(37.5665, 126.978);
+
+        // 동시 호출 수 초과는 바로 실패
+        assertTrue(third.isCompletedExceptionally());
+        assertTrue(failure(third) instanceof IOException);
+
+        server.hold.countDown();
+        assertArrayEquals(BODY, first.get(5, TimeUnit.SECONDS));
+        assertArrayEquals(BODY, second.get(5, TimeUnit.SECONDS));
+        assertEquals(2, server.requestCount.get());
+        assertEquals(2, server.maxConcurrentRequests.get());
+
+        // 끝난 호출의 허용 수는 돌려받음
+        assertArrayEquals(BODY, weatherClient.fetch(37.5665, 126.978).get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void fetch_permitReleasedAfterTimeout() throws Exception {
+        WeatherClient weatherClient = client(200, 1, 100, 30);
+        server.delayMillis = 1_000;
+        failure(weatherClient.fetch(37.5665, 126.978));
+
+        server.delayMillis = 0;
+        assertArrayEquals(BODY, weatherClient.fetch(37.5665, 126.978).get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void fetch_circuitOpensAfterConsecutiveFailures() {
+        WeatherClient weatherClient = client(1_000, 4, 3, 30);
+        server.status = 500;
+        for (int i = 0; i < 3; i++) {
+            failure(weatherClient.fetch(37.5665, 126.978));
+        }
+
+        // 서킷이 열리면 호출하지 않고 바로 실패
+        server.status = 200;
+        CompletableFuture<byte[]> blocked = weatherClient.fetch(37.5665, 126.978);
+        assertTrue(blocked.isCompletedExceptionally());
+        assertTrue(failure(blocked) instanceof IOException);
+        assertEquals(3, server.requestCount.get());
+    }
+
+    @Test
+    void fetch_successResetsFailures() throws Exception {
+        WeatherClient weatherClient = client(1_000, 4, 3, 30);
+        for (int i = 0; i < 2; i++) {
+            server.status = 500;
+            failure(weatherClient.fetch(37.5665, 126.978));
+            failure(weatherClient.fetch(37.5665, 126.978));
+            server.status = 200;
+            weatherClient.fetch(37.5665, 126.978).get(5, TimeUnit.SECONDS);
+        }
+
+        assertEquals(6, server.requestCount.get());
+    }
+
+    @Test
+    void fetch_circuitClosesAfterOpenTime() throws Exception {
+        WeatherClient weatherClient = client(1_000, 4, 2, 1);
+        server.status = 500;
+        failure(weatherClient.fetch(37.5665, 126.978));
+        failure(weatherClient.fetch(37.5665, 126.978));
+        assertTrue(weatherClient.fetch(37.5665, 126.978).isCompletedExceptionally());
+
+        Thread.sleep(1_100);
+        // 열린 시간이 지난 뒤 첫 호출이 실패하면 다시 열림
+        failure(weatherClient.fetch(37.5665, 126.978));
+        assertEquals(3, server.requestCount.get());
+        assertTrue(weatherClient.fetch(37.5665, 126.978).isCompletedExceptionally());
+
+        Thread.sleep(1_100);
+        // 성공하면 닫힘
+        server.status = 200;
+        assertArrayEquals(BODY, weatherClient.fetch(37.5665, 126.978).get(5, TimeUnit.SECONDS));
+        server.status = 500;
+        failure(weatherClient.fetch(37.5665, 126.978));
+        server.status = 200;
+        assertArrayEquals(BODY, weatherClient.fetch(37.5665, 126.978).get(5, TimeUnit.SECONDS));
+        assertEquals(6, server.requestCount.get());
+    }
+
+    private WeatherClient client(long timeoutMillis, int maxConcurrency, int failureThreshold, long openSeconds) {
+        return new WeatherClient(server.getUrl(), "test-key", timeoutMillis, maxConcurrency, failureThreshold, openSeconds);
+    }
+
+    // 실패한 future 의 원인
+    private static Throwable failure(CompletableFuture<byte[]> future) {
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        return exception.getCause();
+    }
+}
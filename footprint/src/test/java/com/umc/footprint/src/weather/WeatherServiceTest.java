@@ -0,0 +1,246 @@
+package com.umc.footprint.src.weather;
+
+import com.umc.footprint.src.weather.model.PostWeatherRes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeatherServiceTest {
+
+    private static final double SEOUL_LAT = 37.5665;
+    private static final double SEOUL_LON = 126.978;
+
+    private LocalWeatherServer server;
+    private WeatherService weatherService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new LocalWeatherServer();
+        server.body = capturedBody("clear.json");
+
+        WeatherClient weatherClient = new WeatherClient(server.getUrl(), "test-key", 1_000, 16, 100, 30);
+        weatherService = new WeatherService(weatherClient);
+        cacheSeconds(600, 1800);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    void getWeather_cachedWithinTtl() throws Exception {
+        assertWeather("22", "맑음", get(SEOUL_LAT, SEOUL_LON));
+        // 같은 geohash 타일
+        assertWeather("22", "맑음", get(SEOUL_LAT + 0.001, SEOUL_LON + 0.001));
+
+        assertEquals(1, server.requestCount.get());
+        assertTrue(server.lastQuery.contains("lat=" + SEOUL_LAT));
+        assertTrue(server.lastQuery.contains("appid=test-key"));
+    }
+
+    @Test
+    void getWeather_callsEachTile() throws Exception {
+        get(SEOUL_LAT, SEOUL_LON);
+        get(35.1796, 129.0756);
+
+        assertEquals(2, server.requestCount.get());
+    }
+
+    @Test
+    void getWeather_staleWhileRevalidate() throws Exception {
+        cacheSeconds(0, 1800);
+        get(SEOUL_LAT, SEOUL_LON);
+
+        server.body = capturedBody("rain.json");
+        server.hold = new CountDownLatch(1);
+        CompletableFuture<PostWeatherRes> stale = weatherService.getWeather(SEOUL_LAT, SEOUL_LON);
+
+        // 갱신을 기다리지 않고 캐시 값 반환
+        assertTrue(stale.isDone());
+        assertWeather("22", "맑음", stale.get());
+        awaitTrue(() -> server.requestCount.get() == 2);
+
+        server.hold.countDown();
+        awaitTrue(() -> "비".equals(cachedWeather()));
+        assertWeather("17", "비", get(SEOUL_LAT, SEOUL_LON));
+    }
+
+    @Test
+    void getWeather_reloadsAfterStale() throws Exception {
+        cacheSeconds(0, 0);
+        get(SEOUL_LAT, SEOUL_LON);
+
+        server.body = capturedBody("snow.json");
+        assertWeather("-2", "눈", get(SEOUL_LAT, SEOUL_LON));
+        assertEquals(2, server.requestCount.get());
+    }
+
+    @Test
+    void getWeather_coalescesConcurrentMisses() throws Exception {
+        int requests = 20;
+        server.hold = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<CompletableFuture<PostWeatherRes>>> calls = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                calls.add(executor.submit(() -> {
+                    start.await();
+                    return weatherService.getWeather(SEOUL_LAT, SEOUL_LON);
+                }));
+            }
+            start.countDown();
+
+            List<CompletableFuture<PostWeatherRes>> futures = new ArrayList<>();
+            for (Future<CompletableFuture<PostWeatherRes>> call : calls) {
+                futures.add(call.get(5, TimeUnit.SECONDS));
+            }
+            awaitTrue(() -> server.requestCount.get() == 1);
+            for (CompletableFuture<PostWeatherRes> future : futures) {
+                assertFalse(future.isDone());
+            }
+
+            server.hold.countDown();
+            for (CompletableFuture<PostWeatherRes> future : futures) {
+                assertWeather("22", "맑음", future.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, server.requestCount.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void getWeather_lastKnownOnFailure() throws Exception {
+        cacheSeconds(0, 0);
+        get(SEOUL_LAT, SEOUL_LON);
+
+        server.status = 500;
+        assertWeather("22", "맑음", get(SEOUL_LAT, SEOUL_LON));
+        assertEquals(2, server.requestCount.get());
+    }
+
+    @Test
+    void getWeather_dashOnFailureWithoutCache() throws Exception {
+        server.status = 500;
+
+        assertWeather("-", "-", get(SEOUL_LAT, SEOUL_LON));
+
+        // 실패는 캐시하지 않음
+        server.status = 200;
+        assertWeather("22", "맑음", get(SEOUL_LAT, SEOUL_LON));
+    }
+
+    @Test
+    void postWeather_clear() throws IOException {
+        assertWeather("22", "맑음", weatherService.postWeather(capturedBody("clear.json")));
+    }
+
+    @Test
+    void postWeather_rain() throws IOException {
+        assertWeather("17", "비", weatherService.postWeather(capturedBody("rain.json")));
+    }
+
+    @Test
+    void postWeather_snow() throws IOException {
+        assertWeather("-2", "눈", weatherService.postWeather(capturedBody("snow.json")));
+    }
+
+    @Test
+    void postWeather_rainWithoutOneHourIsNotRain() throws IOException {
+        // rain.3h 만 있으면 구름으로 판단
+        assertWeather("14", "구름 많음", weatherService.postWeather(capturedBody("rain-3h.json")));
+    }
+
+    @Test
+    void postWeather_stringNumbers() throws IOException {
+        assertWeather("13", "바람", weatherService.postWeather(capturedBody("string-number.json")));
+    }
+
+    @Test
+    void postWeather_missingWind() throws IOException {
+        assertWeather("20", "-", weatherService.postWeather(capturedBody("missing-wind.json")));
+    }
+
+    @Test
+    void postWeather_missingMain() throws IOException {
+        assertWeather("-", "흐림", weatherService.postWeather(capturedBody("missing-main.json")));
+    }
+
+    @Test
+    void postWeather_errorBody() throws IOException {
+        assertWeather("-", "-", weatherService.postWeather(capturedBody("invalid-key.json")));
+    }
+
+    @Test
+    void postWeather_invalidJson() {
+        assertWeather("-", "-", weatherService.postWeather(new byte[0]));
+        assertWeather("-", "-", weatherService.postWeather("<html>502 Bad Gateway</html>".getBytes(StandardCharsets.UTF_8)));
+        assertWeather("-", "-", weatherService.postWeather("{\"main\":{\"temp\":".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void postWeather_nonNumericValues() {
+        String body = "{\"main\":{\"temp\":\"N/A\"},\"wind\":{\"speed\":null},\"clouds\":{\"all\":[1]}}";
+
+        assertWeather("-", "-", weatherService.postWeather(body.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private PostWeatherRes get(double lat, double lon) throws Exception {
+        return weatherService.getWeather(lat, lon).get(5, TimeUnit.SECONDS);
+    }
+
+    private void cacheSeconds(long ttlSeconds, long staleSeconds) {
+        ReflectionTestUtils.setField(weatherService, "ttlSeconds", ttlSeconds);
+        ReflectionTestUtils.setField(weatherService, "staleSeconds", staleSeconds);
+    }
+
+    // 캐시된 타일 하나의 날씨 유형
+    private String cachedWeather() {
+        Map<?, ?> weatherByTile = (Map<?, ?>) ReflectionTestUtils.getField(weatherService, "weatherByTile");
+        synchronized (weatherByTile) {
+            if (weatherByTile.isEmpty()) {
+                return null;
+            }
+            Object cached = weatherByTile.values().iterator().next();
+            return ((PostWeatherRes) ReflectionTestUtils.getField(cached, "weather")).getWeather();
+        }
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "5초 안에 조건을 만족하지 않음");
+            Thread.sleep(10);
+        }
+    }
+
+    static byte[] capturedBody(String name) throws IOException {
+        try (InputStream in = WeatherServiceTest.class.getResourceAsStream("/weather/" + name)) {
+            return in.readAllBytes();
+        }
+    }
+
+    private void assertWeather(String temperature, String weather, PostWeatherRes res) {
+        assertEquals(temperature, res.getTemperature());
+        assertEquals(weather, res.getWeather());
+    }
+}
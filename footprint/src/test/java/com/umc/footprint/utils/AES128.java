@@ -14,6 +14,10 @@ import java.util.Base64;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 
+/**
+ * 기존 암호화 클래스 (CryptoService 로 교체 전, 호출마다 Cipher 생성)
+ * CryptoService 와 결과가 같은지 확인하는 테스트와 벤치마크(src/jmh)의 기준으로만 사용한다.
+ */
 public class AES128 {
     private final String ips;
     private final Key keySpec;
@@ -0,0 +1,122 @@
+package com.umc.footprint.utils;
+
+import com.umc.footprint.config.EncryptProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+// CryptoService 가 기존 AES128 과 같은 암호문을 만들고 서로 복호화할 수 있는지 확인
+class CryptoServiceTest {
+
+    private static final String KEY = "0123456789abcdef0123456789abcdef";
+
+    private CryptoService cryptoService;
+    private AES128 aes128;
+
+    @BeforeEach
+    void setUp() {
+        EncryptProperties encryptProperties = new EncryptProperties();
+        encryptProperties.setKey(KEY);
+        cryptoService = new CryptoService(encryptProperties);
+        aes128 = new AES128(KEY);
+    }
+
+    @Test
+    void encrypt_sameAsAes128() throws Exception {
+        for (String value : values()) {
+            assertEquals(aes128.encrypt(value), cryptoService.encrypt(value));
+        }
+    }
+
+    @Test
+    void decrypt_readsAes128AndAes128ReadsCryptoService() throws Exception {
+        for (String value : values()) {
+            assertEquals(value, cryptoService.decrypt(aes128.encrypt(value)));
+            assertEquals(value, aes128.decrypt(cryptoService.encrypt(value)));
+        }
+    }
+
+    @Test
+    void bytesAndByteBuffer_sameAsString() throws Exception {
+        for (String value : values()) {
+            byte[] encrypted = cryptoService.encrypt(value.getBytes(UTF_8));
+            assertEquals(aes128.encrypt(value), java.util.Base64.getEncoder().encodeToString(encrypted));
+            assertEquals(value, new String(cryptoService.decrypt(encrypted), UTF_8));
+
+            ByteBuffer encryptedBuffer = cryptoService.encrypt(ByteBuffer.wrap(value.getBytes(UTF_8)));
+            ByteBuffer decryptedBuffer = cryptoService.decrypt(encryptedBuffer);
+            assertEquals(value, UTF_8.decode(decryptedBuffer).toString());
+        }
+    }
+
+    @Test
+    void streams_sameAsString() throws Exception {
+        for (String value : values()) {
+            ByteArrayOutputStream encrypted = new ByteArrayOutputStream();
+            try (OutputStream out = cryptoService.encryptStream(encrypted)) {
+                out.write(value.getBytes(UTF_8));
+            }
+            assertEquals(aes128.encrypt(value), encrypted.toString(UTF_8));
+
+            try (InputStream in = cryptoService.decryptStream(new ByteArrayInputStream(encrypted.toByteArray()))) {
+                assertEquals(value, new String(in.readAllBytes(), UTF_8));
+            }
+        }
+    }
+
+    @Test
+    void decrypt_recoversAfterFailure() throws Exception {
+        String encrypted = cryptoService.encrypt("발자국");
+        // 블록 크기가 맞지 않는 암호문
+        assertThrows(GeneralSecurityException.class, () -> cryptoService.decrypt(new byte[]{1, 2, 3}));
+        assertEquals("발자국", cryptoService.decrypt(encrypted));
+    }
+
+    @Test
+    void encryptDecrypt_threadSafe() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int n = 0; n < 1000; n++) {
+                        String value = "user-" + n;
+                        if (!aes128.encrypt(value).equals(cryptoService.encrypt(value))
+                                || !value.equals(cryptoService.decrypt(cryptoService.encrypt(value)))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> future : futures) {
+                assertTrue(future.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static List<String> values() {
+        StringBuilder coordinate = new StringBuilder("((");
+        for (int i = 0; i < 2000; i++) {
+            coordinate.append(i == 0 ? "" : ",").append(37.5 + i * 1e-5).append(' ').append(127.0 + i * 1e-5);
+        }
+        coordinate.append("))");
+        return List.of("", "a", "0123456789abcdef", "발자국 산책 기록", "https://footprint.s3.amazonaws.com/photo.jpg", coordinate.toString());
+    }
+}